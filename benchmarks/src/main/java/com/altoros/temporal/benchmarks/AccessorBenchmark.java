@@ -0,0 +1,85 @@
+package com.altoros.temporal.benchmarks;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Field access: on a new <code>ZuluDateTime</code> ("first" access), on an existing one (repeat access), and via
+ * <code>toLocalDateTime()</code>, vs the same fields of an existing <code>LocalDateTime</code> / <code>OffsetDateTime</code>,
+ * and of one newly created from epoch Millisecs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AccessorBenchmark {
+  private long mEpochMillis;
+  private ZuluDateTime mZuluDateTime;
+  private LocalDateTime mLocalDateTime;
+  private OffsetDateTime mOffsetDateTime;
+
+  @Setup
+  public void setup() {
+    mZuluDateTime = ZuluDateTime.parse( "2011-01-16T17:18:19.200Z" );
+    mEpochMillis = mZuluDateTime.toEpochMilli();
+    mLocalDateTime = mZuluDateTime.toLocalDateTime();
+    mOffsetDateTime = mZuluDateTime.toOffsetDateTime();
+  }
+
+  @Benchmark
+  public int firstAccess_ZuluDateTime() {
+    ZuluDateTime zValue = ZuluDateTime.ofEpochMilli( mEpochMillis );
+    return zValue.getYear() + zValue.getMonthValue() + zValue.getDayOfMonth() +
+           zValue.getHour() + zValue.getMinute() + zValue.getSecond() + zValue.getNano();
+  }
+
+  @Benchmark
+  public int repeatAccess_ZuluDateTime() {
+    ZuluDateTime zValue = mZuluDateTime;
+    return zValue.getYear() + zValue.getMonthValue() + zValue.getDayOfMonth() +
+           zValue.getHour() + zValue.getMinute() + zValue.getSecond() + zValue.getNano();
+  }
+
+  @Benchmark
+  public LocalDateTime toLocalDateTime_ZuluDateTime() {
+    return mZuluDateTime.toLocalDateTime();
+  }
+
+  @Benchmark
+  public int repeatAccess_LocalDateTime() {
+    LocalDateTime zValue = mLocalDateTime;
+    return zValue.getYear() + zValue.getMonthValue() + zValue.getDayOfMonth() +
+           zValue.getHour() + zValue.getMinute() + zValue.getSecond() + zValue.getNano();
+  }
+
+  @Benchmark
+  public int repeatAccess_OffsetDateTime() {
+    OffsetDateTime zValue = mOffsetDateTime;
+    return zValue.getYear() + zValue.getMonthValue() + zValue.getDayOfMonth() +
+           zValue.getHour() + zValue.getMinute() + zValue.getSecond() + zValue.getNano();
+  }
+
+  @Benchmark
+  public int firstAccess_LocalDateTime() {
+    LocalDateTime zValue = LocalDateTime.ofEpochSecond( Math.floorDiv( mEpochMillis, 1000 ),
+                                                        (int)Math.floorMod( mEpochMillis, 1000 ) * 1000000, ZoneOffset.UTC );
+    return zValue.getYear() + zValue.getMonthValue() + zValue.getDayOfMonth() +
+           zValue.getHour() + zValue.getMinute() + zValue.getSecond() + zValue.getNano();
+  }
+}
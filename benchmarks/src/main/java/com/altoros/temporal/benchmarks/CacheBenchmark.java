@@ -0,0 +1,59 @@
+package com.altoros.temporal.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.altoros.temporal.MillisecTimeSource;
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import com.altoros.temporal.iso8601.ZuluDateTimeCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A duplicate heavy workload (all threads stamping and rendering "now"), with and without the <code>ZuluDateTimeCache</code>
+ * installed (run with <code>-prof gc</code> to see the allocation difference).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class CacheBenchmark {
+  @Param({"false", "true"})
+  public boolean mCached;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    if ( mCached ) {
+      ZuluDateTimeCache.install( 4096 );
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    ZuluDateTimeCache.uninstall();
+  }
+
+  @Benchmark
+  public ZuluDateTime now_ZuluDateTime() {
+    return ZuluDateTime.now( MillisecTimeSource.SYSTEM );
+  }
+
+  @Benchmark
+  public String nowToString_ZuluDateTime() {
+    return ZuluDateTime.now( MillisecTimeSource.SYSTEM ).toString();
+  }
+}
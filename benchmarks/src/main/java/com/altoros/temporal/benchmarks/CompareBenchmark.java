@@ -0,0 +1,102 @@
+package com.altoros.temporal.benchmarks;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import com.altoros.temporal.iso8601.ZuluDateTimeSortableBytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <code>compareTo</code>, <code>equals</code> & <code>hashCode</code> (on distinct but equal instances, so no identity short cuts)
+ * vs <code>Instant</code> and <code>OffsetDateTime</code>; and comparing keys: the sortable bytes vs the sortable String form.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CompareBenchmark {
+  private ZuluDateTime mZuluDateTime1, mZuluDateTime2, mZuluDateTimeLater;
+  private Instant mInstant1, mInstant2, mInstantLater;
+  private OffsetDateTime mOffsetDateTime1, mOffsetDateTime2;
+  private byte[] mSortableBytes, mSortableBytesLater;
+  private String mString, mStringLater;
+
+  @Setup
+  public void setup() {
+    mZuluDateTime1 = ZuluDateTime.parse( "2011-01-16T17:18:19.200Z" );
+    mZuluDateTime2 = ZuluDateTime.parse( "2011-01-16T17:18:19.200Z" );
+    mZuluDateTimeLater = ZuluDateTime.parse( "2011-01-16T17:18:19.201Z" );
+    mInstant1 = mZuluDateTime1.toInstant();
+    mInstant2 = mZuluDateTime2.toInstant();
+    mInstantLater = mZuluDateTimeLater.toInstant();
+    mOffsetDateTime1 = mZuluDateTime1.toOffsetDateTime();
+    mOffsetDateTime2 = mZuluDateTime2.toOffsetDateTime();
+    mSortableBytes = mZuluDateTime1.toSortableBytes();
+    mSortableBytesLater = mZuluDateTimeLater.toSortableBytes();
+    mString = mZuluDateTime1.toString();
+    mStringLater = mZuluDateTimeLater.toString();
+  }
+
+  @Benchmark
+  public int compareKeys_SortableBytes() {
+    return ZuluDateTimeSortableBytes.compare( mSortableBytes, mSortableBytesLater );
+  }
+
+  @Benchmark
+  public int compareKeys_String() {
+    return mString.compareTo( mStringLater );
+  }
+
+  @Benchmark
+  public int compareTo_ZuluDateTime() {
+    return mZuluDateTime1.compareTo( mZuluDateTimeLater );
+  }
+
+  @Benchmark
+  public boolean equals_ZuluDateTime() {
+    return mZuluDateTime1.equals( (Object)mZuluDateTime2 );
+  }
+
+  @Benchmark
+  public int hashCode_ZuluDateTime() {
+    return mZuluDateTime1.hashCode();
+  }
+
+  @Benchmark
+  public int compareTo_Instant() {
+    return mInstant1.compareTo( mInstantLater );
+  }
+
+  @Benchmark
+  public boolean equals_Instant() {
+    return mInstant1.equals( mInstant2 );
+  }
+
+  @Benchmark
+  public int hashCode_Instant() {
+    return mInstant1.hashCode();
+  }
+
+  @Benchmark
+  public boolean equals_OffsetDateTime() {
+    return mOffsetDateTime1.equals( mOffsetDateTime2 );
+  }
+
+  @Benchmark
+  public int hashCode_OffsetDateTime() {
+    return mOffsetDateTime1.hashCode();
+  }
+}
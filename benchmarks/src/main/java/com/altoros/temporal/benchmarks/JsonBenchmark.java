@@ -0,0 +1,88 @@
+package com.altoros.temporal.benchmarks;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Gson and Jackson round trips (to JSON text and back) of a simple carrier object with a <code>ZuluDateTime</code>, vs one with
+ * an <code>Instant</code> (Jackson only, via its <code>JavaTimeModule</code>) and vs one with the same text as a plain
+ * <code>String</code> (the cost of the JSON framing alone).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+  public static class ZuluDateTimeCarrier {
+    public ZuluDateTime when;
+  }
+
+  public static class InstantCarrier {
+    public Instant when;
+  }
+
+  public static class StringCarrier {
+    public String when;
+  }
+
+  private final Gson mGson = new Gson();
+  private final ObjectMapper mMapper = new ObjectMapper().registerModule( new JavaTimeModule() )
+          .disable( SerializationFeature.WRITE_DATES_AS_TIMESTAMPS );
+  private final ZuluDateTimeCarrier mZuluDateTimeCarrier = new ZuluDateTimeCarrier();
+  private final InstantCarrier mInstantCarrier = new InstantCarrier();
+  private final StringCarrier mStringCarrier = new StringCarrier();
+
+  @Setup
+  public void setup() {
+    mZuluDateTimeCarrier.when = ZuluDateTime.parse( "2011-01-16T17:18:19.200Z" );
+    mInstantCarrier.when = mZuluDateTimeCarrier.when.toInstant();
+    mStringCarrier.when = mZuluDateTimeCarrier.when.toString();
+  }
+
+  @Benchmark
+  public ZuluDateTimeCarrier gson_ZuluDateTime() {
+    return mGson.fromJson( mGson.toJson( mZuluDateTimeCarrier ), ZuluDateTimeCarrier.class );
+  }
+
+  @Benchmark
+  public StringCarrier gson_String() {
+    return mGson.fromJson( mGson.toJson( mStringCarrier ), StringCarrier.class );
+  }
+
+  @Benchmark
+  public ZuluDateTimeCarrier jackson_ZuluDateTime()
+          throws IOException {
+    return mMapper.readValue( mMapper.writeValueAsString( mZuluDateTimeCarrier ), ZuluDateTimeCarrier.class );
+  }
+
+  @Benchmark
+  public InstantCarrier jackson_Instant()
+          throws IOException {
+    return mMapper.readValue( mMapper.writeValueAsString( mInstantCarrier ), InstantCarrier.class );
+  }
+
+  @Benchmark
+  public StringCarrier jackson_String()
+          throws IOException {
+    return mMapper.readValue( mMapper.writeValueAsString( mStringCarrier ), StringCarrier.class );
+  }
+}
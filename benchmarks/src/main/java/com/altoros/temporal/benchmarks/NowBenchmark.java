@@ -0,0 +1,91 @@
+package com.altoros.temporal.benchmarks;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import com.altoros.temporal.MillisecTimeSource;
+import com.altoros.temporal.MonotonicMillisecTimeSource;
+import com.altoros.temporal.TickingMillisecTimeSource;
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <code>ZuluDateTime.now( MillisecTimeSource )</code> (and the raw source) for each of the <code>MillisecTimeSource</code>
+ * implementations, vs <code>Instant.now()</code> and <code>OffsetDateTime.now( UTC )</code>, single threaded
+ * (see <code>NowContendedBenchmark</code> for all threads at once).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class NowBenchmark {
+  public enum Source {
+    SYSTEM,
+    TICKING,
+    MONOTONIC
+  }
+
+  @Param
+  public Source mSource;
+
+  private MillisecTimeSource mTimeSource;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    switch ( mSource ) {
+      case TICKING:
+        mTimeSource = new TickingMillisecTimeSource( MillisecTimeSource.SYSTEM, 1 ).start();
+        break;
+      case MONOTONIC:
+        mTimeSource = new MonotonicMillisecTimeSource();
+        break;
+      default:
+        mTimeSource = MillisecTimeSource.SYSTEM;
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if ( mTimeSource instanceof TickingMillisecTimeSource ) {
+      ((TickingMillisecTimeSource)mTimeSource).close();
+    }
+  }
+
+  @Benchmark
+  public long currentTimeMillis_Source() {
+    return mTimeSource.currentTimeMillis();
+  }
+
+  @Benchmark
+  public ZuluDateTime now_ZuluDateTime() {
+    return ZuluDateTime.now( mTimeSource );
+  }
+
+  @Benchmark
+  public Instant now_Instant() {
+    return Instant.now();
+  }
+
+  @Benchmark
+  public OffsetDateTime now_OffsetDateTime() {
+    return OffsetDateTime.now( ZoneOffset.UTC );
+  }
+}
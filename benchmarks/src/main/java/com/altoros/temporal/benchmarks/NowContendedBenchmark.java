@@ -0,0 +1,11 @@
+package com.altoros.temporal.benchmarks;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * The <code>NowBenchmark</code>s with all (available processors) threads calling at once, which shows the cost of contention
+ * (e.g. the CAS in <code>MonotonicMillisecTimeSource</code>, or the shared cache line in <code>TickingMillisecTimeSource</code>).
+ */
+@Threads(Threads.MAX)
+public class NowContendedBenchmark extends NowBenchmark {
+}
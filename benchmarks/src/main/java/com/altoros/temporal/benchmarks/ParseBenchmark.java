@@ -0,0 +1,94 @@
+package com.altoros.temporal.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing ISO8601 text: <code>ZuluDateTime.parse</code> / <code>jsonCreator</code> vs <code>Instant.parse</code> and
+ * <code>OffsetDateTime.parse</code> (the baselines are given trimmed text, as they do not accept padding).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+  public enum Input {
+    CANONICAL( "2011-01-16T17:18:19.200Z" ),
+    SHORT_FRACTION( "2011-01-16T17:18:19.2Z" ),
+    NO_FRACTION( "2011-01-16T17:18:19Z" ),
+    PADDED( "  2011-01-16T17:18:19.200Z\t" );
+
+    final String mText;
+
+    Input( String pText ) {
+      mText = pText;
+    }
+  }
+
+  @Param
+  public Input mInput;
+
+  private String mText, mTrimmed;
+  private char[] mChars;
+  private byte[] mBytes;
+
+  @Setup
+  public void setup() {
+    mText = mInput.mText;
+    mTrimmed = mText.trim();
+    mChars = mText.toCharArray();
+    mBytes = mText.getBytes( StandardCharsets.US_ASCII );
+  }
+
+  @Benchmark
+  public ZuluDateTime parse_ZuluDateTime() {
+    return ZuluDateTime.parse( mText );
+  }
+
+  @Benchmark
+  public ZuluDateTime parseCharArraySlice_ZuluDateTime() {
+    return ZuluDateTime.parse( mChars, 0, mChars.length );
+  }
+
+  @Benchmark
+  public ZuluDateTime parseByteArraySlice_ZuluDateTime() {
+    return ZuluDateTime.parse( mBytes, 0, mBytes.length );
+  }
+
+  @Benchmark
+  public ZuluDateTime decodeThenParse_ZuluDateTime() {
+    return ZuluDateTime.parse( new String( mBytes, StandardCharsets.US_ASCII ) );
+  }
+
+  @Benchmark
+  public ZuluDateTime jsonCreator_ZuluDateTime() {
+    return ZuluDateTime.jsonCreator( mText );
+  }
+
+  @Benchmark
+  public Instant parse_Instant() {
+    return Instant.parse( mTrimmed );
+  }
+
+  @Benchmark
+  public OffsetDateTime parse_OffsetDateTime() {
+    return OffsetDateTime.parse( mTrimmed );
+  }
+}
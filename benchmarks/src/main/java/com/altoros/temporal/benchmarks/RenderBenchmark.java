@@ -0,0 +1,94 @@
+package com.altoros.temporal.benchmarks;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rendering ISO8601 text: <code>ZuluDateTime.toString</code> / <code>jsonValue</code> / <code>renderTo</code> vs
+ * <code>Instant.toString</code> and <code>OffsetDateTime.format</code>.
+ * <p>
+ * Note: the baselines do not produce the same text when the Millisecs are zero (they drop the fraction).
+ * <p>
+ * Rendering the same value repeatedly only does the calendar conversion once (the per thread prefix of the second is memoized);
+ * <code>toStringNewSecond_ZuluDateTime</code> renders a value in a different second each time (the worst case).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderBenchmark {
+  @Param({"2011-01-16T17:18:19.200Z", "2011-01-16T17:18:19.000Z"})
+  public String mText;
+
+  private ZuluDateTime mZuluDateTime;
+  private Instant mInstant;
+  private OffsetDateTime mOffsetDateTime;
+  private final char[] mChars = new char[32];
+  private final StringBuilder mBuilder = new StringBuilder( 32 );
+  private final ZuluDateTime[] mEachSecond = new ZuluDateTime[1024];
+  private int mNext;
+
+  @Setup
+  public void setup() {
+    mZuluDateTime = ZuluDateTime.parse( mText );
+    mInstant = mZuluDateTime.toInstant();
+    mOffsetDateTime = mZuluDateTime.toOffsetDateTime();
+    for ( int i = 0; i < mEachSecond.length; i++ ) {
+      mEachSecond[i] = mZuluDateTime.plusSeconds( i );
+    }
+  }
+
+  @Benchmark
+  public String toString_ZuluDateTime() {
+    return mZuluDateTime.toString();
+  }
+
+  @Benchmark
+  public String toStringNewSecond_ZuluDateTime() {
+    return mEachSecond[mNext++ & (mEachSecond.length - 1)].toString();
+  }
+
+  @Benchmark
+  public String jsonValue_ZuluDateTime() {
+    return mZuluDateTime.jsonValue();
+  }
+
+  @Benchmark
+  public char[] renderToCharArray_ZuluDateTime() {
+    mZuluDateTime.renderTo( mChars, 0 );
+    return mChars;
+  }
+
+  @Benchmark
+  public StringBuilder renderToStringBuilder_ZuluDateTime() {
+    mBuilder.setLength( 0 );
+    return mZuluDateTime.renderTo( mBuilder );
+  }
+
+  @Benchmark
+  public String toString_Instant() {
+    return mInstant.toString();
+  }
+
+  @Benchmark
+  public String format_OffsetDateTime() {
+    return mOffsetDateTime.format( DateTimeFormatter.ISO_OFFSET_DATE_TIME );
+  }
+}
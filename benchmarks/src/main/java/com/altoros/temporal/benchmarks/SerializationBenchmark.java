@@ -0,0 +1,86 @@
+package com.altoros.temporal.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Round trips (write then read a single value) through Java Serialization (a new stream per value, as a session replicator or
+ * distributed cache does), vs <code>Instant</code>, and through the compact binary form (<code>writeTo</code> / <code>readFrom</code>)
+ * vs <code>DataOutput.writeLong</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+  private ZuluDateTime mZuluDateTime;
+  private Instant mInstant;
+  private final ByteArrayOutputStream mBytes = new ByteArrayOutputStream( 256 );
+  private final DataOutputStream mDataOut = new DataOutputStream( mBytes );
+
+  @Setup
+  public void setup() {
+    mZuluDateTime = ZuluDateTime.parse( "2011-01-16T17:18:19.200Z" );
+    mInstant = mZuluDateTime.toInstant();
+  }
+
+  @Benchmark
+  public Object javaSerialization_ZuluDateTime()
+          throws IOException, ClassNotFoundException {
+    return javaRoundTrip( mZuluDateTime );
+  }
+
+  @Benchmark
+  public Object javaSerialization_Instant()
+          throws IOException, ClassNotFoundException {
+    return javaRoundTrip( mInstant );
+  }
+
+  @Benchmark
+  public ZuluDateTime binaryForm_ZuluDateTime()
+          throws IOException {
+    mBytes.reset();
+    mZuluDateTime.writeTo( mDataOut );
+    return ZuluDateTime.readFrom( new DataInputStream( new ByteArrayInputStream( mBytes.toByteArray() ) ) );
+  }
+
+  @Benchmark
+  public long binaryForm_Long()
+          throws IOException {
+    mBytes.reset();
+    mDataOut.writeLong( mZuluDateTime.toEpochMilli() );
+    return new DataInputStream( new ByteArrayInputStream( mBytes.toByteArray() ) ).readLong();
+  }
+
+  private Object javaRoundTrip( Object pValue )
+          throws IOException, ClassNotFoundException {
+    mBytes.reset();
+    try ( ObjectOutputStream zOut = new ObjectOutputStream( mBytes ) ) {
+      zOut.writeObject( pValue );
+    }
+    try ( ObjectInputStream zIn = new ObjectInputStream( new ByteArrayInputStream( mBytes.toByteArray() ) ) ) {
+      return zIn.readObject();
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.altoros.temporal.benchmarks;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import com.altoros.temporal.iso8601.ZuluDateTimeZoneRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rendering ISO8601 text in a time zone: <code>ZuluDateTimeZoneRenderer</code> (precomputed offset transitions) vs
+ * <code>toZonedDateTime().withZoneSameInstant( zone ).format( ISO_OFFSET_DATE_TIME )</code>.
+ * <p>
+ * Each invocation renders a value in a different second (and every 64th in a different zone), as an export of many rows
+ * across zones does.
+ * <p>
+ * Note: the baseline does not produce the same text when the Millisecs are zero (it drops the fraction).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ZoneRenderBenchmark {
+  @Param({"America/New_York,Europe/London,Asia/Kathmandu,Australia/Sydney"})
+  public String mZones;
+
+  private ZoneId[] mZoneIds;
+  private ZuluDateTimeZoneRenderer[] mRenderers;
+  private final ZuluDateTime[] mValues = new ZuluDateTime[1024];
+  private final char[] mChars = new char[40];
+  private int mNext;
+
+  @Setup
+  public void setup() {
+    String[] zZones = mZones.split( "," );
+    mZoneIds = new ZoneId[zZones.length];
+    mRenderers = new ZuluDateTimeZoneRenderer[zZones.length];
+    for ( int i = 0; i < zZones.length; i++ ) {
+      mZoneIds[i] = ZoneId.of( zZones[i] );
+      mRenderers[i] = ZuluDateTimeZoneRenderer.forZone( mZoneIds[i] );
+    }
+    ZuluDateTime zStart = ZuluDateTime.parse( "2011-01-16T17:18:19.200Z" );
+    for ( int i = 0; i < mValues.length; i++ ) {
+      mValues[i] = zStart.plusSeconds( i * 7919L );
+    }
+  }
+
+  @Benchmark
+  public String render_ZuluDateTimeZoneRenderer() {
+    int zNext = mNext++;
+    return mRenderers[(zNext >>> 6) % mRenderers.length].render( mValues[zNext & (mValues.length - 1)] );
+  }
+
+  @Benchmark
+  public char[] renderToCharArray_ZuluDateTimeZoneRenderer() {
+    int zNext = mNext++;
+    mRenderers[(zNext >>> 6) % mRenderers.length].renderTo( mValues[zNext & (mValues.length - 1)], mChars, 0 );
+    return mChars;
+  }
+
+  @Benchmark
+  public String format_ZonedDateTime() {
+    int zNext = mNext++;
+    ZonedDateTime zZoned = mValues[zNext & (mValues.length - 1)].toZonedDateTime()
+            .withZoneSameInstant( mZoneIds[(zNext >>> 6) % mZoneIds.length] );
+    return zZoned.format( DateTimeFormatter.ISO_OFFSET_DATE_TIME );
+  }
+}
@@ -0,0 +1,86 @@
+package com.altoros.temporal;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.altoros.temporal.metrics.TemporalInstrumentation;
+import com.altoros.temporal.metrics.TemporalOperation;
+import org.litesoft.annotations.NotNull;
+
+/**
+ * A <code>MillisecTimeSource</code> wrapper that counts the reads of the wrapped source, and detects it going backwards
+ * (e.g. an NTP step), both locally (see the getters) and, when enabled, via the <code>TemporalInstrumentation</code> listener
+ * (as <code>CLOCK_READ</code> operations, and <code>onClockBackwards</code> events).
+ * <p>
+ * Going backwards is relative to the highest value read (by any thread) since the last reported step, so a thread that is
+ * descheduled between its read and the check can look like a (small) backwards step; only steps of at least the threshold are reported.
+ * <p>
+ * The values themselves are passed through unchanged (see <code>MonotonicMillisecTimeSource</code> to correct them).
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class InstrumentedMillisecTimeSource implements MillisecTimeSource {
+  private final MillisecTimeSource mSource;
+  private final long mBackwardsThresholdMillis;
+  private final AtomicLong mHighest = new AtomicLong( Long.MIN_VALUE );
+  private final LongAdder mReads = new LongAdder();
+  private final LongAdder mBackwards = new LongAdder();
+  private final LongAccumulator mMaxBackwardsMillis = new LongAccumulator( Long::max, 0 );
+
+  /**
+   * @param pSource                  not null - the source to instrument
+   * @param pBackwardsThresholdMillis the smallest backwards step reported, must be at least 1
+   */
+  public InstrumentedMillisecTimeSource( @NotNull MillisecTimeSource pSource, long pBackwardsThresholdMillis ) {
+    mSource = Objects.requireNonNull( pSource, "MillisecTimeSource" );
+    if ( pBackwardsThresholdMillis < 1 ) {
+      throw new IllegalArgumentException( "BackwardsThreshold must be at least 1, but was: " + pBackwardsThresholdMillis );
+    }
+    mBackwardsThresholdMillis = pBackwardsThresholdMillis;
+  }
+
+  /**
+   * Backwards threshold defaults to 10 Millisecs.
+   */
+  public InstrumentedMillisecTimeSource( @NotNull MillisecTimeSource pSource ) {
+    this( pSource, 10 );
+  }
+
+  @Override
+  public long currentTimeMillis() {
+    long zStarted = TemporalInstrumentation.start();
+    long zNow = mSource.currentTimeMillis();
+    TemporalInstrumentation.record( TemporalOperation.CLOCK_READ, zStarted );
+    mReads.increment();
+    long zHighest = mHighest.get();
+    if ( zNow > zHighest ) {
+      mHighest.compareAndSet( zHighest, zNow ); // a failure means another thread raised it (at least as far)
+    } else if ( (zHighest - zNow) >= mBackwardsThresholdMillis ) {
+      long zStep = zHighest - zNow;
+      mBackwards.increment();
+      mMaxBackwardsMillis.accumulate( zStep );
+      TemporalInstrumentation.clockBackwards( zStep );
+      mHighest.compareAndSet( zHighest, zNow ); // report a step once, not on every read until the clock catches up
+    }
+    return zNow;
+  }
+
+  public long getReadCount() {
+    return mReads.sum();
+  }
+
+  /**
+   * @return how many times a value at least the threshold below the highest value (read so far) was read
+   */
+  public long getBackwardsCount() {
+    return mBackwards.sum();
+  }
+
+  /**
+   * @return the largest backwards step (at least the threshold) seen, or 0 if none
+   */
+  public long getMaxBackwardsMillis() {
+    return mMaxBackwardsMillis.get();
+  }
+}
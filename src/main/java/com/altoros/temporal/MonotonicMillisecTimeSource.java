@@ -0,0 +1,105 @@
+package com.altoros.temporal;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.litesoft.annotations.NotNull;
+
+/**
+ * A <code>MillisecTimeSource</code> wrapper that guarantees strictly increasing values across all threads (so each value is unique),
+ * even if the wrapped source repeats values or goes backwards (e.g. an NTP step).
+ * <p>
+ * When the wrapped source has not advanced past the last value handed out, the next value is one Millisec after it; so under a
+ * sustained rate of more than one value per Millisec (or after a backwards step) the values run ahead of the wrapped source, until
+ * it catches up.  How far ahead (currently and at most), and how often the lock free (CAS) update was contended, are available as metrics.
+ * <p>
+ * Batches of values can be reserved with a single update, see <code>reserve</code>.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class MonotonicMillisecTimeSource implements MillisecTimeSource {
+  private final MillisecTimeSource mSource;
+  private final AtomicLong mLast = new AtomicLong( Long.MIN_VALUE );
+  private final LongAdder mContentions = new LongAdder();
+  private final LongAdder mAdjustments = new LongAdder();
+  private final LongAccumulator mMaxAhead = new LongAccumulator( Long::max, 0 );
+
+  /**
+   * @param pSource not null - the source to make strictly monotonic
+   */
+  public MonotonicMillisecTimeSource( @NotNull MillisecTimeSource pSource ) {
+    mSource = Objects.requireNonNull( pSource, "MillisecTimeSource" );
+  }
+
+  /**
+   * Strictly monotonic version of <code>MillisecTimeSource.SYSTEM</code>.
+   */
+  public MonotonicMillisecTimeSource() {
+    this( SYSTEM );
+  }
+
+  /**
+   * @return a value greater than any previously returned (or reserved) value
+   */
+  @Override
+  public long currentTimeMillis() {
+    return reserve( 1 );
+  }
+
+  /**
+   * Reserve a block of <code>pCount</code> consecutive values (all greater than any previously returned or reserved value).
+   *
+   * @param pCount at least 1
+   *
+   * @return the first value of the block, the caller owns: <code>first</code> thru <code>first + pCount - 1</code>
+   */
+  public long reserve( int pCount ) {
+    if ( pCount < 1 ) {
+      throw new IllegalArgumentException( "Count must be at least 1, but was: " + pCount );
+    }
+    long zNow = mSource.currentTimeMillis();
+    for ( long zLast = mLast.get(); true; zLast = mLast.get() ) {
+      long zFirst = (zNow > zLast) ? zNow : (zLast + 1);
+      long zNewLast = zFirst + (pCount - 1);
+      if ( mLast.compareAndSet( zLast, zNewLast ) ) {
+        if ( zFirst != zNow ) {
+          mAdjustments.increment();
+        }
+        if ( zNewLast > zNow ) {
+          mMaxAhead.accumulate( zNewLast - zNow );
+        }
+        return zFirst;
+      }
+      mContentions.increment();
+    }
+  }
+
+  /**
+   * @return how many Millisecs the last value handed out is ahead of the wrapped source now (0 if not ahead)
+   */
+  public long getAheadOfWallMillis() {
+    return Math.max( 0, mLast.get() - mSource.currentTimeMillis() );
+  }
+
+  /**
+   * @return the most Millisecs a value handed out has been ahead of the wrapped source (at the time it was handed out)
+   */
+  public long getMaxAheadOfWallMillis() {
+    return mMaxAhead.get();
+  }
+
+  /**
+   * @return how many times the lock free update had to be retried because another thread updated first
+   */
+  public long getContentionCount() {
+    return mContentions.sum();
+  }
+
+  /**
+   * @return how many values (or blocks) did not start at the wrapped source's value (because it had not advanced, or went backwards)
+   */
+  public long getAdjustmentCount() {
+    return mAdjustments.sum();
+  }
+}
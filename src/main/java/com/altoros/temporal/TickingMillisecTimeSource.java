@@ -0,0 +1,181 @@
+package com.altoros.temporal;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.litesoft.annotations.NotNull;
+
+/**
+ * A coarse grained <code>MillisecTimeSource</code> for hot paths that do not need per call precision: a single (daemon) ticker
+ * thread publishes the wrapped source's current time into a (cache line padded) volatile field every <code>resolution</code> Millisecs,
+ * and <code>currentTimeMillis()</code> is just a load of that field.
+ * <p>
+ * Notes:<br>
+ * <li>The ticks are aligned to the wrapped source's <code>resolution</code> boundaries, and every tick publishes a fresh read of
+ * the wrapped source (the ticker never accumulates its own time), so sleep inaccuracies do not cause drift from the wall clock.</li>
+ * <li>When not started (or stopped), <code>currentTimeMillis()</code> calls the wrapped source directly.</li>
+ * <li>If the ticker detects that it has stalled (woke up more than the stall threshold late, e.g. it was starved of CPU), it stops
+ * publishing (so readers call the wrapped source directly) until it has ticked on time for a while.  As a stall can only be detected
+ * once the ticker runs again, readers can still see a value that is stale by the length of a single (undetected) stall.</li>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class TickingMillisecTimeSource implements MillisecTimeSource,
+                                                        AutoCloseable {
+  private static final long NOT_TICKING = Long.MIN_VALUE; // Readers call the wrapped source directly
+  private static final int ON_TIME_TICKS_TO_RECOVER = 10;
+
+  private final MillisecTimeSource mSource;
+  private final long mResolutionMillis;
+  private final long mStallThresholdNanos;
+  private final PaddedVolatileLong mPublished = new PaddedVolatileLong();
+  private volatile boolean mDegraded;
+  private final AtomicReference<Thread> mTicker = new AtomicReference<>();
+
+  /**
+   * @param pSource               not null - the source to publish
+   * @param pResolutionMillis     time between ticks, must be at least 1
+   * @param pStallThresholdMillis how late a tick may be before the ticker considers itself stalled, must be at least 1
+   */
+  public TickingMillisecTimeSource( @NotNull MillisecTimeSource pSource, long pResolutionMillis, long pStallThresholdMillis ) {
+    mSource = Objects.requireNonNull( pSource, "MillisecTimeSource" );
+    mResolutionMillis = atLeast1( "Resolution", pResolutionMillis );
+    mStallThresholdNanos = TimeUnit.MILLISECONDS.toNanos( atLeast1( "StallThreshold", pStallThresholdMillis ) );
+    mPublished.mValue = NOT_TICKING;
+  }
+
+  /**
+   * Stall threshold defaults to 10 ticks (but at least 50ms).
+   */
+  public TickingMillisecTimeSource( @NotNull MillisecTimeSource pSource, long pResolutionMillis ) {
+    this( pSource, pResolutionMillis, Math.max( 50, atLeast1( "Resolution", pResolutionMillis ) * 10 ) );
+  }
+
+  /**
+   * Ticking version of <code>MillisecTimeSource.SYSTEM</code>.
+   */
+  public TickingMillisecTimeSource( @NotNull Duration pResolution ) {
+    this( SYSTEM, Objects.requireNonNull( pResolution, "Resolution" ).toMillis() );
+  }
+
+  @Override
+  public long currentTimeMillis() {
+    long zMillis = mPublished.mValue;
+    return (zMillis != NOT_TICKING) ? zMillis : mSource.currentTimeMillis();
+  }
+
+  public long getResolutionMillis() {
+    return mResolutionMillis;
+  }
+
+  public boolean isRunning() {
+    return (mTicker.get() != null);
+  }
+
+  /**
+   * @return true if the ticker is running, but currently considers itself stalled (so readers call the wrapped source directly).
+   */
+  public boolean isDegraded() {
+    return mDegraded;
+  }
+
+  /**
+   * Start the ticker thread (if not already running).
+   *
+   * @return this
+   */
+  @NotNull
+  public synchronized TickingMillisecTimeSource start() {
+    if ( mTicker.get() == null ) {
+      mDegraded = false;
+      mPublished.mValue = mSource.currentTimeMillis();
+      Thread zTicker = new Thread( this::tick, getClass().getSimpleName() + "-" + mResolutionMillis + "ms" );
+      zTicker.setDaemon( true );
+      mTicker.set( zTicker );
+      zTicker.start();
+    }
+    return this;
+  }
+
+  /**
+   * Stop the ticker thread (if running) and wait for it to exit; after this call readers call the wrapped source directly.
+   */
+  public synchronized void stop() {
+    Thread zTicker = mTicker.getAndSet( null );
+    if ( zTicker != null ) {
+      LockSupport.unpark( zTicker );
+      boolean zInterrupted = false;
+      while ( zTicker.isAlive() && (zTicker != Thread.currentThread()) ) {
+        try {
+          zTicker.join();
+        }
+        catch ( InterruptedException e ) {
+          zInterrupted = true;
+        }
+      }
+      mPublished.mValue = NOT_TICKING; // After the ticker has exited, so it can't be overwritten
+      if ( zInterrupted ) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    stop();
+  }
+
+  private void tick() {
+    Thread zMe = Thread.currentThread();
+    int zOnTimeTicks = 0;
+    try {
+      while ( mTicker.get() == zMe ) {
+        long zMillis = mSource.currentTimeMillis();
+        if ( !mDegraded ) {
+          mPublished.mValue = zMillis;
+        }
+        long zSleepNanos = TimeUnit.MILLISECONDS.toNanos( mResolutionMillis - Math.floorMod( zMillis, mResolutionMillis ) );
+        long zWakeBy = System.nanoTime() + zSleepNanos;
+        LockSupport.parkNanos( this, zSleepNanos );
+        long zLateBy = System.nanoTime() - zWakeBy;
+        if ( zLateBy > mStallThresholdNanos ) {
+          zOnTimeTicks = 0;
+          mDegraded = true;
+          mPublished.mValue = NOT_TICKING;
+        } else if ( mDegraded && (++zOnTimeTicks >= ON_TIME_TICKS_TO_RECOVER) ) {
+          mDegraded = false;
+        }
+      }
+    }
+    finally {
+      if ( mTicker.compareAndSet( zMe, null ) ) { // Died unexpectedly (e.g. the wrapped source threw)
+        mPublished.mValue = NOT_TICKING;
+      }
+    }
+  }
+
+  private static long atLeast1( String pWhat, long pValue ) {
+    if ( pValue < 1 ) {
+      throw new IllegalArgumentException( pWhat + " must be at least 1ms, but was: " + pValue );
+    }
+    return pValue;
+  }
+
+  // The padding (in the super & sub classes, which HotSpot lays out before & after) keeps the heavily read value on its own cache line.
+
+  @SuppressWarnings("unused")
+  private static class LhsPadding {
+    protected long p01, p02, p03, p04, p05, p06, p07;
+  }
+
+  private static class VolatileLong extends LhsPadding {
+    protected volatile long mValue;
+  }
+
+  @SuppressWarnings("unused")
+  private static final class PaddedVolatileLong extends VolatileLong {
+    protected long p09, p10, p11, p12, p13, p14, p15;
+  }
+}
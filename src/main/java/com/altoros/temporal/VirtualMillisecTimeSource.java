@@ -0,0 +1,268 @@
+package com.altoros.temporal;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.litesoft.annotations.NotNull;
+import org.litesoft.annotations.Nullable;
+
+/**
+ * A <code>MillisecTimeSource</code> whose time only moves when told to (<code>advance</code> / <code>advanceTo</code>), for
+ * simulations and tests that must run faster than real time (hours of "time" in milliseconds of CPU).
+ * <p>
+ * Threads can wait on the virtual time (<code>sleep</code> / <code>awaitUntil</code>): they are parked until the time is advanced
+ * to (or past) their deadline, independent of the wall clock.
+ * <p>
+ * Auto advance (<code>setAutoAdvance</code>): once the given number of threads (parties) are all waiting, the time jumps
+ * to the earliest waiting deadline; so a simulation of N threads that only interact through the time runs without
+ * anybody calling <code>advance</code>.
+ * <p>
+ * Notes:<br>
+ * <li>Reads (<code>currentTimeMillis</code>) are a single volatile load, lock-free for any number of readers.</li>
+ * <li>The time never goes backwards (<code>advanceTo</code> an earlier time is an IllegalArgumentException).</li>
+ * <li>Waiting and advancing share a lock, so each advance sees (and releases) every thread waiting at that point.</li>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class VirtualMillisecTimeSource implements MillisecTimeSource {
+  private static final class Waiter implements Comparable<Waiter> {
+    private final long mDeadline;
+    private final long mSequence;
+    private final Thread mThread = Thread.currentThread();
+    private volatile boolean mReleased;
+
+    private Waiter( long pDeadline, long pSequence ) {
+      mDeadline = pDeadline;
+      mSequence = pSequence;
+    }
+
+    @Override
+    public int compareTo( @NotNull Waiter them ) {
+      int zResult = Long.compare( mDeadline, them.mDeadline );
+      return (zResult != 0) ? zResult : Long.compare( mSequence, them.mSequence );
+    }
+  }
+
+  private final ReentrantLock mLock = new ReentrantLock();
+  private final PriorityQueue<Waiter> mWaiters = new PriorityQueue<>(); // guarded by mLock
+  private long mSequence; // guarded by mLock
+  private int mAutoAdvanceParties; // guarded by mLock
+  private volatile long mNow;
+
+  public VirtualMillisecTimeSource( long pStartMillis ) {
+    mNow = pStartMillis;
+  }
+
+  public VirtualMillisecTimeSource( @NotNull ZuluDateTime pStart ) {
+    this( Objects.requireNonNull( pStart, "Start" ).toEpochMilli() );
+  }
+
+  @Override
+  public long currentTimeMillis() {
+    return mNow;
+  }
+
+  @NotNull
+  public ZuluDateTime now() {
+    return ZuluDateTime.now( this );
+  }
+
+  /**
+   * Advance the time by the <code>pMillis</code> (at least 0), releasing the threads whose deadline has been reached.
+   *
+   * @return the new time
+   */
+  public long advance( long pMillis ) {
+    if ( pMillis < 0 ) {
+      throw new IllegalArgumentException( "Can not advance by a negative amount: " + pMillis );
+    }
+    mLock.lock();
+    try {
+      long zNow = mNow;
+      long zTo = zNow + pMillis;
+      return advanceToLocked( (zTo < zNow) ? Long.MAX_VALUE : zTo );
+    }
+    finally {
+      mLock.unlock();
+    }
+  }
+
+  /**
+   * Advance the time by the <code>pDuration</code> (at least 0, truncated to Millisecs), see <code>advance( long )</code>.
+   */
+  public long advance( @NotNull Duration pDuration ) {
+    return advance( Objects.requireNonNull( pDuration, "Duration" ).toMillis() );
+  }
+
+  /**
+   * Advance the time to the <code>pEpochMillis</code> (at least the current time), releasing the threads whose deadline has been reached.
+   *
+   * @return the new time
+   */
+  public long advanceTo( long pEpochMillis ) {
+    mLock.lock();
+    try {
+      if ( pEpochMillis < mNow ) {
+        throw new IllegalArgumentException( "Can not go backwards from " + mNow + " to: " + pEpochMillis );
+      }
+      return advanceToLocked( pEpochMillis );
+    }
+    finally {
+      mLock.unlock();
+    }
+  }
+
+  /**
+   * Advance the time to the <code>pDateTime</code> (at least the current time), see <code>advanceTo( long )</code>.
+   */
+  public long advanceTo( @NotNull ZuluDateTime pDateTime ) {
+    return advanceTo( Objects.requireNonNull( pDateTime, "DateTime" ).toEpochMilli() );
+  }
+
+  /**
+   * Advance the time to the earliest deadline of the waiting threads (if any), releasing those threads.
+   *
+   * @return true if there was a waiting thread
+   */
+  public boolean advanceToNextWaiter() {
+    mLock.lock();
+    try {
+      Waiter zNext = mWaiters.peek();
+      if ( zNext == null ) {
+        return false;
+      }
+      advanceToLocked( zNext.mDeadline );
+      return true;
+    }
+    finally {
+      mLock.unlock();
+    }
+  }
+
+  /**
+   * @param pParties the number of waiting threads that trigger an automatic <code>advanceToNextWaiter</code>, or 0 to turn
+   *                 auto advance off
+   */
+  public void setAutoAdvance( int pParties ) {
+    if ( pParties < 0 ) {
+      throw new IllegalArgumentException( "Parties must not be negative, but was: " + pParties );
+    }
+    mLock.lock();
+    try {
+      mAutoAdvanceParties = pParties;
+      autoAdvanceLocked();
+    }
+    finally {
+      mLock.unlock();
+    }
+  }
+
+  public int getWaiterCount() {
+    mLock.lock();
+    try {
+      return mWaiters.size();
+    }
+    finally {
+      mLock.unlock();
+    }
+  }
+
+  /**
+   * @return the earliest deadline of the waiting threads, or null if none
+   */
+  @Nullable
+  public ZuluDateTime getNextWaiterDeadline() {
+    mLock.lock();
+    try {
+      Waiter zNext = mWaiters.peek();
+      return (zNext == null) ? null : ZuluDateTime.ofEpochMilli( zNext.mDeadline );
+    }
+    finally {
+      mLock.unlock();
+    }
+  }
+
+  /**
+   * Park the current thread until the time has been advanced by (at least) the <code>pMillis</code>.
+   */
+  public void sleep( long pMillis )
+          throws InterruptedException {
+    long zNow = mNow;
+    long zDeadline = zNow + Math.max( 0, pMillis );
+    awaitUntil( (zDeadline < zNow) ? Long.MAX_VALUE : zDeadline );
+  }
+
+  public void sleep( @NotNull Duration pDuration )
+          throws InterruptedException {
+    sleep( Objects.requireNonNull( pDuration, "Duration" ).toMillis() );
+  }
+
+  /**
+   * Park the current thread until the time has been advanced to (at least) the <code>pEpochMillis</code> (returns immediately if it already has).
+   *
+   * @throws InterruptedException if the thread is interrupted while waiting (the waiter is removed)
+   */
+  public void awaitUntil( long pEpochMillis )
+          throws InterruptedException {
+    if ( Thread.interrupted() ) {
+      throw new InterruptedException();
+    }
+    Waiter zWaiter;
+    mLock.lock();
+    try {
+      if ( pEpochMillis <= mNow ) {
+        return;
+      }
+      mWaiters.add( zWaiter = new Waiter( pEpochMillis, mSequence++ ) );
+      autoAdvanceLocked();
+    }
+    finally {
+      mLock.unlock();
+    }
+    while ( !zWaiter.mReleased ) {
+      LockSupport.park( this );
+      if ( Thread.interrupted() ) {
+        mLock.lock();
+        try {
+          if ( !zWaiter.mReleased ) {
+            mWaiters.remove( zWaiter );
+            throw new InterruptedException();
+          }
+        }
+        finally {
+          mLock.unlock();
+        }
+        Thread.currentThread().interrupt(); // Released anyway: keep the interrupt for the caller
+      }
+    }
+  }
+
+  public void awaitUntil( @NotNull ZuluDateTime pDateTime )
+          throws InterruptedException {
+    awaitUntil( Objects.requireNonNull( pDateTime, "DateTime" ).toEpochMilli() );
+  }
+
+  @Override
+  public String toString() {
+    return "VirtualMillisecTimeSource(" + ZuluDateTime.ofEpochMilli( mNow ) + ")";
+  }
+
+  private long advanceToLocked( long pEpochMillis ) {
+    mNow = pEpochMillis;
+    for ( Waiter zNext; ((zNext = mWaiters.peek()) != null) && (zNext.mDeadline <= pEpochMillis); ) {
+      mWaiters.poll();
+      zNext.mReleased = true;
+      LockSupport.unpark( zNext.mThread );
+    }
+    return pEpochMillis;
+  }
+
+  private void autoAdvanceLocked() {
+    if ( (mAutoAdvanceParties != 0) && (mWaiters.size() >= mAutoAdvanceParties) ) {
+      advanceToLocked( mWaiters.peek().mDeadline );
+    }
+  }
+}
@@ -0,0 +1,228 @@
+package com.altoros.temporal.hlc;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.altoros.temporal.MillisecTimeSource;
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.litesoft.annotations.NotNull;
+import org.litesoft.annotations.Significant;
+
+/**
+ * A Hybrid Logical Clock (see Kulkarni et al. "Logical Physical Clocks and Consistent Snapshots in Globally Distributed Databases")
+ * driven by a <code>MillisecTimeSource</code>, for ordering events across nodes without a coordination round trip.
+ * <p>
+ * Each timestamp is a single <code>long</code> with the physical part (epoch Millisecs) in the upper 48 bits, and a logical counter
+ * in the lower 16 bits, so (for non-negative epoch Millisecs, i.e. 1970 thru 6429) the timestamps order the same as longs, as their
+ * 16 hex digit form (<code>toSortableString</code>) as Strings, and as their big-endian 8 byte form (<code>toBytes</code>) as unsigned bytes.
+ * <p>
+ * Stamp local (and send) events with <code>now()</code>, and merge every timestamp received from another node with <code>update</code>;
+ * the result is always greater than both the previous local timestamp and the received one (causality), while staying as close to
+ * the physical clock as the nodes' clock skew allows.  Both operations are lock free (CAS).
+ * <p>
+ * Notes:<br>
+ * <li>Should the logical counter overflow (more than 65536 events within a single Millisec), it carries into the physical part.</li>
+ * <li>A received timestamp's physical part must be below <code>MAX_PHYSICAL_MILLIS</code>, so there is always a timestamp after
+ * it; should the clock still reach the largest timestamp (<code>Long.MAX_VALUE</code>), it throws rather than wrap (go backwards).</li>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class HybridLogicalClock {
+  public static final int LOGICAL_BITS = 16;
+  public static final long LOGICAL_MASK = (1L << LOGICAL_BITS) - 1;
+  public static final long MAX_PHYSICAL_MILLIS = Long.MAX_VALUE >>> LOGICAL_BITS;
+  public static final long DEFAULT_MAX_DRIFT_MILLIS = 60 * 1000;
+
+  private static final int SORTABLE_STRING_LENGTH = 16;
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  private final MillisecTimeSource mSource;
+  private final long mMaxDriftMillis;
+  private final AtomicLong mLast = new AtomicLong();
+
+  /**
+   * @param pSource         not null - the physical clock
+   * @param pMaxDriftMillis how far (in Millisecs) a received timestamp's physical part may be ahead of the physical clock,
+   *                        before <code>update</code> rejects it (protects against a node with a wildly wrong clock)
+   */
+  public HybridLogicalClock( @NotNull MillisecTimeSource pSource, long pMaxDriftMillis ) {
+    mSource = Objects.requireNonNull( pSource, "MillisecTimeSource" );
+    if ( pMaxDriftMillis < 0 ) {
+      throw new IllegalArgumentException( "MaxDriftMillis must not be negative, but was: " + pMaxDriftMillis );
+    }
+    mMaxDriftMillis = pMaxDriftMillis;
+  }
+
+  /**
+   * A received timestamp may be at most <code>DEFAULT_MAX_DRIFT_MILLIS</code> ahead of the physical clock.
+   */
+  public HybridLogicalClock( @NotNull MillisecTimeSource pSource ) {
+    this( pSource, DEFAULT_MAX_DRIFT_MILLIS );
+  }
+
+  /**
+   * @return a timestamp for a local (or send) event, greater than any previously returned by this clock
+   *
+   * @throws IllegalStateException if the clock has returned the largest timestamp (<code>Long.MAX_VALUE</code>)
+   */
+  public long now() {
+    long zPhysical = pack( physicalNow(), 0 );
+    for ( long zLast = mLast.get(); true; zLast = mLast.get() ) {
+      long zNext = Math.max( zPhysical, after( zLast ) );
+      if ( mLast.compareAndSet( zLast, zNext ) ) {
+        return zNext;
+      }
+    }
+  }
+
+  /**
+   * Merge a timestamp received from another node.
+   *
+   * @param pReceived the other node's timestamp
+   *
+   * @return a timestamp for the receive event, greater than both any previously returned by this clock and <code>pReceived</code>
+   *
+   * @throws IllegalArgumentException if <code>pReceived</code> is negative, its physical part is not below <code>MAX_PHYSICAL_MILLIS</code>,
+   *                                  or is too far ahead of the physical clock
+   * @throws IllegalStateException    if the clock has returned the largest timestamp (<code>Long.MAX_VALUE</code>)
+   */
+  public long update( long pReceived ) {
+    if ( pReceived < 0 ) {
+      throw new IllegalArgumentException( "Received timestamp is negative: " + pReceived );
+    }
+    if ( physicalMillis( pReceived ) >= MAX_PHYSICAL_MILLIS ) {
+      throw new IllegalArgumentException( "Received timestamp's physical part (" + physicalMillis( pReceived ) +
+                                          ") is not below the maximum: " + MAX_PHYSICAL_MILLIS );
+    }
+    long zPhysicalNow = physicalNow();
+    if ( (physicalMillis( pReceived ) - zPhysicalNow) > mMaxDriftMillis ) {
+      throw new IllegalArgumentException( "Received timestamp (" + toString( pReceived ) + ") is more than " + mMaxDriftMillis +
+                                          "ms ahead of the physical clock (" + ZuluDateTime.ofEpochMilli( zPhysicalNow ) + ")" );
+    }
+    long zFloor = Math.max( pack( zPhysicalNow, 0 ), pReceived + 1 ); // physical part checked above, so no overflow
+    for ( long zLast = mLast.get(); true; zLast = mLast.get() ) {
+      long zNext = Math.max( zFloor, after( zLast ) );
+      if ( mLast.compareAndSet( zLast, zNext ) ) {
+        return zNext;
+      }
+    }
+  }
+
+  /**
+   * @return the last timestamp returned by this clock (without advancing it), 0 if none yet
+   */
+  public long last() {
+    return mLast.get();
+  }
+
+  private long physicalNow() {
+    long zMillis = mSource.currentTimeMillis();
+    if ( (zMillis < 0) || (MAX_PHYSICAL_MILLIS < zMillis) ) {
+      throw new IllegalStateException( "Physical clock (" + zMillis + ") outside of the supported range: 0 - " + MAX_PHYSICAL_MILLIS );
+    }
+    return zMillis;
+  }
+
+  private static long after( long pTimestamp ) {
+    if ( pTimestamp == Long.MAX_VALUE ) {
+      throw new IllegalStateException( "Clock exhausted: there is no timestamp after " + toString( pTimestamp ) );
+    }
+    return pTimestamp + 1;
+  }
+
+  // ---------------------------------- vvv Timestamps vvv ---------------------------------
+
+  public static long pack( long pPhysicalMillis, int pLogical ) {
+    return (pPhysicalMillis << LOGICAL_BITS) | (pLogical & LOGICAL_MASK);
+  }
+
+  public static long physicalMillis( long pTimestamp ) {
+    return pTimestamp >>> LOGICAL_BITS;
+  }
+
+  public static int logical( long pTimestamp ) {
+    return (int)(pTimestamp & LOGICAL_MASK);
+  }
+
+  /**
+   * @return the physical part of the <code>pTimestamp</code> as a <code>ZuluDateTime</code>
+   */
+  @NotNull
+  public static ZuluDateTime toZuluDateTime( long pTimestamp ) {
+    return ZuluDateTime.ofEpochMilli( physicalMillis( pTimestamp ) );
+  }
+
+  /**
+   * @return human readable form: the physical part's ISO8601 form, a '-', and the logical part as 4 hex digits,
+   * e.g. <code>2018-09-01T12:34:56.789Z-0001</code> (sortable for years thru 9999)
+   */
+  @NotNull
+  public static String toString( long pTimestamp ) {
+    StringBuilder zSB = toZuluDateTime( pTimestamp ).renderTo( new StringBuilder( 29 ) ).append( '-' );
+    for ( int zShift = LOGICAL_BITS - 4; zShift >= 0; zShift -= 4 ) {
+      zSB.append( HEX_DIGITS[(int)((pTimestamp >>> zShift) & 15)] );
+    }
+    return zSB.toString();
+  }
+
+  /**
+   * @return compact sortable form: 16 (upper case) hex digits
+   */
+  @NotNull
+  public static String toSortableString( long pTimestamp ) {
+    char[] zChars = new char[SORTABLE_STRING_LENGTH];
+    for ( int i = SORTABLE_STRING_LENGTH - 1; i >= 0; i-- ) {
+      zChars[i] = HEX_DIGITS[(int)(pTimestamp & 15)];
+      pTimestamp >>>= 4;
+    }
+    return new String( zChars );
+  }
+
+  /**
+   * Inverse of <code>toSortableString</code> (lower case hex digits are also accepted).
+   *
+   * @throws IllegalArgumentException if not 16 hex digits
+   */
+  public static long fromSortableString( @Significant CharSequence pText ) {
+    if ( (pText == null) || (pText.length() != SORTABLE_STRING_LENGTH) ) {
+      throw new IllegalArgumentException( "Expected " + SORTABLE_STRING_LENGTH + " hex digits, but got: " + pText );
+    }
+    long zTimestamp = 0;
+    for ( int i = 0; i < SORTABLE_STRING_LENGTH; i++ ) {
+      int zDigit = Character.digit( pText.charAt( i ), 16 );
+      if ( zDigit < 0 ) {
+        throw new IllegalArgumentException( "Expected " + SORTABLE_STRING_LENGTH + " hex digits, but got: " + pText );
+      }
+      zTimestamp = (zTimestamp << 4) | zDigit;
+    }
+    return zTimestamp;
+  }
+
+  /**
+   * @return compact sortable binary form: 8 bytes big-endian
+   */
+  @NotNull
+  public static byte[] toBytes( long pTimestamp ) {
+    byte[] zBytes = new byte[8];
+    for ( int i = 7; i >= 0; i-- ) {
+      zBytes[i] = (byte)pTimestamp;
+      pTimestamp >>>= 8;
+    }
+    return zBytes;
+  }
+
+  /**
+   * Inverse of <code>toBytes</code>.
+   *
+   * @param pBytes  not null, with at least 8 bytes starting at <code>pOffset</code>
+   * @param pOffset where the 8 bytes start
+   */
+  public static long fromBytes( @NotNull byte[] pBytes, int pOffset ) {
+    long zTimestamp = 0;
+    for ( int i = 0; i < 8; i++ ) {
+      zTimestamp = (zTimestamp << 8) | (pBytes[pOffset + i] & 0xFF);
+    }
+    return zTimestamp;
+  }
+
+  // ---------------------------------- ^^^ Timestamps ^^^ ---------------------------------
+}
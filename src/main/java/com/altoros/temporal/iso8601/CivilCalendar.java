@@ -0,0 +1,90 @@
+package com.altoros.temporal.iso8601;
+
+/**
+ * Proleptic Gregorian calendar arithmetic (the same calendar system as <code>java.time</code>'s ISO chronology) done
+ * entirely with primitives, so that the hot paths of this package need not create any <code>java.time</code> objects.
+ * <p>
+ * The day number conversions are based on Howard Hinnant's "days_from_civil" algorithm
+ * (http://howardhinnant.github.io/date_algorithms.html).
+ */
+final class CivilCalendar {
+  static final long MILLIS_PER_SECOND = 1000L;
+  static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+  static final long MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+  static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+  static final long SECONDS_PER_DAY = MILLIS_PER_DAY / MILLIS_PER_SECOND;
+
+  private static final long DAYS_PER_ERA = 146097; // 400 years
+  private static final long DAYS_0000_03_01_TO_1970_01_01 = 719468;
+
+  private CivilCalendar() {
+  }
+
+  static boolean isLeapYear( long pYear ) {
+    return ((pYear & 3) == 0) && (((pYear % 100) != 0) || ((pYear % 400) == 0));
+  }
+
+  /**
+   * @param pMonth 1-12
+   */
+  static int lengthOfMonth( long pYear, int pMonth ) {
+    switch ( pMonth ) {
+      case 2:
+        return isLeapYear( pYear ) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  /**
+   * Days since 1970-01-01 (negative before) for the (assumed valid) date.
+   *
+   * @param pMonth      1-12
+   * @param pDayOfMonth 1-31
+   */
+  static long epochDayOf( long pYear, int pMonth, int pDayOfMonth ) {
+    long zYear = (pMonth <= 2) ? (pYear - 1) : pYear; // Years start March 1st (so Feb 29th is at the end)
+    long zEra = Math.floorDiv( zYear, 400 );
+    long zYearOfEra = zYear - (zEra * 400); // 0-399
+    int zMarchBasedMonth = (pMonth + 9) % 12; // Mar = 0 ... Feb = 11
+    long zDayOfYear = (((153 * zMarchBasedMonth) + 2) / 5) + pDayOfMonth - 1; // 0-365
+    long zDayOfEra = (zYearOfEra * 365) + (zYearOfEra / 4) - (zYearOfEra / 100) + zDayOfYear; // 0-146096
+    return (zEra * DAYS_PER_ERA) + zDayOfEra - DAYS_0000_03_01_TO_1970_01_01;
+  }
+
+  /**
+   * Inverse of <code>epochDayOf</code>; to avoid an allocation the result is packed into a long
+   * (see <code>yearOf</code>, <code>monthOf</code>, & <code>dayOfMonthOf</code>).
+   *
+   * @param pEpochDay days since 1970-01-01 (negative before)
+   */
+  static long packedDateOf( long pEpochDay ) {
+    long zDays = pEpochDay + DAYS_0000_03_01_TO_1970_01_01;
+    long zEra = Math.floorDiv( zDays, DAYS_PER_ERA );
+    long zDayOfEra = zDays - (zEra * DAYS_PER_ERA); // 0-146096
+    long zYearOfEra = (zDayOfEra - (zDayOfEra / 1460) + (zDayOfEra / 36524) - (zDayOfEra / 146096)) / 365; // 0-399
+    long zDayOfYear = zDayOfEra - ((zYearOfEra * 365) + (zYearOfEra / 4) - (zYearOfEra / 100)); // 0-365
+    int zMarchBasedMonth = (int)(((zDayOfYear * 5) + 2) / 153); // Mar = 0 ... Feb = 11
+    int zDayOfMonth = (int)(zDayOfYear - (((153 * zMarchBasedMonth) + 2) / 5)) + 1;
+    int zMonth = (zMarchBasedMonth < 10) ? (zMarchBasedMonth + 3) : (zMarchBasedMonth - 9);
+    long zYear = (zEra * 400) + zYearOfEra + ((zMonth <= 2) ? 1 : 0);
+    return (zYear << 9) | (zMonth << 5) | zDayOfMonth;
+  }
+
+  static long yearOf( long pPackedDate ) {
+    return pPackedDate >> 9;
+  }
+
+  static int monthOf( long pPackedDate ) {
+    return (int)((pPackedDate >> 5) & 15);
+  }
+
+  static int dayOfMonthOf( long pPackedDate ) {
+    return (int)(pPackedDate & 31);
+  }
+}
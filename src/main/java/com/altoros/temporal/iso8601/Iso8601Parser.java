@@ -0,0 +1,251 @@
+package com.altoros.temporal.iso8601;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Allocation free recognizer for the canonical (24 character) form that <code>ZuluDateTime</code> renders:
+ * <code>yyyy-MM-ddTHH:mm:ss.SSSZ</code>.
+ * <p>
+ * Only text that <code>Instant.parse</code> would accept AND produce the same (Millisec) value for is recognized; anything
+ * else (including the lenient forms like end-of-day "24:00", leap second ":60", lower case 't'/'z', or years outside
+ * 0000-9999) is reported as <code>NOT_CANONICAL</code>, so that the caller can fall back to the general parser, which then
+ * produces the result or the exception.
+ * <p>
+ * The same applies to the canonical date (<code>yyyy-MM-dd</code>, as <code>LocalDate.parse</code>) and time of day
+ * (<code>HH:mm:ss.SSSZ</code>, as <code>LocalTime.parse</code> of the text before the 'Z') forms.
+ */
+final class Iso8601Parser {
+  static final int CANONICAL_LENGTH = 24;
+  static final int DATE_CANONICAL_LENGTH = 10;
+  static final int TIME_OF_DAY_CANONICAL_LENGTH = 13;
+
+  /**
+   * Indicator that the text was not in the canonical form (the canonical form's range is years 0000-9999,
+   * so this value can never be a canonical result).
+   */
+  static final long NOT_CANONICAL = Long.MIN_VALUE;
+
+  private Iso8601Parser() {
+  }
+
+  /**
+   * @param pText  not null
+   * @param pStart the index of the first char (of the text to parse)
+   * @param pEnd   the index after the last char (of the text to parse)
+   *
+   * @return epoch Millisecs or <code>NOT_CANONICAL</code>
+   */
+  static long parseCanonical( CharSequence pText, int pStart, int pEnd ) {
+    int i = pStart;
+    if ( ((pEnd - pStart) != CANONICAL_LENGTH) ||
+         (pText.charAt( i + 4 ) != '-') || (pText.charAt( i + 7 ) != '-') || (pText.charAt( i + 10 ) != 'T') ||
+         (pText.charAt( i + 13 ) != ':') || (pText.charAt( i + 16 ) != ':') || (pText.charAt( i + 19 ) != '.') ||
+         (pText.charAt( i + 23 ) != 'Z') ) {
+      return NOT_CANONICAL;
+    }
+    return toEpochMillis( digits( pText, i, 4 ), digits( pText, i + 5, 2 ), digits( pText, i + 8, 2 ),
+                          digits( pText, i + 11, 2 ), digits( pText, i + 14, 2 ), digits( pText, i + 17, 2 ),
+                          digits( pText, i + 20, 3 ) );
+  }
+
+  /**
+   * The <code>char[]</code> twin of <code>parseCanonical( CharSequence, int, int )</code>.
+   */
+  static long parseCanonical( char[] pChars, int pStart, int pEnd ) {
+    int i = pStart;
+    if ( ((pEnd - pStart) != CANONICAL_LENGTH) ||
+         (pChars[i + 4] != '-') || (pChars[i + 7] != '-') || (pChars[i + 10] != 'T') ||
+         (pChars[i + 13] != ':') || (pChars[i + 16] != ':') || (pChars[i + 19] != '.') ||
+         (pChars[i + 23] != 'Z') ) {
+      return NOT_CANONICAL;
+    }
+    return toEpochMillis( digits( pChars, i, 4 ), digits( pChars, i + 5, 2 ), digits( pChars, i + 8, 2 ),
+                          digits( pChars, i + 11, 2 ), digits( pChars, i + 14, 2 ), digits( pChars, i + 17, 2 ),
+                          digits( pChars, i + 20, 3 ) );
+  }
+
+  /**
+   * The ASCII <code>byte[]</code> twin of <code>parseCanonical( CharSequence, int, int )</code>.
+   */
+  static long parseCanonical( byte[] pBytes, int pStart, int pEnd ) {
+    int i = pStart;
+    if ( ((pEnd - pStart) != CANONICAL_LENGTH) ||
+         (pBytes[i + 4] != '-') || (pBytes[i + 7] != '-') || (pBytes[i + 10] != 'T') ||
+         (pBytes[i + 13] != ':') || (pBytes[i + 16] != ':') || (pBytes[i + 19] != '.') ||
+         (pBytes[i + 23] != 'Z') ) {
+      return NOT_CANONICAL;
+    }
+    return toEpochMillis( digits( pBytes, i, 4 ), digits( pBytes, i + 5, 2 ), digits( pBytes, i + 8, 2 ),
+                          digits( pBytes, i + 11, 2 ), digits( pBytes, i + 14, 2 ), digits( pBytes, i + 17, 2 ),
+                          digits( pBytes, i + 20, 3 ) );
+  }
+
+  /**
+   * The ASCII <code>ByteBuffer</code> (absolute indices) twin of <code>parseCanonical( CharSequence, int, int )</code>.
+   */
+  static long parseCanonical( ByteBuffer pBuffer, int pStart, int pEnd ) {
+    int i = pStart;
+    if ( ((pEnd - pStart) != CANONICAL_LENGTH) ||
+         (pBuffer.get( i + 4 ) != '-') || (pBuffer.get( i + 7 ) != '-') || (pBuffer.get( i + 10 ) != 'T') ||
+         (pBuffer.get( i + 13 ) != ':') || (pBuffer.get( i + 16 ) != ':') || (pBuffer.get( i + 19 ) != '.') ||
+         (pBuffer.get( i + 23 ) != 'Z') ) {
+      return NOT_CANONICAL;
+    }
+    return toEpochMillis( digits( pBuffer, i, 4 ), digits( pBuffer, i + 5, 2 ), digits( pBuffer, i + 8, 2 ),
+                          digits( pBuffer, i + 11, 2 ), digits( pBuffer, i + 14, 2 ), digits( pBuffer, i + 17, 2 ),
+                          digits( pBuffer, i + 20, 3 ) );
+  }
+
+  /**
+   * @param pText  not null
+   * @param pStart the index of the first char (of the text to parse)
+   * @param pEnd   the index after the last char (of the text to parse)
+   *
+   * @return epoch day or <code>NOT_CANONICAL</code>
+   */
+  static long parseCanonicalDate( CharSequence pText, int pStart, int pEnd ) {
+    int i = pStart;
+    if ( ((pEnd - pStart) != DATE_CANONICAL_LENGTH) || (pText.charAt( i + 4 ) != '-') || (pText.charAt( i + 7 ) != '-') ) {
+      return NOT_CANONICAL;
+    }
+    return toEpochDay( digits( pText, i, 4 ), digits( pText, i + 5, 2 ), digits( pText, i + 8, 2 ) );
+  }
+
+  /**
+   * The <code>char[]</code> twin of <code>parseCanonicalDate( CharSequence, int, int )</code>.
+   */
+  static long parseCanonicalDate( char[] pChars, int pStart, int pEnd ) {
+    int i = pStart;
+    if ( ((pEnd - pStart) != DATE_CANONICAL_LENGTH) || (pChars[i + 4] != '-') || (pChars[i + 7] != '-') ) {
+      return NOT_CANONICAL;
+    }
+    return toEpochDay( digits( pChars, i, 4 ), digits( pChars, i + 5, 2 ), digits( pChars, i + 8, 2 ) );
+  }
+
+  /**
+   * @param pText  not null
+   * @param pStart the index of the first char (of the text to parse)
+   * @param pEnd   the index after the last char (of the text to parse)
+   *
+   * @return Millisecs of the day or <code>NOT_CANONICAL</code>
+   */
+  static long parseCanonicalTimeOfDay( CharSequence pText, int pStart, int pEnd ) {
+    int i = pStart;
+    if ( ((pEnd - pStart) != TIME_OF_DAY_CANONICAL_LENGTH) ||
+         (pText.charAt( i + 2 ) != ':') || (pText.charAt( i + 5 ) != ':') || (pText.charAt( i + 8 ) != '.') ||
+         (pText.charAt( i + 12 ) != 'Z') ) {
+      return NOT_CANONICAL;
+    }
+    return toMillisOfDay( digits( pText, i, 2 ), digits( pText, i + 3, 2 ), digits( pText, i + 6, 2 ), digits( pText, i + 9, 3 ) );
+  }
+
+  /**
+   * The <code>char[]</code> twin of <code>parseCanonicalTimeOfDay( CharSequence, int, int )</code>.
+   */
+  static long parseCanonicalTimeOfDay( char[] pChars, int pStart, int pEnd ) {
+    int i = pStart;
+    if ( ((pEnd - pStart) != TIME_OF_DAY_CANONICAL_LENGTH) ||
+         (pChars[i + 2] != ':') || (pChars[i + 5] != ':') || (pChars[i + 8] != '.') || (pChars[i + 12] != 'Z') ) {
+      return NOT_CANONICAL;
+    }
+    return toMillisOfDay( digits( pChars, i, 2 ), digits( pChars, i + 3, 2 ), digits( pChars, i + 6, 2 ), digits( pChars, i + 9, 3 ) );
+  }
+
+  /**
+   * Validate the date fields (any negative field indicates a non-digit was found) and convert them to an epoch day.
+   *
+   * @return epoch day or <code>NOT_CANONICAL</code>
+   */
+  static long toEpochDay( int pYear, int pMonth, int pDayOfMonth ) {
+    if ( (pYear < 0) || (pMonth < 1) || (12 < pMonth) ||
+         (pDayOfMonth < 1) || (CivilCalendar.lengthOfMonth( pYear, pMonth ) < pDayOfMonth) ) {
+      return NOT_CANONICAL;
+    }
+    return CivilCalendar.epochDayOf( pYear, pMonth, pDayOfMonth );
+  }
+
+  /**
+   * Validate the time fields (any negative field indicates a non-digit was found) and convert them to Millisecs of the day.
+   *
+   * @return Millisecs of the day or <code>NOT_CANONICAL</code>
+   */
+  static long toMillisOfDay( int pHour, int pMinute, int pSecond, int pMillis ) {
+    if ( (pHour < 0) || (23 < pHour) || (pMinute < 0) || (59 < pMinute) || (pSecond < 0) || (59 < pSecond) || (pMillis < 0) ) {
+      return NOT_CANONICAL;
+    }
+    return (pHour * CivilCalendar.MILLIS_PER_HOUR) +
+           (pMinute * CivilCalendar.MILLIS_PER_MINUTE) +
+           (pSecond * CivilCalendar.MILLIS_PER_SECOND) +
+           pMillis;
+  }
+
+  /**
+   * Validate the fields (any negative field indicates a non-digit was found) and convert them to epoch Millisecs.
+   *
+   * @return epoch Millisecs or <code>NOT_CANONICAL</code>
+   */
+  static long toEpochMillis( int pYear, int pMonth, int pDayOfMonth, int pHour, int pMinute, int pSecond, int pMillis ) {
+    if ( (pYear < 0) || (pMonth < 1) || (12 < pMonth) ||
+         (pDayOfMonth < 1) || (CivilCalendar.lengthOfMonth( pYear, pMonth ) < pDayOfMonth) ||
+         (pHour < 0) || (23 < pHour) || (pMinute < 0) || (59 < pMinute) || (pSecond < 0) || (59 < pSecond) ||
+         (pMillis < 0) ) {
+      return NOT_CANONICAL;
+    }
+    return (CivilCalendar.epochDayOf( pYear, pMonth, pDayOfMonth ) * CivilCalendar.MILLIS_PER_DAY) +
+           (pHour * CivilCalendar.MILLIS_PER_HOUR) +
+           (pMinute * CivilCalendar.MILLIS_PER_MINUTE) +
+           (pSecond * CivilCalendar.MILLIS_PER_SECOND) +
+           pMillis;
+  }
+
+  /**
+   * @return the (non-negative) value of the ASCII digits, or -1 if any of the characters is not an ASCII digit
+   */
+  private static int digits( CharSequence pText, int pFrom, int pCount ) {
+    int zValue = 0;
+    for ( int i = pFrom, zTo = pFrom + pCount; i < zTo; i++ ) {
+      int zDigit = pText.charAt( i ) - '0';
+      if ( (zDigit < 0) || (9 < zDigit) ) {
+        return -1;
+      }
+      zValue = (zValue * 10) + zDigit;
+    }
+    return zValue;
+  }
+
+  private static int digits( char[] pChars, int pFrom, int pCount ) {
+    int zValue = 0;
+    for ( int i = pFrom, zTo = pFrom + pCount; i < zTo; i++ ) {
+      int zDigit = pChars[i] - '0';
+      if ( (zDigit < 0) || (9 < zDigit) ) {
+        return -1;
+      }
+      zValue = (zValue * 10) + zDigit;
+    }
+    return zValue;
+  }
+
+  private static int digits( byte[] pBytes, int pFrom, int pCount ) {
+    int zValue = 0;
+    for ( int i = pFrom, zTo = pFrom + pCount; i < zTo; i++ ) {
+      int zDigit = pBytes[i] - '0';
+      if ( (zDigit < 0) || (9 < zDigit) ) {
+        return -1;
+      }
+      zValue = (zValue * 10) + zDigit;
+    }
+    return zValue;
+  }
+
+  private static int digits( ByteBuffer pBuffer, int pFrom, int pCount ) {
+    int zValue = 0;
+    for ( int i = pFrom, zTo = pFrom + pCount; i < zTo; i++ ) {
+      int zDigit = pBuffer.get( i ) - '0';
+      if ( (zDigit < 0) || (9 < zDigit) ) {
+        return -1;
+      }
+      zValue = (zValue * 10) + zDigit;
+    }
+    return zValue;
+  }
+}
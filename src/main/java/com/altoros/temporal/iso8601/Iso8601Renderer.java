@@ -0,0 +1,291 @@
+package com.altoros.temporal.iso8601;
+
+import java.nio.CharBuffer;
+
+import com.altoros.temporal.metrics.TemporalInstrumentation;
+import com.altoros.temporal.metrics.TemporalOperation;
+
+/**
+ * Allocation free renderer of the ISO8601 UTC form with 3 fractional second digits, e.g. <code>2007-12-03T10:15:30.000Z</code>,
+ * that produces exactly the same text as <code>ZuluDateTime.RENDERING_ISO_8601_3_FACTIONAL_SEC</code>.
+ * <p>
+ * Years 0000-9999 produce the fixed (24 character) canonical form; other years are rendered the same way as
+ * <code>LocalDate</code> does (a sign, and at least 4 digits), e.g. <code>-1000-12-31T23:59:59.999Z</code> or
+ * <code>+12018-09-01T00:00:00.000Z</code>.
+ * <p>
+ * The "yyyy-MM-ddTHH:mm:ss" prefix of the most recently rendered second is memoized per thread, so rendering a value in the
+ * same second as the previous one (on the thread) is a copy of the prefix plus the ".SSSZ" suffix (no calendar conversion).
+ * <p>
+ * The date (<code>ZuluDate</code>, "yyyy-MM-dd") and time of day (<code>ZuluTimeOfDay</code>, "HH:mm:ss.SSSZ") portions are
+ * also rendered on their own.
+ * <p>
+ * For the zoned form (<code>ZuluDateTimeZoneRenderer</code>) the local date time is rendered the same way, with the 'Z'
+ * replaced by the offset ("+HH:MM", or "+HH:MM:SS" when it has seconds; a zero offset stays 'Z').
+ */
+final class Iso8601Renderer {
+  static final int CANONICAL_LENGTH = 24;
+  static final int MAX_LENGTH = 30; // sign + 9 digit year (epoch millis range) + "-MM-ddTHH:mm:ss.SSSZ"
+
+  private static final int AFTER_YEAR_LENGTH = CANONICAL_LENGTH - 4;
+
+  static final int DATE_CANONICAL_LENGTH = 10;
+  static final int DATE_MAX_LENGTH = 14; // sign + 7 digit year (int epoch day range) + "-MM-dd"
+  static final int TIME_OF_DAY_LENGTH = 13;
+
+  static final int ZONED_MAX_LENGTH = MAX_LENGTH - 1 + 9; // "...ss.SSS" + "+HH:MM:SS"
+
+  private static final int PREFIX_MAX_LENGTH = MAX_LENGTH - 5; // "yyyy-MM-ddTHH:mm:ss" without the ".SSSZ"
+  private static final long NO_SECOND = Long.MAX_VALUE; // Not a possible epoch second (of an epoch Millisec)
+
+  /**
+   * A buffer (with a read only <code>CharSequence</code> view of it) for renderers that hand the rendered text to foreign code
+   * (e.g. an <code>Appendable</code>), claimed (per thread) for the duration of that call.
+   */
+  static final class Staging {
+    final char[] mChars = new char[ZONED_MAX_LENGTH];
+    final CharBuffer mView = CharBuffer.wrap( mChars ).asReadOnlyBuffer();
+    private boolean mClaimed;
+
+    void release() {
+      mClaimed = false;
+    }
+  }
+
+  /**
+   * Per thread: the scratch buffer, the staging buffer, and the (memoized) prefix of the most recently rendered epoch second (as consecutive
+   * values, e.g. log time stamps, almost always share it, only the ".SSSZ" suffix needs rendering).
+   */
+  private static final class PerThread {
+    private final char[] mScratch = new char[ZONED_MAX_LENGTH];
+    private final Staging mStaging = new Staging();
+    private final char[] mPrefix = new char[PREFIX_MAX_LENGTH];
+    private int mPrefixLength;
+    private long mPrefixSecond = NO_SECOND;
+
+    private char[] prefixFor( long pEpochSecond ) {
+      if ( mPrefixSecond != pEpochSecond ) {
+        mPrefixLength = renderPrefix( pEpochSecond, mPrefix );
+        mPrefixSecond = pEpochSecond;
+      }
+      return mPrefix;
+    }
+  }
+
+  private static final ThreadLocal<PerThread> PER_THREAD = ThreadLocal.withInitial( PerThread::new );
+
+  private Iso8601Renderer() {
+  }
+
+  /**
+   * @return the number of characters that <code>render</code> will produce.
+   */
+  static int length( long pEpochMillis ) {
+    PerThread zPerThread = PER_THREAD.get();
+    zPerThread.prefixFor( Math.floorDiv( pEpochMillis, CivilCalendar.MILLIS_PER_SECOND ) );
+    return zPerThread.mPrefixLength + 5;
+  }
+
+  /**
+   * @return a new String of the rendered form.
+   */
+  static String render( long pEpochMillis ) {
+    long zStarted = TemporalInstrumentation.start();
+    PerThread zPerThread = PER_THREAD.get();
+    char[] zScratch = zPerThread.mScratch;
+    String zRendered = new String( zScratch, 0, render( zPerThread, pEpochMillis, zScratch, 0 ) );
+    TemporalInstrumentation.record( TemporalOperation.RENDER, zStarted );
+    return zRendered;
+  }
+
+  /**
+   * @return a per thread buffer (of at least <code>ZONED_MAX_LENGTH</code>) for use by renderers that must copy from a <code>char[]</code>;
+   * only valid until the next render on the thread, so it must not be held across calls into foreign code (e.g. an <code>Appendable</code>)
+   */
+  static char[] scratch() {
+    return PER_THREAD.get().mScratch;
+  }
+
+  /**
+   * Claim the per thread staging buffer, which must be <code>release</code>d (in a finally) when the foreign code returns.
+   *
+   * @return null if it is already claimed on this thread (the foreign code is itself rendering), so the caller must use its own buffer
+   */
+  static Staging claimStaging() {
+    Staging zStaging = PER_THREAD.get().mStaging;
+    if ( zStaging.mClaimed ) {
+      return null;
+    }
+    zStaging.mClaimed = true;
+    return zStaging;
+  }
+
+  /**
+   * Render into the buffer (which must have room for <code>length( pEpochMillis )</code> characters).
+   *
+   * @return the offset after the last character rendered
+   */
+  static int render( long pEpochMillis, char[] pBuffer, int pOffset ) {
+    long zStarted = TemporalInstrumentation.start();
+    int zEnd = render( PER_THREAD.get(), pEpochMillis, pBuffer, pOffset );
+    TemporalInstrumentation.record( TemporalOperation.RENDER, zStarted );
+    return zEnd;
+  }
+
+  private static int render( PerThread pPerThread, long pEpochMillis, char[] pBuffer, int pOffset ) {
+    long zEpochSecond = Math.floorDiv( pEpochMillis, CivilCalendar.MILLIS_PER_SECOND );
+    int zMillisOfSecond = (int)(pEpochMillis - (zEpochSecond * CivilCalendar.MILLIS_PER_SECOND));
+    char[] zPrefix = pPerThread.prefixFor( zEpochSecond );
+    int zAt = pOffset + pPerThread.mPrefixLength;
+    System.arraycopy( zPrefix, 0, pBuffer, pOffset, pPerThread.mPrefixLength );
+    pBuffer[zAt] = '.';
+    pBuffer[zAt + 1] = digit( zMillisOfSecond / 100 );
+    pBuffer[zAt + 2] = digit( (zMillisOfSecond / 10) % 10 );
+    pBuffer[zAt + 3] = digit( zMillisOfSecond % 10 );
+    pBuffer[zAt + 4] = 'Z';
+    return zAt + 5;
+  }
+
+  /**
+   * @return the number of characters that <code>renderZoned</code> will produce.
+   */
+  static int zonedLength( long pLocalEpochMillis, int pOffsetSeconds ) {
+    return length( pLocalEpochMillis ) - 1 + offsetLength( pOffsetSeconds );
+  }
+
+  /**
+   * Render the local date time (<code>pLocalEpochMillis</code> is the epoch Millisecs plus the offset) followed by the offset
+   * into the buffer (which must have room for <code>zonedLength( pLocalEpochMillis, pOffsetSeconds )</code> characters).
+   *
+   * @return the offset after the last character rendered
+   */
+  static int renderZoned( long pLocalEpochMillis, int pOffsetSeconds, char[] pBuffer, int pOffset ) {
+    long zStarted = TemporalInstrumentation.start();
+    int zAt = render( PER_THREAD.get(), pLocalEpochMillis, pBuffer, pOffset ) - 1; // the 'Z' is replaced by the offset
+    zAt = renderOffset( pOffsetSeconds, pBuffer, zAt );
+    TemporalInstrumentation.record( TemporalOperation.RENDER, zStarted );
+    return zAt;
+  }
+
+  /**
+   * @return the number of characters that <code>renderDate</code> will produce.
+   */
+  static int dateLength( long pEpochDay ) {
+    return yearLength( CivilCalendar.yearOf( CivilCalendar.packedDateOf( pEpochDay ) ) ) + 6;
+  }
+
+  /**
+   * Render the "yyyy-MM-dd" form (years outside 0000-9999 as <code>LocalDate</code> does) of the <code>pEpochDay</code> into
+   * the buffer (which must have room for <code>dateLength( pEpochDay )</code> characters).
+   *
+   * @return the offset after the last character rendered
+   */
+  static int renderDate( long pEpochDay, char[] pBuffer, int pOffset ) {
+    long zPackedDate = CivilCalendar.packedDateOf( pEpochDay );
+    int zAt = renderYear( CivilCalendar.yearOf( zPackedDate ), pBuffer, pOffset );
+    pBuffer[zAt] = '-';
+    zAt = render2( CivilCalendar.monthOf( zPackedDate ), pBuffer, zAt + 1 );
+    pBuffer[zAt] = '-';
+    return render2( CivilCalendar.dayOfMonthOf( zPackedDate ), pBuffer, zAt + 1 );
+  }
+
+  /**
+   * Render the (always <code>TIME_OF_DAY_LENGTH</code>) "HH:mm:ss.SSSZ" form of the <code>pMillisOfDay</code> (0 - 86399999).
+   *
+   * @return the offset after the last character rendered
+   */
+  static int renderTimeOfDay( int pMillisOfDay, char[] pBuffer, int pOffset ) {
+    int zSecondOfDay = pMillisOfDay / 1000;
+    int zAt = renderTime( zSecondOfDay, pBuffer, pOffset );
+    int zMillisOfSecond = pMillisOfDay - (zSecondOfDay * 1000);
+    pBuffer[zAt] = '.';
+    pBuffer[zAt + 1] = digit( zMillisOfSecond / 100 );
+    pBuffer[zAt + 2] = digit( (zMillisOfSecond / 10) % 10 );
+    pBuffer[zAt + 3] = digit( zMillisOfSecond % 10 );
+    pBuffer[zAt + 4] = 'Z';
+    return zAt + 5;
+  }
+
+  /**
+   * Render the "yyyy-MM-ddTHH:mm:ss" prefix (the full calendar conversion) of the <code>pEpochSecond</code>.
+   *
+   * @return the length of the prefix
+   */
+  private static int renderPrefix( long pEpochSecond, char[] pBuffer ) {
+    long zEpochDay = Math.floorDiv( pEpochSecond, CivilCalendar.SECONDS_PER_DAY );
+    int zSecondOfDay = (int)(pEpochSecond - (zEpochDay * CivilCalendar.SECONDS_PER_DAY));
+    int zAt = renderDate( zEpochDay, pBuffer, 0 );
+    pBuffer[zAt] = 'T';
+    return renderTime( zSecondOfDay, pBuffer, zAt + 1 );
+  }
+
+  /**
+   * Render the "HH:mm:ss" of the <code>pSecondOfDay</code>.
+   */
+  private static int renderTime( int pSecondOfDay, char[] pBuffer, int pOffset ) {
+    int zAt = render2( pSecondOfDay / 3600, pBuffer, pOffset );
+    pBuffer[zAt] = ':';
+    zAt = render2( (pSecondOfDay / 60) % 60, pBuffer, zAt + 1 );
+    pBuffer[zAt] = ':';
+    return render2( pSecondOfDay % 60, pBuffer, zAt + 1 );
+  }
+
+  private static int offsetLength( int pOffsetSeconds ) {
+    return (pOffsetSeconds == 0) ? 1 : ((pOffsetSeconds % 60) == 0) ? 6 : 9;
+  }
+
+  /**
+   * Render the offset ("Z", "+HH:MM", or "+HH:MM:SS") of the <code>pOffsetSeconds</code> (at most 18 hours either way).
+   */
+  private static int renderOffset( int pOffsetSeconds, char[] pBuffer, int pOffset ) {
+    if ( pOffsetSeconds == 0 ) {
+      pBuffer[pOffset] = 'Z';
+      return pOffset + 1;
+    }
+    int zAbs = Math.abs( pOffsetSeconds );
+    pBuffer[pOffset] = (pOffsetSeconds < 0) ? '-' : '+';
+    int zAt = render2( zAbs / 3600, pBuffer, pOffset + 1 );
+    pBuffer[zAt] = ':';
+    zAt = render2( (zAbs / 60) % 60, pBuffer, zAt + 1 );
+    if ( (zAbs % 60) != 0 ) {
+      pBuffer[zAt] = ':';
+      zAt = render2( zAbs % 60, pBuffer, zAt + 1 );
+    }
+    return zAt;
+  }
+
+  private static int yearLength( long pYear ) {
+    if ( (0 <= pYear) && (pYear <= 9999) ) {
+      return 4;
+    }
+    int zDigits = 4;
+    for ( long zAbs = Math.abs( pYear ); zAbs > 9999; zAbs /= 10 ) {
+      zDigits++;
+    }
+    return 1 + zDigits;
+  }
+
+  private static int renderYear( long pYear, char[] pBuffer, int pOffset ) {
+    int zAt = pOffset;
+    if ( (pYear < 0) || (9999 < pYear) ) {
+      pBuffer[zAt] = (pYear < 0) ? '-' : '+';
+      zAt++;
+    }
+    long zAbs = Math.abs( pYear );
+    int zEnd = pOffset + yearLength( pYear );
+    for ( int i = zEnd - 1; i >= zAt; i-- ) {
+      pBuffer[i] = digit( (int)(zAbs % 10) );
+      zAbs /= 10;
+    }
+    return zEnd;
+  }
+
+  private static int render2( int pValue, char[] pBuffer, int pOffset ) {
+    pBuffer[pOffset] = digit( pValue / 10 );
+    pBuffer[pOffset + 1] = digit( pValue % 10 );
+    return pOffset + 2;
+  }
+
+  private static char digit( int pValue ) {
+    return (char)('0' + pValue);
+  }
+}
@@ -0,0 +1,67 @@
+package com.altoros.temporal.iso8601;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+/**
+ * ZigZag + base 128 varint (the Protocol Buffers "sint64" form) encoding of <code>long</code>s: small magnitudes (of either sign)
+ * take few bytes, e.g. epoch Millisecs of the current era take 6 bytes, and the worst case is 10 bytes.
+ */
+final class VarLong {
+  static final int MAX_BYTES = 10;
+
+  private VarLong() {
+  }
+
+  static long zigZag( long pValue ) {
+    return (pValue << 1) ^ (pValue >> 63);
+  }
+
+  static long unZigZag( long pEncoded ) {
+    return (pEncoded >>> 1) ^ -(pEncoded & 1);
+  }
+
+  /**
+   * @return the number of bytes <code>write</code> will produce for the <code>pValue</code>
+   */
+  static int length( long pValue ) {
+    long zEncoded = zigZag( pValue );
+    int zLength = 1;
+    while ( (zEncoded >>>= 7) != 0 ) {
+      zLength++;
+    }
+    return zLength;
+  }
+
+  static void write( DataOutput pOut, long pValue )
+          throws IOException {
+    long zEncoded = zigZag( pValue );
+    while ( (zEncoded & ~0x7FL) != 0 ) {
+      pOut.writeByte( (int)((zEncoded & 0x7F) | 0x80) );
+      zEncoded >>>= 7;
+    }
+    pOut.writeByte( (int)zEncoded );
+  }
+
+  /**
+   * @throws StreamCorruptedException if more than <code>MAX_BYTES</code> bytes have the continuation bit set, or the last
+   *                                  (<code>MAX_BYTES</code>th) byte has more than the one bit that fits in a <code>long</code>
+   */
+  static long read( DataInput pIn )
+          throws IOException {
+    long zEncoded = 0;
+    for ( int zShift = 0; true; zShift += 7 ) {
+      int zByte = pIn.readUnsignedByte();
+      if ( (zShift == 63) && (zByte > 1) ) {
+        throw new StreamCorruptedException( (zByte < 0x80) ? ("VarLong overflows 64 bits, last byte: " + zByte) :
+                                            ("VarLong longer than " + MAX_BYTES + " bytes") );
+      }
+      zEncoded |= (long)(zByte & 0x7F) << zShift;
+      if ( zByte < 0x80 ) {
+        return unZigZag( zEncoded );
+      }
+    }
+  }
+}
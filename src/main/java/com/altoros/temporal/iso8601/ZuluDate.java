@@ -0,0 +1,395 @@
+package com.altoros.temporal.iso8601;
+
+import java.io.Serializable;
+import java.nio.CharBuffer;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+import com.altoros.temporal.MillisecTimeSource;
+import com.altoros.temporal.iso8601.gson.GsonTypeAdapterZuluDate;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.google.gson.annotations.JsonAdapter;
+import org.litesoft.annotations.NotNull;
+import org.litesoft.annotations.Nullable;
+import org.litesoft.annotations.Significant;
+import org.litesoft.annotations.SignificantOrNull;
+
+/**
+ * The UTC date (of a <code>ZuluDateTime</code>) companion value type, held as a single <code>int</code> epoch day (days
+ * since 1970-01-01), e.g. for partition keys and daily rollups.
+ * <p>
+ * The String (JSON) form is ISO8601 <code>yyyy-MM-dd</code>: always 10 characters (so it sorts correctly) for years
+ * 0000-9999; other years are rendered as <code>LocalDate</code> does (a sign, and at least 4 digits).
+ * <p>
+ * Notes:<br>
+ * <li>The canonical form is parsed (and rendered) directly, without any <code>java.time</code> objects; any other text is
+ * parsed by <code>LocalDate.parse</code>, so both produce the same results (and exceptions).</li>
+ * <li>The conversions from epoch Millisecs (<code>epochDayOf</code>) and back (<code>startOfDayEpochMilli</code>) are also
+ * available on primitives, so day partitioning need not create any instances.</li>
+ * <li>The supported range is that of an <code>int</code> epoch day (roughly +/- 5.8 million years), so (unlike
+ * <code>LocalDate</code>, or <code>ZuluDateTime</code>) dates outside it are rejected with an <code>ArithmeticException</code>.</li>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+@JsonAdapter(GsonTypeAdapterZuluDate.class)
+public final class ZuluDate implements Comparable<ZuluDate>,
+                                       Serializable {
+  private static final long serialVersionUID = 1L;
+
+  public static final ZuluDate EPOCH = new ZuluDate( 0 );
+
+  private final int mEpochDay;
+
+  private ZuluDate( int pEpochDay ) {
+    mEpochDay = pEpochDay;
+  }
+
+  /**
+   * @param pEpochDay days since 1970-01-01 (negative before)
+   *
+   * @throws ArithmeticException if the <code>pEpochDay</code> is outside the <code>int</code> range
+   */
+  @NotNull
+  public static ZuluDate ofEpochDay( long pEpochDay ) {
+    return new ZuluDate( Math.toIntExact( pEpochDay ) );
+  }
+
+  /**
+   * @return the (UTC) date of the <code>pEpochMillis</code>
+   *
+   * @throws ArithmeticException if the date is outside the <code>int</code> epoch day range
+   */
+  @NotNull
+  public static ZuluDate ofEpochMilli( long pEpochMillis ) {
+    return new ZuluDate( epochDayOf( pEpochMillis ) );
+  }
+
+  /**
+   * Allocation free: the epoch day of the (UTC) date of the <code>pEpochMillis</code> (floored, so before 1970 is negative).
+   *
+   * @throws ArithmeticException if the date is outside the <code>int</code> epoch day range
+   */
+  public static int epochDayOf( long pEpochMillis ) {
+    return Math.toIntExact( Math.floorDiv( pEpochMillis, CivilCalendar.MILLIS_PER_DAY ) );
+  }
+
+  /**
+   * Allocation free: the epoch Millisecs of the start (00:00:00.000Z) of the <code>pEpochDay</code>.
+   */
+  public static long startOfDayEpochMilli( int pEpochDay ) {
+    return Math.multiplyExact( (long)pEpochDay, CivilCalendar.MILLIS_PER_DAY );
+  }
+
+  @NotNull
+  public static ZuluDate now( @NotNull MillisecTimeSource pMillisecTimeSource ) {
+    return ofEpochMilli( Objects.requireNonNull( pMillisecTimeSource, "MillisecTimeSource" ).currentTimeMillis() );
+  }
+
+  /**
+   * @throws DateTimeException if any field is invalid (as <code>LocalDate.of</code>)
+   */
+  @NotNull
+  public static ZuluDate of( int pYear, int pMonth, int pDayOfMonth ) {
+    if ( (pMonth < 1) || (12 < pMonth) || (pDayOfMonth < 1) || (CivilCalendar.lengthOfMonth( pYear, pMonth ) < pDayOfMonth) ) {
+      return ofLocalDate( LocalDate.of( pYear, pMonth, pDayOfMonth ) ); // Throws the appropriate exception
+    }
+    return ofEpochDay( CivilCalendar.epochDayOf( pYear, pMonth, pDayOfMonth ) );
+  }
+
+  @NotNull
+  public static ZuluDate of( int pYear, @NotNull Month pMonth, int pDayOfMonth ) {
+    return of( pYear, Objects.requireNonNull( pMonth, "Month" ).getValue(), pDayOfMonth );
+  }
+
+  @NotNull
+  public static ZuluDate ofLocalDate( @NotNull LocalDate pDate ) {
+    return ofEpochDay( Objects.requireNonNull( pDate, "Date" ).toEpochDay() );
+  }
+
+  @NotNull
+  public LocalDate toLocalDate() {
+    return LocalDate.ofEpochDay( mEpochDay );
+  }
+
+  public int toEpochDay() {
+    return mEpochDay;
+  }
+
+  /**
+   * @return the start of the day (00:00:00.000Z)
+   */
+  @NotNull
+  public ZuluDateTime atStartOfDay() {
+    return ZuluDateTime.ofEpochMilli( startOfDayEpochMilli( mEpochDay ) );
+  }
+
+  @NotNull
+  public ZuluDateTime atTime( @NotNull ZuluTimeOfDay pTimeOfDay ) {
+    return ZuluDateTime.ofEpochMilli( startOfDayEpochMilli( mEpochDay ) + Objects.requireNonNull( pTimeOfDay, "TimeOfDay" ).toMillisOfDay() );
+  }
+
+  // ------------------------------------ vvv Parsing vvv --------------------------------
+
+  /**
+   * Create a <code>ZuluDate</code> from text such as <code>2007-12-03</code>.
+   *
+   * @param pText the text to parse, must be significant after trimming
+   *
+   * @throws DateTimeParseException if the text cannot be parsed
+   */
+  @NotNull
+  public static ZuluDate parse( @Significant CharSequence pText ) {
+    if ( pText == null ) {
+      throw ZuluDateTime.insignificant( null );
+    }
+    return parse( pText, 0, pText.length() );
+  }
+
+  /**
+   * Create a <code>ZuluDate</code> from the slice (<code>pStart</code> inclusive to <code>pEnd</code> exclusive) of the
+   * <code>pText</code>, surrounding whitespace is skipped, see <code>parse( CharSequence )</code>.
+   *
+   * @throws IndexOutOfBoundsException if the slice is not within the <code>pText</code>
+   * @throws IllegalArgumentException  if the slice is empty or all whitespace
+   * @throws DateTimeParseException    if the slice cannot be parsed
+   */
+  @NotNull
+  public static ZuluDate parse( @NotNull CharSequence pText, int pStart, int pEnd ) {
+    ZuluDateTime.checkSlice( Objects.requireNonNull( pText, "Text" ).length(), pStart, pEnd );
+    int zStart = pStart, zEnd = pEnd;
+    while ( (zStart < zEnd) && Character.isWhitespace( pText.charAt( zStart ) ) ) {
+      zStart++;
+    }
+    while ( (zStart < zEnd) && Character.isWhitespace( pText.charAt( zEnd - 1 ) ) ) {
+      zEnd--;
+    }
+    if ( zStart == zEnd ) {
+      throw ZuluDateTime.insignificant( pText.subSequence( pStart, pEnd ) );
+    }
+    long zEpochDay = Iso8601Parser.parseCanonicalDate( pText, zStart, zEnd );
+    return (zEpochDay != Iso8601Parser.NOT_CANONICAL) ? new ZuluDate( (int)zEpochDay ) :
+           ofLocalDate( LocalDate.parse( pText.subSequence( zStart, zEnd ) ) );
+  }
+
+  /**
+   * The <code>char[]</code> twin of <code>parse( CharSequence, int, int )</code>, e.g. for a parser's or reader's buffer.
+   */
+  @NotNull
+  public static ZuluDate parse( @NotNull char[] pChars, int pStart, int pEnd ) {
+    ZuluDateTime.checkSlice( Objects.requireNonNull( pChars, "Chars" ).length, pStart, pEnd );
+    int zStart = pStart, zEnd = pEnd;
+    while ( (zStart < zEnd) && Character.isWhitespace( pChars[zStart] ) ) {
+      zStart++;
+    }
+    while ( (zStart < zEnd) && Character.isWhitespace( pChars[zEnd - 1] ) ) {
+      zEnd--;
+    }
+    if ( zStart == zEnd ) {
+      throw ZuluDateTime.insignificant( CharBuffer.wrap( pChars, pStart, pEnd - pStart ) );
+    }
+    long zEpochDay = Iso8601Parser.parseCanonicalDate( pChars, zStart, zEnd );
+    return (zEpochDay != Iso8601Parser.NOT_CANONICAL) ? new ZuluDate( (int)zEpochDay ) :
+           ofLocalDate( LocalDate.parse( CharBuffer.wrap( pChars, zStart, zEnd - zStart ) ) );
+  }
+
+  // ------------------------------------ ^^^ Parsing ^^^ --------------------------------
+
+  // ----------------------------- vvv JsonCreator & JsonValue vvv ---------------------
+
+  @JsonCreator
+  @Nullable
+  public static ZuluDate jsonCreator( String pText ) {
+    return ZuluDateTime.isSignificant( pText ) ? parse( pText ) : null; // parse(...) does any trimming
+  }
+
+  @JsonValue
+  @SignificantOrNull
+  public String jsonValue() {
+    return toString();
+  }
+
+  // ----------------------------- ^^^ JsonCreator & JsonValue ^^^ ---------------------
+
+  // ------------------------ vvv Allocation free rendering vvv ------------------------
+
+  /**
+   * @return the length of the rendered (ISO8601) form, always 10 for years 0000-9999
+   */
+  public int renderedLength() {
+    return Iso8601Renderer.dateLength( mEpochDay );
+  }
+
+  /**
+   * Render the ISO8601 form (the same text as <code>toString()</code>) into the <code>pBuffer</code> starting at <code>pOffset</code>.
+   *
+   * @return the offset just past the rendered characters
+   *
+   * @throws IndexOutOfBoundsException if the buffer does not have room
+   */
+  public int renderTo( @NotNull char[] pBuffer, int pOffset ) {
+    int zLength = renderedLength();
+    if ( (pOffset < 0) || ((Objects.requireNonNull( pBuffer, "Buffer" ).length - pOffset) < zLength) ) {
+      throw new IndexOutOfBoundsException( "Rendering " + zLength + " characters at offset " + pOffset +
+                                           " into a buffer of length " + pBuffer.length );
+    }
+    return Iso8601Renderer.renderDate( mEpochDay, pBuffer, pOffset );
+  }
+
+  @NotNull
+  public StringBuilder renderTo( @NotNull StringBuilder pBuilder ) {
+    Objects.requireNonNull( pBuilder, "Builder" );
+    char[] zScratch = Iso8601Renderer.scratch();
+    return pBuilder.append( zScratch, 0, Iso8601Renderer.renderDate( mEpochDay, zScratch, 0 ) );
+  }
+
+  @Override
+  @Significant
+  public String toString() {
+    char[] zScratch = Iso8601Renderer.scratch();
+    return new String( zScratch, 0, Iso8601Renderer.renderDate( mEpochDay, zScratch, 0 ) );
+  }
+
+  // ------------------------ ^^^ Allocation free rendering ^^^ ------------------------
+
+  // ------------------------ vvv Field Accessors (See LocalDate) vvv ------------------
+
+  public int getYear() {
+    return (int)CivilCalendar.yearOf( packedDate() );
+  }
+
+  public int getMonthValue() {
+    return CivilCalendar.monthOf( packedDate() );
+  }
+
+  @NotNull
+  public Month getMonth() {
+    return Month.of( getMonthValue() );
+  }
+
+  public int getDayOfMonth() {
+    return CivilCalendar.dayOfMonthOf( packedDate() );
+  }
+
+  public int getDayOfYear() {
+    long zYear = CivilCalendar.yearOf( packedDate() );
+    return (int)(mEpochDay - CivilCalendar.epochDayOf( zYear, 1, 1 )) + 1;
+  }
+
+  @NotNull
+  public DayOfWeek getDayOfWeek() {
+    return DayOfWeek.of( Math.floorMod( mEpochDay + 3, 7 ) + 1 ); // 1970-01-01 was a Thursday
+  }
+
+  public boolean isLeapYear() {
+    return CivilCalendar.isLeapYear( CivilCalendar.yearOf( packedDate() ) );
+  }
+
+  public int lengthOfMonth() {
+    long zPackedDate = packedDate();
+    return CivilCalendar.lengthOfMonth( CivilCalendar.yearOf( zPackedDate ), CivilCalendar.monthOf( zPackedDate ) );
+  }
+
+  private long packedDate() {
+    return CivilCalendar.packedDateOf( mEpochDay );
+  }
+
+  // ------------------------ ^^^ Field Accessors (See LocalDate) ^^^ ------------------
+
+  // ------------------------- vvv Arithmetic (see LocalDate) vvv -----------------------
+
+  /**
+   * @throws ArithmeticException if the result would be outside the <code>int</code> epoch day range (as for all the arithmetic methods)
+   */
+  @NotNull
+  public ZuluDate plusDays( long pDays ) {
+    return (pDays == 0) ? this : ofEpochDay( Math.addExact( mEpochDay, pDays ) );
+  }
+
+  @NotNull
+  public ZuluDate minusDays( long pDays ) {
+    return (pDays == 0) ? this : ofEpochDay( Math.subtractExact( mEpochDay, pDays ) );
+  }
+
+  /**
+   * Add calendar months; as with <code>LocalDate</code>, if the day of month would be invalid it is changed to the last valid
+   * day of that month (e.g. 2011-01-31 plus 1 month is 2011-02-28).
+   */
+  @NotNull
+  public ZuluDate plusMonths( long pMonths ) {
+    if ( pMonths == 0 ) {
+      return this;
+    }
+    long zPackedDate = packedDate();
+    long zMonths = Math.addExact( (CivilCalendar.yearOf( zPackedDate ) * 12) + (CivilCalendar.monthOf( zPackedDate ) - 1), pMonths );
+    long zYear = Math.floorDiv( zMonths, 12 );
+    if ( Math.abs( zYear ) > 6000000 ) { // Well beyond the int epoch day range (~5.8 million years), so epochDayOf can't overflow
+      throw new ArithmeticException( "integer overflow" );
+    }
+    int zMonth = (int)Math.floorMod( zMonths, 12 ) + 1;
+    int zDayOfMonth = Math.min( CivilCalendar.dayOfMonthOf( zPackedDate ), CivilCalendar.lengthOfMonth( zYear, zMonth ) );
+    return ofEpochDay( CivilCalendar.epochDayOf( zYear, zMonth, zDayOfMonth ) );
+  }
+
+  @NotNull
+  public ZuluDate plusYears( long pYears ) {
+    return plusMonths( Math.multiplyExact( pYears, 12 ) );
+  }
+
+  @NotNull
+  public ZuluDate minusMonths( long pMonths ) {
+    return plusMonths( Math.negateExact( pMonths ) );
+  }
+
+  @NotNull
+  public ZuluDate minusYears( long pYears ) {
+    return plusYears( Math.negateExact( pYears ) );
+  }
+
+  /**
+   * @return the days from this to the <code>pEnd</code> (negative if the <code>pEnd</code> is before this)
+   */
+  public long daysUntil( @NotNull ZuluDate pEnd ) {
+    return (long)notNull( pEnd ).mEpochDay - mEpochDay;
+  }
+
+  // ------------------------- ^^^ Arithmetic (see LocalDate) ^^^ -----------------------
+
+  public boolean isAfter( @NotNull ZuluDate them ) {
+    return this.mEpochDay > notNull( them ).mEpochDay;
+  }
+
+  public boolean isBefore( @NotNull ZuluDate them ) {
+    return this.mEpochDay < notNull( them ).mEpochDay;
+  }
+
+  @Override
+  public int compareTo( @NotNull ZuluDate them ) {
+    return Integer.compare( this.mEpochDay, notNull( them ).mEpochDay );
+  }
+
+  @Override
+  public int hashCode() {
+    return mEpochDay;
+  }
+
+  @Override
+  public boolean equals( Object them ) {
+    return (this == them) ||
+           ((them instanceof ZuluDate) && equals( (ZuluDate)them )); // Left to Right
+  }
+
+  public boolean equals( ZuluDate them ) {
+    return (this == them) ||
+           ((them != null) &&
+            (this.mEpochDay == them.mEpochDay));
+  }
+
+  @NotNull
+  private static ZuluDate notNull( @Nullable ZuluDate them ) {
+    return Objects.requireNonNull( them, "them" );
+  }
+}
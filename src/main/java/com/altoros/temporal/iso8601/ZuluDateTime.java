@@ -1,8 +1,24 @@
 package com.altoros.temporal.iso8601;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -15,15 +31,19 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
-import java.time.temporal.ChronoUnit;
+import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalField;
 import java.time.temporal.TemporalQuery;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
 import java.time.temporal.ValueRange;
 import java.util.Objects;
 
 import com.altoros.temporal.MillisecTimeSource;
 import com.altoros.temporal.iso8601.gson.GsonTypeAdapterZuluDateTime;
+import com.altoros.temporal.metrics.TemporalInstrumentation;
+import com.altoros.temporal.metrics.TemporalOperation;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.annotations.JsonAdapter;
@@ -40,10 +60,18 @@ import org.litesoft.annotations.SignificantOrNull;
  * <p>
  * Notes:<br>
  * <li>The <code>LocalDateTime</code> produced by <code>toLocalDateTime()</code> is assumed to remain in the <code>UTC</code> 'time zone'.</li>
- * <li>Since the math methods are NOT supported directly, it is recommended to convert instances of this class into
- * a <code>LocalDateTime</code>, manipulate that, and then convert the changed <code>LocalDateTime</code> back into a new <code>ZuluDateTime</code>.</li>
- * <li>Should an instance of this class be created (e.g. Java Serialization) without the appropriate internal values, all references to the methods
- * of this instance will return values as if it was initialized with: <code>-999080706-05-04T03:02:01.000Z</code></li>
+ * <li>Arithmetic with fixed length units (<code>plusMillis</code> thru <code>plusDays</code>, and <code>Duration</code>s), truncation
+ * (<code>truncatedTo</code>), and bucketing (<code>floorTo</code> & <code>ceilTo</code>) are done directly on the epoch Millisecs;
+ * only <code>plusMonths</code> & <code>plusYears</code> use calendar logic.  For any other math, it is recommended to convert instances
+ * of this class into a <code>LocalDateTime</code>, manipulate that, and then convert the changed <code>LocalDateTime</code> back into
+ * a new <code>ZuluDateTime</code>.</li>
+ * <li>Internally the value is held as a single <code>long</code> of epoch Millisecs, so the supported range is that of
+ * <code>Instant.ofEpochMilli</code> (roughly +/- 292 million years), and the <code>java.time</code> forms (e.g. <code>Instant</code> or
+ * <code>LocalDateTime</code>) are only created when explicitly asked for.</li>
+ * <li>Java Serialization uses a (private) compact serialization proxy (the epoch Millisecs as a varint); the original (1.0)
+ * serialized form is still accepted.  The same compact binary form is available directly via <code>writeTo</code> / <code>readFrom</code>.</li>
+ * <li>For duplicate heavy workloads, an (opt-in) <code>ZuluDateTimeCache</code> can canonicalize the instances created by
+ * <code>now</code>, <code>ofInstant</code> & <code>parse</code>, and memoize their rendered form.</li>
  */
 @SuppressWarnings({"WeakerAccess", "unused"})
 @JsonAdapter(GsonTypeAdapterZuluDateTime.class)
@@ -53,9 +81,16 @@ public final class ZuluDateTime implements Comparable<ZuluDateTime>,
   public static final ZoneOffset UTC_ZONE_OFFSET = ZoneOffset.UTC;
   public static final ZoneId UTC_ZONE_ID = ZoneId.ofOffset( "UTC", UTC_ZONE_OFFSET );
 
+  /**
+   * Retained for compatibility; no longer produced as instances can no longer be created without a value
+   * (a 1.0 serialized form without one is rejected with an <code>InvalidObjectException</code>).
+   */
   public static final LocalDateTime INVALID_INITIALIZATION_INDICATOR_LOCAL_DATE_TIME_VALUE = LocalDateTime
           .of( -999080706, 5, 4, 3, 2, 1 ); // -999080706-05-04T03:02:01.000Z
 
+  /**
+   * Retained for compatibility; see <code>INVALID_INITIALIZATION_INDICATOR_LOCAL_DATE_TIME_VALUE</code>.
+   */
   public static final Instant INVALID_INITIALIZATION_INDICATOR_INSTANT_VALUE = Instant
           .ofEpochSecond( INVALID_INITIALIZATION_INDICATOR_LOCAL_DATE_TIME_VALUE.toEpochSecond( UTC_ZONE_OFFSET ) );
 
@@ -64,21 +99,48 @@ public final class ZuluDateTime implements Comparable<ZuluDateTime>,
                   .appendInstant( 3 )
                   .toFormatter();
 
+  private static final long NANOS_PER_MILLI = 1000000L;
+  private static final long MAX_ABS_YEAR = 300000000L; // Beyond the epoch Millisecs range (+/- 292 million years)
+
   /**
    * Serialization version.
    */
   private static final long serialVersionUID = 1L;
 
-  private final Instant mInstant;
-  private transient volatile LocalDateTime mLocalDateTime; // Don't Serialize - Note: 'volatile' supports near Singleton
+  /**
+   * The original (1.0) serialized form, still accepted by <code>readObject</code> (new streams use the <code>Ser</code> proxy).
+   */
+  private static final ObjectStreamField[] serialPersistentFields = {new ObjectStreamField( "mInstant", Instant.class )};
+
+  private final long mEpochMillis;
+
+  /**
+   * Only set (by <code>readObject</code>) on the instance read from the original (1.0) serialized form, which <code>readResolve</code>
+   * then replaces (so <code>mEpochMillis</code> stays final); fits the padding after the <code>long</code> with compressed oops.
+   */
+  private transient Instant mLegacyInstant;
 
   /**
    * Create a <code>ZuluDateTime</code> from the required <code>Instant</code> (note: since <code>ZuluDateTime</code>'s resolution is only to the Millisec, the <code>Instant</code> may get truncated).
    *
    * @param pInstant not null
+   *
+   * @throws ArithmeticException if the <code>Instant</code> is outside the epoch Millisecs range
    */
   public ZuluDateTime( @NotNull Instant pInstant ) {
-    mInstant = Objects.requireNonNull( pInstant, "Instant" ).truncatedTo( ChronoUnit.MILLIS );
+    this( Objects.requireNonNull( pInstant, "Instant" ).toEpochMilli() ); // Note: drops (floors) the sub-Millisec portion
+  }
+
+  private ZuluDateTime( long pEpochMillis ) {
+    mEpochMillis = pEpochMillis;
+  }
+
+  /**
+   * @return the instance from the installed <code>ZuluDateTimeCache</code> (if any), otherwise a new one
+   */
+  private static ZuluDateTime canonical( long pEpochMillis ) {
+    ZuluDateTimeCache zCache = ZuluDateTimeCache.installed();
+    return (zCache == null) ? new ZuluDateTime( pEpochMillis ) : zCache.canonical( pEpochMillis );
   }
 
   /**
@@ -106,24 +168,271 @@ public final class ZuluDateTime implements Comparable<ZuluDateTime>,
    * @return not null
    */
   public static ZuluDateTime now( @NotNull MillisecTimeSource pMillisecTimeSource ) {
-    return new ZuluDateTime( Instant.ofEpochMilli(
-            Objects.requireNonNull( pMillisecTimeSource, "MillisecTimeSource" ).currentTimeMillis() ) );
+    return canonical( Objects.requireNonNull( pMillisecTimeSource, "MillisecTimeSource" ).currentTimeMillis() );
   }
 
   /**
    * Create a <code>ZuluDateTime</code> from the text such as {@code 2007-12-03T10:15:30.00Z} (note: since <code>ZuluDateTime</code>'s resolution is only to the Millisec, some portion of the fractional second may be lost).
    * <p>
-   * The text is parsed using {@link DateTimeFormatter#ISO_INSTANT}.
+   * The canonical form (as rendered by this class, e.g. {@code 2007-12-03T10:15:30.000Z}) is recognized directly (without
+   * any allocations beyond the result), any other text is parsed using {@link DateTimeFormatter#ISO_INSTANT}.
+   * Both paths produce the same results (and exceptions).
+   * <p>
+   * Note: the range is that of the epoch Millisecs (roughly +/- 292 million years), narrower than <code>Instant</code>'s.
    *
    * @param pText the text to parse, must be significant after trimming
    *
    * @return not null
    *
-   * @throws DateTimeParseException if the text cannot be parsed
+   * @throws IllegalArgumentException if the text is null, empty, or all whitespace
+   * @throws DateTimeParseException   if the text cannot be parsed, or is outside the epoch Millisecs range
    */
   @NotNull
   public static ZuluDateTime parse( @Significant CharSequence pText ) {
-    return new ZuluDateTime( Instant.parse( significant( pText ) ) );
+    if ( pText == null ) {
+      throw insignificant( null );
+    }
+    return parse( pText, 0, pText.length() );
+  }
+
+  /**
+   * Create a <code>ZuluDateTime</code> from the slice (<code>pStart</code> inclusive to <code>pEnd</code> exclusive) of the
+   * <code>pText</code>, e.g. a field in a large line buffer, see <code>parse( CharSequence )</code>.
+   * <p>
+   * Surrounding whitespace (within the slice) is skipped by index, so the canonical form is parsed without copying
+   * (only a non-canonical form is copied, for the general parser).
+   *
+   * @param pText  not null
+   * @param pStart the index of the first char of the slice
+   * @param pEnd   the index after the last char of the slice
+   *
+   * @return not null
+   *
+   * @throws IndexOutOfBoundsException if the slice is not within the <code>pText</code>
+   * @throws IllegalArgumentException  if the slice is empty or all whitespace
+   * @throws DateTimeParseException    if the slice cannot be parsed, or is outside the epoch Millisecs range
+   */
+  @NotNull
+  public static ZuluDateTime parse( @NotNull CharSequence pText, int pStart, int pEnd ) {
+    checkSlice( Objects.requireNonNull( pText, "Text" ).length(), pStart, pEnd );
+    long zStarted = TemporalInstrumentation.start();
+    try {
+      int zStart = pStart, zEnd = pEnd;
+      while ( (zStart < zEnd) && Character.isWhitespace( pText.charAt( zStart ) ) ) {
+        zStart++;
+      }
+      while ( (zStart < zEnd) && Character.isWhitespace( pText.charAt( zEnd - 1 ) ) ) {
+        zEnd--;
+      }
+      if ( zStart == zEnd ) {
+        throw insignificant( pText.subSequence( pStart, pEnd ) );
+      }
+      long zMillis = Iso8601Parser.parseCanonical( pText, zStart, zEnd );
+      if ( zMillis != Iso8601Parser.NOT_CANONICAL ) {
+        return parsed( TemporalOperation.PARSE_CANONICAL, zStarted, zMillis );
+      }
+      return parsed( TemporalOperation.PARSE_FALLBACK, zStarted, fallbackEpochMillis( pText.subSequence( zStart, zEnd ) ) );
+    }
+    catch ( RuntimeException e ) {
+      TemporalInstrumentation.record( TemporalOperation.PARSE_FAILURE, zStarted );
+      throw e;
+    }
+  }
+
+  /**
+   * Create a <code>ZuluDateTime</code> from the slice (<code>pStart</code> inclusive to <code>pEnd</code> exclusive) of the
+   * <code>pChars</code>, e.g. a parser's or reader's buffer, see <code>parse( CharSequence, int, int )</code>.
+   *
+   * @param pChars not null
+   * @param pStart the index of the first char of the slice
+   * @param pEnd   the index after the last char of the slice
+   *
+   * @return not null
+   *
+   * @throws IndexOutOfBoundsException if the slice is not within the <code>pChars</code>
+   * @throws IllegalArgumentException  if the slice is empty or all whitespace
+   * @throws DateTimeParseException    if the slice cannot be parsed, or is outside the epoch Millisecs range
+   */
+  @NotNull
+  public static ZuluDateTime parse( @NotNull char[] pChars, int pStart, int pEnd ) {
+    checkSlice( Objects.requireNonNull( pChars, "Chars" ).length, pStart, pEnd );
+    long zStarted = TemporalInstrumentation.start();
+    try {
+      int zStart = pStart, zEnd = pEnd;
+      while ( (zStart < zEnd) && Character.isWhitespace( pChars[zStart] ) ) {
+        zStart++;
+      }
+      while ( (zStart < zEnd) && Character.isWhitespace( pChars[zEnd - 1] ) ) {
+        zEnd--;
+      }
+      if ( zStart == zEnd ) {
+        throw insignificant( CharBuffer.wrap( pChars, pStart, pEnd - pStart ) );
+      }
+      long zMillis = Iso8601Parser.parseCanonical( pChars, zStart, zEnd );
+      if ( zMillis != Iso8601Parser.NOT_CANONICAL ) {
+        return parsed( TemporalOperation.PARSE_CANONICAL, zStarted, zMillis );
+      }
+      return parsed( TemporalOperation.PARSE_FALLBACK, zStarted, fallbackEpochMillis( CharBuffer.wrap( pChars, zStart, zEnd - zStart ) ) );
+    }
+    catch ( RuntimeException e ) {
+      TemporalInstrumentation.record( TemporalOperation.PARSE_FAILURE, zStarted );
+      throw e;
+    }
+  }
+
+  /**
+   * Create a <code>ZuluDateTime</code> from the slice (<code>pStart</code> inclusive to <code>pEnd</code> exclusive) of the
+   * <code>pBytes</code> holding ASCII (or UTF-8) text, e.g. a field of a record read from a file, with the same results
+   * (and exceptions) as <code>parse</code> of the decoded text.
+   * <p>
+   * The canonical form (with surrounding ASCII whitespace) is parsed directly from the bytes; any other form is decoded
+   * (as UTF-8) and given to <code>parse( CharSequence )</code>.
+   *
+   * @param pBytes not null
+   * @param pStart the index of the first byte of the slice
+   * @param pEnd   the index after the last byte of the slice
+   *
+   * @return not null
+   *
+   * @throws IndexOutOfBoundsException if the slice is not within the <code>pBytes</code>
+   * @throws IllegalArgumentException  if the slice is empty or all whitespace
+   * @throws DateTimeParseException    if the slice cannot be parsed, or is outside the epoch Millisecs range
+   */
+  @NotNull
+  public static ZuluDateTime parse( @NotNull byte[] pBytes, int pStart, int pEnd ) {
+    return canonical( epochMillisOf( pBytes, pStart, pEnd ) );
+  }
+
+  /**
+   * Create a <code>ZuluDateTime</code> from the slice (absolute indices <code>pStart</code> inclusive to <code>pEnd</code> exclusive)
+   * of the <code>pBuffer</code> (heap, direct, or mapped, e.g. by <code>FileChannel.map</code>) holding ASCII (or UTF-8) text,
+   * see <code>parse( byte[], int, int )</code>.  The buffer's position and limit are not changed.
+   *
+   * @param pBuffer not null
+   * @param pStart  the index of the first byte of the slice
+   * @param pEnd    the index after the last byte of the slice
+   *
+   * @return not null
+   *
+   * @throws IndexOutOfBoundsException if the slice is not within the <code>pBuffer</code>'s limit
+   * @throws IllegalArgumentException  if the slice is empty or all whitespace
+   * @throws DateTimeParseException    if the slice cannot be parsed, or is outside the epoch Millisecs range
+   */
+  @NotNull
+  public static ZuluDateTime parse( @NotNull ByteBuffer pBuffer, int pStart, int pEnd ) {
+    return canonical( epochMillisOf( pBuffer, pStart, pEnd ) );
+  }
+
+  /**
+   * Batch parse the slices (<code>pStarts[i]</code> inclusive to <code>pEnds[i]</code> exclusive) of the <code>pBytes</code>
+   * into the <code>pEpochMillis</code> (no <code>ZuluDateTime</code>s are created), see <code>parse( byte[], int, int )</code>.
+   *
+   * @param pBytes      not null
+   * @param pStarts     not null
+   * @param pEnds       not null, and at least as long as <code>pStarts</code>
+   * @param pEpochMillis not null, and at least as long as <code>pStarts</code>
+   *
+   * @return <code>pEpochMillis</code>
+   *
+   * @throws DateTimeParseException if any slice cannot be parsed (the <code>pEpochMillis</code> before it are filled)
+   */
+  @NotNull
+  public static long[] parseEpochMillis( @NotNull byte[] pBytes, @NotNull int[] pStarts, @NotNull int[] pEnds, @NotNull long[] pEpochMillis ) {
+    checkBatch( pStarts, pEnds, pEpochMillis );
+    for ( int i = 0; i < pStarts.length; i++ ) {
+      pEpochMillis[i] = epochMillisOf( pBytes, pStarts[i], pEnds[i] );
+    }
+    return pEpochMillis;
+  }
+
+  /**
+   * Batch parse the slices (absolute indices <code>pStarts[i]</code> inclusive to <code>pEnds[i]</code> exclusive) of the
+   * <code>pBuffer</code> into the <code>pEpochMillis</code> (no <code>ZuluDateTime</code>s are created), see <code>parse( ByteBuffer, int, int )</code>.
+   *
+   * @param pBuffer      not null
+   * @param pStarts      not null
+   * @param pEnds        not null, and at least as long as <code>pStarts</code>
+   * @param pEpochMillis not null, and at least as long as <code>pStarts</code>
+   *
+   * @return <code>pEpochMillis</code>
+   *
+   * @throws DateTimeParseException if any slice cannot be parsed (the <code>pEpochMillis</code> before it are filled)
+   */
+  @NotNull
+  public static long[] parseEpochMillis( @NotNull ByteBuffer pBuffer, @NotNull int[] pStarts, @NotNull int[] pEnds, @NotNull long[] pEpochMillis ) {
+    checkBatch( pStarts, pEnds, pEpochMillis );
+    for ( int i = 0; i < pStarts.length; i++ ) {
+      pEpochMillis[i] = epochMillisOf( pBuffer, pStarts[i], pEnds[i] );
+    }
+    return pEpochMillis;
+  }
+
+  private static long epochMillisOf( byte[] pBytes, int pStart, int pEnd ) {
+    checkSlice( Objects.requireNonNull( pBytes, "Bytes" ).length, pStart, pEnd );
+    long zStarted = TemporalInstrumentation.start();
+    int zStart = pStart, zEnd = pEnd;
+    while ( (zStart < zEnd) && isAsciiWhiteSpace( pBytes[zStart] ) ) {
+      zStart++;
+    }
+    while ( (zStart < zEnd) && isAsciiWhiteSpace( pBytes[zEnd - 1] ) ) {
+      zEnd--;
+    }
+    long zMillis = Iso8601Parser.parseCanonical( pBytes, zStart, zEnd );
+    if ( zMillis != Iso8601Parser.NOT_CANONICAL ) {
+      TemporalInstrumentation.record( TemporalOperation.PARSE_CANONICAL, zStarted );
+      return zMillis;
+    }
+    return parse( new String( pBytes, pStart, pEnd - pStart, StandardCharsets.UTF_8 ) ).mEpochMillis; // instrumented by parse
+  }
+
+  private static long epochMillisOf( ByteBuffer pBuffer, int pStart, int pEnd ) {
+    checkSlice( Objects.requireNonNull( pBuffer, "Buffer" ).limit(), pStart, pEnd );
+    long zStarted = TemporalInstrumentation.start();
+    int zStart = pStart, zEnd = pEnd;
+    while ( (zStart < zEnd) && isAsciiWhiteSpace( pBuffer.get( zStart ) ) ) {
+      zStart++;
+    }
+    while ( (zStart < zEnd) && isAsciiWhiteSpace( pBuffer.get( zEnd - 1 ) ) ) {
+      zEnd--;
+    }
+    long zMillis = Iso8601Parser.parseCanonical( pBuffer, zStart, zEnd );
+    if ( zMillis != Iso8601Parser.NOT_CANONICAL ) {
+      TemporalInstrumentation.record( TemporalOperation.PARSE_CANONICAL, zStarted );
+      return zMillis;
+    }
+    ByteBuffer zSlice = pBuffer.duplicate();
+    zSlice.limit( pEnd );
+    zSlice.position( pStart );
+    return parse( StandardCharsets.UTF_8.decode( zSlice ) ).mEpochMillis; // instrumented by parse
+  }
+
+  /**
+   * Parse the (non-canonical) text with <code>Instant.parse</code>, whose range (+/- 1 billion years) exceeds the epoch Millisecs range.
+   */
+  private static long fallbackEpochMillis( CharSequence pText ) {
+    Instant zInstant = Instant.parse( pText );
+    try {
+      return zInstant.toEpochMilli();
+    }
+    catch ( ArithmeticException e ) {
+      throw new DateTimeParseException( "Text '" + pText + "' is outside the epoch Millisecs range", pText, 0, e );
+    }
+  }
+
+  private static ZuluDateTime parsed( TemporalOperation pOperation, long pStarted, long pEpochMillis ) {
+    TemporalInstrumentation.record( pOperation, pStarted );
+    return canonical( pEpochMillis );
+  }
+
+  private static boolean isAsciiWhiteSpace( byte pByte ) {
+    return (pByte >= 0) && Character.isWhitespace( (char)pByte );
+  }
+
+  private static void checkBatch( int[] pStarts, int[] pEnds, long[] pEpochMillis ) {
+    if ( (pEnds.length < pStarts.length) || (pEpochMillis.length < pStarts.length) ) {
+      throw new IllegalArgumentException( "Ends (" + pEnds.length + ") and EpochMillis (" + pEpochMillis.length +
+                                          ") must be at least as long as Starts (" + pStarts.length + ")" );
+    }
   }
 
   // ------------ vvv of field constructors (See LocalDateTime) of & to vvv ------------
@@ -163,13 +472,7 @@ public final class ZuluDateTime implements Comparable<ZuluDateTime>,
   @JsonCreator
   @Nullable
   public static ZuluDateTime jsonCreator( String pText ) {
-    if ( pText != null ) {
-      pText = pText.trim();
-      if ( !pText.isEmpty() ) {
-        return ofString( pText );
-      }
-    }
-    return null;
+    return isSignificant( pText ) ? parse( pText ) : null; // parse(...) does any trimming
   }
 
   @JsonValue
@@ -181,9 +484,143 @@ public final class ZuluDateTime implements Comparable<ZuluDateTime>,
   // ----------------------------- ^^^ JsonCreator & JsonValue ^^^ ---------------------
 
   private String renderJson() {
-    return (mInstant == null) ? null : RENDERING_ISO_8601_3_FACTIONAL_SEC.format( mInstant );
+    ZuluDateTimeCache zCache = ZuluDateTimeCache.installed();
+    return (zCache == null) ? Iso8601Renderer.render( mEpochMillis ) : zCache.toString( this );
+  }
+
+  // ------------------------ vvv Allocation free rendering vvv ------------------------
+
+  /**
+   * The number of characters (or ASCII bytes) the <code>renderTo</code> methods will produce.
+   * <p>
+   * Note: for years 0000-9999 this is always 24 (e.g. <code>2007-12-03T10:15:30.000Z</code>).
+   *
+   * @return the length of the rendered (ISO8601) form.
+   */
+  public int renderedLength() {
+    return Iso8601Renderer.length( mEpochMillis );
+  }
+
+  /**
+   * Render the ISO8601 form (the same text as <code>toString()</code>) into the <code>pBuffer</code> starting at <code>pOffset</code>.
+   *
+   * @param pBuffer not null, and with room for <code>renderedLength()</code> characters starting at <code>pOffset</code>
+   * @param pOffset where to start
+   *
+   * @return the offset just past the rendered characters
+   *
+   * @throws IndexOutOfBoundsException if the buffer does not have room
+   */
+  public int renderTo( @NotNull char[] pBuffer, int pOffset ) {
+    checkRoom( Objects.requireNonNull( pBuffer, "Buffer" ).length, pOffset );
+    return renderUnchecked( pBuffer, pOffset );
+  }
+
+  /**
+   * Append the ISO8601 form (the same text as <code>toString()</code>) to the <code>pBuilder</code>.
+   *
+   * @param pBuilder not null
+   *
+   * @return <code>pBuilder</code>
+   */
+  @NotNull
+  public StringBuilder renderTo( @NotNull StringBuilder pBuilder ) {
+    Objects.requireNonNull( pBuilder, "Builder" );
+    char[] zScratch = Iso8601Renderer.scratch();
+    return pBuilder.append( zScratch, 0, renderUnchecked( zScratch, 0 ) );
+  }
+
+  /**
+   * Append the ISO8601 form (the same text as <code>toString()</code>) to the <code>pAppendable</code>.
+   * <p>
+   * The text is rendered into a per thread staging buffer, and appended from a (read only) view of it, so only an
+   * <code>Appendable</code> that itself renders to an <code>Appendable</code> (on this thread) causes an allocation.
+   *
+   * @param pAppendable not null
+   *
+   * @return <code>pAppendable</code>
+   *
+   * @throws IOException if the <code>pAppendable</code> does
+   */
+  @NotNull
+  public <A extends Appendable> A renderTo( @NotNull A pAppendable )
+          throws IOException {
+    Objects.requireNonNull( pAppendable, "Appendable" );
+    Iso8601Renderer.Staging zStaging = Iso8601Renderer.claimStaging(); // Not the scratch: the Appendable may render too
+    if ( zStaging == null ) { // Reentrant
+      char[] zChars = new char[Iso8601Renderer.MAX_LENGTH];
+      pAppendable.append( CharBuffer.wrap( zChars ), 0, renderUnchecked( zChars, 0 ) );
+      return pAppendable;
+    }
+    try {
+      pAppendable.append( zStaging.mView, 0, renderUnchecked( zStaging.mChars, 0 ) );
+    }
+    finally {
+      zStaging.release();
+    }
+    return pAppendable;
+  }
+
+  /**
+   * Render the ISO8601 form (the same text as <code>toString()</code>) as ASCII bytes into the <code>pBuffer</code> starting at <code>pOffset</code>.
+   *
+   * @param pBuffer not null, and with room for <code>renderedLength()</code> bytes starting at <code>pOffset</code>
+   * @param pOffset where to start
+   *
+   * @return the offset just past the rendered bytes
+   *
+   * @throws IndexOutOfBoundsException if the buffer does not have room
+   */
+  public int renderTo( @NotNull byte[] pBuffer, int pOffset ) {
+    checkRoom( Objects.requireNonNull( pBuffer, "Buffer" ).length, pOffset );
+    char[] zScratch = Iso8601Renderer.scratch();
+    int zLength = renderUnchecked( zScratch, 0 );
+    for ( int i = 0; i < zLength; i++ ) {
+      pBuffer[pOffset++] = (byte)zScratch[i];
+    }
+    return pOffset;
   }
 
+  /**
+   * Render the ISO8601 form (the same text as <code>toString()</code>) as ASCII bytes into the <code>pBuffer</code> at its
+   * current position, which is advanced past the rendered bytes.
+   *
+   * @param pBuffer not null, and with at least <code>renderedLength()</code> bytes remaining
+   *
+   * @return <code>pBuffer</code>
+   *
+   * @throws java.nio.BufferOverflowException if the buffer does not have room
+   */
+  @NotNull
+  public ByteBuffer renderTo( @NotNull ByteBuffer pBuffer ) {
+    Objects.requireNonNull( pBuffer, "Buffer" );
+    char[] zScratch = Iso8601Renderer.scratch();
+    int zLength = renderUnchecked( zScratch, 0 );
+    if ( pBuffer.remaining() < zLength ) {
+      throw new BufferOverflowException();
+    }
+    for ( int i = 0; i < zLength; i++ ) {
+      pBuffer.put( (byte)zScratch[i] );
+    }
+    return pBuffer;
+  }
+
+  private int renderUnchecked( char[] pBuffer, int pOffset ) {
+    return Iso8601Renderer.render( mEpochMillis, pBuffer, pOffset );
+  }
+
+  private void checkRoom( int pBufferLength, int pOffset ) {
+    if ( (pOffset < 0) || ((pBufferLength - pOffset) < Iso8601Renderer.MAX_LENGTH) ) { // Only compute the length when it might not fit
+      int zLength = renderedLength();
+      if ( (pOffset < 0) || ((pBufferLength - pOffset) < zLength) ) {
+        throw new IndexOutOfBoundsException( "Rendering " + zLength + " characters at offset " + pOffset +
+                                             " into a buffer of length " + pBufferLength );
+      }
+    }
+  }
+
+  // ------------------------ ^^^ Allocation free rendering ^^^ ------------------------
+
   // --------------------------------- vvv of & to vvv ---------------------------------
 
   /**
@@ -200,14 +637,23 @@ public final class ZuluDateTime implements Comparable<ZuluDateTime>,
     return renderJson();
   }
 
+  @NotNull
+  public static ZuluDateTime ofEpochMilli( long pEpochMillis ) {
+    return new ZuluDateTime( pEpochMillis );
+  }
+
+  public long toEpochMilli() {
+    return mEpochMillis;
+  }
+
   @NotNull
   public static ZuluDateTime ofInstant( @NotNull Instant pInstant ) {
-    return new ZuluDateTime( pInstant );
+    return canonical( Objects.requireNonNull( pInstant, "Instant" ).toEpochMilli() );
   }
 
   @NotNull
   public Instant toInstant() {
-    return (mInstant != null) ? mInstant : INVALID_INITIALIZATION_INDICATOR_INSTANT_VALUE;
+    return Instant.ofEpochMilli( mEpochMillis );
   }
 
   @NotNull
@@ -217,14 +663,7 @@ public final class ZuluDateTime implements Comparable<ZuluDateTime>,
 
   @NotNull
   public LocalDateTime toLocalDateTime() {
-    LocalDateTime zLocalDateTime = mLocalDateTime;
-    if ( zLocalDateTime == null ) {
-      if ( mInstant == null ) {
-        return INVALID_INITIALIZATION_INDICATOR_LOCAL_DATE_TIME_VALUE;
-      }
-      mLocalDateTime = zLocalDateTime = LocalDateTime.ofInstant( mInstant, UTC_ZONE_OFFSET );
-    }
-    return zLocalDateTime;
+    return LocalDateTime.of( toLocalDate(), toLocalTime() );
   }
 
   @NotNull
@@ -247,56 +686,97 @@ public final class ZuluDateTime implements Comparable<ZuluDateTime>,
     return ZonedDateTime.of( toLocalDateTime(), UTC_ZONE_ID );
   }
 
+  @NotNull
+  public static ZuluDateTime of( @NotNull ZuluDate pDate, @NotNull ZuluTimeOfDay pTimeOfDay ) {
+    return Objects.requireNonNull( pDate, "Date" ).atTime( pTimeOfDay );
+  }
+
+  /**
+   * @return the (UTC) date, without any <code>java.time</code> objects (see <code>ZuluDate.epochDayOf</code> for the primitive form)
+   *
+   * @throws ArithmeticException if the date is outside the <code>ZuluDate</code> range
+   */
+  @NotNull
+  public ZuluDate toZuluDate() {
+    return ZuluDate.ofEpochMilli( mEpochMillis );
+  }
+
+  /**
+   * @return the (UTC) time of day, without any <code>java.time</code> objects (see <code>ZuluTimeOfDay.millisOfDayOf</code> for the primitive form)
+   */
+  @NotNull
+  public ZuluTimeOfDay toZuluTimeOfDay() {
+    return ZuluTimeOfDay.ofEpochMilli( mEpochMillis );
+  }
+
   // --------------------------------- ^^^ of & to ^^^ ---------------------------------
 
   // -------------------- vvv Field Accessors (See LocalDateTime) vvv ------------------
 
   public LocalDate toLocalDate() {
-    return toLocalDateTime().toLocalDate();
+    return LocalDate.ofEpochDay( epochDay() );
   }
 
   public int getYear() {
-    return toLocalDateTime().getYear();
+    return (int)CivilCalendar.yearOf( packedDate() );
   }
 
   public int getMonthValue() {
-    return toLocalDateTime().getMonthValue();
+    return CivilCalendar.monthOf( packedDate() );
   }
 
   public Month getMonth() {
-    return toLocalDateTime().getMonth();
+    return Month.of( getMonthValue() );
   }
 
   public int getDayOfMonth() {
-    return toLocalDateTime().getDayOfMonth();
+    return CivilCalendar.dayOfMonthOf( packedDate() );
   }
 
   public int getDayOfYear() {
-    return toLocalDateTime().getDayOfYear();
+    long zEpochDay = epochDay();
+    long zYear = CivilCalendar.yearOf( CivilCalendar.packedDateOf( zEpochDay ) );
+    return (int)(zEpochDay - CivilCalendar.epochDayOf( zYear, 1, 1 )) + 1;
   }
 
   public DayOfWeek getDayOfWeek() {
-    return toLocalDateTime().getDayOfWeek();
+    return DayOfWeek.of( (int)Math.floorMod( epochDay() + 3, 7 ) + 1 ); // 1970-01-01 was a Thursday
   }
 
   public LocalTime toLocalTime() {
-    return toLocalDateTime().toLocalTime();
+    return LocalTime.ofNanoOfDay( millisOfDay() * 1_000_000L );
   }
 
   public int getHour() {
-    return toLocalDateTime().getHour();
+    return (int)(millisOfDay() / CivilCalendar.MILLIS_PER_HOUR);
   }
 
   public int getMinute() {
-    return toLocalDateTime().getMinute();
+    return (int)((millisOfDay() / CivilCalendar.MILLIS_PER_MINUTE) % 60);
   }
 
   public int getSecond() {
-    return toLocalDateTime().getSecond();
+    return (int)((millisOfDay() / CivilCalendar.MILLIS_PER_SECOND) % 60);
   }
 
   public int getNano() {
-    return toLocalDateTime().getNano();
+    return millisOfSecond() * 1_000_000;
+  }
+
+  private long epochDay() {
+    return Math.floorDiv( mEpochMillis, CivilCalendar.MILLIS_PER_DAY );
+  }
+
+  private long packedDate() {
+    return CivilCalendar.packedDateOf( epochDay() );
+  }
+
+  private int millisOfDay() {
+    return (int)Math.floorMod( mEpochMillis, CivilCalendar.MILLIS_PER_DAY );
+  }
+
+  private int millisOfSecond() {
+    return (int)Math.floorMod( mEpochMillis, CivilCalendar.MILLIS_PER_SECOND );
   }
 
   // -------------------- ^^^ Field Accessors (See LocalDateTime) ^^^ ------------------
@@ -305,22 +785,78 @@ public final class ZuluDateTime implements Comparable<ZuluDateTime>,
 
   @Override
   public boolean isSupported( TemporalField pTemporalField ) {
-    return toLocalDateTime().isSupported( pTemporalField );
+    if ( pTemporalField instanceof ChronoField ) {
+      ChronoField zField = (ChronoField)pTemporalField;
+      return zField.isDateBased() || zField.isTimeBased();
+    }
+    return (pTemporalField != null) && pTemporalField.isSupportedBy( this );
   }
 
   @Override
   public long getLong( TemporalField pTemporalField ) {
-    return toLocalDateTime().getLong( pTemporalField );
+    if ( pTemporalField instanceof ChronoField ) {
+      switch ( (ChronoField)pTemporalField ) {
+        case MILLI_OF_SECOND:
+          return millisOfSecond();
+        case MICRO_OF_SECOND:
+          return millisOfSecond() * 1_000L;
+        case NANO_OF_SECOND:
+          return millisOfSecond() * 1_000_000L;
+        case MILLI_OF_DAY:
+          return millisOfDay();
+        case MICRO_OF_DAY:
+          return millisOfDay() * 1_000L;
+        case NANO_OF_DAY:
+          return millisOfDay() * 1_000_000L;
+        case SECOND_OF_MINUTE:
+          return getSecond();
+        case SECOND_OF_DAY:
+          return millisOfDay() / CivilCalendar.MILLIS_PER_SECOND;
+        case MINUTE_OF_HOUR:
+          return getMinute();
+        case MINUTE_OF_DAY:
+          return millisOfDay() / CivilCalendar.MILLIS_PER_MINUTE;
+        case HOUR_OF_DAY:
+          return getHour();
+        case EPOCH_DAY:
+          return epochDay();
+        case DAY_OF_WEEK:
+          return getDayOfWeek().getValue();
+        case DAY_OF_MONTH:
+          return getDayOfMonth();
+        case DAY_OF_YEAR:
+          return getDayOfYear();
+        case MONTH_OF_YEAR:
+          return getMonthValue();
+        case YEAR:
+          return getYear();
+        case PROLEPTIC_MONTH: {
+          long zPackedDate = packedDate();
+          return (CivilCalendar.yearOf( zPackedDate ) * 12) + CivilCalendar.monthOf( zPackedDate ) - 1;
+        }
+        default: // Rarely used (or unsupported) fields
+          return toLocalDateTime().getLong( pTemporalField );
+      }
+    }
+    return Objects.requireNonNull( pTemporalField, "TemporalField" ).getFrom( this );
   }
 
   @Override
   public ValueRange range( TemporalField pTemporalField ) {
+    if ( pTemporalField instanceof ChronoField ) {
+      return ((ChronoField)pTemporalField).isTimeBased() ?
+             pTemporalField.range() :
+             toLocalDate().range( pTemporalField ); // Date based ranges depend on the Month/Year
+    }
     return toLocalDateTime().range( pTemporalField );
   }
 
   @Override
   public int get( TemporalField pTemporalField ) {
-    return toLocalDateTime().get( pTemporalField );
+    if ( (pTemporalField instanceof ChronoField) && pTemporalField.range().isIntValue() ) {
+      return (int)getLong( pTemporalField );
+    }
+    return toLocalDateTime().get( pTemporalField ); // Also: the appropriate exception for the 'long' fields
   }
 
   @Override
@@ -330,14 +866,215 @@ public final class ZuluDateTime implements Comparable<ZuluDateTime>,
 
   // ----------------------------- ^^^ TemporalAccessor ^^^ ----------------------------
 
+  // ------------------------ vvv Arithmetic (see Instant) vvv ------------------------
+
+  /**
+   * @throws ArithmeticException if the result would be outside the epoch Millisecs range (as for all the arithmetic methods)
+   */
+  @NotNull
+  public ZuluDateTime plusMillis( long pMillis ) {
+    return (pMillis == 0) ? this : new ZuluDateTime( Math.addExact( mEpochMillis, pMillis ) );
+  }
+
+  @NotNull
+  public ZuluDateTime plusSeconds( long pSeconds ) {
+    return plusMillis( Math.multiplyExact( pSeconds, CivilCalendar.MILLIS_PER_SECOND ) );
+  }
+
+  @NotNull
+  public ZuluDateTime plusMinutes( long pMinutes ) {
+    return plusMillis( Math.multiplyExact( pMinutes, CivilCalendar.MILLIS_PER_MINUTE ) );
+  }
+
+  @NotNull
+  public ZuluDateTime plusHours( long pHours ) {
+    return plusMillis( Math.multiplyExact( pHours, CivilCalendar.MILLIS_PER_HOUR ) );
+  }
+
+  /**
+   * Days are always 24 hours (UTC has no daylight savings).
+   */
+  @NotNull
+  public ZuluDateTime plusDays( long pDays ) {
+    return plusMillis( Math.multiplyExact( pDays, CivilCalendar.MILLIS_PER_DAY ) );
+  }
+
+  /**
+   * Any sub-Millisec portion of the <code>pDuration</code> is dropped (floored, see <code>Duration.toMillis</code>).
+   *
+   * @param pDuration not null
+   */
+  @NotNull
+  public ZuluDateTime plus( @NotNull Duration pDuration ) {
+    return plusMillis( Objects.requireNonNull( pDuration, "Duration" ).toMillis() );
+  }
+
+  @NotNull
+  public ZuluDateTime minusMillis( long pMillis ) {
+    return (pMillis == 0) ? this : new ZuluDateTime( Math.subtractExact( mEpochMillis, pMillis ) );
+  }
+
+  @NotNull
+  public ZuluDateTime minusSeconds( long pSeconds ) {
+    return minusMillis( Math.multiplyExact( pSeconds, CivilCalendar.MILLIS_PER_SECOND ) );
+  }
+
+  @NotNull
+  public ZuluDateTime minusMinutes( long pMinutes ) {
+    return minusMillis( Math.multiplyExact( pMinutes, CivilCalendar.MILLIS_PER_MINUTE ) );
+  }
+
+  @NotNull
+  public ZuluDateTime minusHours( long pHours ) {
+    return minusMillis( Math.multiplyExact( pHours, CivilCalendar.MILLIS_PER_HOUR ) );
+  }
+
+  @NotNull
+  public ZuluDateTime minusDays( long pDays ) {
+    return minusMillis( Math.multiplyExact( pDays, CivilCalendar.MILLIS_PER_DAY ) );
+  }
+
+  /**
+   * @param pDuration not null
+   */
+  @NotNull
+  public ZuluDateTime minus( @NotNull Duration pDuration ) {
+    return minusMillis( Objects.requireNonNull( pDuration, "Duration" ).toMillis() );
+  }
+
+  /**
+   * Add calendar months (the time of day is unchanged); as with <code>LocalDateTime</code>, if the day of month would be
+   * invalid it is changed to the last valid day of that month (e.g. 2011-01-31 plus 1 month is 2011-02-28).
+   */
+  @NotNull
+  public ZuluDateTime plusMonths( long pMonths ) {
+    if ( pMonths == 0 ) {
+      return this;
+    }
+    long zPackedDate = packedDate();
+    long zMonths = Math.addExact( (CivilCalendar.yearOf( zPackedDate ) * 12) + (CivilCalendar.monthOf( zPackedDate ) - 1), pMonths );
+    long zYear = Math.floorDiv( zMonths, 12 );
+    if ( Math.abs( zYear ) > MAX_ABS_YEAR ) {
+      throw new ArithmeticException( "long overflow" );
+    }
+    int zMonth = (int)Math.floorMod( zMonths, 12 ) + 1;
+    int zDayOfMonth = Math.min( CivilCalendar.dayOfMonthOf( zPackedDate ), CivilCalendar.lengthOfMonth( zYear, zMonth ) );
+    long zEpochDay = CivilCalendar.epochDayOf( zYear, zMonth, zDayOfMonth );
+    return new ZuluDateTime( Math.addExact( Math.multiplyExact( zEpochDay, CivilCalendar.MILLIS_PER_DAY ), millisOfDay() ) );
+  }
+
+  /**
+   * Add calendar years, see <code>plusMonths</code> (e.g. 2012-02-29 plus 1 year is 2013-02-28).
+   */
+  @NotNull
+  public ZuluDateTime plusYears( long pYears ) {
+    return plusMonths( Math.multiplyExact( pYears, 12 ) );
+  }
+
+  @NotNull
+  public ZuluDateTime minusMonths( long pMonths ) {
+    return plusMonths( Math.negateExact( pMonths ) );
+  }
+
+  @NotNull
+  public ZuluDateTime minusYears( long pYears ) {
+    return plusYears( Math.negateExact( pYears ) );
+  }
+
+  /**
+   * Truncate (floor, as the value may be negative) to the <code>pUnit</code>, as <code>Instant.truncatedTo</code> (e.g.
+   * <code>ChronoUnit.SECONDS</code> thru <code>ChronoUnit.DAYS</code>, units of a Millisec or less leave the value unchanged).
+   *
+   * @param pUnit not null, must divide into a day without remainder
+   *
+   * @throws UnsupportedTemporalTypeException if the unit is too large, does not divide into a day without remainder, or
+   *                                          can not be applied to whole Millisecs
+   */
+  @NotNull
+  public ZuluDateTime truncatedTo( @NotNull TemporalUnit pUnit ) {
+    long zUnitNanos = unitNanos( Objects.requireNonNull( pUnit, "Unit" ) );
+    if ( (zUnitNanos % NANOS_PER_MILLI) == 0 ) {
+      return floorTo( zUnitNanos / NANOS_PER_MILLI );
+    }
+    if ( (NANOS_PER_MILLI % zUnitNanos) == 0 ) {
+      return this;
+    }
+    throw new UnsupportedTemporalTypeException( "Unit must be whole Millisecs or divide into a Millisec without remainder: " + pUnit );
+  }
+
+  private static long unitNanos( TemporalUnit pUnit ) {
+    Duration zDuration = pUnit.getDuration();
+    if ( zDuration.getSeconds() > (CivilCalendar.MILLIS_PER_DAY / CivilCalendar.MILLIS_PER_SECOND) ) {
+      throw new UnsupportedTemporalTypeException( "Unit is too large to be used for truncation" );
+    }
+    long zNanos = zDuration.toNanos();
+    if ( ((CivilCalendar.MILLIS_PER_DAY * NANOS_PER_MILLI) % zNanos) != 0 ) {
+      throw new UnsupportedTemporalTypeException( "Unit must divide into a standard day without remainder" );
+    }
+    return zNanos;
+  }
+
+  /**
+   * Bucket to the start of the <code>pBucket</code> sized interval (aligned to the epoch, 1970-01-01T00:00:00Z, so sizes that divide
+   * a day align to UTC day boundaries) containing this value, e.g. with 15 minutes: 10:22:33.444Z -> 10:15:00.000Z.
+   *
+   * @param pBucket not null, a positive whole number of Millisecs
+   *
+   * @throws IllegalArgumentException if the <code>pBucket</code> is not a positive whole number of Millisecs
+   */
+  @NotNull
+  public ZuluDateTime floorTo( @NotNull Duration pBucket ) {
+    return floorTo( bucketMillis( pBucket ) );
+  }
+
+  /**
+   * Bucket to the end of the <code>pBucket</code> sized interval (see <code>floorTo</code>) containing this value, unless
+   * already on a boundary, e.g. with 15 minutes: 10:22:33.444Z -> 10:30:00.000Z, but 10:15:00.000Z is unchanged.
+   *
+   * @param pBucket not null, a positive whole number of Millisecs
+   *
+   * @throws IllegalArgumentException if the <code>pBucket</code> is not a positive whole number of Millisecs
+   */
+  @NotNull
+  public ZuluDateTime ceilTo( @NotNull Duration pBucket ) {
+    long zBucketMillis = bucketMillis( pBucket );
+    long zRemainder = Math.floorMod( mEpochMillis, zBucketMillis );
+    return (zRemainder == 0) ? this : new ZuluDateTime( Math.addExact( mEpochMillis - zRemainder, zBucketMillis ) );
+  }
+
+  private ZuluDateTime floorTo( long pBucketMillis ) {
+    long zRemainder = Math.floorMod( mEpochMillis, pBucketMillis );
+    return (zRemainder == 0) ? this : new ZuluDateTime( mEpochMillis - zRemainder );
+  }
+
+  private static long bucketMillis( Duration pBucket ) {
+    if ( Objects.requireNonNull( pBucket, "Bucket" ).isNegative() || pBucket.isZero() || ((pBucket.getNano() % NANOS_PER_MILLI) != 0) ) {
+      throw new IllegalArgumentException( "Bucket must be a positive whole number of Millisecs, but was: " + pBucket );
+    }
+    return pBucket.toMillis();
+  }
+
+  /**
+   * @param pEnd not null
+   *
+   * @return the Millisecs from this to the <code>pEnd</code> (negative if the <code>pEnd</code> is before this)
+   *
+   * @throws ArithmeticException if the result overflows a long
+   */
+  public long millisUntil( @NotNull ZuluDateTime pEnd ) {
+    return Math.subtractExact( Objects.requireNonNull( pEnd, "End" ).mEpochMillis, mEpochMillis );
+  }
+
+  // ------------------------ ^^^ Arithmetic (see Instant) ^^^ ------------------------
+
   // ------------------- vvv is... (Relative) (see LocalDateTime) vvv ------------------
 
   public boolean isAfter( @NotNull ZuluDateTime them ) {
-    return this.toInstant().isAfter( notNullInstant( them ) );
+    return this.mEpochMillis > notNull( them ).mEpochMillis;
   }
 
   public boolean isBefore( @NotNull ZuluDateTime them ) {
-    return this.toInstant().isBefore( notNullInstant( them ) );
+    return this.mEpochMillis < notNull( them ).mEpochMillis;
   }
 
   public boolean isEqual( @Nullable ZuluDateTime them ) {
@@ -358,12 +1095,12 @@ public final class ZuluDateTime implements Comparable<ZuluDateTime>,
 
   @Override
   public int compareTo( @NotNull ZuluDateTime them ) {
-    return this.toInstant().compareTo( notNullInstant( them ) );
+    return Long.compare( this.mEpochMillis, notNull( them ).mEpochMillis );
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash( mInstant );
+    return Long.hashCode( mEpochMillis );
   }
 
   @Override
@@ -375,36 +1112,204 @@ public final class ZuluDateTime implements Comparable<ZuluDateTime>,
   public boolean equals( ZuluDateTime them ) {
     return (this == them) ||
            ((them != null) &&
-            Objects.equals( this.mInstant, them.mInstant ));
+            (this.mEpochMillis == them.mEpochMillis));
   }
 
   @NotNull
-  private static Instant notNullInstant( @Nullable ZuluDateTime them ) {
-    return Objects.requireNonNull( them, "them" ).toInstant();
+  private static ZuluDateTime notNull( @Nullable ZuluDateTime them ) {
+    return Objects.requireNonNull( them, "them" );
   }
 
-  private static CharSequence significant( CharSequence pText ) {
-    if ( pText != null ) {
-      pText = trimTrailing( trimLeading( pText ) );
-      if ( pText.length() != 0 ) {
-        return pText;
-      }
+  // ------------------------------- vvv Binary Form vvv ------------------------------
+
+  /**
+   * Write the compact binary form: the epoch Millisecs as a ZigZag varint (1 - 10 bytes, 6 for the current era).
+   *
+   * @param pOut not null
+   *
+   * @see #readFrom(DataInput)
+   */
+  public void writeTo( @NotNull DataOutput pOut )
+          throws IOException {
+    VarLong.write( Objects.requireNonNull( pOut, "DataOutput" ), mEpochMillis );
+  }
+
+  /**
+   * @return the number of bytes <code>writeTo</code> will write
+   */
+  public int binaryLength() {
+    return VarLong.length( mEpochMillis );
+  }
+
+  /**
+   * Read the compact binary form written by <code>writeTo</code>.
+   *
+   * @param pIn not null
+   *
+   * @return not null
+   *
+   * @throws java.io.StreamCorruptedException if the bytes are not a valid varint
+   */
+  @NotNull
+  public static ZuluDateTime readFrom( @NotNull DataInput pIn )
+          throws IOException {
+    return new ZuluDateTime( VarLong.read( Objects.requireNonNull( pIn, "DataInput" ) ) );
+  }
+
+  // ------------------------------- ^^^ Binary Form ^^^ ------------------------------
+
+  // ------------------------------ vvv Sortable Bytes vvv -----------------------------
+
+  /**
+   * The order preserving binary key form (8 bytes, see <code>ZuluDateTimeSortableBytes</code>): comparing the keys as unsigned
+   * bytes gives the same order as <code>compareTo</code>.
+   *
+   * @return a new 8 byte array
+   */
+  @NotNull
+  public byte[] toSortableBytes() {
+    return ZuluDateTimeSortableBytes.of( mEpochMillis );
+  }
+
+  /**
+   * Write the <code>toSortableBytes</code> form into the <code>pBytes</code> at the <code>pOffset</code>.
+   *
+   * @return the offset after the 8 bytes written
+   */
+  public int writeSortableBytes( @NotNull byte[] pBytes, int pOffset ) {
+    return ZuluDateTimeSortableBytes.write( mEpochMillis, pBytes, pOffset );
+  }
+
+  /**
+   * Put the <code>toSortableBytes</code> form (big-endian, regardless of the <code>pBuffer</code>'s byte order) at the
+   * <code>pBuffer</code>'s position (which is advanced by 8).
+   *
+   * @return the <code>pBuffer</code>
+   */
+  @NotNull
+  public ByteBuffer writeSortableBytes( @NotNull ByteBuffer pBuffer ) {
+    long zSortable = ZuluDateTimeSortableBytes.toSortableLong( mEpochMillis );
+    return pBuffer.putLong( (pBuffer.order() == ByteOrder.BIG_ENDIAN) ? zSortable : Long.reverseBytes( zSortable ) );
+  }
+
+  /**
+   * @param pBytes the (exactly) 8 bytes from <code>toSortableBytes</code>
+   *
+   * @throws IllegalArgumentException if the <code>pBytes</code> is not 8 bytes long
+   */
+  @NotNull
+  public static ZuluDateTime fromSortableBytes( @NotNull byte[] pBytes ) {
+    if ( pBytes.length != ZuluDateTimeSortableBytes.LENGTH ) {
+      throw new IllegalArgumentException( "Sortable bytes must be " + ZuluDateTimeSortableBytes.LENGTH + " bytes, but was: " + pBytes.length );
     }
-    throw new IllegalArgumentException( "Insignificant Provided Text: " + format( pText ) );
+    return fromSortableBytes( pBytes, 0 );
   }
 
-  private static CharSequence trimLeading( CharSequence pText ) {
-    while ( (pText.length() != 0) && isWhiteSpace( pText, 0 ) ) {
-      pText = pText.subSequence( 1, pText.length() );
+  /**
+   * @return from the 8 bytes (from <code>toSortableBytes</code>) at the <code>pOffset</code> of the <code>pBytes</code>
+   */
+  @NotNull
+  public static ZuluDateTime fromSortableBytes( @NotNull byte[] pBytes, int pOffset ) {
+    return new ZuluDateTime( ZuluDateTimeSortableBytes.read( pBytes, pOffset ) );
+  }
+
+  /**
+   * @return from the 8 bytes (from <code>toSortableBytes</code>) at the (absolute) <code>pIndex</code> of the <code>pBuffer</code>
+   */
+  @NotNull
+  public static ZuluDateTime fromSortableBytes( @NotNull ByteBuffer pBuffer, int pIndex ) {
+    return new ZuluDateTime( ZuluDateTimeSortableBytes.read( pBuffer, pIndex ) );
+  }
+
+  // ------------------------------ ^^^ Sortable Bytes ^^^ -----------------------------
+
+  // ----------------------------- vvv Java Serialization vvv --------------------------
+
+  private Object writeReplace() {
+    return new Ser( mEpochMillis );
+  }
+
+  /**
+   * Only called for the original (1.0) serialized form, as new streams hold the <code>Ser</code> proxy.
+   */
+  private void readObject( ObjectInputStream pIn )
+          throws IOException, ClassNotFoundException {
+    mLegacyInstant = (Instant)pIn.readFields().get( "mInstant", null );
+  }
+
+  /**
+   * Replaces the instance read from the original (1.0) serialized form (see <code>readObject</code>).
+   */
+  private Object readResolve()
+          throws ObjectStreamException {
+    if ( mLegacyInstant == null ) {
+      throw new InvalidObjectException( "No Instant in (1.0) serialized form" );
+    }
+    try {
+      return new ZuluDateTime( mLegacyInstant.toEpochMilli() );
     }
-    return pText;
+    catch ( ArithmeticException e ) {
+      throw new InvalidObjectException( "Instant (" + mLegacyInstant + ") in (1.0) serialized form out of range" );
+    }
+  }
+
+  /**
+   * The serialization proxy: <code>Externalizable</code> (so no field descriptors), with a short name (as <code>java.time</code>'s),
+   * holding just the binary form (see <code>writeTo</code>).
+   */
+  private static final class Ser implements Externalizable {
+    private static final long serialVersionUID = 1L;
+
+    private long mEpochMillis;
+
+    /**
+     * For Externalizable.
+     */
+    public Ser() {
+    }
+
+    Ser( long pEpochMillis ) {
+      mEpochMillis = pEpochMillis;
+    }
+
+    @Override
+    public void writeExternal( ObjectOutput pOut )
+            throws IOException {
+      VarLong.write( pOut, mEpochMillis );
+    }
+
+    @Override
+    public void readExternal( ObjectInput pIn )
+            throws IOException {
+      mEpochMillis = VarLong.read( pIn );
+    }
+
+    private Object readResolve() {
+      return new ZuluDateTime( mEpochMillis );
+    }
+  }
+
+  // ----------------------------- ^^^ Java Serialization ^^^ --------------------------
+
+  static void checkSlice( int pLength, int pStart, int pEnd ) {
+    if ( (pStart < 0) || (pEnd < pStart) || (pLength < pEnd) ) {
+      throw new IndexOutOfBoundsException( "Slice " + pStart + "-" + pEnd + " not within: 0-" + pLength );
+    }
+  }
+
+  static IllegalArgumentException insignificant( CharSequence pText ) {
+    return new IllegalArgumentException( "Insignificant Provided Text: " + format( pText ) );
   }
 
-  private static CharSequence trimTrailing( CharSequence pText ) {
-    for ( int zLast = pText.length() - 1; (zLast != -1) && isWhiteSpace( pText, zLast ); zLast-- ) {
-      pText = pText.subSequence( 1, zLast );
+  static boolean isSignificant( CharSequence pText ) {
+    if ( pText != null ) {
+      for ( int i = 0, zLength = pText.length(); i < zLength; i++ ) {
+        if ( !isWhiteSpace( pText, i ) ) {
+          return true;
+        }
+      }
     }
-    return pText;
+    return false;
   }
 
   private static boolean isWhiteSpace( CharSequence pText, int pAt ) {
@@ -0,0 +1,440 @@
+package com.altoros.temporal.iso8601;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.LongConsumer;
+
+import org.litesoft.annotations.NotNull;
+
+/**
+ * An immutable, primitive (columnar) array of <code>ZuluDateTime</code>s held as epoch Millisecs, either in a <code>long[]</code>
+ * (8 bytes per entry, vs 16+ bytes per <code>ZuluDateTime</code> plus a reference in a <code>List</code>), or off-heap in a
+ * <code>ByteBuffer</code> (e.g. a direct or memory mapped one).
+ * <p>
+ * <code>ZuluDateTime</code>s are only created on access (<code>get</code>, <code>asList</code>); scans and searches work on the
+ * primitives (<code>getEpochMilli</code>, <code>forEach</code>, <code>binarySearch</code>, <code>rangeIndices</code>).
+ * <p>
+ * The searches require the array to be sorted (see <code>isSorted</code>, <code>sorted</code>, and <code>Builder.sort</code>),
+ * and throw an <code>IllegalStateException</code> if it is not.
+ * <p>
+ * Create instances with a <code>Builder</code> (see <code>builder</code>), <code>of</code>, or <code>wrap</code>.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public abstract class ZuluDateTimeArray {
+  private static final ZuluDateTimeArray EMPTY = new Heap( new long[0], 0 );
+
+  private final int mSize;
+  private final boolean mSorted;
+
+  private ZuluDateTimeArray( int pSize, boolean pSorted ) {
+    mSize = pSize;
+    mSorted = pSorted;
+  }
+
+  /**
+   * @return an array with a copy of the <code>pEpochMillis</code>
+   */
+  @NotNull
+  public static ZuluDateTimeArray of( @NotNull long... pEpochMillis ) {
+    return (pEpochMillis.length == 0) ? EMPTY : new Heap( pEpochMillis.clone(), pEpochMillis.length );
+  }
+
+  /**
+   * Wrap (without copying) the longs (in the buffer's byte order) from the <code>pBuffer</code>'s position to its limit,
+   * e.g. a region of a memory mapped file.  The <code>pBuffer</code> must not be changed while the array is in use
+   * (the values are scanned once, to determine <code>isSorted</code>).
+   *
+   * @param pBuffer not null, with a multiple of 8 bytes remaining
+   */
+  @NotNull
+  public static ZuluDateTimeArray wrap( @NotNull ByteBuffer pBuffer ) {
+    if ( (Objects.requireNonNull( pBuffer, "Buffer" ).remaining() & 7) != 0 ) {
+      throw new IllegalArgumentException( "Buffer must have a multiple of 8 bytes remaining, but has: " + pBuffer.remaining() );
+    }
+    return new OffHeap( pBuffer.asLongBuffer() );
+  }
+
+  @NotNull
+  public static Builder builder() {
+    return new Builder( 16 );
+  }
+
+  @NotNull
+  public static Builder builder( int pInitialCapacity ) {
+    return new Builder( pInitialCapacity );
+  }
+
+  public final int size() {
+    return mSize;
+  }
+
+  public final boolean isEmpty() {
+    return mSize == 0;
+  }
+
+  /**
+   * @return true if the values are in non-decreasing order (required by the searches)
+   */
+  public final boolean isSorted() {
+    return mSorted;
+  }
+
+  /**
+   * @return true if the values are held off-heap (in a <code>ByteBuffer</code>)
+   */
+  public abstract boolean isOffHeap();
+
+  /**
+   * @throws IndexOutOfBoundsException if the <code>pIndex</code> is not in the range 0 - (size - 1)
+   */
+  public abstract long getEpochMilli( int pIndex );
+
+  /**
+   * @return a new <code>ZuluDateTime</code> for the value at the <code>pIndex</code>
+   *
+   * @throws IndexOutOfBoundsException if the <code>pIndex</code> is not in the range 0 - (size - 1)
+   */
+  @NotNull
+  public final ZuluDateTime get( int pIndex ) {
+    return ZuluDateTime.ofEpochMilli( getEpochMilli( pIndex ) );
+  }
+
+  /**
+   * Visit the values (in index order).
+   */
+  public abstract void forEach( @NotNull LongConsumer pConsumer );
+
+  /**
+   * @return a new <code>long[]</code> with the values
+   */
+  @NotNull
+  public abstract long[] toEpochMillis();
+
+  /**
+   * @return an unmodifiable (random access) List view, whose <code>ZuluDateTime</code>s are created on access
+   */
+  @NotNull
+  public final List<ZuluDateTime> asList() {
+    return new ListView( this );
+  }
+
+  /**
+   * @return this if already sorted, otherwise a new sorted (on-heap) array (sorted with <code>Arrays.parallelSort</code>)
+   */
+  @NotNull
+  public final ZuluDateTimeArray sorted() {
+    if ( mSorted ) {
+      return this;
+    }
+    long[] zValues = toEpochMillis();
+    Arrays.parallelSort( zValues );
+    return new Heap( zValues, zValues.length );
+  }
+
+  /**
+   * As <code>Arrays.binarySearch</code>: the index of a value equal to the <code>pEpochMillis</code> if there is one (the first,
+   * if there are several), otherwise <code>(-(insertion point) - 1)</code>.
+   *
+   * @throws IllegalStateException if not sorted
+   */
+  public final int binarySearch( long pEpochMillis ) {
+    int zIndex = lowerBound( pEpochMillis );
+    return ((zIndex < mSize) && (getEpochMilli( zIndex ) == pEpochMillis)) ? zIndex : (-zIndex - 1);
+  }
+
+  public final int binarySearch( @NotNull ZuluDateTime pValue ) {
+    return binarySearch( pValue.toEpochMilli() );
+  }
+
+  /**
+   * @return the index of the first value at or after the <code>pEpochMillis</code> (<code>size()</code> if none)
+   *
+   * @throws IllegalStateException if not sorted
+   */
+  public final int lowerBound( long pEpochMillis ) {
+    checkSorted();
+    int zLow = 0, zHigh = mSize;
+    while ( zLow < zHigh ) {
+      int zMid = (zLow + zHigh) >>> 1;
+      if ( getEpochMilli( zMid ) < pEpochMillis ) {
+        zLow = zMid + 1;
+      } else {
+        zHigh = zMid;
+      }
+    }
+    return zLow;
+  }
+
+  /**
+   * @return the index of the first value after the <code>pEpochMillis</code> (<code>size()</code> if none)
+   *
+   * @throws IllegalStateException if not sorted
+   */
+  public final int upperBound( long pEpochMillis ) {
+    return (pEpochMillis == Long.MAX_VALUE) ? mSize : lowerBound( pEpochMillis + 1 );
+  }
+
+  /**
+   * The indices of the values from the <code>pFromEpochMillis</code> (inclusive) to the <code>pToEpochMillis</code> (exclusive).
+   *
+   * @return <code>{fromIndex, toIndex}</code> (the toIndex is exclusive, so empty if equal)
+   *
+   * @throws IllegalStateException if not sorted
+   */
+  @NotNull
+  public final int[] rangeIndices( long pFromEpochMillis, long pToEpochMillis ) {
+    int zFrom = lowerBound( pFromEpochMillis );
+    int zTo = (pToEpochMillis <= pFromEpochMillis) ? zFrom : lowerBound( pToEpochMillis );
+    return new int[]{zFrom, zTo};
+  }
+
+  /**
+   * See <code>rangeIndices( long, long )</code>.
+   */
+  @NotNull
+  public final int[] rangeIndices( @NotNull ZuluDateTime pFrom, @NotNull ZuluDateTime pTo ) {
+    return rangeIndices( pFrom.toEpochMilli(), pTo.toEpochMilli() );
+  }
+
+  @Override
+  public String toString() {
+    return "ZuluDateTimeArray(size=" + mSize + (mSorted ? ", sorted" : "") + (isOffHeap() ? ", off-heap" : "") + ")" +
+           ((mSize == 0) ? "" : (": " + get( 0 ) + " ... " + get( mSize - 1 )));
+  }
+
+  final void checkIndex( int pIndex ) {
+    if ( (pIndex < 0) || (mSize <= pIndex) ) {
+      throw new IndexOutOfBoundsException( "Index " + pIndex + " not in range: 0-" + (mSize - 1) );
+    }
+  }
+
+  private void checkSorted() {
+    if ( !mSorted ) {
+      throw new IllegalStateException( "Not sorted" );
+    }
+  }
+
+  private static boolean isNonDecreasing( long[] pValues, int pSize ) {
+    for ( int i = 1; i < pSize; i++ ) {
+      if ( pValues[i] < pValues[i - 1] ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isNonDecreasing( LongBuffer pValues ) {
+    for ( int i = 1, zSize = pValues.limit(); i < zSize; i++ ) {
+      if ( pValues.get( i ) < pValues.get( i - 1 ) ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static final class Heap extends ZuluDateTimeArray {
+    private final long[] mValues;
+
+    Heap( long[] pValues, int pSize ) {
+      super( pSize, isNonDecreasing( pValues, pSize ) );
+      mValues = pValues;
+    }
+
+    @Override
+    public boolean isOffHeap() {
+      return false;
+    }
+
+    @Override
+    public long getEpochMilli( int pIndex ) {
+      checkIndex( pIndex );
+      return mValues[pIndex];
+    }
+
+    @Override
+    public void forEach( @NotNull LongConsumer pConsumer ) {
+      for ( int i = 0, zSize = size(); i < zSize; i++ ) {
+        pConsumer.accept( mValues[i] );
+      }
+    }
+
+    @NotNull
+    @Override
+    public long[] toEpochMillis() {
+      return Arrays.copyOf( mValues, size() );
+    }
+  }
+
+  private static final class OffHeap extends ZuluDateTimeArray {
+    private final LongBuffer mValues; // position 0, limit size
+
+    OffHeap( LongBuffer pValues ) {
+      super( pValues.limit(), isNonDecreasing( pValues ) );
+      mValues = pValues;
+    }
+
+    @Override
+    public boolean isOffHeap() {
+      return true;
+    }
+
+    @Override
+    public long getEpochMilli( int pIndex ) {
+      checkIndex( pIndex );
+      return mValues.get( pIndex );
+    }
+
+    @Override
+    public void forEach( @NotNull LongConsumer pConsumer ) {
+      for ( int i = 0, zSize = size(); i < zSize; i++ ) {
+        pConsumer.accept( mValues.get( i ) );
+      }
+    }
+
+    @NotNull
+    @Override
+    public long[] toEpochMillis() {
+      long[] zValues = new long[size()];
+      mValues.duplicate().get( zValues );
+      return zValues;
+    }
+  }
+
+  private static final class ListView extends AbstractList<ZuluDateTime> implements RandomAccess {
+    private final ZuluDateTimeArray mArray;
+
+    ListView( ZuluDateTimeArray pArray ) {
+      mArray = pArray;
+    }
+
+    @Override
+    public ZuluDateTime get( int pIndex ) {
+      return mArray.get( pIndex );
+    }
+
+    @Override
+    public int size() {
+      return mArray.size();
+    }
+
+    @Override
+    public int indexOf( Object pObject ) {
+      if ( (pObject instanceof ZuluDateTime) && mArray.isSorted() ) {
+        int zIndex = mArray.binarySearch( (ZuluDateTime)pObject ); // the first of any equal values
+        return (zIndex < 0) ? -1 : zIndex;
+      }
+      return super.indexOf( pObject );
+    }
+
+    @Override
+    public boolean contains( Object pObject ) {
+      return indexOf( pObject ) != -1;
+    }
+  }
+
+  /**
+   * Accumulates epoch Millisecs in a growable <code>long[]</code>, and builds <code>ZuluDateTimeArray</code>s from them,
+   * either on-heap (<code>build</code>) or off-heap (<code>buildOffHeap</code>).  Not thread safe.
+   */
+  public static final class Builder {
+    private long[] mValues;
+    private int mSize;
+
+    private Builder( int pInitialCapacity ) {
+      if ( pInitialCapacity < 0 ) {
+        throw new IllegalArgumentException( "InitialCapacity must not be negative, but was: " + pInitialCapacity );
+      }
+      mValues = new long[pInitialCapacity];
+    }
+
+    public int size() {
+      return mSize;
+    }
+
+    @NotNull
+    public Builder add( long pEpochMillis ) {
+      if ( mSize == mValues.length ) {
+        grow( 1 );
+      }
+      mValues[mSize++] = pEpochMillis;
+      return this;
+    }
+
+    @NotNull
+    public Builder add( @NotNull ZuluDateTime pValue ) {
+      return add( pValue.toEpochMilli() );
+    }
+
+    @NotNull
+    public Builder addAll( @NotNull long[] pEpochMillis, int pOffset, int pLength ) {
+      if ( (mValues.length - mSize) < pLength ) {
+        grow( pLength );
+      }
+      System.arraycopy( pEpochMillis, pOffset, mValues, mSize, pLength );
+      mSize += pLength;
+      return this;
+    }
+
+    @NotNull
+    public Builder addAll( @NotNull Iterable<ZuluDateTime> pValues ) {
+      for ( ZuluDateTime zValue : pValues ) {
+        add( zValue );
+      }
+      return this;
+    }
+
+    /**
+     * Sort the values added so far (in place, with <code>Arrays.parallelSort</code>).
+     */
+    @NotNull
+    public Builder sort() {
+      Arrays.parallelSort( mValues, 0, mSize );
+      return this;
+    }
+
+    /**
+     * Build an on-heap array; the builder is then empty (the values are handed over, not copied, if the capacity is exact).
+     */
+    @NotNull
+    public ZuluDateTimeArray build() {
+      if ( mSize == 0 ) {
+        return EMPTY;
+      }
+      long[] zValues = (mSize == mValues.length) ? mValues : Arrays.copyOf( mValues, mSize );
+      int zSize = mSize;
+      reset();
+      return new Heap( zValues, zSize );
+    }
+
+    /**
+     * Build an off-heap (direct <code>ByteBuffer</code>, native byte order) array; the builder is then empty.
+     */
+    @NotNull
+    public ZuluDateTimeArray buildOffHeap() {
+      ByteBuffer zBuffer = ByteBuffer.allocateDirect( Math.multiplyExact( mSize, 8 ) ).order( ByteOrder.nativeOrder() );
+      zBuffer.asLongBuffer().put( mValues, 0, mSize );
+      reset();
+      return new OffHeap( zBuffer.asLongBuffer() );
+    }
+
+    private void reset() {
+      mValues = new long[16];
+      mSize = 0;
+    }
+
+    private void grow( int pMinAdditional ) {
+      long zNeeded = (long)mSize + pMinAdditional;
+      if ( zNeeded > (Integer.MAX_VALUE - 8) ) {
+        throw new IllegalStateException( "Too many values: " + zNeeded );
+      }
+      long zNewCapacity = Math.max( zNeeded, Math.min( Integer.MAX_VALUE - 8, mValues.length + ((long)mValues.length >> 1) + 16 ) );
+      mValues = Arrays.copyOf( mValues, (int)zNewCapacity );
+    }
+  }
+}
@@ -0,0 +1,194 @@
+package com.altoros.temporal.iso8601;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.litesoft.annotations.NotNull;
+import org.litesoft.annotations.Nullable;
+
+/**
+ * An opt-in, bounded, lock free cache that canonicalizes <code>ZuluDateTime</code> instances (one per epoch Millisec) and
+ * memoizes their rendered (<code>toString</code> / JSON) form, for duplicate heavy workloads (many threads calling
+ * <code>now</code> within the same Millisec, batch imports, fan-out of the same event) where it avoids most of the instance
+ * allocation and rendering.
+ * <p>
+ * The cache is direct-mapped: each epoch Millisec maps to one slot (consecutive Millisecs to consecutive slots) of an
+ * <code>AtomicReferenceArray</code> of immutable entries, and a colliding Millisec simply replaces the entry (so the size is
+ * bounded, and recent values win).  Lookups are a single volatile read; there are no locks (concurrent misses may render the
+ * same String twice, with the last one stored winning).
+ * <p>
+ * Once installed (<code>install</code>, or the system property <code>com.altoros.temporal.iso8601.ZuluDateTimeCache.capacity</code>,
+ * where a malformed or out of range value is ignored with a warning),
+ * the cache is used by <code>ZuluDateTime.now</code>, <code>ofInstant</code>, <code>parse</code>, and <code>toString</code> /
+ * <code>jsonValue</code>.  <code>ofEpochMilli</code> (and the arithmetic) always create new instances.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class ZuluDateTimeCache {
+  public static final String CAPACITY_PROPERTY = ZuluDateTimeCache.class.getName() + ".capacity";
+  public static final int MAX_CAPACITY = 1 << 24;
+
+  private static volatile ZuluDateTimeCache sInstalled = fromProperty();
+
+  private static final class Entry {
+    private final ZuluDateTime mValue;
+    private final String mRendered; // null until first rendered
+
+    private Entry( ZuluDateTime pValue, String pRendered ) {
+      mValue = pValue;
+      mRendered = pRendered;
+    }
+  }
+
+  private final AtomicReferenceArray<Entry> mEntries;
+  private final int mMask;
+  private final LongAdder mInstanceHits = new LongAdder();
+  private final LongAdder mInstanceMisses = new LongAdder();
+  private final LongAdder mStringHits = new LongAdder();
+  private final LongAdder mStringMisses = new LongAdder();
+
+  /**
+   * @param pCapacity the number of slots, 1 - <code>MAX_CAPACITY</code> (rounded up to a power of 2)
+   */
+  public ZuluDateTimeCache( int pCapacity ) {
+    if ( (pCapacity < 1) || (MAX_CAPACITY < pCapacity) ) {
+      throw new IllegalArgumentException( "Capacity must be 1 - " + MAX_CAPACITY + ", but was: " + pCapacity );
+    }
+    int zCapacity = (pCapacity == 1) ? 1 : Integer.highestOneBit( pCapacity - 1 ) << 1;
+    mEntries = new AtomicReferenceArray<>( zCapacity );
+    mMask = zCapacity - 1;
+  }
+
+  /**
+   * Install a new cache (replacing any currently installed one) for use by <code>ZuluDateTime</code>.
+   *
+   * @param pCapacity see the constructor
+   *
+   * @return the new (installed) cache
+   */
+  @NotNull
+  public static ZuluDateTimeCache install( int pCapacity ) {
+    ZuluDateTimeCache zCache = new ZuluDateTimeCache( pCapacity );
+    sInstalled = zCache;
+    return zCache;
+  }
+
+  /**
+   * Stop <code>ZuluDateTime</code> using the installed cache (if any).
+   */
+  public static void uninstall() {
+    sInstalled = null;
+  }
+
+  /**
+   * @return the cache used by <code>ZuluDateTime</code>, or null if none is installed
+   */
+  @Nullable
+  public static ZuluDateTimeCache installed() {
+    return sInstalled;
+  }
+
+  public int capacity() {
+    return mEntries.length();
+  }
+
+  /**
+   * @return the canonical (cached) instance for the <code>pEpochMillis</code>, creating (and caching) it on a miss
+   */
+  @NotNull
+  public ZuluDateTime canonical( long pEpochMillis ) {
+    int zSlot = slot( pEpochMillis );
+    Entry zEntry = mEntries.get( zSlot );
+    if ( (zEntry != null) && (zEntry.mValue.toEpochMilli() == pEpochMillis) ) {
+      mInstanceHits.increment();
+      return zEntry.mValue;
+    }
+    mInstanceMisses.increment();
+    ZuluDateTime zValue = ZuluDateTime.ofEpochMilli( pEpochMillis );
+    mEntries.lazySet( zSlot, new Entry( zValue, null ) );
+    return zValue;
+  }
+
+  /**
+   * @return the rendered form of the <code>pValue</code> (see <code>ZuluDateTime.toString</code>), rendering (and caching)
+   * it on a miss
+   */
+  @NotNull
+  public String toString( @NotNull ZuluDateTime pValue ) {
+    long zEpochMillis = pValue.toEpochMilli();
+    int zSlot = slot( zEpochMillis );
+    Entry zEntry = mEntries.get( zSlot );
+    boolean zSameMillis = (zEntry != null) && (zEntry.mValue.toEpochMilli() == zEpochMillis);
+    if ( zSameMillis && (zEntry.mRendered != null) ) {
+      mStringHits.increment();
+      return zEntry.mRendered;
+    }
+    mStringMisses.increment();
+    String zRendered = Iso8601Renderer.render( zEpochMillis );
+    mEntries.lazySet( zSlot, new Entry( zSameMillis ? zEntry.mValue : pValue, zRendered ) );
+    return zRendered;
+  }
+
+  /**
+   * Remove all the entries (the counters are not reset).
+   */
+  public void clear() {
+    for ( int i = 0; i < mEntries.length(); i++ ) {
+      mEntries.set( i, null );
+    }
+  }
+
+  public long getInstanceHitCount() {
+    return mInstanceHits.sum();
+  }
+
+  public long getInstanceMissCount() {
+    return mInstanceMisses.sum();
+  }
+
+  public long getStringHitCount() {
+    return mStringHits.sum();
+  }
+
+  public long getStringMissCount() {
+    return mStringMisses.sum();
+  }
+
+  public void resetCounts() {
+    mInstanceHits.reset();
+    mInstanceMisses.reset();
+    mStringHits.reset();
+    mStringMisses.reset();
+  }
+
+  @Override
+  public String toString() {
+    return "ZuluDateTimeCache(capacity=" + capacity() +
+           ", instances: " + getInstanceHitCount() + " hits / " + getInstanceMissCount() + " misses" +
+           ", strings: " + getStringHitCount() + " hits / " + getStringMissCount() + " misses)";
+  }
+
+  private int slot( long pEpochMillis ) {
+    return (int)(pEpochMillis ^ (pEpochMillis >>> 32)) & mMask;
+  }
+
+  /**
+   * Runs in the static initializer, which every <code>ZuluDateTime</code> creation depends on: so a bad value (not an int in
+   * range) only leaves the cache uninstalled (with a warning), and never fails the class initialization.
+   */
+  private static ZuluDateTimeCache fromProperty() {
+    try {
+      String zCapacity = System.getProperty( CAPACITY_PROPERTY );
+      if ( (zCapacity == null) || zCapacity.trim().isEmpty() ) {
+        return null;
+      }
+      return new ZuluDateTimeCache( Integer.parseInt( zCapacity.trim() ) );
+    }
+    catch ( RuntimeException e ) { // including NumberFormatException, and SecurityException
+      Logger.getLogger( ZuluDateTimeCache.class.getName() ).log( Level.WARNING, "System property '" + CAPACITY_PROPERTY +
+                                                                                "' ignored (cache not installed): " + e.getMessage() );
+      return null;
+    }
+  }
+}
@@ -0,0 +1,202 @@
+package com.altoros.temporal.iso8601;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
+import java.util.Objects;
+
+import org.litesoft.annotations.NotNull;
+
+/**
+ * The order preserving (fixed width) binary key form of <code>ZuluDateTime</code>s, for sorted key-value stores: the epoch
+ * Millisecs with the sign bit flipped, as 8 bytes big-endian (vs the 24 chars of the sortable String form).
+ * <p>
+ * Flipping the sign bit maps the signed order of the <code>long</code>s onto their unsigned order (<code>Long.MIN_VALUE</code>
+ * becomes 0, -1 becomes 0x7FFF..., 0 becomes 0x8000..., and <code>Long.MAX_VALUE</code> becomes 0xFFFF...), and
+ * big-endian bytes compared unsigned (lexicographically) are in the unsigned order of the <code>long</code>s they hold; so
+ * comparing the keys (<code>BYTE_ARRAY_COMPARATOR</code> / <code>BYTE_BUFFER_COMPARATOR</code>, or the store's own unsigned
+ * byte comparator) gives the same order as <code>ZuluDateTime.compareTo</code>.
+ * <p>
+ * The comparators also work for composite keys that start with a sortable <code>ZuluDateTime</code> (they compare 8 bytes at a time).
+ *
+ * @see ZuluDateTime#toSortableBytes()
+ * @see ZuluDateTime#fromSortableBytes(byte[])
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class ZuluDateTimeSortableBytes {
+  public static final int LENGTH = 8;
+
+  /**
+   * Unsigned lexicographic <code>byte[]</code> comparator (shorter arrays sort before longer ones with the same prefix).
+   */
+  public static final Comparator<byte[]> BYTE_ARRAY_COMPARATOR = ZuluDateTimeSortableBytes::compare;
+
+  /**
+   * Unsigned lexicographic comparator over the remaining bytes (position to limit) of <code>ByteBuffer</code>s (regardless of
+   * their byte order, and without changing their positions).
+   */
+  public static final Comparator<ByteBuffer> BYTE_BUFFER_COMPARATOR = ZuluDateTimeSortableBytes::compare;
+
+  private ZuluDateTimeSortableBytes() {
+  }
+
+  /**
+   * @return the unsigned (sortable) form of the <code>pEpochMillis</code>
+   */
+  public static long toSortableLong( long pEpochMillis ) {
+    return pEpochMillis ^ Long.MIN_VALUE;
+  }
+
+  /**
+   * @return the epoch Millisecs from the unsigned (sortable) form
+   */
+  public static long fromSortableLong( long pSortable ) {
+    return pSortable ^ Long.MIN_VALUE;
+  }
+
+  /**
+   * Write the 8 byte key for the <code>pEpochMillis</code> into the <code>pBytes</code> at the <code>pOffset</code>.
+   *
+   * @return the offset after the key
+   */
+  public static int write( long pEpochMillis, @NotNull byte[] pBytes, int pOffset ) {
+    checkRange( pBytes.length, pOffset );
+    long zSortable = toSortableLong( pEpochMillis );
+    for ( int i = LENGTH - 1; i >= 0; i-- ) {
+      pBytes[pOffset + i] = (byte)zSortable;
+      zSortable >>>= 8;
+    }
+    return pOffset + LENGTH;
+  }
+
+  /**
+   * @return the epoch Millisecs from the 8 byte key in the <code>pBytes</code> at the <code>pOffset</code>
+   */
+  public static long read( @NotNull byte[] pBytes, int pOffset ) {
+    checkRange( pBytes.length, pOffset );
+    return fromSortableLong( bigEndianLong( pBytes, pOffset ) );
+  }
+
+  /**
+   * @return the epoch Millisecs from the 8 byte key in the <code>pBuffer</code> at the (absolute) <code>pIndex</code>
+   * (regardless of the <code>pBuffer</code>'s byte order)
+   */
+  public static long read( @NotNull ByteBuffer pBuffer, int pIndex ) {
+    checkRange( pBuffer.limit(), pIndex );
+    return fromSortableLong( bigEndianLong( pBuffer, pIndex ) );
+  }
+
+  /**
+   * @return the key for the <code>pEpochMillis</code>
+   */
+  @NotNull
+  public static byte[] of( long pEpochMillis ) {
+    byte[] zKey = new byte[LENGTH];
+    write( pEpochMillis, zKey, 0 );
+    return zKey;
+  }
+
+  /**
+   * The bounds for a range scan of the keys of the time window from the <code>pFrom</code> (inclusive) to the
+   * <code>pTo</code> (exclusive).
+   *
+   * @return <code>{fromKey (inclusive), toKey (exclusive)}</code>
+   *
+   * @throws IllegalArgumentException if the <code>pTo</code> is not after the <code>pFrom</code>
+   */
+  @NotNull
+  public static byte[][] rangeBounds( @NotNull ZuluDateTime pFrom, @NotNull ZuluDateTime pTo ) {
+    checkWindow( pFrom, pTo );
+    return new byte[][]{pFrom.toSortableBytes(), pTo.toSortableBytes()};
+  }
+
+  /**
+   * The longest prefix shared by the keys of every <code>ZuluDateTime</code> in the time window from the <code>pFrom</code>
+   * (inclusive) to the <code>pTo</code> (exclusive), e.g. for a store's prefix seek / bloom filters (note that the prefix may
+   * also match keys outside the window, so the scan should still be bounded by the <code>rangeBounds</code>).
+   *
+   * @return 0 - 8 bytes (empty if the window spans the sign-flipped top bit, e.g. the epoch)
+   *
+   * @throws IllegalArgumentException if the <code>pTo</code> is not after the <code>pFrom</code>
+   */
+  @NotNull
+  public static byte[] prefix( @NotNull ZuluDateTime pFrom, @NotNull ZuluDateTime pTo ) {
+    checkWindow( pFrom, pTo );
+    long zFirst = toSortableLong( pFrom.toEpochMilli() );
+    long zLast = toSortableLong( pTo.toEpochMilli() - 1 );
+    int zCommonBytes = Long.numberOfLeadingZeros( zFirst ^ zLast ) / 8;
+    byte[] zPrefix = new byte[zCommonBytes];
+    for ( int i = 0; i < zCommonBytes; i++ ) {
+      zPrefix[i] = (byte)(zFirst >>> (56 - (i * 8)));
+    }
+    return zPrefix;
+  }
+
+  /**
+   * Unsigned lexicographic compare (8 bytes at a time) of the <code>pBytes1</code> and <code>pBytes2</code>.
+   */
+  public static int compare( @NotNull byte[] pBytes1, @NotNull byte[] pBytes2 ) {
+    int zCommon = Math.min( pBytes1.length, pBytes2.length );
+    int zAt = 0;
+    for ( ; zAt + LENGTH <= zCommon; zAt += LENGTH ) {
+      int zResult = Long.compareUnsigned( bigEndianLong( pBytes1, zAt ), bigEndianLong( pBytes2, zAt ) );
+      if ( zResult != 0 ) {
+        return zResult;
+      }
+    }
+    for ( ; zAt < zCommon; zAt++ ) {
+      int zResult = Integer.compare( pBytes1[zAt] & 0xFF, pBytes2[zAt] & 0xFF );
+      if ( zResult != 0 ) {
+        return zResult;
+      }
+    }
+    return Integer.compare( pBytes1.length, pBytes2.length );
+  }
+
+  /**
+   * Unsigned lexicographic compare (8 bytes at a time) of the remaining bytes of the <code>pBuffer1</code> and <code>pBuffer2</code>.
+   */
+  public static int compare( @NotNull ByteBuffer pBuffer1, @NotNull ByteBuffer pBuffer2 ) {
+    int zStart1 = pBuffer1.position(), zStart2 = pBuffer2.position();
+    int zCommon = Math.min( pBuffer1.remaining(), pBuffer2.remaining() );
+    int zAt = 0;
+    for ( ; zAt + LENGTH <= zCommon; zAt += LENGTH ) {
+      int zResult = Long.compareUnsigned( bigEndianLong( pBuffer1, zStart1 + zAt ), bigEndianLong( pBuffer2, zStart2 + zAt ) );
+      if ( zResult != 0 ) {
+        return zResult;
+      }
+    }
+    for ( ; zAt < zCommon; zAt++ ) {
+      int zResult = Integer.compare( pBuffer1.get( zStart1 + zAt ) & 0xFF, pBuffer2.get( zStart2 + zAt ) & 0xFF );
+      if ( zResult != 0 ) {
+        return zResult;
+      }
+    }
+    return Integer.compare( pBuffer1.remaining(), pBuffer2.remaining() );
+  }
+
+  private static long bigEndianLong( byte[] pBytes, int pAt ) {
+    long zValue = 0;
+    for ( int i = 0; i < LENGTH; i++ ) {
+      zValue = (zValue << 8) | (pBytes[pAt + i] & 0xFF);
+    }
+    return zValue;
+  }
+
+  private static long bigEndianLong( ByteBuffer pBuffer, int pAt ) {
+    long zValue = pBuffer.getLong( pAt );
+    return (pBuffer.order() == ByteOrder.BIG_ENDIAN) ? zValue : Long.reverseBytes( zValue );
+  }
+
+  private static void checkRange( int pLength, int pOffset ) {
+    if ( (pOffset < 0) || (pLength - LENGTH < pOffset) ) {
+      throw new IndexOutOfBoundsException( "Offset " + pOffset + " leaves less than " + LENGTH + " bytes of: " + pLength );
+    }
+  }
+
+  private static void checkWindow( ZuluDateTime pFrom, ZuluDateTime pTo ) {
+    if ( !Objects.requireNonNull( pTo, "To" ).isAfter( Objects.requireNonNull( pFrom, "From" ) ) ) {
+      throw new IllegalArgumentException( "Window 'To' (" + pTo + ") not after 'From': " + pFrom );
+    }
+  }
+}
@@ -0,0 +1,220 @@
+package com.altoros.temporal.iso8601;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.litesoft.annotations.NotNull;
+
+/**
+ * Renders <code>ZuluDateTime</code>s in a time zone, as ISO8601 with the offset and (always) 3 fractional second digits,
+ * e.g. <code>2007-12-03T05:15:30.000-05:00</code> (a zero offset renders as 'Z', and years outside 0000-9999 as
+ * <code>LocalDate</code> does), without the per value <code>ZonedDateTime</code> and <code>DateTimeFormatter</code> work.
+ * <p>
+ * The zone's offset transitions for a range of years are precomputed into a <code>long[]</code> of transition epoch Millisecs
+ * (with a parallel <code>int[]</code> of the offset seconds), so finding the offset is a binary search, and the text is
+ * rendered by the same allocation free renderer as the UTC form (including its per thread memoized second).  Values
+ * outside the range use the zone's <code>ZoneRules</code> (correct, just not as fast).
+ * <p>
+ * Renderers are cached per <code>ZoneId</code> (<code>forZone</code>); asking for years outside the cached range replaces
+ * it with one covering both.
+ * <p>
+ * Notes:<br>
+ * <li>The year range is of the UTC years (the first and last few hours may be local years either side).</li>
+ * <li>The zone rules are captured when the table is built (a later tzdb update is not seen by an existing renderer).</li>
+ * <li>Values within 18 hours of the <code>long</code> epoch Millisec limits can not be shifted to local time (ArithmeticException).</li>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class ZuluDateTimeZoneRenderer {
+  public static final int DEFAULT_FROM_YEAR = 1900;
+  public static final int DEFAULT_TO_YEAR = 2100;
+  public static final int MAX_YEAR_SPAN = 10000;
+
+  private static final ConcurrentHashMap<ZoneId, ZuluDateTimeZoneRenderer> CACHE = new ConcurrentHashMap<>();
+
+  private final ZoneId mZone;
+  private final ZoneRules mRules;
+  private final int mFromYear, mToYear;
+  private final long mCoveredFrom, mCoveredTo; // epoch Millisecs: [from, to)
+  private final long[] mTransitions; // epoch Millisecs of each transition (ascending)
+  private final int[] mOffsetSeconds; // mOffsetSeconds[i] applies before mTransitions[i]; the last one after all of them
+
+  private ZuluDateTimeZoneRenderer( ZoneId pZone, int pFromYear, int pToYear ) {
+    mZone = pZone;
+    mRules = pZone.getRules();
+    mFromYear = pFromYear;
+    mToYear = pToYear;
+    mCoveredFrom = LocalDate.of( pFromYear, 1, 1 ).toEpochDay() * CivilCalendar.MILLIS_PER_DAY;
+    mCoveredTo = LocalDate.of( pToYear, 12, 31 ).toEpochDay() * CivilCalendar.MILLIS_PER_DAY + CivilCalendar.MILLIS_PER_DAY;
+
+    List<ZoneOffsetTransition> zTransitions = new ArrayList<>();
+    Instant zAfter = Instant.ofEpochMilli( mCoveredFrom );
+    for ( ZoneOffsetTransition zNext; ((zNext = mRules.nextTransition( zAfter )) != null) &&
+                                      (zNext.toEpochSecond() < (mCoveredTo / CivilCalendar.MILLIS_PER_SECOND)); ) {
+      zTransitions.add( zNext );
+      zAfter = zNext.getInstant();
+    }
+    mTransitions = new long[zTransitions.size()];
+    mOffsetSeconds = new int[zTransitions.size() + 1];
+    mOffsetSeconds[0] = mRules.getOffset( Instant.ofEpochMilli( mCoveredFrom ) ).getTotalSeconds();
+    for ( int i = 0; i < mTransitions.length; i++ ) {
+      ZoneOffsetTransition zTransition = zTransitions.get( i );
+      mTransitions[i] = zTransition.toEpochSecond() * CivilCalendar.MILLIS_PER_SECOND;
+      mOffsetSeconds[i + 1] = zTransition.getOffsetAfter().getTotalSeconds();
+    }
+  }
+
+  /**
+   * @return the (cached) renderer for the <code>pZone</code>, covering (at least) <code>DEFAULT_FROM_YEAR</code> - <code>DEFAULT_TO_YEAR</code>.
+   */
+  @NotNull
+  public static ZuluDateTimeZoneRenderer forZone( @NotNull ZoneId pZone ) {
+    return forZone( pZone, DEFAULT_FROM_YEAR, DEFAULT_TO_YEAR );
+  }
+
+  /**
+   * @param pZone     not null
+   * @param pFromYear the first (UTC) year whose offsets are precomputed
+   * @param pToYear   the last (UTC) year whose offsets are precomputed (at most <code>MAX_YEAR_SPAN</code> years after <code>pFromYear</code>)
+   *
+   * @return the (cached) renderer for the <code>pZone</code>, covering (at least) the years
+   */
+  @NotNull
+  public static ZuluDateTimeZoneRenderer forZone( @NotNull ZoneId pZone, int pFromYear, int pToYear ) {
+    Objects.requireNonNull( pZone, "Zone" );
+    if ( (pToYear < pFromYear) || ((pToYear - (long)pFromYear) > MAX_YEAR_SPAN) ) {
+      throw new IllegalArgumentException( "Years must be in order and span at most " + MAX_YEAR_SPAN + " years, but were: " +
+                                          pFromYear + " - " + pToYear );
+    }
+    ZuluDateTimeZoneRenderer zCached = CACHE.get( pZone );
+    if ( (zCached != null) && zCached.covers( pFromYear, pToYear ) ) {
+      return zCached;
+    }
+    return CACHE.compute( pZone, ( pKey, pCurrent ) -> {
+      if ( pCurrent == null ) {
+        return new ZuluDateTimeZoneRenderer( pKey, pFromYear, pToYear );
+      }
+      if ( pCurrent.covers( pFromYear, pToYear ) ) {
+        return pCurrent;
+      }
+      int zFromYear = Math.min( pFromYear, pCurrent.mFromYear );
+      int zToYear = Math.max( pToYear, pCurrent.mToYear );
+      return ((zToYear - (long)zFromYear) <= MAX_YEAR_SPAN) ?
+             new ZuluDateTimeZoneRenderer( pKey, zFromYear, zToYear ) :
+             new ZuluDateTimeZoneRenderer( pKey, pFromYear, pToYear );
+    } );
+  }
+
+  @NotNull
+  public ZoneId getZone() {
+    return mZone;
+  }
+
+  public int getFromYear() {
+    return mFromYear;
+  }
+
+  public int getToYear() {
+    return mToYear;
+  }
+
+  /**
+   * @return the number of offset transitions precomputed (0 for a fixed offset zone)
+   */
+  public int getTransitionCount() {
+    return mTransitions.length;
+  }
+
+  /**
+   * @return the zone's offset (in seconds) at the <code>pEpochMillis</code>
+   */
+  public int getOffsetSeconds( long pEpochMillis ) {
+    if ( (pEpochMillis < mCoveredFrom) || (mCoveredTo <= pEpochMillis) ) {
+      return mRules.getOffset( Instant.ofEpochMilli( pEpochMillis ) ).getTotalSeconds();
+    }
+    int zIndex = Arrays.binarySearch( mTransitions, pEpochMillis );
+    return mOffsetSeconds[(zIndex < 0) ? -(zIndex + 1) : zIndex + 1]; // at a transition the offset after applies
+  }
+
+  @NotNull
+  public ZoneOffset getOffset( @NotNull ZuluDateTime pDateTime ) {
+    return ZoneOffset.ofTotalSeconds( getOffsetSeconds( Objects.requireNonNull( pDateTime, "DateTime" ).toEpochMilli() ) );
+  }
+
+  // ----------------------------- vvv Allocation free rendering vvv -----------------------------
+
+  /**
+   * @return the number of characters the <code>renderTo</code> methods will produce for the <code>pDateTime</code>.
+   */
+  public int renderedLength( @NotNull ZuluDateTime pDateTime ) {
+    long zEpochMillis = Objects.requireNonNull( pDateTime, "DateTime" ).toEpochMilli();
+    int zOffsetSeconds = getOffsetSeconds( zEpochMillis );
+    return Iso8601Renderer.zonedLength( toLocal( zEpochMillis, zOffsetSeconds ), zOffsetSeconds );
+  }
+
+  /**
+   * Render the <code>pDateTime</code> in the zone into the <code>pBuffer</code> at the <code>pOffset</code>.
+   *
+   * @return the offset after the last character rendered
+   *
+   * @throws IndexOutOfBoundsException if the buffer does not have room (<code>renderedLength</code>) at the offset
+   */
+  public int renderTo( @NotNull ZuluDateTime pDateTime, @NotNull char[] pBuffer, int pOffset ) {
+    long zEpochMillis = Objects.requireNonNull( pDateTime, "DateTime" ).toEpochMilli();
+    int zOffsetSeconds = getOffsetSeconds( zEpochMillis );
+    long zLocalMillis = toLocal( zEpochMillis, zOffsetSeconds );
+    int zBufferLength = Objects.requireNonNull( pBuffer, "Buffer" ).length;
+    if ( (pOffset < 0) || ((zBufferLength - pOffset) < Iso8601Renderer.ZONED_MAX_LENGTH) ) { // Only compute the length when it might not fit
+      int zLength = Iso8601Renderer.zonedLength( zLocalMillis, zOffsetSeconds );
+      if ( (pOffset < 0) || ((zBufferLength - pOffset) < zLength) ) {
+        throw new IndexOutOfBoundsException( "Rendering " + zLength + " characters at offset " + pOffset +
+                                             " into a buffer of length " + zBufferLength );
+      }
+    }
+    return Iso8601Renderer.renderZoned( zLocalMillis, zOffsetSeconds, pBuffer, pOffset );
+  }
+
+  /**
+   * Append the <code>pDateTime</code> rendered in the zone to the <code>pBuilder</code>.
+   *
+   * @return <code>pBuilder</code>
+   */
+  @NotNull
+  public StringBuilder renderTo( @NotNull ZuluDateTime pDateTime, @NotNull StringBuilder pBuilder ) {
+    Objects.requireNonNull( pBuilder, "Builder" );
+    char[] zScratch = Iso8601Renderer.scratch();
+    return pBuilder.append( zScratch, 0, renderTo( pDateTime, zScratch, 0 ) );
+  }
+
+  // ----------------------------- ^^^ Allocation free rendering ^^^ -----------------------------
+
+  /**
+   * @return a new String of the <code>pDateTime</code> rendered in the zone.
+   */
+  @NotNull
+  public String render( @NotNull ZuluDateTime pDateTime ) {
+    char[] zScratch = Iso8601Renderer.scratch();
+    return new String( zScratch, 0, renderTo( pDateTime, zScratch, 0 ) );
+  }
+
+  @Override
+  public String toString() {
+    return "ZuluDateTimeZoneRenderer(" + mZone + ", " + mFromYear + " - " + mToYear + ", " + mTransitions.length + " transitions)";
+  }
+
+  private boolean covers( int pFromYear, int pToYear ) {
+    return (mFromYear <= pFromYear) && (pToYear <= mToYear);
+  }
+
+  private static long toLocal( long pEpochMillis, int pOffsetSeconds ) {
+    return Math.addExact( pEpochMillis, pOffsetSeconds * CivilCalendar.MILLIS_PER_SECOND );
+  }
+}
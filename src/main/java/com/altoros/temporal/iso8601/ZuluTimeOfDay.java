@@ -0,0 +1,360 @@
+package com.altoros.temporal.iso8601;
+
+import java.io.Serializable;
+import java.nio.CharBuffer;
+import java.time.DateTimeException;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+import com.altoros.temporal.MillisecTimeSource;
+import com.altoros.temporal.iso8601.gson.GsonTypeAdapterZuluTimeOfDay;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.google.gson.annotations.JsonAdapter;
+import org.litesoft.annotations.NotNull;
+import org.litesoft.annotations.Nullable;
+import org.litesoft.annotations.Significant;
+import org.litesoft.annotations.SignificantOrNull;
+
+/**
+ * The UTC time of day (of a <code>ZuluDateTime</code>) companion value type, held as a single <code>int</code> of Millisecs
+ * of the day (0 - 86399999).
+ * <p>
+ * The String (JSON) form is ISO8601 <code>HH:mm:ss.SSSZ</code>: always 13 characters (so it sorts correctly), and always
+ * with the 3 Millisec digits, and the 'Z' (UTC) designator.
+ * <p>
+ * Notes:<br>
+ * <li>The canonical form is parsed (and rendered) directly, without any <code>java.time</code> objects; any other text
+ * (with or without the 'Z') is parsed by <code>LocalTime.parse</code> (note: since the resolution is only to the Millisec,
+ * some portion of the fractional second may be lost).</li>
+ * <li>The conversion from epoch Millisecs (<code>millisOfDayOf</code>) is also available on primitives.</li>
+ * <li>The arithmetic wraps around midnight (as <code>LocalTime</code>'s).</li>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+@JsonAdapter(GsonTypeAdapterZuluTimeOfDay.class)
+public final class ZuluTimeOfDay implements Comparable<ZuluTimeOfDay>,
+                                            Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private static final int MILLIS_PER_DAY = (int)CivilCalendar.MILLIS_PER_DAY;
+
+  public static final ZuluTimeOfDay MIDNIGHT = new ZuluTimeOfDay( 0 );
+  public static final ZuluTimeOfDay NOON = new ZuluTimeOfDay( MILLIS_PER_DAY / 2 );
+  public static final ZuluTimeOfDay MAX = new ZuluTimeOfDay( MILLIS_PER_DAY - 1 );
+
+  private final int mMillisOfDay;
+
+  private ZuluTimeOfDay( int pMillisOfDay ) {
+    mMillisOfDay = pMillisOfDay;
+  }
+
+  /**
+   * @param pMillisOfDay 0 - 86399999
+   *
+   * @throws DateTimeException if the <code>pMillisOfDay</code> is out of range
+   */
+  @NotNull
+  public static ZuluTimeOfDay ofMillisOfDay( long pMillisOfDay ) {
+    if ( (pMillisOfDay < 0) || (MILLIS_PER_DAY <= pMillisOfDay) ) {
+      throw new DateTimeException( "MillisOfDay must be 0 - " + (MILLIS_PER_DAY - 1) + ", but was: " + pMillisOfDay );
+    }
+    return new ZuluTimeOfDay( (int)pMillisOfDay );
+  }
+
+  /**
+   * @return the (UTC) time of day of the <code>pEpochMillis</code>
+   */
+  @NotNull
+  public static ZuluTimeOfDay ofEpochMilli( long pEpochMillis ) {
+    return new ZuluTimeOfDay( millisOfDayOf( pEpochMillis ) );
+  }
+
+  /**
+   * Allocation free: the Millisecs of the (UTC) day of the <code>pEpochMillis</code> (0 - 86399999, also before 1970).
+   */
+  public static int millisOfDayOf( long pEpochMillis ) {
+    return (int)Math.floorMod( pEpochMillis, CivilCalendar.MILLIS_PER_DAY );
+  }
+
+  @NotNull
+  public static ZuluTimeOfDay now( @NotNull MillisecTimeSource pMillisecTimeSource ) {
+    return ofEpochMilli( Objects.requireNonNull( pMillisecTimeSource, "MillisecTimeSource" ).currentTimeMillis() );
+  }
+
+  /**
+   * @throws DateTimeException if any field is invalid
+   */
+  @NotNull
+  public static ZuluTimeOfDay of( int pHour, int pMinute ) {
+    return of( pHour, pMinute, 0, 0 );
+  }
+
+  /**
+   * @throws DateTimeException if any field is invalid
+   */
+  @NotNull
+  public static ZuluTimeOfDay of( int pHour, int pMinute, int pSecond ) {
+    return of( pHour, pMinute, pSecond, 0 );
+  }
+
+  /**
+   * @throws DateTimeException if any field is invalid
+   */
+  @NotNull
+  public static ZuluTimeOfDay of( int pHour, int pMinute, int pSecond, int pMillisOfSecond ) {
+    long zMillisOfDay = (pMillisOfSecond > 999) ? Iso8601Parser.NOT_CANONICAL :
+                        Iso8601Parser.toMillisOfDay( pHour, pMinute, pSecond, pMillisOfSecond );
+    if ( zMillisOfDay == Iso8601Parser.NOT_CANONICAL ) {
+      throw new DateTimeException( "Invalid time of day: " + pHour + ":" + pMinute + ":" + pSecond + "." + pMillisOfSecond );
+    }
+    return new ZuluTimeOfDay( (int)zMillisOfDay );
+  }
+
+  /**
+   * Any sub-Millisec portion of the <code>pTime</code> is dropped.
+   */
+  @NotNull
+  public static ZuluTimeOfDay ofLocalTime( @NotNull LocalTime pTime ) {
+    return new ZuluTimeOfDay( (int)(Objects.requireNonNull( pTime, "Time" ).toNanoOfDay() / 1_000_000L) );
+  }
+
+  @NotNull
+  public LocalTime toLocalTime() {
+    return LocalTime.ofNanoOfDay( mMillisOfDay * 1_000_000L );
+  }
+
+  public int toMillisOfDay() {
+    return mMillisOfDay;
+  }
+
+  @NotNull
+  public ZuluDateTime atDate( @NotNull ZuluDate pDate ) {
+    return Objects.requireNonNull( pDate, "Date" ).atTime( this );
+  }
+
+  // ------------------------------------ vvv Parsing vvv --------------------------------
+
+  /**
+   * Create a <code>ZuluTimeOfDay</code> from text such as <code>10:15:30.000Z</code> (or <code>10:15</code>).
+   *
+   * @param pText the text to parse, must be significant after trimming
+   *
+   * @throws DateTimeParseException if the text cannot be parsed
+   */
+  @NotNull
+  public static ZuluTimeOfDay parse( @Significant CharSequence pText ) {
+    if ( pText == null ) {
+      throw ZuluDateTime.insignificant( null );
+    }
+    return parse( pText, 0, pText.length() );
+  }
+
+  /**
+   * Create a <code>ZuluTimeOfDay</code> from the slice (<code>pStart</code> inclusive to <code>pEnd</code> exclusive) of the
+   * <code>pText</code>, surrounding whitespace is skipped, see <code>parse( CharSequence )</code>.
+   *
+   * @throws IndexOutOfBoundsException if the slice is not within the <code>pText</code>
+   * @throws IllegalArgumentException  if the slice is empty or all whitespace
+   * @throws DateTimeParseException    if the slice cannot be parsed
+   */
+  @NotNull
+  public static ZuluTimeOfDay parse( @NotNull CharSequence pText, int pStart, int pEnd ) {
+    ZuluDateTime.checkSlice( Objects.requireNonNull( pText, "Text" ).length(), pStart, pEnd );
+    int zStart = pStart, zEnd = pEnd;
+    while ( (zStart < zEnd) && Character.isWhitespace( pText.charAt( zStart ) ) ) {
+      zStart++;
+    }
+    while ( (zStart < zEnd) && Character.isWhitespace( pText.charAt( zEnd - 1 ) ) ) {
+      zEnd--;
+    }
+    if ( zStart == zEnd ) {
+      throw ZuluDateTime.insignificant( pText.subSequence( pStart, pEnd ) );
+    }
+    long zMillisOfDay = Iso8601Parser.parseCanonicalTimeOfDay( pText, zStart, zEnd );
+    if ( zMillisOfDay != Iso8601Parser.NOT_CANONICAL ) {
+      return new ZuluTimeOfDay( (int)zMillisOfDay );
+    }
+    return ofLocalTime( LocalTime.parse( pText.subSequence( zStart, withoutZulu( pText.charAt( zEnd - 1 ), zStart, zEnd ) ) ) );
+  }
+
+  /**
+   * The <code>char[]</code> twin of <code>parse( CharSequence, int, int )</code>, e.g. for a parser's or reader's buffer.
+   */
+  @NotNull
+  public static ZuluTimeOfDay parse( @NotNull char[] pChars, int pStart, int pEnd ) {
+    ZuluDateTime.checkSlice( Objects.requireNonNull( pChars, "Chars" ).length, pStart, pEnd );
+    int zStart = pStart, zEnd = pEnd;
+    while ( (zStart < zEnd) && Character.isWhitespace( pChars[zStart] ) ) {
+      zStart++;
+    }
+    while ( (zStart < zEnd) && Character.isWhitespace( pChars[zEnd - 1] ) ) {
+      zEnd--;
+    }
+    if ( zStart == zEnd ) {
+      throw ZuluDateTime.insignificant( CharBuffer.wrap( pChars, pStart, pEnd - pStart ) );
+    }
+    long zMillisOfDay = Iso8601Parser.parseCanonicalTimeOfDay( pChars, zStart, zEnd );
+    if ( zMillisOfDay != Iso8601Parser.NOT_CANONICAL ) {
+      return new ZuluTimeOfDay( (int)zMillisOfDay );
+    }
+    zEnd = withoutZulu( pChars[zEnd - 1], zStart, zEnd );
+    return ofLocalTime( LocalTime.parse( CharBuffer.wrap( pChars, zStart, zEnd - zStart ) ) );
+  }
+
+  private static int withoutZulu( char pLast, int pStart, int pEnd ) {
+    return (((pLast == 'Z') || (pLast == 'z')) && ((pEnd - pStart) > 1)) ? (pEnd - 1) : pEnd;
+  }
+
+  // ------------------------------------ ^^^ Parsing ^^^ --------------------------------
+
+  // ----------------------------- vvv JsonCreator & JsonValue vvv ---------------------
+
+  @JsonCreator
+  @Nullable
+  public static ZuluTimeOfDay jsonCreator( String pText ) {
+    return ZuluDateTime.isSignificant( pText ) ? parse( pText ) : null; // parse(...) does any trimming
+  }
+
+  @JsonValue
+  @SignificantOrNull
+  public String jsonValue() {
+    return toString();
+  }
+
+  // ----------------------------- ^^^ JsonCreator & JsonValue ^^^ ---------------------
+
+  // ------------------------ vvv Allocation free rendering vvv ------------------------
+
+  /**
+   * @return the length of the rendered (ISO8601) form, always 13
+   */
+  public int renderedLength() {
+    return Iso8601Renderer.TIME_OF_DAY_LENGTH;
+  }
+
+  /**
+   * Render the ISO8601 form (the same text as <code>toString()</code>) into the <code>pBuffer</code> starting at <code>pOffset</code>.
+   *
+   * @return the offset just past the rendered characters
+   *
+   * @throws IndexOutOfBoundsException if the buffer does not have room
+   */
+  public int renderTo( @NotNull char[] pBuffer, int pOffset ) {
+    if ( (pOffset < 0) || ((Objects.requireNonNull( pBuffer, "Buffer" ).length - pOffset) < Iso8601Renderer.TIME_OF_DAY_LENGTH) ) {
+      throw new IndexOutOfBoundsException( "Rendering " + Iso8601Renderer.TIME_OF_DAY_LENGTH + " characters at offset " + pOffset +
+                                           " into a buffer of length " + pBuffer.length );
+    }
+    return Iso8601Renderer.renderTimeOfDay( mMillisOfDay, pBuffer, pOffset );
+  }
+
+  @NotNull
+  public StringBuilder renderTo( @NotNull StringBuilder pBuilder ) {
+    Objects.requireNonNull( pBuilder, "Builder" );
+    char[] zScratch = Iso8601Renderer.scratch();
+    return pBuilder.append( zScratch, 0, Iso8601Renderer.renderTimeOfDay( mMillisOfDay, zScratch, 0 ) );
+  }
+
+  @Override
+  @Significant
+  public String toString() {
+    char[] zScratch = Iso8601Renderer.scratch();
+    return new String( zScratch, 0, Iso8601Renderer.renderTimeOfDay( mMillisOfDay, zScratch, 0 ) );
+  }
+
+  // ------------------------ ^^^ Allocation free rendering ^^^ ------------------------
+
+  // ------------------------ vvv Field Accessors (See LocalTime) vvv ------------------
+
+  public int getHour() {
+    return mMillisOfDay / (int)CivilCalendar.MILLIS_PER_HOUR;
+  }
+
+  public int getMinute() {
+    return (mMillisOfDay / (int)CivilCalendar.MILLIS_PER_MINUTE) % 60;
+  }
+
+  public int getSecond() {
+    return (mMillisOfDay / (int)CivilCalendar.MILLIS_PER_SECOND) % 60;
+  }
+
+  public int getMillisOfSecond() {
+    return mMillisOfDay % (int)CivilCalendar.MILLIS_PER_SECOND;
+  }
+
+  // ------------------------ ^^^ Field Accessors (See LocalTime) ^^^ ------------------
+
+  // ------------------------- vvv Arithmetic (see LocalTime) vvv -----------------------
+
+  /**
+   * Wraps around midnight (e.g. 23:59:59.999Z plus 2 Millisecs is 00:00:00.001Z).
+   */
+  @NotNull
+  public ZuluTimeOfDay plusMillis( long pMillis ) {
+    return (pMillis == 0) ? this : new ZuluTimeOfDay( (int)Math.floorMod( mMillisOfDay + (pMillis % MILLIS_PER_DAY), (long)MILLIS_PER_DAY ) );
+  }
+
+  @NotNull
+  public ZuluTimeOfDay plusSeconds( long pSeconds ) {
+    return plusMillis( (pSeconds % CivilCalendar.SECONDS_PER_DAY) * CivilCalendar.MILLIS_PER_SECOND );
+  }
+
+  @NotNull
+  public ZuluTimeOfDay plusMinutes( long pMinutes ) {
+    return plusMillis( (pMinutes % (24 * 60)) * CivilCalendar.MILLIS_PER_MINUTE );
+  }
+
+  @NotNull
+  public ZuluTimeOfDay plusHours( long pHours ) {
+    return plusMillis( (pHours % 24) * CivilCalendar.MILLIS_PER_HOUR );
+  }
+
+  @NotNull
+  public ZuluTimeOfDay minusMillis( long pMillis ) {
+    return plusMillis( -(pMillis % MILLIS_PER_DAY) );
+  }
+
+  /**
+   * @return the Millisecs from this to the <code>pEnd</code> (negative if the <code>pEnd</code> is before this), within the same day
+   */
+  public int millisUntil( @NotNull ZuluTimeOfDay pEnd ) {
+    return notNull( pEnd ).mMillisOfDay - mMillisOfDay;
+  }
+
+  // ------------------------- ^^^ Arithmetic (see LocalTime) ^^^ -----------------------
+
+  public boolean isAfter( @NotNull ZuluTimeOfDay them ) {
+    return this.mMillisOfDay > notNull( them ).mMillisOfDay;
+  }
+
+  public boolean isBefore( @NotNull ZuluTimeOfDay them ) {
+    return this.mMillisOfDay < notNull( them ).mMillisOfDay;
+  }
+
+  @Override
+  public int compareTo( @NotNull ZuluTimeOfDay them ) {
+    return Integer.compare( this.mMillisOfDay, notNull( them ).mMillisOfDay );
+  }
+
+  @Override
+  public int hashCode() {
+    return mMillisOfDay;
+  }
+
+  @Override
+  public boolean equals( Object them ) {
+    return (this == them) ||
+           ((them instanceof ZuluTimeOfDay) && equals( (ZuluTimeOfDay)them )); // Left to Right
+  }
+
+  public boolean equals( ZuluTimeOfDay them ) {
+    return (this == them) ||
+           ((them != null) &&
+            (this.mMillisOfDay == them.mMillisOfDay));
+  }
+
+  @NotNull
+  private static ZuluTimeOfDay notNull( @Nullable ZuluTimeOfDay them ) {
+    return Objects.requireNonNull( them, "them" );
+  }
+}
@@ -0,0 +1,369 @@
+package com.altoros.temporal.iso8601.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.litesoft.annotations.NotNull;
+
+/**
+ * Decodes the blocks written by a <code>ZuluDateTimeSequenceEncoder</code> (see it for the format), from an <code>InputStream</code>
+ * or a <code>ByteBuffer</code>, either as epoch Millisecs (<code>nextMillis</code>, <code>readAll</code>), or lazily as
+ * <code>ZuluDateTime</code>s (<code>next</code>, <code>iterator</code>).
+ * <p>
+ * Each block's last value (from its header) is checked against the decoded last value, so most corruption is detected
+ * (as a <code>StreamCorruptedException</code>).
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class ZuluDateTimeSequenceDecoder implements Closeable {
+  private static final int HEADER_BYTES = ZuluDateTimeSequenceEncoder.HEADER_BYTES;
+
+  private interface Source {
+    /**
+     * @return false if there are no more bytes (at all), otherwise exactly <code>pLength</code> bytes were read
+     */
+    boolean read( byte[] pBytes, int pLength )
+            throws IOException;
+
+    void skip( int pLength )
+            throws IOException;
+  }
+
+  private final Source mSource;
+  private final Closeable mCloseable;
+  private final byte[] mHeader = new byte[HEADER_BYTES];
+  private byte[] mPayload = new byte[64];
+  // Current block
+  private int mBlockCount, mBlockPayloadBytes, mBlockIndex;
+  private long mBlockFirst, mBlockLast;
+  private boolean mPayloadLoaded;
+  // Decoding state
+  private int mBitPosition;
+  private long mPrevious, mPreviousDelta;
+  private long mNext;
+  private boolean mHasNext, mEnded;
+
+  private ZuluDateTimeSequenceDecoder( Source pSource, Closeable pCloseable ) {
+    mSource = pSource;
+    mCloseable = pCloseable;
+  }
+
+  /**
+   * @param pIn not null - closed by <code>close</code>
+   */
+  public ZuluDateTimeSequenceDecoder( @NotNull InputStream pIn ) {
+    this( new Source() {
+      @Override
+      public boolean read( byte[] pBytes, int pLength )
+              throws IOException {
+        int zRead = 0;
+        while ( zRead < pLength ) {
+          int zCount = pIn.read( pBytes, zRead, pLength - zRead );
+          if ( zCount < 0 ) {
+            if ( zRead == 0 ) {
+              return false;
+            }
+            throw new EOFException( "Truncated sequence, expected " + pLength + " bytes, but only got: " + zRead );
+          }
+          zRead += zCount;
+        }
+        return true;
+      }
+
+      @Override
+      public void skip( int pLength )
+              throws IOException {
+        for ( long zRemaining = pLength; zRemaining > 0; ) {
+          long zSkipped = pIn.skip( zRemaining );
+          if ( zSkipped <= 0 ) {
+            if ( pIn.read() < 0 ) {
+              throw new EOFException( "Truncated sequence, could not skip: " + zRemaining + " bytes" );
+            }
+            zSkipped = 1;
+          }
+          zRemaining -= zSkipped;
+        }
+      }
+    }, pIn );
+    Objects.requireNonNull( pIn, "InputStream" );
+  }
+
+  /**
+   * Decodes from the <code>pBuffer</code>'s position (which is advanced as blocks are read) to its limit.
+   *
+   * @param pBuffer not null
+   */
+  public ZuluDateTimeSequenceDecoder( @NotNull ByteBuffer pBuffer ) {
+    this( new Source() {
+      @Override
+      public boolean read( byte[] pBytes, int pLength )
+              throws IOException {
+        if ( !pBuffer.hasRemaining() ) {
+          return false;
+        }
+        checkRemaining( pLength );
+        pBuffer.get( pBytes, 0, pLength );
+        return true;
+      }
+
+      @Override
+      public void skip( int pLength )
+              throws IOException {
+        checkRemaining( pLength );
+        pBuffer.position( pBuffer.position() + pLength );
+      }
+
+      private void checkRemaining( int pLength )
+              throws EOFException {
+        if ( pBuffer.remaining() < pLength ) {
+          throw new EOFException( "Truncated sequence, expected " + pLength + " bytes, but only have: " + pBuffer.remaining() );
+        }
+      }
+    }, null );
+    Objects.requireNonNull( pBuffer, "ByteBuffer" );
+  }
+
+  /**
+   * Decode all the epoch Millisecs encoded in the <code>pBytes</code> (e.g. by <code>ZuluDateTimeSequenceEncoder.encode</code>).
+   *
+   * @throws IllegalArgumentException if the bytes are corrupt or truncated
+   */
+  @NotNull
+  public static long[] decode( @NotNull byte[] pBytes ) {
+    try ( ZuluDateTimeSequenceDecoder zDecoder = new ZuluDateTimeSequenceDecoder( new ByteArrayInputStream( pBytes ) ) ) {
+      return zDecoder.readAll();
+    }
+    catch ( IOException e ) {
+      throw new IllegalArgumentException( e.getMessage(), e );
+    }
+  }
+
+  public boolean hasNext()
+          throws IOException {
+    return mHasNext || advance();
+  }
+
+  public long nextMillis()
+          throws IOException {
+    if ( !hasNext() ) {
+      throw new NoSuchElementException();
+    }
+    mHasNext = false;
+    return mNext;
+  }
+
+  @NotNull
+  public ZuluDateTime next()
+          throws IOException {
+    return ZuluDateTime.ofEpochMilli( nextMillis() );
+  }
+
+  /**
+   * @return all the remaining values
+   */
+  @NotNull
+  public long[] readAll()
+          throws IOException {
+    long[] zValues = new long[64];
+    int zCount = 0;
+    while ( hasNext() ) {
+      if ( zCount == zValues.length ) {
+        zValues = Arrays.copyOf( zValues, zCount * 2 );
+      }
+      zValues[zCount++] = nextMillis();
+    }
+    return (zCount == zValues.length) ? zValues : Arrays.copyOf( zValues, zCount );
+  }
+
+  /**
+   * Skip forward so that the next value is the first (remaining) one that is at or after the <code>pEpochMillis</code>, skipping
+   * whole blocks (without reading or decoding their payloads) whose last value is before it; this assumes the values are
+   * non-decreasing.
+   * <p>
+   * Note: this is a sequential skip, not a random access seek: the header of every block up to the target is still read (the
+   * format has no block index), so the cost is O(blocks skipped) small reads (plus <code>InputStream.skip</code>s).
+   *
+   * @return true if there is such a value (false if the values were exhausted)
+   */
+  public boolean skipTo( long pEpochMillis )
+          throws IOException {
+    while ( true ) {
+      if ( !mHasNext ) {
+        if ( (mBlockIndex == mBlockCount) && !readHeader() ) {
+          return false;
+        }
+        if ( !mPayloadLoaded && (mBlockLast < pEpochMillis) ) {
+          mSource.skip( mBlockPayloadBytes );
+          mBlockIndex = mBlockCount;
+          continue;
+        }
+        mNext = decodeOne();
+        mHasNext = true;
+      }
+      if ( mNext >= pEpochMillis ) {
+        return true;
+      }
+      mHasNext = false;
+    }
+  }
+
+  /**
+   * @return a lazy (single pass) Iterator over the remaining values (an <code>IOException</code> is thrown as an <code>UncheckedIOException</code>)
+   */
+  @NotNull
+  public Iterator<ZuluDateTime> iterator() {
+    return new Iterator<ZuluDateTime>() {
+      @Override
+      public boolean hasNext() {
+        try {
+          return ZuluDateTimeSequenceDecoder.this.hasNext();
+        }
+        catch ( IOException e ) {
+          throw new UncheckedIOException( e );
+        }
+      }
+
+      @Override
+      public ZuluDateTime next() {
+        try {
+          return ZuluDateTimeSequenceDecoder.this.next();
+        }
+        catch ( IOException e ) {
+          throw new UncheckedIOException( e );
+        }
+      }
+    };
+  }
+
+  @Override
+  public void close()
+          throws IOException {
+    mEnded = true;
+    mHasNext = false;
+    if ( mCloseable != null ) {
+      mCloseable.close();
+    }
+  }
+
+  private boolean advance()
+          throws IOException {
+    if ( (mBlockIndex == mBlockCount) && !readHeader() ) {
+      return false;
+    }
+    mNext = decodeOne();
+    return mHasNext = true;
+  }
+
+  private boolean readHeader()
+          throws IOException {
+    if ( mEnded || !mSource.read( mHeader, HEADER_BYTES ) ) {
+      mEnded = true;
+      return false;
+    }
+    int zCount = getInt( 0 );
+    int zPayloadBytes = getInt( 4 );
+    if ( (zCount < 1) || (ZuluDateTimeSequenceEncoder.MAX_BLOCK_SIZE < zCount) ||
+         (zPayloadBytes < 0) || (ZuluDateTimeSequenceEncoder.maxPayloadBytes( zCount ) < zPayloadBytes) ) {
+      throw new StreamCorruptedException( "Invalid block header, count=" + zCount + ", payloadBytes=" + zPayloadBytes );
+    }
+    mBlockCount = zCount;
+    mBlockPayloadBytes = zPayloadBytes;
+    mBlockFirst = getLong( 8 );
+    mBlockLast = getLong( 16 );
+    mBlockIndex = 0;
+    mPayloadLoaded = false;
+    return true;
+  }
+
+  private long decodeOne()
+          throws IOException {
+    if ( !mPayloadLoaded ) {
+      if ( mPayload.length < mBlockPayloadBytes ) {
+        mPayload = new byte[mBlockPayloadBytes];
+      }
+      if ( (mBlockPayloadBytes != 0) && !mSource.read( mPayload, mBlockPayloadBytes ) ) {
+        throw new EOFException( "Truncated sequence, missing block payload" );
+      }
+      mPayloadLoaded = true;
+      mBitPosition = 0;
+    }
+    long zValue;
+    if ( mBlockIndex == 0 ) {
+      zValue = mBlockFirst;
+      mPreviousDelta = 0;
+    } else {
+      mPreviousDelta += readDeltaOfDelta();
+      zValue = mPrevious + mPreviousDelta;
+    }
+    mPrevious = zValue;
+    if ( ++mBlockIndex == mBlockCount ) {
+      if ( zValue != mBlockLast ) {
+        throw new StreamCorruptedException( "Block decoded to last value " + zValue + ", but header says: " + mBlockLast );
+      }
+      mPayloadLoaded = false;
+    }
+    return zValue;
+  }
+
+  private long readDeltaOfDelta()
+          throws StreamCorruptedException {
+    if ( readBits( 1 ) == 0 ) {
+      return 0;
+    }
+    if ( readBits( 1 ) == 0 ) {
+      return readSigned( 7 );
+    }
+    if ( readBits( 1 ) == 0 ) {
+      return readSigned( 9 );
+    }
+    if ( readBits( 1 ) == 0 ) {
+      return readSigned( 12 );
+    }
+    return (readBits( 32 ) << 32) | readBits( 32 );
+  }
+
+  private long readSigned( int pCount )
+          throws StreamCorruptedException {
+    int zShift = 64 - pCount;
+    return (readBits( pCount ) << zShift) >> zShift;
+  }
+
+  /**
+   * @param pCount 1 - 32
+   */
+  private long readBits( int pCount )
+          throws StreamCorruptedException {
+    if ( (mBlockPayloadBytes * 8) < (mBitPosition + pCount) ) {
+      throw new StreamCorruptedException( "Block payload exhausted" );
+    }
+    long zBits = 0;
+    while ( pCount > 0 ) {
+      int zAvailable = 8 - (mBitPosition & 7);
+      int zTake = Math.min( zAvailable, pCount );
+      int zByte = mPayload[mBitPosition >>> 3] & 0xFF;
+      zBits = (zBits << zTake) | ((zByte >>> (zAvailable - zTake)) & ((1 << zTake) - 1));
+      mBitPosition += zTake;
+      pCount -= zTake;
+    }
+    return zBits;
+  }
+
+  private int getInt( int pOffset ) {
+    return ((mHeader[pOffset] & 0xFF) << 24) | ((mHeader[pOffset + 1] & 0xFF) << 16) |
+           ((mHeader[pOffset + 2] & 0xFF) << 8) | (mHeader[pOffset + 3] & 0xFF);
+  }
+
+  private long getLong( int pOffset ) {
+    return ((long)getInt( pOffset ) << 32) | (getInt( pOffset + 4 ) & 0xFFFFFFFFL);
+  }
+}
@@ -0,0 +1,281 @@
+package com.altoros.temporal.iso8601.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.litesoft.annotations.NotNull;
+
+/**
+ * Encodes a sequence of <code>ZuluDateTime</code>s (epoch Millisecs) with Gorilla style (see Pelkonen et al. "Gorilla: A Fast,
+ * Scalable, In-Memory Time Series Database") delta-of-delta bit packing, into an <code>OutputStream</code> or a <code>ByteBuffer</code>.
+ * <p>
+ * The values are written in blocks (of up to <code>blockSize</code> values), each with a fixed size header (big-endian):
+ * <pre>
+ *   int  count         - values in the block (1 - blockSize)
+ *   int  payloadBytes  - bytes of bit packed payload following the header
+ *   long firstMillis   - the block's first value
+ *   long lastMillis    - the block's last value
+ * </pre>
+ * so a reader can skip forward (see <code>ZuluDateTimeSequenceDecoder.skipTo</code>) over whole blocks without reading or decoding
+ * their payloads (a sequential skip from header to header, there is no block index).
+ * <p>
+ * The payload holds, for each value after the first, the change in the delta (from the previous value), as:
+ * <pre>
+ *   '0'                     - same delta
+ *   '10'   +  7 bit signed  - [-64, 63]
+ *   '110'  +  9 bit signed  - [-256, 255]
+ *   '1110' + 12 bit signed  - [-2048, 2047]
+ *   '1111' + 64 bit         - anything else
+ * </pre>
+ * so regular interval values take 1 bit each, and slightly jittery ones 9 - 16 bits.  Any <code>long</code>s round trip exactly,
+ * but the compression (and skipping) assume the values are (mostly) non-decreasing.
+ * <p>
+ * Values are buffered until a block is full, or <code>flush</code> / <code>close</code> is called (which end the current block).
+ * A block is only discarded once it has been written, so if the write fails (e.g. a <code>ByteBuffer</code> without room) it is
+ * written again by the next <code>add</code>, <code>flush</code>, or <code>close</code> (a failed <code>close</code> leaves the
+ * encoder open, and so does not close the <code>OutputStream</code>).  Note: an <code>OutputStream</code> that failed part way
+ * through a block has already written part of it.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class ZuluDateTimeSequenceEncoder implements Flushable,
+                                                          Closeable {
+  public static final int DEFAULT_BLOCK_SIZE = 1024;
+  public static final int MAX_BLOCK_SIZE = 1 << 20;
+
+  static final int HEADER_BYTES = 4 + 4 + 8 + 8;
+  static final int MAX_BITS_PER_VALUE = 4 + 64;
+
+  private interface Sink {
+    void write( byte[] pBytes, int pLength )
+            throws IOException;
+  }
+
+  private final Sink mSink;
+  private final Flushable mFlushable;
+  private final Closeable mCloseable;
+  private final int mBlockSize;
+  private final byte[] mBlock;
+  private int mByteCount = HEADER_BYTES; // Payload bytes follow the header
+  private long mBits; // pending (not yet full byte) bits are the low mBitCount bits
+  private int mBitCount;
+  private int mCount;
+  private long mFirst, mPrevious, mPreviousDelta;
+  private long mValuesWritten, mBytesWritten;
+  private boolean mClosed;
+
+  private ZuluDateTimeSequenceEncoder( Sink pSink, Flushable pFlushable, Closeable pCloseable, int pBlockSize ) {
+    if ( (pBlockSize < 1) || (MAX_BLOCK_SIZE < pBlockSize) ) {
+      throw new IllegalArgumentException( "BlockSize must be 1 - " + MAX_BLOCK_SIZE + ", but was: " + pBlockSize );
+    }
+    mSink = pSink;
+    mFlushable = pFlushable;
+    mCloseable = pCloseable;
+    mBlockSize = pBlockSize;
+    mBlock = new byte[HEADER_BYTES + maxPayloadBytes( pBlockSize )];
+  }
+
+  /**
+   * @param pOut       not null - closed by <code>close</code>
+   * @param pBlockSize max values per block (1 - <code>MAX_BLOCK_SIZE</code>)
+   */
+  public ZuluDateTimeSequenceEncoder( @NotNull OutputStream pOut, int pBlockSize ) {
+    this( (pBytes, pLength) -> pOut.write( pBytes, 0, pLength ), pOut, pOut, pBlockSize );
+    Objects.requireNonNull( pOut, "OutputStream" );
+  }
+
+  public ZuluDateTimeSequenceEncoder( @NotNull OutputStream pOut ) {
+    this( pOut, DEFAULT_BLOCK_SIZE );
+  }
+
+  /**
+   * Blocks are put into the <code>pBuffer</code> (at its position) as they are completed.
+   *
+   * @param pBuffer    not null - a <code>java.nio.BufferOverflowException</code> is thrown if a block does not fit
+   * @param pBlockSize max values per block (1 - <code>MAX_BLOCK_SIZE</code>)
+   */
+  public ZuluDateTimeSequenceEncoder( @NotNull ByteBuffer pBuffer, int pBlockSize ) {
+    this( (pBytes, pLength) -> pBuffer.put( pBytes, 0, pLength ), null, null, pBlockSize );
+    Objects.requireNonNull( pBuffer, "ByteBuffer" );
+  }
+
+  public ZuluDateTimeSequenceEncoder( @NotNull ByteBuffer pBuffer ) {
+    this( pBuffer, DEFAULT_BLOCK_SIZE );
+  }
+
+  /**
+   * Encode the <code>pEpochMillis</code> into a single byte array.
+   */
+  @NotNull
+  public static byte[] encode( @NotNull long[] pEpochMillis ) {
+    ByteArrayOutputStream zBytes = new ByteArrayOutputStream( pEpochMillis.length + HEADER_BYTES );
+    try ( ZuluDateTimeSequenceEncoder zEncoder = new ZuluDateTimeSequenceEncoder( zBytes ) ) {
+      zEncoder.add( pEpochMillis, 0, pEpochMillis.length );
+    }
+    catch ( IOException e ) {
+      throw new IllegalStateException( "ByteArrayOutputStream", e ); // Can't happen
+    }
+    return zBytes.toByteArray();
+  }
+
+  public ZuluDateTimeSequenceEncoder add( @NotNull ZuluDateTime pValue )
+          throws IOException {
+    return add( pValue.toEpochMilli() );
+  }
+
+  public ZuluDateTimeSequenceEncoder add( @NotNull long[] pEpochMillis, int pOffset, int pLength )
+          throws IOException {
+    for ( int i = 0; i < pLength; i++ ) {
+      add( pEpochMillis[pOffset + i] );
+    }
+    return this;
+  }
+
+  public ZuluDateTimeSequenceEncoder add( long pEpochMillis )
+          throws IOException {
+    if ( mClosed ) {
+      throw new IOException( "Encoder closed" );
+    }
+    if ( mCount == mBlockSize ) { // The write of the (full) block failed
+      endBlock();
+    }
+    if ( mCount == 0 ) {
+      mFirst = pEpochMillis;
+      mPreviousDelta = 0;
+    } else {
+      long zDelta = pEpochMillis - mPrevious;
+      writeDeltaOfDelta( zDelta - mPreviousDelta );
+      mPreviousDelta = zDelta;
+    }
+    mPrevious = pEpochMillis;
+    mValuesWritten++;
+    if ( ++mCount == mBlockSize ) {
+      endBlock();
+    }
+    return this;
+  }
+
+  /**
+   * @return the number of values added
+   */
+  public long getValuesWritten() {
+    return mValuesWritten;
+  }
+
+  /**
+   * @return the number of bytes of completed blocks (the current block is not included until it is ended by <code>flush</code>)
+   */
+  public long getBytesWritten() {
+    return mBytesWritten;
+  }
+
+  /**
+   * End the current block (if any values are pending), and flush the <code>OutputStream</code> (if any).
+   */
+  @Override
+  public void flush()
+          throws IOException {
+    endBlock();
+    if ( mFlushable != null ) {
+      mFlushable.flush();
+    }
+  }
+
+  /**
+   * End the current block, and close the <code>OutputStream</code> (if any); if the block can not be written, the encoder is left
+   * open (so the <code>close</code> may be retried).
+   */
+  @Override
+  public void close()
+          throws IOException {
+    if ( !mClosed ) {
+      flush();
+      mClosed = true;
+      if ( mCloseable != null ) {
+        mCloseable.close();
+      }
+    }
+  }
+
+  private void writeDeltaOfDelta( long pDeltaOfDelta ) {
+    if ( pDeltaOfDelta == 0 ) {
+      writeBits( 0, 1 );
+    } else if ( fits( pDeltaOfDelta, 7 ) ) {
+      writeBits( 0b10, 2 );
+      writeBits( pDeltaOfDelta, 7 );
+    } else if ( fits( pDeltaOfDelta, 9 ) ) {
+      writeBits( 0b110, 3 );
+      writeBits( pDeltaOfDelta, 9 );
+    } else if ( fits( pDeltaOfDelta, 12 ) ) {
+      writeBits( 0b1110, 4 );
+      writeBits( pDeltaOfDelta, 12 );
+    } else {
+      writeBits( 0b1111, 4 );
+      writeBits( pDeltaOfDelta >>> 32, 32 );
+      writeBits( pDeltaOfDelta, 32 );
+    }
+  }
+
+  private static boolean fits( long pValue, int pBits ) {
+    long zLimit = 1L << (pBits - 1);
+    return (-zLimit <= pValue) && (pValue < zLimit);
+  }
+
+  /**
+   * @param pCount 1 - 32 (the low <code>pCount</code> bits of <code>pValue</code> are written, most significant first)
+   */
+  private void writeBits( long pValue, int pCount ) {
+    mBits = (mBits << pCount) | (pValue & ((1L << pCount) - 1));
+    mBitCount += pCount;
+    while ( mBitCount >= 8 ) {
+      mBitCount -= 8;
+      mBlock[mByteCount++] = (byte)(mBits >>> mBitCount);
+    }
+  }
+
+  private void endBlock()
+          throws IOException {
+    if ( mCount == 0 ) {
+      return;
+    }
+    if ( mBitCount != 0 ) { // Pad with zeros
+      writeBits( 0, 8 - mBitCount );
+    }
+    putInt( 0, mCount );
+    putInt( 4, mByteCount - HEADER_BYTES );
+    putLong( 8, mFirst );
+    putLong( 16, mPrevious );
+    int zLength = mByteCount;
+    mSink.write( mBlock, zLength ); // Before the reset, so a failed write keeps the block (to be written again)
+    mCount = 0;
+    mByteCount = HEADER_BYTES;
+    mBits = 0;
+    mBytesWritten += zLength;
+  }
+
+  private void putInt( int pOffset, int pValue ) {
+    for ( int i = 3; i >= 0; i-- ) {
+      mBlock[pOffset + i] = (byte)pValue;
+      pValue >>>= 8;
+    }
+  }
+
+  private void putLong( int pOffset, long pValue ) {
+    putInt( pOffset, (int)(pValue >>> 32) );
+    putInt( pOffset + 4, (int)pValue );
+  }
+
+  @Override
+  public String toString() {
+    return "ZuluDateTimeSequenceEncoder(values=" + mValuesWritten + ", bytes=" + mBytesWritten + ", blockSize=" + mBlockSize + ")";
+  }
+
+  static int maxPayloadBytes( int pCount ) {
+    return (int)(((long)(pCount - 1) * MAX_BITS_PER_VALUE + 7) / 8);
+  }
+}
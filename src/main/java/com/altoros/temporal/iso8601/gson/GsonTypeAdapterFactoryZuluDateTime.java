@@ -0,0 +1,186 @@
+package com.altoros.temporal.iso8601.gson;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.altoros.temporal.iso8601.ZuluDate;
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import com.altoros.temporal.iso8601.ZuluTimeOfDay;
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * A <code>TypeAdapterFactory</code> that provides streaming adapters for <code>ZuluDateTime</code>, <code>ZuluDateTime[]</code>,
+ * <code>List&lt;ZuluDateTime&gt;</code> (or <code>Collection&lt;ZuluDateTime&gt;</code>), and <code>Map&lt;String, ZuluDateTime&gt;</code>.
+ * <p>
+ * The container adapters read & write the values directly (rather than through Gson's generic collection / map adapters and a
+ * per element adapter lookup), e.g.:
+ * <pre>
+ *   Gson gson = new GsonBuilder().registerTypeAdapterFactory( new GsonTypeAdapterFactoryZuluDateTime() ).create();
+ * </pre>
+ * The companion <code>ZuluDate</code> and <code>ZuluTimeOfDay</code> (element) adapters are also provided.
+ * <p>
+ * Note: any other (e.g. concrete) container types are left to Gson.
+ */
+public class GsonTypeAdapterFactoryZuluDateTime implements TypeAdapterFactory {
+  private static final TypeAdapter<ZuluDateTime> ELEMENT = new GsonTypeAdapterZuluDateTime();
+  private static final TypeAdapter<ZuluDateTime[]> ARRAY = new ArrayAdapter();
+  private static final TypeAdapter<List<ZuluDateTime>> LIST = new ListAdapter();
+  private static final TypeAdapter<Map<String, ZuluDateTime>> MAP = new MapAdapter();
+  private static final TypeAdapter<ZuluDate> DATE = new GsonTypeAdapterZuluDate();
+  private static final TypeAdapter<ZuluTimeOfDay> TIME_OF_DAY = new GsonTypeAdapterZuluTimeOfDay();
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> TypeAdapter<T> create( Gson pGson, TypeToken<T> pType ) {
+    Class<? super T> zRawType = pType.getRawType();
+    if ( zRawType == ZuluDateTime.class ) {
+      return (TypeAdapter<T>)ELEMENT;
+    }
+    if ( zRawType == ZuluDateTime[].class ) {
+      return (TypeAdapter<T>)ARRAY;
+    }
+    if ( ((zRawType == List.class) || (zRawType == Collection.class)) &&
+         isTypeArguments( pType.getType(), ZuluDateTime.class ) ) {
+      return (TypeAdapter<T>)LIST;
+    }
+    if ( (zRawType == Map.class) &&
+         isTypeArguments( pType.getType(), String.class, ZuluDateTime.class ) ) {
+      return (TypeAdapter<T>)MAP;
+    }
+    if ( zRawType == ZuluDate.class ) {
+      return (TypeAdapter<T>)DATE;
+    }
+    if ( zRawType == ZuluTimeOfDay.class ) {
+      return (TypeAdapter<T>)TIME_OF_DAY;
+    }
+    return null;
+  }
+
+  private static boolean isTypeArguments( Type pType, Type... pExpectedTypeArguments ) {
+    if ( pType instanceof ParameterizedType ) {
+      Type[] zActual = ((ParameterizedType)pType).getActualTypeArguments();
+      if ( zActual.length == pExpectedTypeArguments.length ) {
+        for ( int i = 0; i < zActual.length; i++ ) {
+          if ( zActual[i] != pExpectedTypeArguments[i] ) {
+            return false;
+          }
+        }
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean nextIsNull( JsonReader pReader )
+          throws IOException {
+    if ( pReader.peek() != JsonToken.NULL ) {
+      return false;
+    }
+    pReader.nextNull();
+    return true;
+  }
+
+  private static class ArrayAdapter extends TypeAdapter<ZuluDateTime[]> {
+    private static final ZuluDateTime[] EMPTY = new ZuluDateTime[0];
+
+    @Override
+    public void write( JsonWriter pWriter, ZuluDateTime[] pValues )
+            throws IOException {
+      if ( pValues == null ) {
+        pWriter.nullValue();
+        return;
+      }
+      pWriter.beginArray();
+      for ( ZuluDateTime zValue : pValues ) {
+        GsonTypeAdapterZuluDateTime.writeValue( pWriter, zValue );
+      }
+      pWriter.endArray();
+    }
+
+    @Override
+    public ZuluDateTime[] read( JsonReader pReader )
+            throws IOException {
+      return nextIsNull( pReader ) ? null : LIST.read( pReader ).toArray( EMPTY );
+    }
+  }
+
+  private static class ListAdapter extends TypeAdapter<List<ZuluDateTime>> {
+    @Override
+    public void write( JsonWriter pWriter, List<ZuluDateTime> pValues )
+            throws IOException {
+      if ( pValues == null ) {
+        pWriter.nullValue();
+        return;
+      }
+      pWriter.beginArray();
+      for ( ZuluDateTime zValue : pValues ) {
+        GsonTypeAdapterZuluDateTime.writeValue( pWriter, zValue );
+      }
+      pWriter.endArray();
+    }
+
+    @Override
+    public List<ZuluDateTime> read( JsonReader pReader )
+            throws IOException {
+      if ( nextIsNull( pReader ) ) {
+        return null;
+      }
+      List<ZuluDateTime> zValues = new ArrayList<>();
+      pReader.beginArray();
+      while ( pReader.hasNext() ) {
+        zValues.add( GsonTypeAdapterZuluDateTime.readValue( pReader ) );
+      }
+      pReader.endArray();
+      return zValues;
+    }
+  }
+
+  private static class MapAdapter extends TypeAdapter<Map<String, ZuluDateTime>> {
+    @Override
+    public void write( JsonWriter pWriter, Map<String, ZuluDateTime> pValues )
+            throws IOException {
+      if ( pValues == null ) {
+        pWriter.nullValue();
+        return;
+      }
+      pWriter.beginObject();
+      for ( Map.Entry<String, ZuluDateTime> zEntry : pValues.entrySet() ) {
+        pWriter.name( String.valueOf( zEntry.getKey() ) );
+        GsonTypeAdapterZuluDateTime.writeValue( pWriter, zEntry.getValue() );
+      }
+      pWriter.endObject();
+    }
+
+    @Override
+    public Map<String, ZuluDateTime> read( JsonReader pReader )
+            throws IOException {
+      if ( nextIsNull( pReader ) ) {
+        return null;
+      }
+      Map<String, ZuluDateTime> zValues = new LinkedHashMap<>();
+      pReader.beginObject();
+      while ( pReader.hasNext() ) {
+        String zKey = pReader.nextName();
+        if ( zValues.containsKey( zKey ) ) {
+          throw new JsonSyntaxException( "duplicate key: " + zKey );
+        }
+        zValues.put( zKey, GsonTypeAdapterZuluDateTime.readValue( pReader ) );
+      }
+      pReader.endObject();
+      return zValues;
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.altoros.temporal.iso8601.gson;
+
+import java.io.IOException;
+
+import com.altoros.temporal.iso8601.ZuluDate;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+public class GsonTypeAdapterZuluDate extends TypeAdapter<ZuluDate> {
+  @Override
+  public void write( JsonWriter pWriter, ZuluDate pDate )
+          throws IOException {
+    if ( pDate == null ) {
+      pWriter.nullValue();
+    } else {
+      pWriter.value( pDate.toString() );
+    }
+  }
+
+  @Override
+  public ZuluDate read( JsonReader pReader )
+          throws IOException {
+    JsonToken zToken = pReader.peek();
+    if ( zToken == JsonToken.NULL ) {
+      pReader.nextNull();
+      return null;
+    }
+    if ( zToken == JsonToken.STRING ) {
+      return ZuluDate.jsonCreator( pReader.nextString() );
+    }
+    throw new IllegalStateException( "Expected a string but was " + zToken + " at path " + pReader.getPath() );
+  }
+}
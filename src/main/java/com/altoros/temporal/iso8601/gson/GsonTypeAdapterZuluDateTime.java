@@ -3,6 +3,8 @@ package com.altoros.temporal.iso8601.gson;
 import java.io.IOException;
 
 import com.altoros.temporal.iso8601.ZuluDateTime;
+import com.altoros.temporal.metrics.TemporalInstrumentation;
+import com.altoros.temporal.metrics.TemporalOperation;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
@@ -11,19 +13,47 @@ import com.google.gson.stream.JsonWriter;
 public class GsonTypeAdapterZuluDateTime extends TypeAdapter<ZuluDateTime> {
   private static final char DOUBLE_QUOTE = '"';
 
+  private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial( () -> new char[40] ); // > 2 quotes + max rendered length
+
   @Override
   public void write( JsonWriter pWriter, ZuluDateTime pDateTime )
           throws IOException {
-    String zJson = (pDateTime == null) ? null : pDateTime.jsonValue();
-    if ( zJson == null ) {
+    writeValue( pWriter, pDateTime );
+  }
+
+  @Override
+  public ZuluDateTime read( JsonReader pReader )
+          throws IOException {
+    return readValue( pReader );
+  }
+
+  /**
+   * Write the <code>pDateTime</code> (already quoted, so the writer need not escape it) creating only a single <code>String</code>.
+   */
+  static void writeValue( JsonWriter pWriter, ZuluDateTime pDateTime )
+          throws IOException {
+    long zStarted = TemporalInstrumentation.start();
+    if ( pDateTime == null ) {
       pWriter.nullValue();
     } else {
-      pWriter.jsonValue( DOUBLE_QUOTE + zJson + DOUBLE_QUOTE );
+      char[] zScratch = SCRATCH.get();
+      zScratch[0] = DOUBLE_QUOTE;
+      int zEnd = pDateTime.renderTo( zScratch, 1 );
+      zScratch[zEnd++] = DOUBLE_QUOTE;
+      pWriter.jsonValue( new String( zScratch, 0, zEnd ) );
     }
+    TemporalInstrumentation.record( TemporalOperation.GSON_WRITE, zStarted );
   }
 
-  @Override
-  public ZuluDateTime read( JsonReader pReader )
+  static ZuluDateTime readValue( JsonReader pReader )
+          throws IOException {
+    long zStarted = TemporalInstrumentation.start();
+    ZuluDateTime zValue = readValueUninstrumented( pReader );
+    TemporalInstrumentation.record( TemporalOperation.GSON_READ, zStarted );
+    return zValue;
+  }
+
+  private static ZuluDateTime readValueUninstrumented( JsonReader pReader )
           throws IOException {
     JsonToken zToken = pReader.peek();
     if ( zToken == JsonToken.NULL ) {
@@ -0,0 +1,35 @@
+package com.altoros.temporal.iso8601.gson;
+
+import java.io.IOException;
+
+import com.altoros.temporal.iso8601.ZuluTimeOfDay;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+public class GsonTypeAdapterZuluTimeOfDay extends TypeAdapter<ZuluTimeOfDay> {
+  @Override
+  public void write( JsonWriter pWriter, ZuluTimeOfDay pTimeOfDay )
+          throws IOException {
+    if ( pTimeOfDay == null ) {
+      pWriter.nullValue();
+    } else {
+      pWriter.value( pTimeOfDay.toString() );
+    }
+  }
+
+  @Override
+  public ZuluTimeOfDay read( JsonReader pReader )
+          throws IOException {
+    JsonToken zToken = pReader.peek();
+    if ( zToken == JsonToken.NULL ) {
+      pReader.nextNull();
+      return null;
+    }
+    if ( zToken == JsonToken.STRING ) {
+      return ZuluTimeOfDay.jsonCreator( pReader.nextString() );
+    }
+    throw new IllegalStateException( "Expected a string but was " + zToken + " at path " + pReader.getPath() );
+  }
+}
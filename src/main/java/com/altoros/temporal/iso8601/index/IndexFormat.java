@@ -0,0 +1,147 @@
+package com.altoros.temporal.iso8601.index;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+/**
+ * The (shared) layout of an index file, see <code>ZuluDateTimeIndexWriter</code>.
+ */
+final class IndexFormat {
+  static final long MAGIC = 0x5A44_5449_6478_0002L; // "ZDTIdx" + version 2
+  static final int MAGIC_BYTES = 8;
+  static final int SLOT_BYTES = 32; // sequence, count, from count, entries crc (int), slot crc (int)
+  static final int HEADER_BYTES = 80; // magic, two slots, padded to a multiple of the entry size
+  static final int ENTRY_BYTES = 16; // epoch millis, payload offset
+  static final int ENTRY_SHIFT = 4;
+
+  private static final int SLOT_CRC_BYTES = SLOT_BYTES - 4; // all but the slot crc
+
+  /**
+   * A (valid) commit slot: the entry count after the commit, and the CRC32 of the entries it added (from the count of the
+   * previous commit).
+   */
+  static final class Slot {
+    final long mSequence, mCount, mFromCount;
+    final int mEntriesCrc;
+
+    private Slot( long pSequence, long pCount, long pFromCount, int pEntriesCrc ) {
+      mSequence = pSequence;
+      mCount = pCount;
+      mFromCount = pFromCount;
+      mEntriesCrc = pEntriesCrc;
+    }
+  }
+
+  private IndexFormat() {
+  }
+
+  /**
+   * @return the file position of the slot for the <code>pSequence</code> (the slots alternate, so a commit never overwrites the
+   * slot of the previous commit)
+   */
+  static long slotPosition( long pSequence ) {
+    return MAGIC_BYTES + ((pSequence & 1) * SLOT_BYTES);
+  }
+
+  static long entryPosition( long pIndex ) {
+    return HEADER_BYTES + (pIndex << ENTRY_SHIFT);
+  }
+
+  static ByteBuffer slot( long pSequence, long pCount, long pFromCount, int pEntriesCrc ) {
+    ByteBuffer zSlot = ByteBuffer.allocate( SLOT_BYTES );
+    zSlot.putLong( pSequence ).putLong( pCount ).putLong( pFromCount ).putInt( pEntriesCrc );
+    zSlot.putInt( crc( zSlot.array(), 0 ) ).flip();
+    return zSlot;
+  }
+
+  static ByteBuffer newHeader() {
+    ByteBuffer zHeader = ByteBuffer.allocate( HEADER_BYTES );
+    zHeader.putLong( MAGIC ).position( (int)slotPosition( 1 ) );
+    zHeader.put( slot( 1, 0, 0, 0 ) ).clear();
+    return zHeader;
+  }
+
+  /**
+   * Read the header, and select the valid slot with the highest sequence.
+   *
+   * @return <code>{sequence, count}</code> of the last (complete) commit
+   *
+   * @throws StreamCorruptedException if not an index file, or neither slot is valid
+   */
+  static long[] readCommit( FileChannel pChannel )
+          throws IOException {
+    Slot zSlot = readSlots( pChannel )[0];
+    return new long[]{zSlot.mSequence, zSlot.mCount};
+  }
+
+  /**
+   * Read the header, and return the valid slots, highest sequence first.
+   *
+   * @throws StreamCorruptedException if not an index file, or neither slot is valid
+   */
+  static Slot[] readSlots( FileChannel pChannel )
+          throws IOException {
+    ByteBuffer zHeader = ByteBuffer.allocate( HEADER_BYTES );
+    while ( zHeader.hasRemaining() ) {
+      if ( pChannel.read( zHeader, zHeader.position() ) < 0 ) {
+        throw new StreamCorruptedException( "Not an index, only " + zHeader.position() + " bytes" );
+      }
+    }
+    if ( zHeader.getLong( 0 ) != MAGIC ) {
+      throw new StreamCorruptedException( "Not an index, bad magic: " + Long.toHexString( zHeader.getLong( 0 ) ) );
+    }
+    Slot[] zSlots = new Slot[2];
+    int zValid = 0;
+    for ( int zSlot = 0; zSlot < 2; zSlot++ ) {
+      int zOffset = MAGIC_BYTES + (zSlot * SLOT_BYTES);
+      long zSequence = zHeader.getLong( zOffset );
+      long zCount = zHeader.getLong( zOffset + 8 );
+      long zFromCount = zHeader.getLong( zOffset + 16 );
+      if ( (zSequence > 0) && (0 <= zFromCount) && (zFromCount <= zCount) &&
+           (zHeader.getInt( zOffset + SLOT_CRC_BYTES ) == crc( zHeader.array(), zOffset )) ) {
+        zSlots[zValid++] = new Slot( zSequence, zCount, zFromCount, zHeader.getInt( zOffset + 24 ) );
+      }
+    }
+    if ( zValid == 0 ) {
+      throw new StreamCorruptedException( "Index has no valid commit slot" );
+    }
+    if ( zValid == 1 ) {
+      return new Slot[]{zSlots[0]};
+    }
+    return (zSlots[0].mSequence > zSlots[1].mSequence) ? zSlots : new Slot[]{zSlots[1], zSlots[0]};
+  }
+
+  /**
+   * @return true if the entries the <code>pSlot</code> added are all in the file, and match its CRC
+   */
+  static boolean entriesIntact( FileChannel pChannel, Slot pSlot )
+          throws IOException {
+    long zEnd = entryPosition( pSlot.mCount );
+    if ( pChannel.size() < zEnd ) {
+      return false;
+    }
+    CRC32 zCRC = new CRC32();
+    ByteBuffer zBuffer = ByteBuffer.allocate( 4096 * ENTRY_BYTES );
+    for ( long zAt = entryPosition( pSlot.mFromCount ); zAt < zEnd; ) {
+      zBuffer.clear();
+      zBuffer.limit( (int)Math.min( zBuffer.capacity(), zEnd - zAt ) );
+      while ( zBuffer.hasRemaining() ) {
+        if ( pChannel.read( zBuffer, zAt + zBuffer.position() ) < 0 ) {
+          return false;
+        }
+      }
+      zCRC.update( zBuffer.array(), 0, zBuffer.limit() );
+      zAt += zBuffer.limit();
+    }
+    return (int)zCRC.getValue() == pSlot.mEntriesCrc;
+  }
+
+  private static int crc( byte[] pBytes, int pOffset ) {
+    CRC32 zCRC = new CRC32();
+    zCRC.update( pBytes, pOffset, SLOT_CRC_BYTES );
+    return (int)zCRC.getValue();
+  }
+}
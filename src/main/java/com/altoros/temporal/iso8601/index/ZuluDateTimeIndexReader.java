@@ -0,0 +1,298 @@
+package com.altoros.temporal.iso8601.index;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.litesoft.annotations.NotNull;
+
+import static com.altoros.temporal.iso8601.index.IndexFormat.ENTRY_SHIFT;
+import static com.altoros.temporal.iso8601.index.IndexFormat.entryPosition;
+
+/**
+ * Searches an index file written by a <code>ZuluDateTimeIndexWriter</code> (see it for the format), through read only memory
+ * mappings (<code>FileChannel.map</code>), so the index is never loaded into the heap.
+ * <p>
+ * The reader works from an immutable snapshot of the committed entries (published through a volatile field), so the
+ * queries are lock-free (and may be called from any number of threads), while the (single) writer appends.  The writer's
+ * commits are picked up by <code>refresh</code>.  As the committed entries never change or shrink, an index from one query
+ * remains valid for later (refreshed) ones.
+ * <p>
+ * A commit is only published (by <code>refresh</code>) once its entries have been checked against its CRC (as the writer does
+ * on open), so a commit whose entries were lost (e.g. by an OS crash, with the writer not forcing) is never seen: the previous
+ * commit is used instead, which is the one a re-opened writer falls back (and truncates) to.
+ * <p>
+ * The entries are mapped in chunks (of 2^26 entries, 1 GiB), so index files over 2 GiB are supported.
+ * The searches are binary searches: ~30 (mostly cached) probes for a billion entries.
+ * <p>
+ * Note: the mappings are released by the GC (Java provides no explicit unmap).
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class ZuluDateTimeIndexReader implements Closeable {
+  static final int DEFAULT_CHUNK_SHIFT = 26;
+
+  /**
+   * Receives the entries of a range (see <code>forEachInRange</code>).
+   */
+  @FunctionalInterface
+  public interface EntryConsumer {
+    void accept( long pEpochMillis, long pPayloadOffset );
+  }
+
+  private static final class Snapshot {
+    private final long mSize;
+    private final ByteBuffer[] mChunks;
+
+    private Snapshot( long pSize, ByteBuffer[] pChunks ) {
+      mSize = pSize;
+      mChunks = pChunks;
+    }
+  }
+
+  private static final Snapshot EMPTY = new Snapshot( 0, new ByteBuffer[0] );
+
+  private final FileChannel mChannel;
+  private final int mChunkShift;
+  private final long mChunkMask;
+  private volatile Snapshot mSnapshot = EMPTY;
+
+  ZuluDateTimeIndexReader( FileChannel pChannel, int pChunkShift ) {
+    mChannel = pChannel;
+    mChunkShift = pChunkShift;
+    mChunkMask = (1L << pChunkShift) - 1;
+  }
+
+  /**
+   * Open the index at the <code>pPath</code>, with the entries committed so far (see <code>refresh</code>).
+   *
+   * @throws IOException if the index can not be read, or is corrupt (<code>StreamCorruptedException</code>)
+   */
+  @NotNull
+  public static ZuluDateTimeIndexReader open( @NotNull Path pPath )
+          throws IOException {
+    return open( pPath, DEFAULT_CHUNK_SHIFT );
+  }
+
+  static ZuluDateTimeIndexReader open( Path pPath, int pChunkShift )
+          throws IOException {
+    ZuluDateTimeIndexReader zReader = new ZuluDateTimeIndexReader( FileChannel.open( pPath, StandardOpenOption.READ ), pChunkShift );
+    try {
+      zReader.refresh();
+      return zReader;
+    }
+    catch ( IOException | RuntimeException e ) {
+      zReader.mChannel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Pick up the entries committed (by the writer) since the last refresh (mapping only the new / grown chunks), checking the
+   * entries of the new commit against its CRC.
+   *
+   * @return true if there were new entries
+   */
+  public synchronized boolean refresh()
+          throws IOException {
+    Snapshot zCurrent = mSnapshot;
+    long zSize = intactCount( zCurrent.mSize );
+    if ( zSize == zCurrent.mSize ) {
+      return false;
+    }
+    if ( zSize < zCurrent.mSize ) {
+      throw new StreamCorruptedException( "Index shrank from " + zCurrent.mSize + " to " + zSize + " entries" );
+    }
+    if ( mChannel.size() < entryPosition( zSize ) ) {
+      throw new StreamCorruptedException( "Index truncated, " + zSize + " entries committed, but only " + mChannel.size() + " bytes" );
+    }
+    int zChunks = (int)(((zSize - 1) >>> mChunkShift) + 1);
+    ByteBuffer[] zMapped = Arrays.copyOf( zCurrent.mChunks, zChunks );
+    // Only the last (partial) chunk of the current snapshot, and any new chunks, need (re)mapping
+    for ( int zChunk = (int)(zCurrent.mSize >>> mChunkShift); zChunk < zChunks; zChunk++ ) {
+      long zFirst = (long)zChunk << mChunkShift;
+      long zEntries = Math.min( zSize - zFirst, 1L << mChunkShift );
+      zMapped[zChunk] = mChannel.map( FileChannel.MapMode.READ_ONLY, entryPosition( zFirst ), zEntries << ENTRY_SHIFT );
+    }
+    mSnapshot = new Snapshot( zSize, zMapped );
+    return true;
+  }
+
+  /**
+   * @return the number of (committed) entries, as of the last <code>refresh</code>
+   */
+  public long size() {
+    return mSnapshot.mSize;
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * @throws IndexOutOfBoundsException if the <code>pIndex</code> is not in the range 0 - (size - 1)
+   */
+  public long getEpochMilli( long pIndex ) {
+    return epochMillis( checkIndex( mSnapshot, pIndex ), pIndex );
+  }
+
+  /**
+   * @throws IndexOutOfBoundsException if the <code>pIndex</code> is not in the range 0 - (size - 1)
+   */
+  public long getPayloadOffset( long pIndex ) {
+    return payloadOffset( checkIndex( mSnapshot, pIndex ), pIndex );
+  }
+
+  /**
+   * @throws IndexOutOfBoundsException if the <code>pIndex</code> is not in the range 0 - (size - 1)
+   */
+  @NotNull
+  public ZuluDateTime get( long pIndex ) {
+    return ZuluDateTime.ofEpochMilli( getEpochMilli( pIndex ) );
+  }
+
+  /**
+   * @return the index of the first entry at or after the <code>pEpochMillis</code> (<code>size()</code> if none)
+   */
+  public long lowerBound( long pEpochMillis ) {
+    return lowerBound( mSnapshot, pEpochMillis );
+  }
+
+  /**
+   * @return the index of the first entry after the <code>pEpochMillis</code> (<code>size()</code> if none)
+   */
+  public long upperBound( long pEpochMillis ) {
+    Snapshot zSnapshot = mSnapshot;
+    return (pEpochMillis == Long.MAX_VALUE) ? zSnapshot.mSize : lowerBound( zSnapshot, pEpochMillis + 1 );
+  }
+
+  /**
+   * @return the index of the last entry at or before the <code>pEpochMillis</code>, or -1 if none
+   */
+  public long floorIndex( long pEpochMillis ) {
+    return upperBound( pEpochMillis ) - 1;
+  }
+
+  public long floorIndex( @NotNull ZuluDateTime pWhen ) {
+    return floorIndex( pWhen.toEpochMilli() );
+  }
+
+  /**
+   * @return the index of the first entry at or after the <code>pEpochMillis</code>, or -1 if none
+   */
+  public long ceilingIndex( long pEpochMillis ) {
+    Snapshot zSnapshot = mSnapshot;
+    long zIndex = lowerBound( zSnapshot, pEpochMillis );
+    return (zIndex < zSnapshot.mSize) ? zIndex : -1;
+  }
+
+  public long ceilingIndex( @NotNull ZuluDateTime pWhen ) {
+    return ceilingIndex( pWhen.toEpochMilli() );
+  }
+
+  /**
+   * The indices of the entries from the <code>pFromEpochMillis</code> (inclusive) to the <code>pToEpochMillis</code> (exclusive).
+   *
+   * @return <code>{fromIndex, toIndex}</code> (the toIndex is exclusive, so empty if equal)
+   */
+  @NotNull
+  public long[] rangeIndices( long pFromEpochMillis, long pToEpochMillis ) {
+    Snapshot zSnapshot = mSnapshot;
+    long zFrom = lowerBound( zSnapshot, pFromEpochMillis );
+    long zTo = (pToEpochMillis <= pFromEpochMillis) ? zFrom : lowerBound( zSnapshot, pToEpochMillis );
+    return new long[]{zFrom, zTo};
+  }
+
+  /**
+   * See <code>rangeIndices( long, long )</code>.
+   */
+  @NotNull
+  public long[] rangeIndices( @NotNull ZuluDateTime pFrom, @NotNull ZuluDateTime pTo ) {
+    return rangeIndices( pFrom.toEpochMilli(), pTo.toEpochMilli() );
+  }
+
+  /**
+   * Visit (in order) the entries from the <code>pFrom</code> (inclusive) to the <code>pTo</code> (exclusive).
+   *
+   * @return the number of entries visited
+   */
+  public long forEachInRange( @NotNull ZuluDateTime pFrom, @NotNull ZuluDateTime pTo, @NotNull EntryConsumer pConsumer ) {
+    Snapshot zSnapshot = mSnapshot;
+    long zFromMillis = pFrom.toEpochMilli(), zToMillis = pTo.toEpochMilli();
+    if ( zToMillis <= zFromMillis ) {
+      return 0;
+    }
+    long zFrom = lowerBound( zSnapshot, zFromMillis );
+    long zTo = lowerBound( zSnapshot, zToMillis );
+    for ( long zIndex = zFrom; zIndex < zTo; zIndex++ ) {
+      pConsumer.accept( epochMillis( zSnapshot, zIndex ), payloadOffset( zSnapshot, zIndex ) );
+    }
+    return zTo - zFrom;
+  }
+
+  @Override
+  public void close()
+          throws IOException {
+    mSnapshot = EMPTY;
+    mChannel.close();
+  }
+
+  @Override
+  public String toString() {
+    Snapshot zSnapshot = mSnapshot;
+    return "ZuluDateTimeIndexReader(size=" + zSnapshot.mSize + ")" + ((zSnapshot.mSize == 0) ? "" :
+                                                                      (": " + ZuluDateTime.ofEpochMilli( epochMillis( zSnapshot, 0 ) ) +
+                                                                       " ... " + ZuluDateTime.ofEpochMilli( epochMillis( zSnapshot, zSnapshot.mSize - 1 ) )));
+  }
+
+  /**
+   * @return the entry count of the latest commit whose new entries match its CRC, or <code>pCurrentSize</code> if there is
+   * none newer (a newest count below it is returned as is, for <code>refresh</code> to report)
+   */
+  private long intactCount( long pCurrentSize )
+          throws IOException {
+    IndexFormat.Slot[] zSlots = IndexFormat.readSlots( mChannel );
+    for ( IndexFormat.Slot zSlot : zSlots ) {
+      if ( zSlot.mCount <= pCurrentSize ) {
+        return (zSlot == zSlots[0]) ? zSlot.mCount : pCurrentSize;
+      }
+      if ( IndexFormat.entriesIntact( mChannel, zSlot ) ) {
+        return zSlot.mCount;
+      }
+    }
+    return pCurrentSize;
+  }
+
+  private long lowerBound( Snapshot pSnapshot, long pEpochMillis ) {
+    long zLow = 0, zHigh = pSnapshot.mSize;
+    while ( zLow < zHigh ) {
+      long zMid = (zLow + zHigh) >>> 1;
+      if ( epochMillis( pSnapshot, zMid ) < pEpochMillis ) {
+        zLow = zMid + 1;
+      } else {
+        zHigh = zMid;
+      }
+    }
+    return zLow;
+  }
+
+  private long epochMillis( Snapshot pSnapshot, long pIndex ) {
+    return pSnapshot.mChunks[(int)(pIndex >>> mChunkShift)].getLong( (int)(pIndex & mChunkMask) << ENTRY_SHIFT );
+  }
+
+  private long payloadOffset( Snapshot pSnapshot, long pIndex ) {
+    return pSnapshot.mChunks[(int)(pIndex >>> mChunkShift)].getLong( ((int)(pIndex & mChunkMask) << ENTRY_SHIFT) + 8 );
+  }
+
+  private static Snapshot checkIndex( Snapshot pSnapshot, long pIndex ) {
+    if ( (pIndex < 0) || (pSnapshot.mSize <= pIndex) ) {
+      throw new IndexOutOfBoundsException( "Index " + pIndex + " not in range: 0-" + (pSnapshot.mSize - 1) );
+    }
+    return pSnapshot;
+  }
+}
@@ -0,0 +1,264 @@
+package com.altoros.temporal.iso8601.index;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.litesoft.annotations.NotNull;
+
+import static com.altoros.temporal.iso8601.index.IndexFormat.ENTRY_BYTES;
+import static com.altoros.temporal.iso8601.index.IndexFormat.entryPosition;
+
+/**
+ * Appends (epoch Millisecs, payload offset) entries, in non-decreasing Millisec order, to an index file, for
+ * <code>ZuluDateTimeIndexReader</code>s (in this or other processes) to search, e.g. to locate the records between two
+ * <code>ZuluDateTime</code>s in a (multi-GB) append-only data file without scanning it.
+ * <p>
+ * Format (all big-endian):<ul>
+ * <li>Header (80 bytes): an 8 byte magic, then two 32 byte commit slots (sequence, entry count, the entry count of the
+ * previous commit, the CRC32 of the entries added since it, and the CRC32 of the slot itself)</li>
+ * <li>Entries (16 bytes each): epoch Millisecs, payload offset</li>
+ * </ul>
+ * Appended entries are only visible (to readers) once committed (<code>commit</code> or <code>close</code>): the entries are
+ * written (and forced), then the older of the two slots is overwritten with the next sequence and the new count (and forced).
+ * So a crash (or torn write) can only lose uncommitted entries: a torn slot fails its CRC, and the other slot still describes
+ * the previous commit.  On open, the entries of the latest commit are checked against their CRC (falling back to the previous
+ * commit if they do not match), and any (uncommitted) entries beyond the committed count are truncated.
+ * <p>
+ * Only a single writer per file is allowed (enforced with a <code>FileLock</code>).  Not thread safe.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class ZuluDateTimeIndexWriter implements Closeable {
+  private static final int BUFFER_ENTRIES = 4096;
+
+  private final FileChannel mChannel;
+  private final FileLock mLock;
+  private final boolean mForce;
+  private final ByteBuffer mBuffer = ByteBuffer.allocateDirect( BUFFER_ENTRIES * ENTRY_BYTES );
+  private final CRC32 mEntriesCrc = new CRC32(); // of the entries written since the last commit
+  private long mSequence, mCommittedCount, mWrittenCount;
+  private long mLastEpochMillis;
+  private boolean mClosed;
+
+  private ZuluDateTimeIndexWriter( FileChannel pChannel, FileLock pLock, boolean pForce, long pSequence, long pCount,
+                                   long pLastEpochMillis ) {
+    mChannel = pChannel;
+    mLock = pLock;
+    mForce = pForce;
+    mSequence = pSequence;
+    mCommittedCount = mWrittenCount = pCount;
+    mLastEpochMillis = pLastEpochMillis;
+  }
+
+  /**
+   * Open (creating if needed) the index at the <code>pPath</code>, with each commit forced to the storage device.
+   */
+  @NotNull
+  public static ZuluDateTimeIndexWriter open( @NotNull Path pPath )
+          throws IOException {
+    return open( pPath, true );
+  }
+
+  /**
+   * Open (creating if needed) the index at the <code>pPath</code>.
+   *
+   * @param pForce true if each commit should be forced to the storage device (<code>FileChannel.force</code>), false if
+   *               surviving a process crash is sufficient.  Without forcing, an OS crash is NOT guaranteed to be survivable:
+   *               the OS may write the slot before the entries; the CRC detects the entries of the last commit being lost
+   *               (falling back to the previous commit), but if the previous commit's entries are also lost the index can not
+   *               be opened (<code>StreamCorruptedException</code>), and older entries are not re-checked.
+   *
+   * @throws IOException if the index is already open for writing, or is corrupt (<code>StreamCorruptedException</code>)
+   */
+  @NotNull
+  public static ZuluDateTimeIndexWriter open( @NotNull Path pPath, boolean pForce )
+          throws IOException {
+    FileChannel zChannel = FileChannel.open( pPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE );
+    try {
+      FileLock zLock;
+      try {
+        zLock = zChannel.tryLock();
+      }
+      catch ( OverlappingFileLockException e ) {
+        zLock = null;
+      }
+      if ( zLock == null ) {
+        throw new IOException( "Index already open for writing: " + pPath );
+      }
+      if ( zChannel.size() == 0 ) {
+        writeFully( zChannel, IndexFormat.newHeader(), 0 );
+        zChannel.force( true );
+        return new ZuluDateTimeIndexWriter( zChannel, zLock, pForce, 1, 0, Long.MIN_VALUE );
+      }
+      IndexFormat.Slot[] zSlots = IndexFormat.readSlots( zChannel );
+      IndexFormat.Slot zCommit = null;
+      for ( IndexFormat.Slot zSlot : zSlots ) {
+        if ( IndexFormat.entriesIntact( zChannel, zSlot ) ) {
+          zCommit = zSlot;
+          break;
+        }
+      }
+      if ( zCommit == null ) {
+        throw new StreamCorruptedException( "Index entries of the last " + zSlots.length + " commit(s) are missing or do not match their CRC" );
+      }
+      long zCount = zCommit.mCount;
+      long zSequence = zCommit.mSequence;
+      zChannel.truncate( entryPosition( zCount ) ); // drop any uncommitted (or lost) entries
+      if ( zCommit != zSlots[0] ) { // replace the (newer) commit whose entries were lost with a copy of the intact one
+        zSequence++;
+        writeFully( zChannel, IndexFormat.slot( zSequence, zCount, zCommit.mFromCount, zCommit.mEntriesCrc ),
+                    IndexFormat.slotPosition( zSequence ) );
+        zChannel.force( true );
+      }
+      long zLast = Long.MIN_VALUE;
+      if ( zCount != 0 ) {
+        ByteBuffer zEntry = ByteBuffer.allocate( 8 );
+        readFully( zChannel, zEntry, entryPosition( zCount - 1 ) );
+        zLast = zEntry.getLong( 0 );
+      }
+      return new ZuluDateTimeIndexWriter( zChannel, zLock, pForce, zSequence, zCount, zLast );
+    }
+    catch ( IOException | RuntimeException e ) {
+      zChannel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * @return the number of entries appended (committed or not)
+   */
+  public long size() {
+    return mWrittenCount + (mBuffer.position() / ENTRY_BYTES);
+  }
+
+  /**
+   * @return the number of committed (reader visible) entries
+   */
+  public long committedSize() {
+    return mCommittedCount;
+  }
+
+  /**
+   * @return the epoch Millisecs of the last entry appended, or <code>Long.MIN_VALUE</code> if none
+   */
+  public long getLastEpochMillis() {
+    return mLastEpochMillis;
+  }
+
+  /**
+   * Append an entry (not visible to readers until committed).
+   *
+   * @param pEpochMillis   must not be before the last entry appended
+   * @param pPayloadOffset typically the position of the record in the (append-only) data file
+   *
+   * @throws IllegalArgumentException if the <code>pEpochMillis</code> is before the last entry appended
+   */
+  public ZuluDateTimeIndexWriter append( long pEpochMillis, long pPayloadOffset )
+          throws IOException {
+    checkOpen();
+    if ( pEpochMillis < mLastEpochMillis ) {
+      throw new IllegalArgumentException( "Out of order, " + pEpochMillis + " is before the last entry: " + mLastEpochMillis );
+    }
+    mBuffer.putLong( pEpochMillis ).putLong( pPayloadOffset );
+    mLastEpochMillis = pEpochMillis;
+    if ( !mBuffer.hasRemaining() ) {
+      writeBuffer();
+    }
+    return this;
+  }
+
+  public ZuluDateTimeIndexWriter append( @NotNull ZuluDateTime pWhen, long pPayloadOffset )
+          throws IOException {
+    return append( pWhen.toEpochMilli(), pPayloadOffset );
+  }
+
+  /**
+   * Make the appended entries visible (to readers), and durable (see <code>open</code>).
+   */
+  public void commit()
+          throws IOException {
+    checkOpen();
+    writeBuffer();
+    if ( mWrittenCount != mCommittedCount ) {
+      if ( mForce ) {
+        mChannel.force( false ); // entries before the slot that references them
+      }
+      long zSequence = mSequence + 1;
+      writeFully( mChannel, IndexFormat.slot( zSequence, mWrittenCount, mCommittedCount, (int)mEntriesCrc.getValue() ),
+                  IndexFormat.slotPosition( zSequence ) );
+      if ( mForce ) {
+        mChannel.force( false );
+      }
+      mSequence = zSequence;
+      mCommittedCount = mWrittenCount;
+      mEntriesCrc.reset();
+    }
+  }
+
+  /**
+   * Commit, then release the file.
+   */
+  @Override
+  public void close()
+          throws IOException {
+    if ( !mClosed ) {
+      try {
+        commit();
+      }
+      finally {
+        mClosed = true;
+        try {
+          mLock.release();
+        }
+        finally {
+          mChannel.close();
+        }
+      }
+    }
+  }
+
+  private void writeBuffer()
+          throws IOException {
+    if ( mBuffer.position() != 0 ) {
+      mBuffer.flip();
+      long zEntries = mBuffer.remaining() / ENTRY_BYTES;
+      mEntriesCrc.update( mBuffer.duplicate() );
+      writeFully( mChannel, mBuffer, entryPosition( mWrittenCount ) );
+      mBuffer.clear();
+      mWrittenCount += zEntries;
+    }
+  }
+
+  private void checkOpen()
+          throws IOException {
+    if ( mClosed ) {
+      throw new IOException( "Index closed" );
+    }
+  }
+
+  private static void writeFully( FileChannel pChannel, ByteBuffer pBytes, long pPosition )
+          throws IOException {
+    while ( pBytes.hasRemaining() ) {
+      pPosition += pChannel.write( pBytes, pPosition );
+    }
+  }
+
+  private static void readFully( FileChannel pChannel, ByteBuffer pBytes, long pPosition )
+          throws IOException {
+    while ( pBytes.hasRemaining() ) {
+      int zRead = pChannel.read( pBytes, pPosition );
+      if ( zRead < 0 ) {
+        throw new StreamCorruptedException( "Index truncated at: " + pPosition );
+      }
+      pPosition += zRead;
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.altoros.temporal.iso8601.jackson;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+
+import com.altoros.temporal.iso8601.ZuluDate;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+/**
+ * Parses a <code>ZuluDate</code> directly from the parser's text buffer (no intermediate <code>String</code>).
+ * <p>
+ * As with <code>ZuluDate.jsonCreator</code>, an empty (or all whitespace) string produces <code>null</code>.
+ */
+public class JacksonDeserializerZuluDate extends StdScalarDeserializer<ZuluDate> {
+  private static final long serialVersionUID = 1L;
+
+  public JacksonDeserializerZuluDate() {
+    super( ZuluDate.class );
+  }
+
+  @Override
+  public ZuluDate deserialize( JsonParser pParser, DeserializationContext pContext )
+          throws IOException {
+    if ( !pParser.hasToken( JsonToken.VALUE_STRING ) ) {
+      return (ZuluDate)pContext.handleUnexpectedToken( handledType(), pParser );
+    }
+    char[] zChars = pParser.getTextCharacters();
+    int zOffset = pParser.getTextOffset();
+    int zLength = pParser.getTextLength();
+    if ( JacksonDeserializerZuluDateTime.isInsignificant( zChars, zOffset, zLength ) ) {
+      return null;
+    }
+    try {
+      return ZuluDate.parse( zChars, zOffset, zOffset + zLength );
+    }
+    catch ( DateTimeException e ) {
+      return (ZuluDate)pContext.handleWeirdStringValue( handledType(), new String( zChars, zOffset, zLength ), e.getMessage() );
+    }
+  }
+}
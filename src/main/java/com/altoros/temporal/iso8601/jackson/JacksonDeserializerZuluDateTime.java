@@ -0,0 +1,52 @@
+package com.altoros.temporal.iso8601.jackson;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+/**
+ * Parses a <code>ZuluDateTime</code> directly from the parser's text buffer (no intermediate <code>String</code>).
+ * <p>
+ * As with <code>ZuluDateTime.jsonCreator</code>, an empty (or all whitespace) string produces <code>null</code>.
+ */
+public class JacksonDeserializerZuluDateTime extends StdScalarDeserializer<ZuluDateTime> {
+  private static final long serialVersionUID = 1L;
+
+  public JacksonDeserializerZuluDateTime() {
+    super( ZuluDateTime.class );
+  }
+
+  @Override
+  public ZuluDateTime deserialize( JsonParser pParser, DeserializationContext pContext )
+          throws IOException {
+    if ( !pParser.hasToken( JsonToken.VALUE_STRING ) ) {
+      return (ZuluDateTime)pContext.handleUnexpectedToken( handledType(), pParser );
+    }
+    char[] zChars = pParser.getTextCharacters();
+    int zOffset = pParser.getTextOffset();
+    int zLength = pParser.getTextLength();
+    if ( isInsignificant( zChars, zOffset, zLength ) ) {
+      return null;
+    }
+    try {
+      return ZuluDateTime.parse( zChars, zOffset, zOffset + zLength );
+    }
+    catch ( DateTimeException e ) {
+      return (ZuluDateTime)pContext.handleWeirdStringValue( handledType(), new String( zChars, zOffset, zLength ), e.getMessage() );
+    }
+  }
+
+  static boolean isInsignificant( char[] pChars, int pOffset, int pLength ) {
+    for ( int i = pOffset, zEnd = pOffset + pLength; i < zEnd; i++ ) {
+      if ( !Character.isWhitespace( pChars[i] ) ) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
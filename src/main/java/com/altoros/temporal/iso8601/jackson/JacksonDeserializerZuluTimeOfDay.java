@@ -0,0 +1,43 @@
+package com.altoros.temporal.iso8601.jackson;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+
+import com.altoros.temporal.iso8601.ZuluTimeOfDay;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+/**
+ * Parses a <code>ZuluTimeOfDay</code> directly from the parser's text buffer (no intermediate <code>String</code>).
+ * <p>
+ * As with <code>ZuluTimeOfDay.jsonCreator</code>, an empty (or all whitespace) string produces <code>null</code>.
+ */
+public class JacksonDeserializerZuluTimeOfDay extends StdScalarDeserializer<ZuluTimeOfDay> {
+  private static final long serialVersionUID = 1L;
+
+  public JacksonDeserializerZuluTimeOfDay() {
+    super( ZuluTimeOfDay.class );
+  }
+
+  @Override
+  public ZuluTimeOfDay deserialize( JsonParser pParser, DeserializationContext pContext )
+          throws IOException {
+    if ( !pParser.hasToken( JsonToken.VALUE_STRING ) ) {
+      return (ZuluTimeOfDay)pContext.handleUnexpectedToken( handledType(), pParser );
+    }
+    char[] zChars = pParser.getTextCharacters();
+    int zOffset = pParser.getTextOffset();
+    int zLength = pParser.getTextLength();
+    if ( JacksonDeserializerZuluDateTime.isInsignificant( zChars, zOffset, zLength ) ) {
+      return null;
+    }
+    try {
+      return ZuluTimeOfDay.parse( zChars, zOffset, zOffset + zLength );
+    }
+    catch ( DateTimeException e ) {
+      return (ZuluTimeOfDay)pContext.handleWeirdStringValue( handledType(), new String( zChars, zOffset, zLength ), e.getMessage() );
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.altoros.temporal.iso8601.jackson;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+
+import com.altoros.temporal.iso8601.ZuluDate;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+
+/**
+ * Parses a <code>ZuluDate</code> Map key (field name) from its ISO8601 form.
+ */
+public class JacksonKeyDeserializerZuluDate extends KeyDeserializer {
+  @Override
+  public Object deserializeKey( String pKey, DeserializationContext pContext )
+          throws IOException {
+    String zProblem;
+    try {
+      ZuluDate zKey = ZuluDate.jsonCreator( pKey );
+      if ( zKey != null ) {
+        return zKey;
+      }
+      zProblem = "insignificant key";
+    }
+    catch ( DateTimeException e ) {
+      zProblem = e.getMessage();
+    }
+    return pContext.handleWeirdKey( ZuluDate.class, pKey, zProblem );
+  }
+}
@@ -0,0 +1,30 @@
+package com.altoros.temporal.iso8601.jackson;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+
+import com.altoros.temporal.iso8601.ZuluTimeOfDay;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+
+/**
+ * Parses a <code>ZuluTimeOfDay</code> Map key (field name) from its ISO8601 form.
+ */
+public class JacksonKeyDeserializerZuluTimeOfDay extends KeyDeserializer {
+  @Override
+  public Object deserializeKey( String pKey, DeserializationContext pContext )
+          throws IOException {
+    String zProblem;
+    try {
+      ZuluTimeOfDay zKey = ZuluTimeOfDay.jsonCreator( pKey );
+      if ( zKey != null ) {
+        return zKey;
+      }
+      zProblem = "insignificant key";
+    }
+    catch ( DateTimeException e ) {
+      zProblem = e.getMessage();
+    }
+    return pContext.handleWeirdKey( ZuluTimeOfDay.class, pKey, zProblem );
+  }
+}
@@ -0,0 +1,25 @@
+package com.altoros.temporal.iso8601.jackson;
+
+import java.io.IOException;
+
+import com.altoros.temporal.iso8601.ZuluDate;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes a <code>ZuluDate</code> Map key (field name) in its ISO8601 form.
+ */
+public class JacksonKeySerializerZuluDate extends StdSerializer<ZuluDate> {
+  private static final long serialVersionUID = 1L;
+
+  public JacksonKeySerializerZuluDate() {
+    super( ZuluDate.class );
+  }
+
+  @Override
+  public void serialize( ZuluDate pDate, JsonGenerator pGenerator, SerializerProvider pProvider )
+          throws IOException {
+    pGenerator.writeFieldName( pDate.toString() );
+  }
+}
@@ -0,0 +1,25 @@
+package com.altoros.temporal.iso8601.jackson;
+
+import java.io.IOException;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes a <code>ZuluDateTime</code> Map key (field name) in its ISO8601 form.
+ */
+public class JacksonKeySerializerZuluDateTime extends StdSerializer<ZuluDateTime> {
+  private static final long serialVersionUID = 1L;
+
+  public JacksonKeySerializerZuluDateTime() {
+    super( ZuluDateTime.class );
+  }
+
+  @Override
+  public void serialize( ZuluDateTime pDateTime, JsonGenerator pGenerator, SerializerProvider pProvider )
+          throws IOException {
+    pGenerator.writeFieldName( pDateTime.toString() );
+  }
+}
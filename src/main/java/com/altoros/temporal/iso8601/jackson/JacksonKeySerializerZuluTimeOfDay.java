@@ -0,0 +1,25 @@
+package com.altoros.temporal.iso8601.jackson;
+
+import java.io.IOException;
+
+import com.altoros.temporal.iso8601.ZuluTimeOfDay;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes a <code>ZuluTimeOfDay</code> Map key (field name) in its ISO8601 form.
+ */
+public class JacksonKeySerializerZuluTimeOfDay extends StdSerializer<ZuluTimeOfDay> {
+  private static final long serialVersionUID = 1L;
+
+  public JacksonKeySerializerZuluTimeOfDay() {
+    super( ZuluTimeOfDay.class );
+  }
+
+  @Override
+  public void serialize( ZuluTimeOfDay pTimeOfDay, JsonGenerator pGenerator, SerializerProvider pProvider )
+          throws IOException {
+    pGenerator.writeFieldName( pTimeOfDay.toString() );
+  }
+}
@@ -0,0 +1,28 @@
+package com.altoros.temporal.iso8601.jackson;
+
+import java.io.IOException;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes the ISO8601 form of a <code>ZuluDateTime</code> as raw characters (no intermediate <code>String</code>).
+ */
+public class JacksonSerializerZuluDateTime extends StdSerializer<ZuluDateTime> {
+  private static final long serialVersionUID = 1L;
+
+  private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial( () -> new char[32] ); // > max rendered length
+
+  public JacksonSerializerZuluDateTime() {
+    super( ZuluDateTime.class );
+  }
+
+  @Override
+  public void serialize( ZuluDateTime pDateTime, JsonGenerator pGenerator, SerializerProvider pProvider )
+          throws IOException {
+    char[] zScratch = SCRATCH.get();
+    pGenerator.writeString( zScratch, 0, pDateTime.renderTo( zScratch, 0 ) );
+  }
+}
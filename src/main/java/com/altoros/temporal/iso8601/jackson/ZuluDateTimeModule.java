@@ -0,0 +1,36 @@
+package com.altoros.temporal.iso8601.jackson;
+
+import com.altoros.temporal.iso8601.ZuluDate;
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import com.altoros.temporal.iso8601.ZuluTimeOfDay;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Jackson <code>Module</code> that registers token level (de)serializers for <code>ZuluDateTime</code> (and the companion
+ * <code>ZuluDate</code> & <code>ZuluTimeOfDay</code>) values and Map keys, e.g.:
+ * <pre>
+ *   ObjectMapper mapper = new ObjectMapper().registerModule( new ZuluDateTimeModule() );
+ * </pre>
+ * Without this module Jackson falls back to the types' <code>@JsonCreator</code> & <code>@JsonValue</code> annotations,
+ * which produce the same JSON, but require an intermediate <code>String</code> for every value (and can't handle Map keys).
+ */
+public class ZuluDateTimeModule extends SimpleModule {
+  private static final long serialVersionUID = 1L;
+
+  public ZuluDateTimeModule() {
+    super( ZuluDateTimeModule.class.getSimpleName(), Version.unknownVersion() );
+    addSerializer( ZuluDateTime.class, new JacksonSerializerZuluDateTime() );
+    addDeserializer( ZuluDateTime.class, new JacksonDeserializerZuluDateTime() );
+    addKeySerializer( ZuluDateTime.class, new JacksonKeySerializerZuluDateTime() );
+    addKeyDeserializer( ZuluDateTime.class, new JacksonKeyDeserializerZuluDateTime() );
+    addSerializer( ZuluDate.class, new JacksonSerializerZuluDate() );
+    addDeserializer( ZuluDate.class, new JacksonDeserializerZuluDate() );
+    addKeySerializer( ZuluDate.class, new JacksonKeySerializerZuluDate() );
+    addKeyDeserializer( ZuluDate.class, new JacksonKeyDeserializerZuluDate() );
+    addSerializer( ZuluTimeOfDay.class, new JacksonSerializerZuluTimeOfDay() );
+    addDeserializer( ZuluTimeOfDay.class, new JacksonDeserializerZuluTimeOfDay() );
+    addKeySerializer( ZuluTimeOfDay.class, new JacksonKeySerializerZuluTimeOfDay() );
+    addKeyDeserializer( ZuluTimeOfDay.class, new JacksonKeyDeserializerZuluTimeOfDay() );
+  }
+}
@@ -0,0 +1,114 @@
+package com.altoros.temporal.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock free, fixed size (HDR style, log-linear) histogram of non-negative <code>long</code> values (e.g. latencies in nanos).
+ * <p>
+ * Values below 32 are counted exactly; above that each power of 2 range is split into 32 equal buckets, so a reported
+ * percentile is at most ~3% (1/32) above the true value, for the whole <code>long</code> range, in ~1900 counters (15 KB).
+ * Negative values are counted as 0.
+ * <p>
+ * Recording is a few shifts and an atomic increment; reading (<code>getValueAtPercentile</code>) walks the counters, and is
+ * not atomic with respect to concurrent recording (the results are approximate while recording continues).
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = ((63 - SUB_BUCKET_BITS) + 1) * SUB_BUCKETS; // through bit 62
+
+  private final AtomicLongArray mCounts = new AtomicLongArray( BUCKETS );
+  private final LongAdder mTotal = new LongAdder();
+  private final LongAdder mCount = new LongAdder();
+  private final LongAccumulator mMax = new LongAccumulator( Long::max, 0 );
+
+  public void record( long pValue ) {
+    long zValue = Math.max( 0, pValue );
+    mCounts.getAndIncrement( indexOf( zValue ) );
+    mCount.increment();
+    mTotal.add( zValue );
+    mMax.accumulate( zValue );
+  }
+
+  public long getCount() {
+    return mCount.sum();
+  }
+
+  public long getMax() {
+    return mMax.get();
+  }
+
+  /**
+   * @return the mean of the recorded values (0 if none)
+   */
+  public double getMean() {
+    long zCount = mCount.sum();
+    return (zCount == 0) ? 0 : ((double)mTotal.sum() / zCount);
+  }
+
+  /**
+   * @param pPercentile 0 - 100 (e.g. 99.9)
+   *
+   * @return the (upper bound of the bucket of the) value at the <code>pPercentile</code> (0 if none), never more than the max
+   */
+  public long getValueAtPercentile( double pPercentile ) {
+    if ( !((0 <= pPercentile) && (pPercentile <= 100)) ) {
+      throw new IllegalArgumentException( "Percentile must be 0 - 100, but was: " + pPercentile );
+    }
+    long zTotal = 0;
+    for ( int i = 0; i < BUCKETS; i++ ) {
+      zTotal += mCounts.get( i );
+    }
+    if ( zTotal == 0 ) {
+      return 0;
+    }
+    long zTarget = Math.max( 1, (long)Math.ceil( (pPercentile / 100) * zTotal ) );
+    long zSoFar = 0;
+    for ( int i = 0; i < BUCKETS; i++ ) {
+      zSoFar += mCounts.get( i );
+      if ( zSoFar >= zTarget ) {
+        return Math.min( highestValueOf( i ), getMax() );
+      }
+    }
+    return getMax();
+  }
+
+  public void reset() {
+    for ( int i = 0; i < BUCKETS; i++ ) {
+      mCounts.set( i, 0 );
+    }
+    mCount.reset();
+    mTotal.reset();
+    mMax.reset();
+  }
+
+  @Override
+  public String toString() {
+    return "LatencyHistogram(count=" + getCount() + ", mean=" + Math.round( getMean() ) + ", p50=" + getValueAtPercentile( 50 ) +
+           ", p99=" + getValueAtPercentile( 99 ) + ", p99.9=" + getValueAtPercentile( 99.9 ) + ", max=" + getMax() + ")";
+  }
+
+  static int indexOf( long pValue ) {
+    if ( pValue < SUB_BUCKETS ) {
+      return (int)pValue;
+    }
+    int zExponent = 63 - Long.numberOfLeadingZeros( pValue ); // >= SUB_BUCKET_BITS
+    int zShift = zExponent - SUB_BUCKET_BITS;
+    return ((zShift + 1) << SUB_BUCKET_BITS) + (int)((pValue >>> zShift) & (SUB_BUCKETS - 1));
+  }
+
+  static long lowestValueOf( int pIndex ) {
+    if ( pIndex < SUB_BUCKETS ) {
+      return pIndex;
+    }
+    int zShift = (pIndex >>> SUB_BUCKET_BITS) - 1;
+    return (long)(SUB_BUCKETS + (pIndex & (SUB_BUCKETS - 1))) << zShift;
+  }
+
+  static long highestValueOf( int pIndex ) {
+    return (pIndex == BUCKETS - 1) ? Long.MAX_VALUE : (lowestValueOf( pIndex + 1 ) - 1);
+  }
+}
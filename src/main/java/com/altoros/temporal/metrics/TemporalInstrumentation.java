@@ -0,0 +1,66 @@
+package com.altoros.temporal.metrics;
+
+import java.util.Objects;
+
+import org.litesoft.annotations.NotNull;
+
+/**
+ * The (optional) instrumentation switch and the installed <code>TemporalListener</code>.
+ * <p>
+ * Instrumentation is only enabled if the system property <code>com.altoros.temporal.metrics.enabled</code> is "true" when
+ * this class is initialized.  As <code>ENABLED</code> is a <code>static final</code>, when it is false the JIT removes the
+ * instrumentation from the hot paths entirely (no <code>System.nanoTime</code> calls, and no listener calls); the
+ * installed listener is then never called.
+ * <p>
+ * Usage (at startup, with <code>-Dcom.altoros.temporal.metrics.enabled=true</code>):
+ * <pre>
+ *   TemporalMetrics zMetrics = TemporalMetrics.install(); // optionally: zMetrics.registerMBean();
+ * </pre>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class TemporalInstrumentation {
+  public static final String ENABLED_PROPERTY = "com.altoros.temporal.metrics.enabled";
+  public static final boolean ENABLED = Boolean.getBoolean( ENABLED_PROPERTY );
+
+  private static volatile TemporalListener sListener = TemporalListener.NOOP;
+
+  private TemporalInstrumentation() {
+  }
+
+  /**
+   * @param pListener not null (use <code>TemporalListener.NOOP</code> to stop listening)
+   */
+  public static void setListener( @NotNull TemporalListener pListener ) {
+    sListener = Objects.requireNonNull( pListener, "Listener" );
+  }
+
+  @NotNull
+  public static TemporalListener getListener() {
+    return sListener;
+  }
+
+  /**
+   * @return the start time of an operation (for <code>record</code>), or 0 if not enabled
+   */
+  public static long start() {
+    return ENABLED ? System.nanoTime() : 0;
+  }
+
+  /**
+   * Report the <code>pOperation</code> (if enabled) as taking from the <code>pStarted</code> (from <code>start</code>) until now.
+   */
+  public static void record( @NotNull TemporalOperation pOperation, long pStarted ) {
+    if ( ENABLED ) {
+      sListener.onOperation( pOperation, System.nanoTime() - pStarted );
+    }
+  }
+
+  /**
+   * Report (if enabled) that a clock went backwards by <code>pMillis</code>.
+   */
+  public static void clockBackwards( long pMillis ) {
+    if ( ENABLED ) {
+      sListener.onClockBackwards( pMillis );
+    }
+  }
+}
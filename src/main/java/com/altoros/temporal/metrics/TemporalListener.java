@@ -0,0 +1,33 @@
+package com.altoros.temporal.metrics;
+
+import org.litesoft.annotations.NotNull;
+
+/**
+ * The instrumentation SPI: receives the timed operations (and clock events) of this library, see
+ * <code>TemporalInstrumentation</code> (which only reports when enabled).
+ * <p>
+ * Implementations are called on the hot paths (from any number of threads), so should be cheap and thread safe, and must not throw.
+ *
+ * @see TemporalMetrics
+ */
+public interface TemporalListener {
+  /**
+   * Does nothing (the default listener).
+   */
+  TemporalListener NOOP = ( pOperation, pNanos ) -> {
+  };
+
+  /**
+   * @param pOperation not null
+   * @param pNanos     the elapsed time of the operation
+   */
+  void onOperation( @NotNull TemporalOperation pOperation, long pNanos );
+
+  /**
+   * A clock (<code>InstrumentedMillisecTimeSource</code>) went backwards.
+   *
+   * @param pMillis how far (at least 1)
+   */
+  default void onClockBackwards( long pMillis ) {
+  }
+}
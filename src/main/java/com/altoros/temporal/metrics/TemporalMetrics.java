@@ -0,0 +1,208 @@
+package com.altoros.temporal.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.litesoft.annotations.NotNull;
+
+/**
+ * The standard <code>TemporalListener</code>: a <code>LongAdder</code> count and a <code>LatencyHistogram</code> per
+ * <code>TemporalOperation</code>, plus the clock backwards events, exposable as an MXBean (see <code>registerMBean</code>).
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class TemporalMetrics implements TemporalListener,
+                                              TemporalMetricsMXBean {
+  public static final String DEFAULT_OBJECT_NAME = "com.altoros.temporal:type=TemporalMetrics";
+
+  private final LongAdder[] mCounts = new LongAdder[TemporalOperation.values().length]; // by ordinal
+  private final LatencyHistogram[] mLatencies = new LatencyHistogram[mCounts.length];
+  private final LongAdder mClockBackwards = new LongAdder();
+  private final LongAccumulator mMaxClockBackwardsMillis = new LongAccumulator( Long::max, 0 );
+
+  public TemporalMetrics() {
+    for ( int i = 0; i < mCounts.length; i++ ) {
+      mCounts[i] = new LongAdder();
+      mLatencies[i] = new LatencyHistogram();
+    }
+  }
+
+  /**
+   * Create a <code>TemporalMetrics</code> and install it as the <code>TemporalInstrumentation</code> listener.
+   *
+   * @return the new (installed) metrics
+   */
+  @NotNull
+  public static TemporalMetrics install() {
+    TemporalMetrics zMetrics = new TemporalMetrics();
+    TemporalInstrumentation.setListener( zMetrics );
+    return zMetrics;
+  }
+
+  @Override
+  public void onOperation( @NotNull TemporalOperation pOperation, long pNanos ) {
+    mCounts[pOperation.ordinal()].increment();
+    mLatencies[pOperation.ordinal()].record( pNanos );
+  }
+
+  @Override
+  public void onClockBackwards( long pMillis ) {
+    mClockBackwards.increment();
+    mMaxClockBackwardsMillis.accumulate( pMillis );
+  }
+
+  public long getCount( @NotNull TemporalOperation pOperation ) {
+    return mCounts[pOperation.ordinal()].sum();
+  }
+
+  @NotNull
+  public LatencyHistogram getLatency( @NotNull TemporalOperation pOperation ) {
+    return mLatencies[pOperation.ordinal()];
+  }
+
+  // ------------------------------ vvv MXBean vvv -----------------------------
+
+  @Override
+  public Map<String, Long> getCounts() {
+    return byOperation( pOperation -> getCount( pOperation ) );
+  }
+
+  @Override
+  public Map<String, Double> getMeanNanos() {
+    Map<String, Double> zMeans = new LinkedHashMap<>();
+    for ( TemporalOperation zOperation : TemporalOperation.values() ) {
+      zMeans.put( zOperation.name(), getLatency( zOperation ).getMean() );
+    }
+    return zMeans;
+  }
+
+  @Override
+  public Map<String, Long> getP50Nanos() {
+    return byOperation( pOperation -> getLatency( pOperation ).getValueAtPercentile( 50 ) );
+  }
+
+  @Override
+  public Map<String, Long> getP99Nanos() {
+    return byOperation( pOperation -> getLatency( pOperation ).getValueAtPercentile( 99 ) );
+  }
+
+  @Override
+  public Map<String, Long> getP999Nanos() {
+    return byOperation( pOperation -> getLatency( pOperation ).getValueAtPercentile( 99.9 ) );
+  }
+
+  @Override
+  public Map<String, Long> getMaxNanos() {
+    return byOperation( pOperation -> getLatency( pOperation ).getMax() );
+  }
+
+  /**
+   * @return all parses (canonical, fallback, & failures)
+   */
+  @Override
+  public long getParseCount() {
+    return getCount( TemporalOperation.PARSE_CANONICAL ) + getCount( TemporalOperation.PARSE_FALLBACK ) +
+           getCount( TemporalOperation.PARSE_FAILURE );
+  }
+
+  @Override
+  public long getParseFallbackCount() {
+    return getCount( TemporalOperation.PARSE_FALLBACK );
+  }
+
+  @Override
+  public long getParseFailureCount() {
+    return getCount( TemporalOperation.PARSE_FAILURE );
+  }
+
+  @Override
+  public long getRenderCount() {
+    return getCount( TemporalOperation.RENDER );
+  }
+
+  @Override
+  public long getClockReadCount() {
+    return getCount( TemporalOperation.CLOCK_READ );
+  }
+
+  @Override
+  public long getClockBackwardsCount() {
+    return mClockBackwards.sum();
+  }
+
+  @Override
+  public long getMaxClockBackwardsMillis() {
+    return mMaxClockBackwardsMillis.get();
+  }
+
+  @Override
+  public void reset() {
+    for ( int i = 0; i < mCounts.length; i++ ) {
+      mCounts[i].reset();
+      mLatencies[i].reset();
+    }
+    mClockBackwards.reset();
+    mMaxClockBackwardsMillis.reset();
+  }
+
+  /**
+   * Register with the platform MBean server under the <code>DEFAULT_OBJECT_NAME</code>.
+   *
+   * @return the name registered
+   */
+  @NotNull
+  public ObjectName registerMBean()
+          throws JMException {
+    return registerMBean( DEFAULT_OBJECT_NAME );
+  }
+
+  /**
+   * Register with the platform MBean server under the <code>pObjectName</code>.
+   *
+   * @return the name registered
+   */
+  @NotNull
+  public ObjectName registerMBean( @NotNull String pObjectName )
+          throws JMException {
+    ObjectName zName = new ObjectName( pObjectName );
+    ManagementFactory.getPlatformMBeanServer().registerMBean( this, zName );
+    return zName;
+  }
+
+  /**
+   * Unregister (if registered) the <code>pObjectName</code> from the platform MBean server.
+   */
+  public static void unregisterMBean( @NotNull ObjectName pObjectName )
+          throws JMException {
+    MBeanServer zServer = ManagementFactory.getPlatformMBeanServer();
+    if ( zServer.isRegistered( pObjectName ) ) {
+      zServer.unregisterMBean( pObjectName );
+    }
+  }
+
+  // ------------------------------ ^^^ MXBean ^^^ -----------------------------
+
+  @Override
+  public String toString() {
+    StringBuilder zSB = new StringBuilder( "TemporalMetrics(" );
+    for ( TemporalOperation zOperation : TemporalOperation.values() ) {
+      zSB.append( "\n  " ).append( zOperation ).append( ": " ).append( getLatency( zOperation ) );
+    }
+    return zSB.append( "\n  clock backwards: " ).append( getClockBackwardsCount() )
+            .append( " (max " ).append( getMaxClockBackwardsMillis() ).append( "ms)\n)" ).toString();
+  }
+
+  private Map<String, Long> byOperation( ToLongFunction<TemporalOperation> pValue ) {
+    Map<String, Long> zValues = new LinkedHashMap<>();
+    for ( TemporalOperation zOperation : TemporalOperation.values() ) {
+      zValues.put( zOperation.name(), pValue.applyAsLong( zOperation ) );
+    }
+    return zValues;
+  }
+}
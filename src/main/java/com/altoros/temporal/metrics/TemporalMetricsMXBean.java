@@ -0,0 +1,36 @@
+package com.altoros.temporal.metrics;
+
+import java.util.Map;
+
+/**
+ * The JMX view of the <code>TemporalMetrics</code> (the maps are keyed by the <code>TemporalOperation</code> names).
+ */
+public interface TemporalMetricsMXBean {
+  Map<String, Long> getCounts();
+
+  Map<String, Double> getMeanNanos();
+
+  Map<String, Long> getP50Nanos();
+
+  Map<String, Long> getP99Nanos();
+
+  Map<String, Long> getP999Nanos();
+
+  Map<String, Long> getMaxNanos();
+
+  long getParseCount();
+
+  long getParseFallbackCount();
+
+  long getParseFailureCount();
+
+  long getRenderCount();
+
+  long getClockReadCount();
+
+  long getClockBackwardsCount();
+
+  long getMaxClockBackwardsMillis();
+
+  void reset();
+}
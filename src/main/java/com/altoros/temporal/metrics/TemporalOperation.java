@@ -0,0 +1,35 @@
+package com.altoros.temporal.metrics;
+
+/**
+ * The (timed) operations reported to the <code>TemporalListener</code>.
+ */
+public enum TemporalOperation {
+  /**
+   * A parse of the canonical form (the fast path, directly from the text / bytes).
+   */
+  PARSE_CANONICAL,
+  /**
+   * A successful parse of any other form (the fallback, via <code>Instant.parse</code>).
+   */
+  PARSE_FALLBACK,
+  /**
+   * A parse that threw (e.g. malformed or insignificant text).
+   */
+  PARSE_FAILURE,
+  /**
+   * A rendering of the ISO8601 form (<code>toString</code>, <code>jsonValue</code>, or <code>renderTo</code>).
+   */
+  RENDER,
+  /**
+   * A read of a value (or null) by the Gson adapter.
+   */
+  GSON_READ,
+  /**
+   * A write of a value (or null) by the Gson adapter.
+   */
+  GSON_WRITE,
+  /**
+   * A read of an <code>InstrumentedMillisecTimeSource</code>.
+   */
+  CLOCK_READ
+}
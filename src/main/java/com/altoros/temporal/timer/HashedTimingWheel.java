@@ -0,0 +1,490 @@
+package com.altoros.temporal.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import com.altoros.temporal.MillisecTimeSource;
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.litesoft.annotations.NotNull;
+
+/**
+ * A hierarchical hashed timing wheel: O(1) <code>schedule</code> and <code>cancel</code> for very large numbers (millions) of
+ * pending timeouts, with all time read through a <code>MillisecTimeSource</code> (so tests can drive it deterministically).
+ * <p>
+ * Time is divided into ticks (of <code>tickMillis</code>).  Each level of the wheel is an array of <code>slotsPerWheel</code>
+ * buckets (intrusive doubly linked lists); level 0 buckets span one tick, level 1 buckets span a whole level 0 wheel, and so on
+ * (as many levels as needed to cover the whole <code>long</code> range, created on demand).  A timeout is placed at the lowest
+ * level whose bucket will not come around again before its deadline, and is moved (cascaded) down a level each time the
+ * wheel below completes a revolution, so each timeout is touched O(levels) times, independent of the number pending.
+ * <p>
+ * Threading:<br>
+ * <li><code>schedule</code> (any thread) only appends to a lock free (multi producer, single consumer) queue, and
+ * <code>cancel</code> (any thread) only CASes the timeout's state (and queues it for removal from its bucket);
+ * the buckets are only touched by <code>advance</code>.</li>
+ * <li><code>advance</code> processes the ticks up to the time source's current time; it is called either by the (optional,
+ * daemon) driver thread (<code>start</code>), or directly (e.g. by tests, with a controlled time source).</li>
+ * <li>The expired tasks of an <code>advance</code> are handed to the executor in batches (of up to <code>maxBatchSize</code>
+ * tasks per <code>execute</code>), after the wheel's lock is released.  With the default (direct) executor they are run by the
+ * advancing thread; use a batch size of 1 with a thread per task executor (e.g. virtual threads) to run each independently.
+ * A task that throws is reported to the running thread's <code>UncaughtExceptionHandler</code>, and the rest of its batch still runs.</li>
+ * <li>An <code>execute</code> that throws (e.g. a shut down executor's <code>RejectedExecutionException</code>) is reported to
+ * the advancing thread's <code>UncaughtExceptionHandler</code>, and the rest of the batches are still handed off; the tasks of
+ * the rejected batch are not run (they have already expired, so they are neither pending nor can they be cancelled).</li>
+ * <p>
+ * Timeouts never expire early (a deadline is rounded up to a tick), but may expire up to a tick (plus the driver's
+ * scheduling latency) late.  A deadline that has already passed expires on the next tick.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class HashedTimingWheel implements AutoCloseable {
+  public static final int DEFAULT_SLOTS_PER_WHEEL = 512;
+  public static final int MAX_SLOTS_PER_WHEEL = 1 << 16;
+  public static final Executor DIRECT = Runnable::run;
+
+  private final MillisecTimeSource mSource;
+  private final long mTickMillis;
+  private final int mBits;
+  private final int mMask;
+  private final Bucket[][] mLevels;
+  private final Executor mExecutor;
+  private final int mMaxBatchSize;
+  private final Queue<Node> mAdded = new ConcurrentLinkedQueue<>();
+  private final Queue<Node> mCancelled = new ConcurrentLinkedQueue<>();
+  private final LongAdder mPending = new LongAdder();
+  private final Object mAdvanceLock = new Object();
+  private final AtomicReference<Thread> mDriver = new AtomicReference<>();
+  private long mCurrentTick; // guarded by mAdvanceLock: the last tick processed
+  private final int[] mPlaced; // guarded by mAdvanceLock: the nodes in each level's buckets (including cancelled ones not yet removed)
+
+  /**
+   * @param pSource        not null - the source of the current time
+   * @param pTickMillis    the resolution, must be at least 1
+   * @param pSlotsPerWheel the number of buckets per level, 2 - <code>MAX_SLOTS_PER_WHEEL</code> (rounded up to a power of 2)
+   * @param pExecutor      not null - runs the expired tasks (see <code>DIRECT</code>)
+   * @param pMaxBatchSize  the most expired tasks handed to the executor in one <code>execute</code>, must be at least 1
+   */
+  public HashedTimingWheel( @NotNull MillisecTimeSource pSource, long pTickMillis, int pSlotsPerWheel,
+                            @NotNull Executor pExecutor, int pMaxBatchSize ) {
+    mSource = Objects.requireNonNull( pSource, "MillisecTimeSource" );
+    mExecutor = Objects.requireNonNull( pExecutor, "Executor" );
+    if ( pTickMillis < 1 ) {
+      throw new IllegalArgumentException( "Tick must be at least 1ms, but was: " + pTickMillis );
+    }
+    if ( (pSlotsPerWheel < 2) || (MAX_SLOTS_PER_WHEEL < pSlotsPerWheel) ) {
+      throw new IllegalArgumentException( "SlotsPerWheel must be 2 - " + MAX_SLOTS_PER_WHEEL + ", but was: " + pSlotsPerWheel );
+    }
+    if ( pMaxBatchSize < 1 ) {
+      throw new IllegalArgumentException( "MaxBatchSize must be at least 1, but was: " + pMaxBatchSize );
+    }
+    mTickMillis = pTickMillis;
+    mBits = 32 - Integer.numberOfLeadingZeros( pSlotsPerWheel - 1 );
+    mMask = (1 << mBits) - 1;
+    mLevels = new Bucket[(Long.SIZE + mBits - 1) / mBits][];
+    mPlaced = new int[mLevels.length];
+    mMaxBatchSize = pMaxBatchSize;
+    mCurrentTick = tickOf( mSource.currentTimeMillis() );
+  }
+
+  /**
+   * Slots per wheel defaults to <code>DEFAULT_SLOTS_PER_WHEEL</code>, and expired tasks are run by the advancing thread.
+   */
+  public HashedTimingWheel( @NotNull MillisecTimeSource pSource, long pTickMillis ) {
+    this( pSource, pTickMillis, DEFAULT_SLOTS_PER_WHEEL, DIRECT, Integer.MAX_VALUE );
+  }
+
+  public long getTickMillis() {
+    return mTickMillis;
+  }
+
+  public int getSlotsPerWheel() {
+    return mMask + 1;
+  }
+
+  /**
+   * @return the number of timeouts that have neither expired nor been cancelled
+   */
+  public long getPendingCount() {
+    return mPending.sum();
+  }
+
+  /**
+   * Schedule the <code>pTask</code> to run (via the executor) once the time source reaches the <code>pDeadlineMillis</code>.
+   *
+   * @return the handle (to cancel the task)
+   */
+  @NotNull
+  public Timeout schedule( @NotNull Runnable pTask, long pDeadlineMillis ) {
+    Node zNode = new Node( Objects.requireNonNull( pTask, "Task" ), pDeadlineMillis );
+    mPending.increment();
+    mAdded.add( zNode );
+    return zNode;
+  }
+
+  /**
+   * Schedule the <code>pTask</code> to run (via the executor) once the time source reaches the <code>pDeadline</code>.
+   *
+   * @return the handle (to cancel the task)
+   */
+  @NotNull
+  public Timeout schedule( @NotNull Runnable pTask, @NotNull ZuluDateTime pDeadline ) {
+    return schedule( pTask, Objects.requireNonNull( pDeadline, "Deadline" ).toEpochMilli() );
+  }
+
+  /**
+   * Schedule the <code>pTask</code> to run (via the executor) <code>pDelayMillis</code> after the time source's current time.
+   *
+   * @return the handle (to cancel the task)
+   */
+  @NotNull
+  public Timeout scheduleAfter( @NotNull Runnable pTask, long pDelayMillis ) {
+    long zNow = mSource.currentTimeMillis();
+    long zDeadline = zNow + pDelayMillis;
+    if ( (pDelayMillis > 0) && (zDeadline < zNow) ) { // overflow
+      zDeadline = Long.MAX_VALUE;
+    }
+    return schedule( pTask, zDeadline );
+  }
+
+  /**
+   * Process the ticks up to the time source's current time, handing the expired tasks to the executor.
+   * <p>
+   * If the executor rejects (throws from <code>execute</code>) a batch, the failure is reported to the current thread's
+   * <code>UncaughtExceptionHandler</code> and the remaining batches are still handed off.
+   *
+   * @return the number of tasks expired (including those in any batch the executor rejected)
+   */
+  public int advance() {
+    List<List<Runnable>> zBatches = new ArrayList<>();
+    synchronized ( mAdvanceLock ) {
+      removeCancelled();
+      placeAdded();
+      long zTargetTick = tickOf( mSource.currentTimeMillis() );
+      List<Runnable> zBatch = null;
+      while ( mCurrentTick < zTargetTick ) {
+        int zEmptyLevels = 0;
+        while ( (zEmptyLevels < mPlaced.length) && (mPlaced[zEmptyLevels] == 0) ) {
+          zEmptyLevels++;
+        }
+        if ( zEmptyLevels != 0 ) { // Nothing can happen until the next boundary of the lowest non-empty level: skip to it
+          long zBeforeBoundary = (zEmptyLevels == mPlaced.length) ? Long.MAX_VALUE
+                                                                   : (mCurrentTick | ((1L << (mBits * zEmptyLevels)) - 1));
+          if ( zBeforeBoundary >= zTargetTick ) {
+            mCurrentTick = zTargetTick;
+            break;
+          }
+          mCurrentTick = zBeforeBoundary;
+        }
+        long zTick = ++mCurrentTick;
+        cascade( zTick );
+        Bucket zBucket = bucketFor( 0, zTick, false );
+        if ( zBucket != null ) {
+          for ( Node zNode = zBucket.removeAll(); zNode != null; ) {
+            Node zNext = zNode.mNext;
+            zNode.mNext = null;
+            mPlaced[0]--;
+            if ( zNode.expire() ) {
+              mPending.decrement();
+              if ( zBatch == null ) {
+                zBatch = new ArrayList<>( Math.min( mMaxBatchSize, 64 ) );
+                zBatches.add( zBatch );
+              }
+              zBatch.add( zNode.mTask );
+              if ( zBatch.size() == mMaxBatchSize ) {
+                zBatch = null;
+              }
+            }
+            zNode = zNext;
+          }
+        }
+      }
+    }
+    int zExpired = 0;
+    for ( List<Runnable> zBatch : zBatches ) {
+      zExpired += zBatch.size();
+      try {
+        mExecutor.execute( (zBatch.size() == 1) ? guarded( zBatch.get( 0 ) ) : () -> runAll( zBatch ) );
+      }
+      catch ( RuntimeException e ) {
+        reportUncaught( e );
+      }
+    }
+    return zExpired;
+  }
+
+  public boolean isRunning() {
+    return (mDriver.get() != null);
+  }
+
+  /**
+   * Start the driver thread (if not already running), which calls <code>advance</code> every tick.
+   *
+   * @return this
+   */
+  @NotNull
+  public synchronized HashedTimingWheel start() {
+    if ( mDriver.get() == null ) {
+      Thread zDriver = new Thread( this::drive, getClass().getSimpleName() + "-" + mTickMillis + "ms" );
+      zDriver.setDaemon( true );
+      mDriver.set( zDriver );
+      zDriver.start();
+    }
+    return this;
+  }
+
+  /**
+   * Stop the driver thread (if running) and wait for it to exit; the pending timeouts remain (see <code>advance</code> or <code>start</code>).
+   */
+  public synchronized void stop() {
+    Thread zDriver = mDriver.getAndSet( null );
+    if ( zDriver != null ) {
+      LockSupport.unpark( zDriver );
+      boolean zInterrupted = false;
+      while ( zDriver.isAlive() && (zDriver != Thread.currentThread()) ) {
+        try {
+          zDriver.join();
+        }
+        catch ( InterruptedException e ) {
+          zInterrupted = true;
+        }
+      }
+      if ( zInterrupted ) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    stop();
+  }
+
+  private void drive() {
+    Thread zMe = Thread.currentThread();
+    try {
+      while ( mDriver.get() == zMe ) {
+        try {
+          advance();
+        }
+        catch ( RuntimeException e ) { // e.g. from the time source: keep driving, the timeouts are not lost
+          reportUncaught( e );
+        }
+        long zMillis = mSource.currentTimeMillis();
+        LockSupport.parkNanos( this, TimeUnit.MILLISECONDS.toNanos( mTickMillis - Math.floorMod( zMillis, mTickMillis ) ) );
+      }
+    }
+    finally {
+      mDriver.compareAndSet( zMe, null ); // Died unexpectedly (an Error)
+    }
+  }
+
+  private long tickOf( long pMillis ) {
+    return Math.floorDiv( pMillis, mTickMillis );
+  }
+
+  private long deadlineTickOf( long pDeadlineMillis ) { // Rounded up, so never early
+    long zTick = tickOf( pDeadlineMillis );
+    return ((zTick * mTickMillis) == pDeadlineMillis) ? zTick : (zTick + 1);
+  }
+
+  private void removeCancelled() {
+    for ( Node zNode; (zNode = mCancelled.poll()) != null; ) {
+      if ( zNode.mBucket != null ) {
+        zNode.mBucket.remove( zNode );
+        mPlaced[zNode.mLevel]--;
+      }
+    }
+  }
+
+  private void placeAdded() {
+    for ( Node zNode; (zNode = mAdded.poll()) != null; ) {
+      if ( zNode.mState == Node.PENDING ) {
+        place( zNode, mCurrentTick + 1 );
+      }
+    }
+  }
+
+  /**
+   * Place the <code>pNode</code> at the lowest level where its (deadline) tick only differs from the <code>pBaseTick</code>
+   * (the next tick to be processed) in that level's digit (or lower), so its bucket is reached (or cascaded) no later than
+   * its tick; a deadline before the <code>pBaseTick</code> is treated as the <code>pBaseTick</code>.
+   */
+  private void place( Node pNode, long pBaseTick ) {
+    long zTick = Math.max( pNode.mDeadlineTick, pBaseTick );
+    long zDiffering = zTick ^ pBaseTick;
+    int zLevel = (zDiffering == 0) ? 0 : ((63 - Long.numberOfLeadingZeros( zDiffering )) / mBits);
+    bucketFor( zLevel, zTick, true ).add( pNode );
+    pNode.mLevel = zLevel;
+    mPlaced[zLevel]++;
+  }
+
+  /**
+   * When the <code>pTick</code> starts a new revolution of a wheel, the bucket (of the level above) that now becomes current
+   * is re-placed (into the lower levels); the highest level first, so its timeouts can then cascade further.
+   */
+  private void cascade( long pTick ) {
+    int zTop = 0;
+    while ( ((zTop + 1) < mLevels.length) && ((pTick & ((1L << (mBits * (zTop + 1))) - 1)) == 0) ) {
+      zTop++;
+    }
+    for ( int zLevel = zTop; zLevel > 0; zLevel-- ) {
+      Bucket zBucket = bucketFor( zLevel, pTick, false );
+      if ( zBucket != null ) {
+        for ( Node zNode = zBucket.removeAll(); zNode != null; ) {
+          Node zNext = zNode.mNext;
+          zNode.mNext = null;
+          mPlaced[zLevel]--;
+          if ( zNode.mState == Node.PENDING ) {
+            place( zNode, pTick );
+          }
+          zNode = zNext;
+        }
+      }
+    }
+  }
+
+  private Bucket bucketFor( int pLevel, long pTick, boolean pCreate ) {
+    Bucket[] zWheel = mLevels[pLevel];
+    if ( zWheel == null ) {
+      if ( !pCreate ) {
+        return null;
+      }
+      mLevels[pLevel] = zWheel = new Bucket[mMask + 1];
+    }
+    int zSlot = (int)(pTick >>> (mBits * pLevel)) & mMask;
+    Bucket zBucket = zWheel[zSlot];
+    if ( (zBucket == null) && pCreate ) {
+      zWheel[zSlot] = zBucket = new Bucket();
+    }
+    return zBucket;
+  }
+
+  private static void runAll( List<Runnable> pTasks ) {
+    for ( Runnable zTask : pTasks ) {
+      guarded( zTask ).run();
+    }
+  }
+
+  private static Runnable guarded( Runnable pTask ) {
+    return () -> {
+      try {
+        pTask.run();
+      }
+      catch ( RuntimeException | Error e ) {
+        reportUncaught( e );
+      }
+    };
+  }
+
+  private static void reportUncaught( Throwable pThrown ) {
+    Thread zThread = Thread.currentThread();
+    zThread.getUncaughtExceptionHandler().uncaughtException( zThread, pThrown );
+  }
+
+  private static final class Bucket {
+    private Node mHead, mTail;
+
+    private void add( Node pNode ) {
+      pNode.mBucket = this;
+      pNode.mPrev = mTail;
+      pNode.mNext = null;
+      if ( mTail == null ) {
+        mHead = pNode;
+      } else {
+        mTail.mNext = pNode;
+      }
+      mTail = pNode;
+    }
+
+    private void remove( Node pNode ) {
+      if ( pNode.mPrev == null ) {
+        mHead = pNode.mNext;
+      } else {
+        pNode.mPrev.mNext = pNode.mNext;
+      }
+      if ( pNode.mNext == null ) {
+        mTail = pNode.mPrev;
+      } else {
+        pNode.mNext.mPrev = pNode.mPrev;
+      }
+      pNode.mBucket = null;
+      pNode.mNext = pNode.mPrev = null;
+    }
+
+    /**
+     * @return the head of the (singly linked, via <code>mNext</code>) nodes, which no longer belong to a bucket
+     */
+    private Node removeAll() {
+      Node zHead = mHead;
+      mHead = mTail = null;
+      for ( Node zNode = zHead; zNode != null; zNode = zNode.mNext ) {
+        zNode.mBucket = null;
+        zNode.mPrev = null;
+      }
+      return zHead;
+    }
+  }
+
+  private final class Node implements Timeout {
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private final Runnable mTask;
+    private final long mDeadlineMillis;
+    private final long mDeadlineTick;
+    volatile int mState = PENDING; // not private, for the STATE updater
+    private Node mNext, mPrev; // guarded by mAdvanceLock
+    private Bucket mBucket; // guarded by mAdvanceLock
+    private int mLevel; // guarded by mAdvanceLock
+
+    private Node( Runnable pTask, long pDeadlineMillis ) {
+      mTask = pTask;
+      mDeadlineMillis = pDeadlineMillis;
+      mDeadlineTick = deadlineTickOf( pDeadlineMillis );
+    }
+
+    @Override
+    public long getDeadlineMillis() {
+      return mDeadlineMillis;
+    }
+
+    @Override
+    public boolean cancel() {
+      if ( !STATE.compareAndSet( this, PENDING, CANCELLED ) ) {
+        return false;
+      }
+      mPending.decrement();
+      mCancelled.add( this );
+      return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return (mState == CANCELLED);
+    }
+
+    @Override
+    public boolean isExpired() {
+      return (mState == EXPIRED);
+    }
+
+    private boolean expire() {
+      return STATE.compareAndSet( this, PENDING, EXPIRED );
+    }
+
+    @Override
+    public String toString() {
+      return "Timeout(" + getDeadline() + ", " + (isExpired() ? "expired" : isCancelled() ? "cancelled" : "pending") + ")";
+    }
+  }
+
+  private static final AtomicIntegerFieldUpdater<Node> STATE = AtomicIntegerFieldUpdater.newUpdater( Node.class, "mState" );
+}
@@ -0,0 +1,32 @@
+package com.altoros.temporal.timer;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.litesoft.annotations.NotNull;
+
+/**
+ * The handle of a task scheduled with a <code>HashedTimingWheel</code>.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public interface Timeout {
+  long getDeadlineMillis();
+
+  @NotNull
+  default ZuluDateTime getDeadline() {
+    return ZuluDateTime.ofEpochMilli( getDeadlineMillis() );
+  }
+
+  /**
+   * Cancel the task (O(1), from any thread), if it has not already expired (or been cancelled).
+   *
+   * @return true if this call cancelled the task (so it will never run)
+   */
+  boolean cancel();
+
+  boolean isCancelled();
+
+  /**
+   * @return true if the deadline was reached and the task removed from the wheel to be handed to the executor (which does
+   * not mean it has run, or will: the executor may not have run it yet, or may have rejected it)
+   */
+  boolean isExpired();
+}
@@ -0,0 +1,235 @@
+package com.altoros.temporal.window;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.altoros.temporal.MillisecTimeSource;
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.litesoft.annotations.NotNull;
+
+/**
+ * A lock free sliding window of time buckets (e.g. 60 buckets of a second, for per second rates over the last minute), whose
+ * values are summed, counted, and min/max'd per bucket, reading the time from a <code>MillisecTimeSource</code> (so a
+ * <code>VirtualMillisecTimeSource</code> makes it deterministic).
+ * <p>
+ * The buckets are a ring (an <code>AtomicReferenceArray</code>) indexed by the epoch Millisecs divided by the bucket width;
+ * each bucket has an immutable start, and striped cells (<code>LongAdder</code> / <code>LongAccumulator</code>), so concurrent
+ * writers do not contend.  Buckets roll over lazily: the first write (or read) that finds a slot holding an older bucket
+ * replaces it (CAS) with a new one, so idle periods cost nothing, and writers never block.
+ * <p>
+ * Notes:<br>
+ * <li>The queries cover the last N buckets including the current (partial) one; buckets never written read as empty.</li>
+ * <li>Each bucket's values are summed independently, so a query concurrent with writes is not an atomic snapshot.</li>
+ * <li>A write racing the roll of its slot may land in the bucket being replaced (and not be counted).</li>
+ * <li>Writes with an explicit time older than the window, or after the current bucket (per the time source), are dropped
+ * (<code>add</code> returns false), so a future time can never roll over (and clear) the live buckets.</li>
+ * <li>If the time source steps backwards, writes "now" whose slot already holds a newer bucket are dropped (rather than
+ * counted in the newer bucket) until it catches up.</li>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class SlidingWindowCounter {
+  public static final int MAX_BUCKETS = 1 << 16;
+
+  private static final class Bucket {
+    private final long mStart;
+    private final LongAdder mSum = new LongAdder();
+    private final LongAdder mCount = new LongAdder();
+    private final LongAccumulator mMin = new LongAccumulator( Math::min, Long.MAX_VALUE );
+    private final LongAccumulator mMax = new LongAccumulator( Math::max, Long.MIN_VALUE );
+
+    private Bucket( long pStart ) {
+      mStart = pStart;
+    }
+
+    private void add( long pValue ) {
+      mSum.add( pValue );
+      mCount.increment();
+      mMin.accumulate( pValue );
+      mMax.accumulate( pValue );
+    }
+  }
+
+  private final MillisecTimeSource mSource;
+  private final long mBucketMillis;
+  private final AtomicReferenceArray<Bucket> mBuckets;
+
+  /**
+   * @param pSource       not null - the time source
+   * @param pBucketMillis the width of each bucket, at least 1
+   * @param pBucketCount  the number of buckets (the window is <code>pBucketMillis * pBucketCount</code>), 1 - <code>MAX_BUCKETS</code>
+   */
+  public SlidingWindowCounter( @NotNull MillisecTimeSource pSource, long pBucketMillis, int pBucketCount ) {
+    mSource = Objects.requireNonNull( pSource, "MillisecTimeSource" );
+    if ( pBucketMillis < 1 ) {
+      throw new IllegalArgumentException( "BucketMillis must be at least 1, but was: " + pBucketMillis );
+    }
+    if ( (pBucketCount < 1) || (MAX_BUCKETS < pBucketCount) ) {
+      throw new IllegalArgumentException( "BucketCount must be 1 - " + MAX_BUCKETS + ", but was: " + pBucketCount );
+    }
+    mBucketMillis = pBucketMillis;
+    mBuckets = new AtomicReferenceArray<>( pBucketCount );
+  }
+
+  public long getBucketMillis() {
+    return mBucketMillis;
+  }
+
+  public int getBucketCount() {
+    return mBuckets.length();
+  }
+
+  /**
+   * Count 1 (a value of 1) now.
+   */
+  public void increment() {
+    add( 1 );
+  }
+
+  /**
+   * Record the <code>pValue</code> now (dropped if the time source has stepped back behind a newer bucket of its slot).
+   */
+  public void add( long pValue ) {
+    addAt( mSource.currentTimeMillis(), pValue );
+  }
+
+  /**
+   * Record the <code>pValue</code> at the <code>pEpochMillis</code>.
+   *
+   * @return false if the time is older than the window, or after the current bucket (the value is dropped)
+   */
+  public boolean add( long pEpochMillis, long pValue ) {
+    // Buckets behind the current one: negative (after it) compares (unsigned) as huge, so one check covers both ends
+    long zBucketsBehind = Math.floorDiv( mSource.currentTimeMillis(), mBucketMillis ) - Math.floorDiv( pEpochMillis, mBucketMillis );
+    return (Long.compareUnsigned( zBucketsBehind, mBuckets.length() ) < 0) && addAt( pEpochMillis, pValue );
+  }
+
+  /**
+   * Record the <code>pValue</code> at the <code>pDateTime</code>, see <code>add( long, long )</code>.
+   */
+  public boolean add( @NotNull ZuluDateTime pDateTime, long pValue ) {
+    return add( Objects.requireNonNull( pDateTime, "DateTime" ).toEpochMilli(), pValue );
+  }
+
+  /**
+   * @return the sum of the values in the last <code>pBuckets</code> buckets
+   */
+  public long sum( int pBuckets ) {
+    long zSum = 0;
+    for ( WindowBucket zBucket : snapshot( pBuckets ) ) {
+      zSum += zBucket.getSum();
+    }
+    return zSum;
+  }
+
+  /**
+   * @return the number of values in the last <code>pBuckets</code> buckets
+   */
+  public long count( int pBuckets ) {
+    long zCount = 0;
+    for ( WindowBucket zBucket : snapshot( pBuckets ) ) {
+      zCount += zBucket.getCount();
+    }
+    return zCount;
+  }
+
+  /**
+   * @return the smallest value in the last <code>pBuckets</code> buckets, or <code>Long.MAX_VALUE</code> if none
+   */
+  public long min( int pBuckets ) {
+    long zMin = Long.MAX_VALUE;
+    for ( WindowBucket zBucket : snapshot( pBuckets ) ) {
+      zMin = Math.min( zMin, zBucket.getMin() );
+    }
+    return zMin;
+  }
+
+  /**
+   * @return the largest value in the last <code>pBuckets</code> buckets, or <code>Long.MIN_VALUE</code> if none
+   */
+  public long max( int pBuckets ) {
+    long zMax = Long.MIN_VALUE;
+    for ( WindowBucket zBucket : snapshot( pBuckets ) ) {
+      zMax = Math.max( zMax, zBucket.getMax() );
+    }
+    return zMax;
+  }
+
+  /**
+   * @param pBuckets 1 - <code>getBucketCount()</code>
+   *
+   * @return the last <code>pBuckets</code> buckets (oldest first, ending with the current one), including the empty ones
+   */
+  @NotNull
+  public List<WindowBucket> snapshot( int pBuckets ) {
+    if ( (pBuckets < 1) || (mBuckets.length() < pBuckets) ) {
+      throw new IllegalArgumentException( "Buckets must be 1 - " + mBuckets.length() + ", but was: " + pBuckets );
+    }
+    long zCurrentStart = startOf( mSource.currentTimeMillis() );
+    List<WindowBucket> zSnapshot = new ArrayList<>( pBuckets );
+    for ( long zStart = zCurrentStart - ((pBuckets - 1) * mBucketMillis); zStart <= zCurrentStart; zStart += mBucketMillis ) {
+      Bucket zBucket = mBuckets.get( slotOf( zStart ) );
+      zSnapshot.add( ((zBucket == null) || (zBucket.mStart != zStart)) ?
+                     new WindowBucket( zStart, 0, 0, Long.MAX_VALUE, Long.MIN_VALUE ) :
+                     new WindowBucket( zStart, zBucket.mSum.sum(), zBucket.mCount.sum(), zBucket.mMin.get(), zBucket.mMax.get() ) );
+    }
+    return zSnapshot;
+  }
+
+  /**
+   * @return all the buckets of the window, see <code>snapshot( int )</code>
+   */
+  @NotNull
+  public List<WindowBucket> snapshot() {
+    return snapshot( mBuckets.length() );
+  }
+
+  @Override
+  public String toString() {
+    return "SlidingWindowCounter(" + mBuckets.length() + " x " + mBucketMillis + "ms)";
+  }
+
+  /**
+   * @return false if the slot of the <code>pEpochMillis</code> holds a newer bucket (the value is dropped)
+   */
+  private boolean addAt( long pEpochMillis, long pValue ) {
+    Bucket zBucket = bucketFor( pEpochMillis );
+    if ( zBucket.mStart != startOf( pEpochMillis ) ) {
+      return false;
+    }
+    zBucket.add( pValue );
+    return true;
+  }
+
+  /**
+   * @return the bucket of the <code>pEpochMillis</code>, rolling its slot over if it holds an older bucket; or the (newer)
+   * bucket holding the slot if the time is older than the window.
+   */
+  private Bucket bucketFor( long pEpochMillis ) {
+    long zStart = startOf( pEpochMillis );
+    int zSlot = slotOf( zStart );
+    for ( Bucket zNew = null; ; ) {
+      Bucket zCurrent = mBuckets.get( zSlot );
+      if ( (zCurrent != null) && (zStart <= zCurrent.mStart) ) {
+        return zCurrent;
+      }
+      if ( zNew == null ) {
+        zNew = new Bucket( zStart );
+      }
+      if ( mBuckets.compareAndSet( zSlot, zCurrent, zNew ) ) {
+        return zNew;
+      }
+    }
+  }
+
+  private long startOf( long pEpochMillis ) {
+    return Math.floorDiv( pEpochMillis, mBucketMillis ) * mBucketMillis;
+  }
+
+  private int slotOf( long pStart ) {
+    return (int)Math.floorMod( Math.floorDiv( pStart, mBucketMillis ), (long)mBuckets.length() );
+  }
+}
@@ -0,0 +1,57 @@
+package com.altoros.temporal.window;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.litesoft.annotations.NotNull;
+
+/**
+ * An immutable snapshot of one bucket of a <code>SlidingWindowCounter</code>: its start, and the sum, count, min, and max of
+ * the values recorded in it (an empty bucket has a count of 0, a min of <code>Long.MAX_VALUE</code>, and a max of
+ * <code>Long.MIN_VALUE</code>).
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class WindowBucket {
+  private final long mStartMillis;
+  private final long mSum, mCount, mMin, mMax;
+
+  WindowBucket( long pStartMillis, long pSum, long pCount, long pMin, long pMax ) {
+    mStartMillis = pStartMillis;
+    mSum = pSum;
+    mCount = pCount;
+    mMin = pMin;
+    mMax = pMax;
+  }
+
+  public long getStartMillis() {
+    return mStartMillis;
+  }
+
+  @NotNull
+  public ZuluDateTime getStart() {
+    return ZuluDateTime.ofEpochMilli( mStartMillis );
+  }
+
+  public long getSum() {
+    return mSum;
+  }
+
+  public long getCount() {
+    return mCount;
+  }
+
+  public long getMin() {
+    return mMin;
+  }
+
+  public long getMax() {
+    return mMax;
+  }
+
+  public boolean isEmpty() {
+    return mCount == 0;
+  }
+
+  @Override
+  public String toString() {
+    return getStart() + "(sum=" + mSum + ", count=" + mCount + (isEmpty() ? "" : ", min=" + mMin + ", max=" + mMax) + ")";
+  }
+}
@@ -0,0 +1,86 @@
+package com.altoros.temporal;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MonotonicMillisecTimeSourceTest {
+  private final AtomicLong mWallClock = new AtomicLong( 1000 );
+  private final MonotonicMillisecTimeSource mMonotonic = new MonotonicMillisecTimeSource( mWallClock::get );
+
+  @Test
+  public void test_SingleThreaded() {
+    Assert.assertEquals( 1000, mMonotonic.currentTimeMillis() );
+    Assert.assertEquals( 1001, mMonotonic.currentTimeMillis() );
+    Assert.assertEquals( 1002, mMonotonic.currentTimeMillis() );
+    Assert.assertEquals( 2, mMonotonic.getAheadOfWallMillis() );
+
+    mWallClock.set( 1010 );
+    Assert.assertEquals( 1010, mMonotonic.currentTimeMillis() );
+    Assert.assertEquals( 0, mMonotonic.getAheadOfWallMillis() );
+
+    mWallClock.set( 900 ); // Backwards step
+    Assert.assertEquals( 1011, mMonotonic.currentTimeMillis() );
+    Assert.assertEquals( 111, mMonotonic.getAheadOfWallMillis() );
+    Assert.assertEquals( 111, mMonotonic.getMaxAheadOfWallMillis() );
+    Assert.assertEquals( 3, mMonotonic.getAdjustmentCount() );
+    Assert.assertEquals( 0, mMonotonic.getContentionCount() );
+  }
+
+  @Test
+  public void test_Reserve() {
+    Assert.assertEquals( 1000, mMonotonic.reserve( 10 ) ); // 1000-1009
+    Assert.assertEquals( 1010, mMonotonic.reserve( 5 ) );  // 1010-1014
+    Assert.assertEquals( 1015, mMonotonic.currentTimeMillis() );
+    Assert.assertEquals( 15, mMonotonic.getMaxAheadOfWallMillis() );
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_ReserveNone() {
+    mMonotonic.reserve( 0 );
+  }
+
+  @Test
+  public void test_ManyThreadsUniqueAndIncreasing()
+          throws Exception {
+    MonotonicMillisecTimeSource zMonotonic = new MonotonicMillisecTimeSource(); // Real clock
+    int zThreads = 32;
+    int zPerThread = 20000;
+    long[][] zValues = new long[zThreads][zPerThread];
+    CountDownLatch zStart = new CountDownLatch( 1 );
+    Thread[] zWorkers = new Thread[zThreads];
+    for ( int t = 0; t < zThreads; t++ ) {
+      long[] zMine = zValues[t];
+      zWorkers[t] = new Thread( () -> {
+        try {
+          zStart.await();
+        }
+        catch ( InterruptedException e ) {
+          throw new IllegalStateException( e );
+        }
+        for ( int i = 0; i < zMine.length; i++ ) {
+          zMine[i] = zMonotonic.currentTimeMillis();
+        }
+      } );
+      zWorkers[t].start();
+    }
+    zStart.countDown();
+    for ( Thread zWorker : zWorkers ) {
+      zWorker.join();
+    }
+    long[] zAll = new long[zThreads * zPerThread];
+    for ( int t = 0; t < zThreads; t++ ) {
+      for ( int i = 1; i < zPerThread; i++ ) {
+        Assert.assertTrue( "thread " + t + " at " + i, zValues[t][i - 1] < zValues[t][i] );
+      }
+      System.arraycopy( zValues[t], 0, zAll, t * zPerThread, zPerThread );
+    }
+    Arrays.sort( zAll );
+    for ( int i = 1; i < zAll.length; i++ ) {
+      Assert.assertNotEquals( "duplicate at " + i, zAll[i - 1], zAll[i] );
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.altoros.temporal;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TickingMillisecTimeSourceTest {
+  private final AtomicLong mWallClock = new AtomicLong( 1000 );
+  private final MillisecTimeSource mSource = mWallClock::get;
+
+  @Test
+  public void test_DirectWhenNotRunning() {
+    TickingMillisecTimeSource zTicking = new TickingMillisecTimeSource( mSource, 1 );
+    Assert.assertFalse( zTicking.isRunning() );
+    mWallClock.set( 2000 );
+    Assert.assertEquals( 2000, zTicking.currentTimeMillis() );
+  }
+
+  @Test
+  public void test_PublishesTicks()
+          throws Exception {
+    try ( TickingMillisecTimeSource zTicking = new TickingMillisecTimeSource( mSource, 1, 60000 ).start() ) {
+      Assert.assertTrue( zTicking.isRunning() );
+      Assert.assertEquals( 1000, zTicking.currentTimeMillis() );
+
+      mWallClock.set( 1005 );
+      awaitValue( zTicking, 1005 );
+
+      mWallClock.set( 1017 );
+      awaitValue( zTicking, 1017 );
+
+      zTicking.stop();
+      Assert.assertFalse( zTicking.isRunning() );
+      mWallClock.set( 3000 );
+      Assert.assertEquals( 3000, zTicking.currentTimeMillis() );
+
+      zTicking.start(); // Restartable
+      Assert.assertEquals( 3000, zTicking.currentTimeMillis() );
+    }
+  }
+
+  @Test
+  public void test_TickerDeathFallsBackToDirect()
+          throws Exception {
+    AtomicLong zReads = new AtomicLong();
+    MillisecTimeSource zFailing = () -> {
+      if ( zReads.incrementAndGet() == 3 ) {
+        throw new IllegalStateException( "Expected: Ticker Killer" );
+      }
+      return mWallClock.get();
+    };
+    TickingMillisecTimeSource zTicking = new TickingMillisecTimeSource( zFailing, 1 ).start();
+    long zGiveUpAt = System.currentTimeMillis() + 5000;
+    while ( zTicking.isRunning() && (System.currentTimeMillis() < zGiveUpAt) ) {
+      Thread.sleep( 1 );
+    }
+    Assert.assertFalse( zTicking.isRunning() );
+    mWallClock.set( 4000 );
+    Assert.assertEquals( 4000, zTicking.currentTimeMillis() );
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_BadResolution() {
+    new TickingMillisecTimeSource( mSource, 0 );
+  }
+
+  private static void awaitValue( MillisecTimeSource pSource, long pExpected )
+          throws InterruptedException {
+    long zGiveUpAt = System.currentTimeMillis() + 5000;
+    while ( (pSource.currentTimeMillis() != pExpected) && (System.currentTimeMillis() < zGiveUpAt) ) {
+      Thread.sleep( 1 );
+    }
+    Assert.assertEquals( pExpected, pSource.currentTimeMillis() );
+  }
+}
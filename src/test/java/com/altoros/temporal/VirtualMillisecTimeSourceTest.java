@@ -0,0 +1,158 @@
+package com.altoros.temporal;
+
+import java.time.Duration;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import com.altoros.temporal.timer.HashedTimingWheel;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class VirtualMillisecTimeSourceTest {
+  private static final ZuluDateTime START = ZuluDateTime.parse( "2018-09-12T10:11:12.013Z" );
+
+  private final VirtualMillisecTimeSource mSource = new VirtualMillisecTimeSource( START );
+
+  @Test
+  public void test_Advance() {
+    Assert.assertEquals( START, mSource.now() );
+    Assert.assertEquals( START.toEpochMilli() + 5, mSource.advance( 5 ) );
+    mSource.advance( Duration.ofHours( 1 ) );
+    Assert.assertEquals( START.plusMillis( 5 ).plusHours( 1 ), mSource.now() );
+    mSource.advanceTo( START.plusDays( 1 ) );
+    Assert.assertEquals( START.plusDays( 1 ), ZuluDateTime.now( mSource ) );
+    mSource.advanceTo( START.plusDays( 1 ) ); // no-op
+    Assert.assertFalse( mSource.advanceToNextWaiter() );
+    for ( Runnable zBad : new Runnable[]{() -> mSource.advance( -1 ), () -> mSource.advanceTo( START )} ) {
+      try {
+        zBad.run();
+        Assert.fail( "Expected IllegalArgumentException" );
+      }
+      catch ( IllegalArgumentException expected ) {
+        // Expected
+      }
+    }
+  }
+
+  @Test
+  public void test_SleepersReleasedByAdvance()
+          throws Exception {
+    CopyOnWriteArrayList<Long> zWoke = new CopyOnWriteArrayList<>();
+    Thread[] zThreads = new Thread[3];
+    for ( int i = 0; i < zThreads.length; i++ ) {
+      long zMillis = (i + 1) * 10;
+      zThreads[i] = start( () -> {
+        mSource.sleep( zMillis );
+        zWoke.add( zMillis );
+      } );
+    }
+    awaitWaiters( 3 );
+    Assert.assertEquals( START.plusMillis( 10 ), mSource.getNextWaiterDeadline() );
+    mSource.awaitUntil( START.minusMillis( 1 ) ); // already passed: immediate
+
+    mSource.advance( 15 );
+    zThreads[0].join( 5000 );
+    Assert.assertEquals( "[10]", zWoke.toString() );
+    Assert.assertEquals( 2, mSource.getWaiterCount() );
+
+    Assert.assertTrue( mSource.advanceToNextWaiter() );
+    zThreads[1].join( 5000 );
+    Assert.assertEquals( START.plusMillis( 20 ), mSource.now() );
+    mSource.advance( Duration.ofMinutes( 1 ) );
+    zThreads[2].join( 5000 );
+    Assert.assertEquals( "[10, 20, 30]", zWoke.toString() );
+    Assert.assertEquals( 0, mSource.getWaiterCount() );
+    Assert.assertNull( mSource.getNextWaiterDeadline() );
+  }
+
+  @Test
+  public void test_Interrupt()
+          throws Exception {
+    AtomicReference<Throwable> zThrown = new AtomicReference<>();
+    Thread zThread = new Thread( () -> {
+      try {
+        mSource.awaitUntil( START.plusDays( 1 ) );
+      }
+      catch ( Throwable e ) {
+        zThrown.set( e );
+      }
+    } );
+    zThread.start();
+    awaitWaiters( 1 );
+    zThread.interrupt();
+    zThread.join( 5000 );
+    Assert.assertTrue( String.valueOf( zThrown.get() ), zThrown.get() instanceof InterruptedException );
+    Assert.assertEquals( 0, mSource.getWaiterCount() );
+  }
+
+  @Test
+  public void test_AutoAdvanceSimulation()
+          throws Exception {
+    // 3 "actors" each sleeping ~a year in 1000 steps; only the virtual time passes
+    mSource.setAutoAdvance( 3 );
+    AtomicReference<Throwable> zFailure = new AtomicReference<>();
+    Thread[] zThreads = new Thread[3];
+    for ( int t = 0; t < zThreads.length; t++ ) {
+      long zStep = Duration.ofHours( 8 + t ).toMillis();
+      zThreads[t] = start( () -> {
+        for ( int i = 0; i < 1000; i++ ) {
+          long zDeadline = mSource.currentTimeMillis() + zStep;
+          mSource.sleep( zStep );
+          if ( mSource.currentTimeMillis() < zDeadline ) {
+            zFailure.set( new AssertionError( "Woke early" ) );
+          }
+        }
+      } );
+    }
+    zThreads[0].join( 20000 ); // the shortest steps finish first
+    mSource.setAutoAdvance( 2 ); // the remaining parties
+    zThreads[1].join( 20000 );
+    mSource.setAutoAdvance( 1 );
+    zThreads[2].join( 20000 );
+    Assert.assertNull( zFailure.get() );
+    Assert.assertFalse( zThreads[2].isAlive() );
+    Assert.assertTrue( mSource.now().isAfter( START.plusDays( 400 ) ) );
+  }
+
+  @Test
+  public void test_DrivesTimingWheel() {
+    HashedTimingWheel zWheel = new HashedTimingWheel( mSource, 1000 );
+    AtomicLong zFiredAt = new AtomicLong();
+    zWheel.schedule( () -> zFiredAt.set( mSource.currentTimeMillis() ), START.plusHours( 1 ) );
+    for ( int i = 0; i < 120; i++ ) {
+      mSource.advance( Duration.ofMinutes( 1 ) );
+      zWheel.advance();
+    }
+    Assert.assertEquals( START.plusHours( 1 ).plusMinutes( 1 ).toEpochMilli(), zFiredAt.get() ); // deadline rounded up to the 1 sec tick
+  }
+
+  private interface Body {
+    void run()
+            throws Exception;
+  }
+
+  private static Thread start( Body pBody ) {
+    Thread zThread = new Thread( () -> {
+      try {
+        pBody.run();
+      }
+      catch ( Exception e ) {
+        throw new IllegalStateException( e );
+      }
+    } );
+    zThread.setDaemon( true );
+    zThread.start();
+    return zThread;
+  }
+
+  private void awaitWaiters( int pCount )
+          throws InterruptedException {
+    long zGiveUpAt = System.currentTimeMillis() + 5000;
+    while ( (mSource.getWaiterCount() != pCount) && (System.currentTimeMillis() < zGiveUpAt) ) {
+      Thread.sleep( 1 );
+    }
+    Assert.assertEquals( pCount, mSource.getWaiterCount() );
+  }
+}
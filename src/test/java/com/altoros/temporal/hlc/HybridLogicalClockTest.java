@@ -0,0 +1,194 @@
+package com.altoros.temporal.hlc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HybridLogicalClockTest {
+  private static final long BASE = ZuluDateTime.parse( "2018-09-01T00:00:00.000Z" ).toEpochMilli();
+
+  private static class Node {
+    final AtomicLong mWallClock;
+    final HybridLogicalClock mClock;
+
+    Node( long pSkewMillis ) {
+      mWallClock = new AtomicLong( BASE + pSkewMillis );
+      mClock = new HybridLogicalClock( mWallClock::get );
+    }
+  }
+
+  @Test
+  public void test_LocalEvents() {
+    Node zNode = new Node( 0 );
+    long zT1 = zNode.mClock.now();
+    Assert.assertEquals( HybridLogicalClock.pack( BASE, 0 ), zT1 );
+    long zT2 = zNode.mClock.now();
+    Assert.assertEquals( HybridLogicalClock.pack( BASE, 1 ), zT2 );
+
+    zNode.mWallClock.addAndGet( 5 );
+    Assert.assertEquals( HybridLogicalClock.pack( BASE + 5, 0 ), zNode.mClock.now() );
+
+    zNode.mWallClock.addAndGet( -100 ); // Backwards step
+    Assert.assertEquals( HybridLogicalClock.pack( BASE + 5, 1 ), zNode.mClock.now() );
+  }
+
+  @Test
+  public void test_LogicalOverflowCarries() {
+    Node zNode = new Node( 0 );
+    long zLast = 0;
+    for ( int i = 0; i <= HybridLogicalClock.LOGICAL_MASK + 1; i++ ) {
+      zLast = zNode.mClock.now();
+    }
+    Assert.assertEquals( HybridLogicalClock.pack( BASE + 1, 0 ), zLast );
+  }
+
+  @Test
+  public void test_CausalityAcrossSkewedNodes() {
+    Node[] zNodes = {new Node( 0 ), new Node( 250 ), new Node( -400 )};
+    Random zRandom = new Random( 42 );
+    List<long[]> zMessages = new ArrayList<>(); // {sentStamp, toNode}
+    for ( int zStep = 0; zStep < 20000; zStep++ ) {
+      Node zNode = zNodes[zRandom.nextInt( zNodes.length )];
+      zNode.mWallClock.addAndGet( zRandom.nextInt( 3 ) ); // Each node's clock advances independently
+      switch ( zRandom.nextInt( 3 ) ) {
+        case 0: // Local event
+          Assert.assertTrue( zNode.mClock.now() > 0 );
+          break;
+        case 1: // Send
+          zMessages.add( new long[]{zNode.mClock.now(), zRandom.nextInt( zNodes.length )} );
+          break;
+        default: // Receive (any pending message)
+          if ( !zMessages.isEmpty() ) {
+            long[] zMessage = zMessages.remove( zRandom.nextInt( zMessages.size() ) );
+            HybridLogicalClock zReceiver = zNodes[(int)zMessage[1]].mClock;
+            long zBefore = zReceiver.last();
+            long zReceived = zReceiver.update( zMessage[0] );
+            Assert.assertTrue( "causality", zReceived > zMessage[0] );
+            Assert.assertTrue( "monotonic", zReceived > zBefore );
+          }
+      }
+    }
+    for ( Node zNode : zNodes ) { // Logical time stays close to physical time (bounded by the skew)
+      long zDrift = HybridLogicalClock.physicalMillis( zNode.mClock.last() ) - zNode.mWallClock.get();
+      Assert.assertTrue( "drift " + zDrift, zDrift <= 650 );
+    }
+  }
+
+  @Test
+  public void test_MaxDrift() {
+    HybridLogicalClock zClock = new HybridLogicalClock( () -> BASE, 1000 );
+    Assert.assertTrue( zClock.update( HybridLogicalClock.pack( BASE + 1000, 7 ) ) > 0 );
+    try {
+      zClock.update( HybridLogicalClock.pack( BASE + 1001, 0 ) );
+      Assert.fail( "Expected IllegalArgumentException" );
+    }
+    catch ( IllegalArgumentException expected ) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void test_NeverWrapsBackwards() {
+    HybridLogicalClock zClock = new HybridLogicalClock( () -> BASE, Long.MAX_VALUE );
+    for ( long zReceived : new long[]{Long.MAX_VALUE, HybridLogicalClock.pack( HybridLogicalClock.MAX_PHYSICAL_MILLIS, 0xFFFF ),
+                                      HybridLogicalClock.pack( HybridLogicalClock.MAX_PHYSICAL_MILLIS, 0 )} ) {
+      try {
+        zClock.update( zReceived );
+        Assert.fail( "Expected IllegalArgumentException" );
+      }
+      catch ( IllegalArgumentException expected ) {
+        // Expected
+      }
+    }
+    Assert.assertEquals( 0, zClock.last() );
+    try {
+      new HybridLogicalClock( () -> BASE ).update( HybridLogicalClock.pack( BASE + 60001, 0 ) ); // default drift limit
+      Assert.fail( "Expected IllegalArgumentException" );
+    }
+    catch ( IllegalArgumentException expected ) {
+      // Expected
+    }
+
+    long zHighest = HybridLogicalClock.pack( HybridLogicalClock.MAX_PHYSICAL_MILLIS - 1, 0xFFFF );
+    Assert.assertEquals( HybridLogicalClock.pack( HybridLogicalClock.MAX_PHYSICAL_MILLIS, 0 ), zClock.update( zHighest ) );
+    long zLast = 0;
+    for ( int i = 0; i < HybridLogicalClock.LOGICAL_MASK; i++ ) {
+      zLast = zClock.now();
+    }
+    Assert.assertEquals( Long.MAX_VALUE, zLast );
+    try {
+      zClock.now();
+      Assert.fail( "Expected IllegalStateException" );
+    }
+    catch ( IllegalStateException expected ) {
+      // Expected
+    }
+    Assert.assertEquals( Long.MAX_VALUE, zClock.last() ); // did not go backwards
+  }
+
+  @Test
+  public void test_ManyThreadsUnique()
+          throws Exception {
+    HybridLogicalClock zClock = new HybridLogicalClock( System::currentTimeMillis );
+    long[][] zStamps = new long[8][10000];
+    Thread[] zThreads = new Thread[zStamps.length];
+    for ( int t = 0; t < zThreads.length; t++ ) {
+      long[] zMine = zStamps[t];
+      zThreads[t] = new Thread( () -> {
+        for ( int i = 0; i < zMine.length; i++ ) {
+          zMine[i] = zClock.now();
+        }
+      } );
+      zThreads[t].start();
+    }
+    long[] zAll = new long[zStamps.length * zStamps[0].length];
+    for ( int t = 0; t < zThreads.length; t++ ) {
+      zThreads[t].join();
+      System.arraycopy( zStamps[t], 0, zAll, t * zStamps[t].length, zStamps[t].length );
+    }
+    Arrays.sort( zAll );
+    for ( int i = 1; i < zAll.length; i++ ) {
+      Assert.assertNotEquals( zAll[i - 1], zAll[i] );
+    }
+  }
+
+  @Test
+  public void test_Renderings() {
+    long zStamp = HybridLogicalClock.pack( ZuluDateTime.parse( "2018-09-01T12:34:56.789Z" ).toEpochMilli(), 0x1A );
+    Assert.assertEquals( "2018-09-01T12:34:56.789Z", HybridLogicalClock.toZuluDateTime( zStamp ).toString() );
+    Assert.assertEquals( "2018-09-01T12:34:56.789Z-001A", HybridLogicalClock.toString( zStamp ) );
+
+    String zSortable = HybridLogicalClock.toSortableString( zStamp );
+    Assert.assertEquals( 16, zSortable.length() );
+    Assert.assertEquals( zStamp, HybridLogicalClock.fromSortableString( zSortable ) );
+    Assert.assertEquals( zStamp, HybridLogicalClock.fromSortableString( zSortable.toLowerCase() ) );
+    Assert.assertEquals( zStamp, HybridLogicalClock.fromBytes( HybridLogicalClock.toBytes( zStamp ), 0 ) );
+
+    Random zRandom = new Random( 7 );
+    for ( int i = 0; i < 10000; i++ ) {
+      long zA = zRandom.nextLong() >>> 1;
+      long zB = zRandom.nextLong() >>> (1 + zRandom.nextInt( 8 ));
+      int zExpected = Long.signum( Long.compare( zA, zB ) );
+      Assert.assertEquals( zExpected, Integer.signum( HybridLogicalClock.toSortableString( zA )
+                                                              .compareTo( HybridLogicalClock.toSortableString( zB ) ) ) );
+      Assert.assertEquals( zExpected, Integer.signum( compareUnsigned( HybridLogicalClock.toBytes( zA ),
+                                                                       HybridLogicalClock.toBytes( zB ) ) ) );
+    }
+  }
+
+  private static int compareUnsigned( byte[] pA, byte[] pB ) {
+    for ( int i = 0; i < pA.length; i++ ) {
+      int zDiff = (pA[i] & 0xFF) - (pB[i] & 0xFF);
+      if ( zDiff != 0 ) {
+        return zDiff;
+      }
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,157 @@
+package com.altoros.temporal.iso8601;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ZuluDateTest {
+  @Test
+  public void test_MatchesLocalDate() {
+    Random zRandom = new Random( 23 );
+    for ( int i = 0; i < 20000; i++ ) {
+      long zEpochDay = (i < 10000) ? (zRandom.nextInt( 3000000 ) - 719528) : zRandom.nextInt(); // 0000-9999ish, then anything
+      LocalDate zExpected = LocalDate.ofEpochDay( zEpochDay );
+      ZuluDate zDate = ZuluDate.ofEpochDay( zEpochDay );
+      Assert.assertEquals( zExpected.toString(), zDate.toString() );
+      Assert.assertEquals( zExpected.toString().length(), zDate.renderedLength() );
+      Assert.assertEquals( zDate, ZuluDate.parse( zExpected.toString() ) );
+      Assert.assertEquals( zExpected, zDate.toLocalDate() );
+      Assert.assertEquals( zDate, ZuluDate.ofLocalDate( zExpected ) );
+      Assert.assertEquals( zExpected.getYear(), zDate.getYear() );
+      Assert.assertEquals( zExpected.getMonthValue(), zDate.getMonthValue() );
+      Assert.assertEquals( zExpected.getDayOfMonth(), zDate.getDayOfMonth() );
+      Assert.assertEquals( zExpected.getDayOfYear(), zDate.getDayOfYear() );
+      Assert.assertEquals( zExpected.getDayOfWeek(), zDate.getDayOfWeek() );
+      Assert.assertEquals( zExpected.lengthOfMonth(), zDate.lengthOfMonth() );
+      Assert.assertEquals( zExpected.isLeapYear(), zDate.isLeapYear() );
+      if ( Math.abs( zExpected.getYear() ) < 5000000 ) {
+        Assert.assertEquals( zExpected.plusMonths( 13 ).toEpochDay(), zDate.plusMonths( 13 ).toEpochDay() );
+        Assert.assertEquals( zExpected.minusYears( 3 ).toEpochDay(), zDate.minusYears( 3 ).toEpochDay() );
+      }
+      Assert.assertEquals( zDate, ZuluDate.of( zDate.getYear(), zDate.getMonthValue(), zDate.getDayOfMonth() ) );
+    }
+  }
+
+  @Test
+  public void test_ConversionsWithZuluDateTime() {
+    ZuluDateTime zDT = ZuluDateTime.parse( "2018-09-12T10:11:12.013Z" );
+    ZuluDate zDate = zDT.toZuluDate();
+    Assert.assertEquals( "2018-09-12", zDate.toString() );
+    Assert.assertEquals( ZuluDate.of( 2018, Month.SEPTEMBER, 12 ), zDate );
+    Assert.assertEquals( zDT.toLocalDate().toEpochDay(), zDate.toEpochDay() );
+    Assert.assertEquals( zDate.toEpochDay(), ZuluDate.epochDayOf( zDT.toEpochMilli() ) );
+    Assert.assertEquals( ZuluDateTime.parse( "2018-09-12T00:00:00.000Z" ), zDate.atStartOfDay() );
+    Assert.assertEquals( zDate.atStartOfDay().toEpochMilli(), ZuluDate.startOfDayEpochMilli( zDate.toEpochDay() ) );
+    Assert.assertEquals( zDT, zDate.atTime( zDT.toZuluTimeOfDay() ) );
+    Assert.assertEquals( zDT, ZuluDateTime.of( zDate, zDT.toZuluTimeOfDay() ) );
+    Assert.assertEquals( ZuluDate.of( 1969, 12, 31 ), ZuluDate.ofEpochMilli( -1 ) );
+    Assert.assertEquals( -1, ZuluDate.epochDayOf( -1 ) );
+    Assert.assertEquals( ZuluDate.EPOCH, ZuluDate.now( () -> 86399999 ) );
+
+    Assert.assertEquals( "2018-10-12", zDate.plusMonths( 1 ).toString() );
+    Assert.assertEquals( "2019-02-28", ZuluDate.parse( "2016-02-29" ).plusYears( 3 ).toString() );
+    Assert.assertEquals( 30, zDate.daysUntil( zDate.plusDays( 30 ) ) );
+    Assert.assertEquals( zDate, zDate.plusDays( 30 ).minusDays( 30 ) );
+    Assert.assertTrue( zDate.isBefore( zDate.plusDays( 1 ) ) );
+    Assert.assertTrue( zDate.plusDays( 1 ).isAfter( zDate ) );
+    Assert.assertTrue( zDate.compareTo( zDate.minusDays( 1 ) ) > 0 );
+
+    try {
+      ZuluDateTime.ofEpochMilli( Long.MAX_VALUE ).toZuluDate(); // beyond the int epoch day range
+      Assert.fail( "Expected ArithmeticException" );
+    }
+    catch ( ArithmeticException expected ) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void test_ParseAndRender() {
+    char[] zChars = "x 2018-09-12 x".toCharArray();
+    Assert.assertEquals( ZuluDate.of( 2018, 9, 12 ), ZuluDate.parse( zChars, 1, 13 ) );
+    Assert.assertEquals( ZuluDate.of( 2018, 9, 12 ), ZuluDate.parse( "x 2018-09-12 x", 1, 13 ) );
+    Assert.assertEquals( ZuluDate.of( 12018, 9, 12 ), ZuluDate.parse( "+12018-09-12" ) );
+    Assert.assertEquals( "+12018-09-12", ZuluDate.of( 12018, 9, 12 ).toString() );
+
+    char[] zBuffer = new char[12];
+    Assert.assertEquals( 11, ZuluDate.of( 2018, 9, 12 ).renderTo( zBuffer, 1 ) );
+    Assert.assertEquals( "2018-09-12", new String( zBuffer, 1, 10 ) );
+    Assert.assertEquals( "[2018-09-12", ZuluDate.of( 2018, 9, 12 ).renderTo( new StringBuilder( "[" ) ).toString() );
+    try {
+      ZuluDate.of( 2018, 9, 12 ).renderTo( zBuffer, 3 );
+      Assert.fail( "Expected IndexOutOfBoundsException" );
+    }
+    catch ( IndexOutOfBoundsException expected ) {
+      // Expected
+    }
+
+    for ( String zBad : new String[]{"2018-02-29", "2018-13-01", "2018-9-12", "2018-09-12T00:00:00Z"} ) {
+      try {
+        ZuluDate.parse( zBad );
+        Assert.fail( "Expected DateTimeParseException for: " + zBad );
+      }
+      catch ( DateTimeParseException expected ) {
+        // Expected
+      }
+    }
+    try {
+      ZuluDate.of( 2018, 2, 29 );
+      Assert.fail( "Expected DateTimeException" );
+    }
+    catch ( DateTimeException expected ) {
+      // Expected
+    }
+    try {
+      ZuluDate.parse( "  " );
+      Assert.fail( "Expected IllegalArgumentException" );
+    }
+    catch ( IllegalArgumentException expected ) {
+      // Expected
+    }
+  }
+
+  public static class Carrier {
+    ZuluDate mDate;
+    ZuluTimeOfDay mTime;
+  }
+
+  @Test
+  public void test_JsonAndSerialization()
+          throws Exception {
+    Carrier zCarrier = new Carrier();
+    zCarrier.mDate = ZuluDate.of( 2018, 9, 12 );
+    zCarrier.mTime = ZuluTimeOfDay.of( 10, 11, 12, 13 );
+    Gson zGson = new Gson(); // via the @JsonAdapter annotations
+    String zJson = zGson.toJson( zCarrier );
+    Assert.assertEquals( "{\"mDate\":\"2018-09-12\",\"mTime\":\"10:11:12.013Z\"}", zJson );
+    Carrier zRead = zGson.fromJson( zJson, Carrier.class );
+    Assert.assertEquals( zCarrier.mDate, zRead.mDate );
+    Assert.assertEquals( zCarrier.mTime, zRead.mTime );
+
+    ObjectMapper zMapper = new ObjectMapper(); // via the @JsonCreator & @JsonValue annotations
+    Assert.assertEquals( "\"2018-09-12\"", zMapper.writeValueAsString( zCarrier.mDate ) );
+    Assert.assertEquals( zCarrier.mDate, zMapper.readValue( "\" 2018-09-12\"", ZuluDate.class ) );
+    Assert.assertNull( ZuluDate.jsonCreator( " " ) );
+
+    ByteArrayOutputStream zBytes = new ByteArrayOutputStream();
+    try ( ObjectOutputStream zOut = new ObjectOutputStream( zBytes ) ) {
+      zOut.writeObject( zCarrier.mDate );
+      zOut.writeObject( zCarrier.mTime );
+    }
+    try ( ObjectInputStream zIn = new ObjectInputStream( new ByteArrayInputStream( zBytes.toByteArray() ) ) ) {
+      Assert.assertEquals( zCarrier.mDate, zIn.readObject() );
+      Assert.assertEquals( zCarrier.mTime, zIn.readObject() );
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package com.altoros.temporal.iso8601;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ZuluDateTimeArrayTest {
+  private static final long BASE = ZuluDateTime.parse( "2018-09-01T00:00:00.000Z" ).toEpochMilli();
+
+  @Test
+  public void test_BuildSortSearch() {
+    Random zRandom = new Random( 5 );
+    long[] zExpected = new long[100000];
+    ZuluDateTimeArray.Builder zBuilder = ZuluDateTimeArray.builder();
+    for ( int i = 0; i < zExpected.length; i++ ) {
+      zBuilder.add( zExpected[i] = BASE + zRandom.nextInt( 1000000 ) );
+    }
+    Assert.assertFalse( ZuluDateTimeArray.of( zExpected ).isSorted() );
+    Arrays.sort( zExpected );
+
+    ZuluDateTimeArray zHeap = zBuilder.sort().build();
+    Assert.assertEquals( 0, zBuilder.size() );
+    ZuluDateTimeArray zOffHeap = ZuluDateTimeArray.builder().addAll( zExpected, 0, zExpected.length ).buildOffHeap();
+    Assert.assertFalse( zHeap.isOffHeap() );
+    Assert.assertTrue( zOffHeap.isOffHeap() );
+
+    for ( ZuluDateTimeArray zArray : new ZuluDateTimeArray[]{zHeap, zOffHeap} ) {
+      Assert.assertTrue( zArray.isSorted() );
+      Assert.assertSame( zArray, zArray.sorted() );
+      Assert.assertArrayEquals( zExpected, zArray.toEpochMillis() );
+      for ( int i = 0; i < 1000; i++ ) {
+        long zKey = BASE - 10 + zRandom.nextInt( 1000020 );
+        Assert.assertEquals( Integer.signum( Arrays.binarySearch( zExpected, zKey ) ), Integer.signum( zArray.binarySearch( zKey ) ) );
+        int zLower = zArray.lowerBound( zKey );
+        Assert.assertTrue( (zLower == 0) || (zExpected[zLower - 1] < zKey) );
+        Assert.assertTrue( (zLower == zExpected.length) || (zExpected[zLower] >= zKey) );
+        int zIndex = zArray.binarySearch( zKey );
+        Assert.assertEquals( (zIndex >= 0) ? zLower : (-zLower - 1), zIndex );
+
+        int[] zRange = zArray.rangeIndices( zKey, zKey + 5000 );
+        long zCount = Arrays.stream( zExpected ).filter( x -> (zKey <= x) && (x < zKey + 5000) ).count();
+        Assert.assertEquals( zCount, zRange[1] - zRange[0] );
+      }
+      long[] zSum = {0};
+      zArray.forEach( x -> zSum[0] += x - BASE );
+      Assert.assertEquals( Arrays.stream( zExpected ).map( x -> x - BASE ).sum(), zSum[0] );
+    }
+  }
+
+  @Test
+  public void test_UnsortedAndViews() {
+    ZuluDateTimeArray zArray = ZuluDateTimeArray.of( BASE + 3, BASE + 1, BASE + 2, BASE + 1 );
+    Assert.assertFalse( zArray.isSorted() );
+    try {
+      zArray.binarySearch( BASE );
+      Assert.fail( "Expected IllegalStateException" );
+    }
+    catch ( IllegalStateException expected ) {
+      // Expected
+    }
+    ZuluDateTimeArray zSorted = zArray.sorted();
+    Assert.assertArrayEquals( new long[]{BASE + 1, BASE + 1, BASE + 2, BASE + 3}, zSorted.toEpochMillis() );
+    Assert.assertEquals( 0, zSorted.binarySearch( ZuluDateTime.ofEpochMilli( BASE + 1 ) ) );
+    Assert.assertArrayEquals( new int[]{0, 2}, zSorted.rangeIndices( BASE + 1, BASE + 2 ) );
+    Assert.assertArrayEquals( new int[]{4, 4}, zSorted.rangeIndices( BASE + 9, BASE + 2 ) );
+    Assert.assertEquals( 2, zSorted.upperBound( BASE + 1 ) );
+
+    List<ZuluDateTime> zList = zArray.asList();
+    Assert.assertEquals( 4, zList.size() );
+    Assert.assertEquals( ZuluDateTime.ofEpochMilli( BASE + 3 ), zList.get( 0 ) );
+    Assert.assertEquals( 1, zList.indexOf( ZuluDateTime.ofEpochMilli( BASE + 1 ) ) );
+    Assert.assertEquals( 2, zSorted.asList().lastIndexOf( ZuluDateTime.ofEpochMilli( BASE + 2 ) ) );
+    Assert.assertTrue( zSorted.asList().contains( ZuluDateTime.ofEpochMilli( BASE + 3 ) ) );
+    Assert.assertFalse( zSorted.asList().contains( ZuluDateTime.ofEpochMilli( BASE ) ) );
+    try {
+      zList.add( ZuluDateTime.ofEpochMilli( BASE ) );
+      Assert.fail( "Expected UnsupportedOperationException" );
+    }
+    catch ( UnsupportedOperationException expected ) {
+      // Expected
+    }
+    try {
+      zArray.get( 4 );
+      Assert.fail( "Expected IndexOutOfBoundsException" );
+    }
+    catch ( IndexOutOfBoundsException expected ) {
+      // Expected
+    }
+    Assert.assertTrue( ZuluDateTimeArray.builder().build().isEmpty() );
+    Assert.assertEquals( 0, ZuluDateTimeArray.of().rangeIndices( BASE, BASE + 1 )[1] );
+  }
+
+  @Test
+  public void test_Wrap() {
+    ByteBuffer zBuffer = ByteBuffer.allocateDirect( 8 * 12 );
+    zBuffer.putLong( -1 ); // Not part of the array
+    for ( int i = 0; i < 10; i++ ) {
+      zBuffer.putLong( BASE + (i * 1000) );
+    }
+    zBuffer.flip().position( 8 );
+    ZuluDateTimeArray zArray = ZuluDateTimeArray.wrap( zBuffer );
+    Assert.assertEquals( 10, zArray.size() );
+    Assert.assertTrue( zArray.isSorted() );
+    Assert.assertEquals( "2018-09-01T00:00:09.000Z", zArray.get( 9 ).toString() );
+    Assert.assertEquals( 5, zArray.binarySearch( BASE + 5000 ) );
+    zBuffer.limit( zBuffer.limit() - 1 );
+    try {
+      ZuluDateTimeArray.wrap( zBuffer );
+      Assert.fail( "Expected IllegalArgumentException" );
+    }
+    catch ( IllegalArgumentException expected ) {
+      // Expected
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package com.altoros.temporal.iso8601;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.litesoft.annotations.NotNull;
+
+public class ZuluDateTimeCacheTest {
+  private static final long BASE = ZuluDateTime.parse( "2018-09-12T10:11:12.013Z" ).toEpochMilli();
+
+  @After
+  public void tearDown() {
+    ZuluDateTimeCache.uninstall();
+  }
+
+  @Test
+  public void test_NotInstalledByDefault() {
+    Assert.assertNull( ZuluDateTimeCache.installed() );
+    Assert.assertNotSame( ZuluDateTime.now( () -> BASE ), ZuluDateTime.now( () -> BASE ) );
+    ZuluDateTime zDT = ZuluDateTime.ofEpochMilli( BASE );
+    Assert.assertNotSame( zDT.toString(), zDT.toString() );
+  }
+
+  @Test
+  public void test_BadCapacityPropertyDoesNotBreakClassInit()
+          throws Exception {
+    String zPrevious = System.getProperty( ZuluDateTimeCache.CAPACITY_PROPERTY );
+    try {
+      for ( String zCapacity : new String[]{"4k", "0", "999999999", "4096"} ) {
+        System.setProperty( ZuluDateTimeCache.CAPACITY_PROPERTY, zCapacity );
+        // A fresh copy of the classes, so their static initializers run with the property
+        try ( URLClassLoader zLoader = new URLClassLoader( new URL[]{locationOf( ZuluDateTime.class ), locationOf( NotNull.class )}, null ) ) {
+          Class<?> zZuluDateTime = Class.forName( ZuluDateTime.class.getName(), true, zLoader );
+          Object zParsed = zZuluDateTime.getMethod( "parse", CharSequence.class ).invoke( null, "2018-09-12T10:11:12.013Z" );
+          Assert.assertEquals( "2018-09-12T10:11:12.013Z", zParsed.toString() );
+          Object zInstalled = Class.forName( ZuluDateTimeCache.class.getName(), true, zLoader ).getMethod( "installed" ).invoke( null );
+          Assert.assertEquals( zCapacity, "4096".equals( zCapacity ), zInstalled != null );
+        }
+      }
+    }
+    finally {
+      if ( zPrevious == null ) {
+        System.clearProperty( ZuluDateTimeCache.CAPACITY_PROPERTY );
+      } else {
+        System.setProperty( ZuluDateTimeCache.CAPACITY_PROPERTY, zPrevious );
+      }
+    }
+  }
+
+  private static URL locationOf( Class<?> pClass ) {
+    return pClass.getProtectionDomain().getCodeSource().getLocation();
+  }
+
+  @Test
+  public void test_CanonicalizesAndMemoizes() {
+    ZuluDateTimeCache zCache = ZuluDateTimeCache.install( 1000 );
+    Assert.assertSame( zCache, ZuluDateTimeCache.installed() );
+    Assert.assertEquals( 1024, zCache.capacity() );
+
+    ZuluDateTime zNow = ZuluDateTime.now( () -> BASE );
+    Assert.assertSame( zNow, ZuluDateTime.now( () -> BASE ) );
+    Assert.assertSame( zNow, ZuluDateTime.ofInstant( Instant.ofEpochMilli( BASE ) ) );
+    Assert.assertSame( zNow, ZuluDateTime.parse( "2018-09-12T10:11:12.013Z" ) );
+    Assert.assertSame( zNow, ZuluDateTime.parse( " 2018-09-12T10:11:12.0139Z" ) ); // non-canonical form
+    byte[] zBytes = "2018-09-12T10:11:12.013Z".getBytes( StandardCharsets.US_ASCII );
+    Assert.assertSame( zNow, ZuluDateTime.parse( zBytes, 0, zBytes.length ) );
+    Assert.assertEquals( 1, zCache.getInstanceMissCount() );
+    Assert.assertEquals( 5, zCache.getInstanceHitCount() );
+
+    ZuluDateTime zOther = ZuluDateTime.ofEpochMilli( BASE ); // never cached
+    Assert.assertNotSame( zNow, zOther );
+    String zRendered = zOther.toString();
+    Assert.assertEquals( "2018-09-12T10:11:12.013Z", zRendered );
+    Assert.assertSame( zRendered, zNow.toString() );
+    Assert.assertSame( zRendered, zNow.jsonValue() );
+    Assert.assertSame( zNow, ZuluDateTime.now( () -> BASE ) ); // rendering kept the canonical instance
+    Assert.assertEquals( 1, zCache.getStringMissCount() );
+    Assert.assertEquals( 2, zCache.getStringHitCount() );
+
+    // Direct mapped: a colliding Millisec replaces the entry
+    ZuluDateTime zColliding = ZuluDateTime.now( () -> BASE + 1024 );
+    Assert.assertEquals( BASE + 1024, zColliding.toEpochMilli() );
+    Assert.assertNotSame( zNow, ZuluDateTime.now( () -> BASE ) );
+    Assert.assertEquals( zNow, ZuluDateTime.now( () -> BASE ) );
+
+    zCache.resetCounts();
+    zCache.clear();
+    Assert.assertEquals( 0, zCache.getInstanceHitCount() );
+    ZuluDateTime.now( () -> BASE );
+    Assert.assertEquals( 1, zCache.getInstanceMissCount() );
+  }
+
+  @Test
+  public void test_ConcurrentValuesAreCorrect()
+          throws InterruptedException {
+    ZuluDateTimeCache zCache = ZuluDateTimeCache.install( 64 ); // small, so lots of replacement
+    ConcurrentHashMap<Long, String> zExpected = new ConcurrentHashMap<>();
+    for ( long i = 0; i < 500; i++ ) {
+      zExpected.put( BASE + i, ZuluDateTime.RENDERING_ISO_8601_3_FACTIONAL_SEC.format( Instant.ofEpochMilli( BASE + i ) ) );
+    }
+    AtomicReference<Throwable> zFailure = new AtomicReference<>();
+    CountDownLatch zStart = new CountDownLatch( 1 );
+    Thread[] zThreads = new Thread[4];
+    for ( int t = 0; t < zThreads.length; t++ ) {
+      int zSeed = t;
+      zThreads[t] = new Thread( () -> {
+        try {
+          zStart.await();
+          for ( int i = 0; i < 20000; i++ ) {
+            long zMillis = BASE + ((i * 7 + zSeed) % 500);
+            ZuluDateTime zDT = ((i & 1) == 0) ? ZuluDateTime.now( () -> zMillis ) : ZuluDateTime.parse( zExpected.get( zMillis ) );
+            Assert.assertEquals( zMillis, zDT.toEpochMilli() );
+            Assert.assertEquals( zExpected.get( zMillis ), zDT.toString() );
+          }
+        }
+        catch ( Throwable e ) {
+          zFailure.set( e );
+        }
+      } );
+      zThreads[t].start();
+    }
+    zStart.countDown();
+    for ( Thread zThread : zThreads ) {
+      zThread.join();
+    }
+    Assert.assertNull( zFailure.get() );
+    Assert.assertEquals( 80000, zCache.getInstanceHitCount() + zCache.getInstanceMissCount() );
+  }
+
+  @Test
+  public void test_Capacity() {
+    Assert.assertEquals( 1, new ZuluDateTimeCache( 1 ).capacity() );
+    Assert.assertEquals( ZuluDateTimeCache.MAX_CAPACITY, new ZuluDateTimeCache( ZuluDateTimeCache.MAX_CAPACITY ).capacity() );
+    for ( int zBad : new int[]{0, -1, ZuluDateTimeCache.MAX_CAPACITY + 1} ) {
+      try {
+        new ZuluDateTimeCache( zBad );
+        Assert.fail( "Expected IllegalArgumentException for: " + zBad );
+      }
+      catch ( IllegalArgumentException expected ) {
+        // Expected
+      }
+    }
+  }
+}
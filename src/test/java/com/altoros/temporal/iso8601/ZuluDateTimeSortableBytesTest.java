@@ -0,0 +1,144 @@
+package com.altoros.temporal.iso8601;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ZuluDateTimeSortableBytesTest {
+  private static final long[] EDGES = {Long.MIN_VALUE, Long.MIN_VALUE + 1, -86400000L, -256, -255, -1, 0, 1, 255, 256,
+                                       1536710400000L, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+
+  @Test
+  public void test_OrderingMatchesCompareTo() {
+    Random zRandom = new Random( 17 );
+    List<Long> zMillis = new ArrayList<>();
+    for ( long zEdge : EDGES ) {
+      zMillis.add( zEdge );
+    }
+    for ( int i = 0; i < 2000; i++ ) {
+      zMillis.add( zRandom.nextLong() );
+      zMillis.add( 1536710400000L + zRandom.nextInt() ); // same leading bytes
+    }
+    for ( int i = 0; i < zMillis.size(); i++ ) {
+      ZuluDateTime zDT1 = ZuluDateTime.ofEpochMilli( zMillis.get( i ) );
+      byte[] zKey1 = zDT1.toSortableBytes();
+      Assert.assertEquals( zDT1, ZuluDateTime.fromSortableBytes( zKey1 ) );
+      for ( int j = Math.max( 0, i - 50 ); j < zMillis.size(); j += 1 + (j / 50) ) { // every pair near i, plus a sample
+        ZuluDateTime zDT2 = ZuluDateTime.ofEpochMilli( zMillis.get( j ) );
+        byte[] zKey2 = zDT2.toSortableBytes();
+        int zExpected = Integer.signum( zDT1.compareTo( zDT2 ) );
+        Assert.assertEquals( zExpected, Integer.signum( ZuluDateTimeSortableBytes.BYTE_ARRAY_COMPARATOR.compare( zKey1, zKey2 ) ) );
+        Assert.assertEquals( zExpected, Integer.signum( ZuluDateTimeSortableBytes.BYTE_BUFFER_COMPARATOR.compare(
+                ByteBuffer.wrap( zKey1 ), ByteBuffer.wrap( zKey2 ).order( ByteOrder.LITTLE_ENDIAN ) ) ) );
+        Assert.assertEquals( zExpected, Integer.signum( unsignedByteByByte( zKey1, zKey2 ) ) );
+      }
+    }
+
+    // Sort by key == sort by value
+    List<byte[]> zKeys = new ArrayList<>();
+    List<ZuluDateTime> zValues = new ArrayList<>();
+    for ( long zMilli : zMillis ) {
+      zKeys.add( ZuluDateTimeSortableBytes.of( zMilli ) );
+      zValues.add( ZuluDateTime.ofEpochMilli( zMilli ) );
+    }
+    zKeys.sort( ZuluDateTimeSortableBytes.BYTE_ARRAY_COMPARATOR );
+    Collections.sort( zValues );
+    for ( int i = 0; i < zKeys.size(); i++ ) {
+      Assert.assertEquals( zValues.get( i ), ZuluDateTime.fromSortableBytes( zKeys.get( i ) ) );
+    }
+  }
+
+  @Test
+  public void test_OffsetsBuffersAndCompositeKeys() {
+    ZuluDateTime zDT = ZuluDateTime.parse( "2018-09-12T00:00:00.000Z" );
+    byte[] zComposite = new byte[3 + 8 + 2];
+    Assert.assertEquals( 11, zDT.writeSortableBytes( zComposite, 3 ) );
+    Assert.assertEquals( zDT, ZuluDateTime.fromSortableBytes( zComposite, 3 ) );
+
+    ByteBuffer zBuffer = ByteBuffer.allocate( 16 ).order( ByteOrder.LITTLE_ENDIAN );
+    zBuffer.position( 4 );
+    zDT.writeSortableBytes( zBuffer.slice().order( ByteOrder.LITTLE_ENDIAN ) );
+    Assert.assertEquals( zDT, ZuluDateTime.fromSortableBytes( zBuffer, 4 ) );
+    byte[] zExpected = zDT.toSortableBytes();
+    for ( int i = 0; i < 8; i++ ) {
+      Assert.assertEquals( zExpected[i], zBuffer.get( 4 + i ) ); // big-endian regardless of the buffer's order
+    }
+    Assert.assertEquals( 0x80, zExpected[0] & 0xFF );
+
+    // Composite keys: time first, then a tie-breaking suffix
+    byte[] zEarlierA = composite( zDT, 2 ), zEarlierB = composite( zDT, 1 ), zLater = composite( zDT.plusMillis( 1 ), 0 );
+    Assert.assertTrue( ZuluDateTimeSortableBytes.compare( zEarlierB, zEarlierA ) < 0 );
+    Assert.assertTrue( ZuluDateTimeSortableBytes.compare( zEarlierA, zLater ) < 0 );
+    Assert.assertTrue( ZuluDateTimeSortableBytes.compare( zExpected, zEarlierA ) < 0 ); // prefix first
+
+    try {
+      ZuluDateTime.fromSortableBytes( new byte[7] );
+      Assert.fail( "Expected IllegalArgumentException" );
+    }
+    catch ( IllegalArgumentException expected ) {
+      // Expected
+    }
+    try {
+      ZuluDateTime.fromSortableBytes( zComposite, 6 );
+      Assert.fail( "Expected IndexOutOfBoundsException" );
+    }
+    catch ( IndexOutOfBoundsException expected ) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void test_RangeBoundsAndPrefix() {
+    ZuluDateTime zFrom = ZuluDateTime.parse( "2018-09-12T00:00:00.000Z" );
+    ZuluDateTime zTo = zFrom.plusDays( 1 );
+    byte[][] zBounds = ZuluDateTimeSortableBytes.rangeBounds( zFrom, zTo );
+    Assert.assertArrayEquals( zFrom.toSortableBytes(), zBounds[0] );
+    Assert.assertArrayEquals( zTo.toSortableBytes(), zBounds[1] );
+
+    byte[] zPrefix = ZuluDateTimeSortableBytes.prefix( zFrom, zTo );
+    Assert.assertTrue( zPrefix.length >= 4 ); // a day is < 2^27 ms
+    for ( long zMilli = zFrom.toEpochMilli(); zMilli < zTo.toEpochMilli(); zMilli += 997 ) {
+      assertStartsWith( zPrefix, ZuluDateTimeSortableBytes.of( zMilli ) );
+    }
+    assertStartsWith( zPrefix, ZuluDateTimeSortableBytes.of( zTo.toEpochMilli() - 1 ) );
+
+    Assert.assertEquals( 8, ZuluDateTimeSortableBytes.prefix( zFrom, zFrom.plusMillis( 1 ) ).length );
+    Assert.assertEquals( 0, ZuluDateTimeSortableBytes.prefix( ZuluDateTime.ofEpochMilli( -1 ), ZuluDateTime.ofEpochMilli( 1 ) ).length );
+    try {
+      ZuluDateTimeSortableBytes.rangeBounds( zTo, zFrom );
+      Assert.fail( "Expected IllegalArgumentException" );
+    }
+    catch ( IllegalArgumentException expected ) {
+      // Expected
+    }
+  }
+
+  private static byte[] composite( ZuluDateTime pDT, int pSuffix ) {
+    byte[] zKey = new byte[9];
+    pDT.writeSortableBytes( zKey, 0 );
+    zKey[8] = (byte)pSuffix;
+    return zKey;
+  }
+
+  private static void assertStartsWith( byte[] pPrefix, byte[] pKey ) {
+    for ( int i = 0; i < pPrefix.length; i++ ) {
+      Assert.assertEquals( pPrefix[i], pKey[i] );
+    }
+  }
+
+  private static int unsignedByteByByte( byte[] pKey1, byte[] pKey2 ) {
+    for ( int i = 0; i < pKey1.length; i++ ) {
+      int zResult = Integer.compare( pKey1[i] & 0xFF, pKey2[i] & 0xFF );
+      if ( zResult != 0 ) {
+        return zResult;
+      }
+    }
+    return 0;
+  }
+}
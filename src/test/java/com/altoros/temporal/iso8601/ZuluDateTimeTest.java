@@ -1,6 +1,34 @@
 package com.altoros.temporal.iso8601;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.io.StringWriter;
+import java.lang.reflect.Modifier;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+import java.util.function.Supplier;
 
 import com.altoros.temporal.MillisecTimeSource;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -40,6 +68,499 @@ public class ZuluDateTimeTest {
     }
   }
 
+  @Test
+  public void test_ParseSlices() {
+    String zLine = "INFO|2011-01-16T17:18:19.200Z|  2011-01-16T17:18:19.2Z\t|x";
+    ZuluDateTime zExpected = ZuluDateTime.parse( "2011-01-16T17:18:19.200Z" );
+    int zBar1 = zLine.indexOf( '|' ), zBar2 = zLine.indexOf( '|', zBar1 + 1 ), zBar3 = zLine.indexOf( '|', zBar2 + 1 );
+    char[] zChars = zLine.toCharArray();
+
+    Assert.assertEquals( zExpected, ZuluDateTime.parse( zLine, zBar1 + 1, zBar2 ) );             // canonical
+    Assert.assertEquals( zExpected, ZuluDateTime.parse( zLine, zBar2 + 1, zBar3 ) );             // padded, non-canonical
+    Assert.assertEquals( zExpected, ZuluDateTime.parse( new StringBuilder( zLine ), zBar1 + 1, zBar2 ) );
+    Assert.assertEquals( zExpected, ZuluDateTime.parse( zChars, zBar1 + 1, zBar2 ) );
+    Assert.assertEquals( zExpected, ZuluDateTime.parse( zChars, zBar2 + 1, zBar3 ) );
+
+    // Trailing whitespace must not drop the first character
+    Assert.assertEquals( zExpected, ZuluDateTime.parse( "2011-01-16T17:18:19.200Z \n" ) );
+    Assert.assertEquals( zExpected, ZuluDateTime.parse( " \t2011-01-16T17:18:19.200Z" ) );
+
+    assertParseFails( IllegalArgumentException.class, () -> ZuluDateTime.parse( zLine, zBar3, zBar3 ) );
+    assertParseFails( IllegalArgumentException.class, () -> ZuluDateTime.parse( "a   b".toCharArray(), 1, 4 ) );
+    assertParseFails( DateTimeParseException.class, () -> ZuluDateTime.parse( zLine, 0, zBar2 ) );
+    assertParseFails( DateTimeParseException.class, () -> ZuluDateTime.parse( zChars, 0, zBar2 ) );
+    assertParseFails( IndexOutOfBoundsException.class, () -> ZuluDateTime.parse( zLine, 5, zLine.length() + 1 ) );
+    assertParseFails( IndexOutOfBoundsException.class, () -> ZuluDateTime.parse( zChars, 5, 4 ) );
+    assertParseFails( IndexOutOfBoundsException.class, () -> ZuluDateTime.parse( zChars, -1, 4 ) );
+  }
+
+  @Test
+  public void test_ParseBytesMatchesParseString()
+          throws Exception {
+    String[] zFields = {"2011-01-16T17:18:19.200Z", " 2011-01-16T17:18:19.2Z\t", "2011-01-16T17:18:19Z", "\u20032011-01-16T17:18:19.200Z",
+                        "-1000-12-31T23:59:59.999Z", "2011-02-29T17:18:19.200Z", "2011-01-16T24:00:00.000Z", "2011-01-16t17:18:19.200Z",
+                        "2011-01-16T17:18:19.2x0Z", "  ", "", "\u00e9"};
+    StringBuilder zLine = new StringBuilder();
+    int[] zStarts = new int[zFields.length], zEnds = new int[zFields.length];
+    for ( int i = 0; i < zFields.length; i++ ) {
+      zLine.append( (i == 0) ? "" : "," );
+      zStarts[i] = zLine.toString().getBytes( StandardCharsets.UTF_8 ).length;
+      zLine.append( zFields[i] );
+      zEnds[i] = zLine.toString().getBytes( StandardCharsets.UTF_8 ).length;
+    }
+    byte[] zBytes = zLine.toString().getBytes( StandardCharsets.UTF_8 );
+    ByteBuffer zDirect = ByteBuffer.allocateDirect( zBytes.length + 10 );
+    zDirect.position( 10 );
+    zDirect.put( zBytes ).position( 3 );
+
+    Path zFile = Files.createTempFile( "ZuluDateTimeTest", ".csv" );
+    try {
+      Files.write( zFile, zBytes );
+      try ( FileChannel zChannel = FileChannel.open( zFile, StandardOpenOption.READ ) ) {
+        ByteBuffer zMapped = zChannel.map( FileChannel.MapMode.READ_ONLY, 0, zBytes.length );
+        for ( int i = 0; i < zFields.length; i++ ) {
+          String zField = zFields[i];
+          String zExpected = outcome( () -> ZuluDateTime.parse( zField ) );
+          int zStart = zStarts[i], zEnd = zEnds[i];
+          Assert.assertEquals( zField, zExpected, outcome( () -> ZuluDateTime.parse( zBytes, zStart, zEnd ) ) );
+          Assert.assertEquals( zField, zExpected, outcome( () -> ZuluDateTime.parse( zDirect, zStart + 10, zEnd + 10 ) ) );
+          Assert.assertEquals( zField, zExpected, outcome( () -> ZuluDateTime.parse( zMapped, zStart, zEnd ) ) );
+        }
+      }
+    }
+    finally {
+      Files.delete( zFile );
+    }
+    Assert.assertEquals( 3, zDirect.position() );
+
+    long[] zMillis = ZuluDateTime.parseEpochMillis( zBytes, Arrays.copyOf( zStarts, 5 ), Arrays.copyOf( zEnds, 5 ), new long[5] );
+    long[] zMillisDirect = ZuluDateTime.parseEpochMillis( zDirect.duplicate(), Arrays.stream( zStarts, 0, 5 ).map( x -> x + 10 ).toArray(),
+                                                          Arrays.stream( zEnds, 0, 5 ).map( x -> x + 10 ).toArray(), new long[5] );
+    for ( int i = 0; i < 5; i++ ) {
+      Assert.assertEquals( ZuluDateTime.parse( zFields[i] ).toEpochMilli(), zMillis[i] );
+      Assert.assertEquals( ZuluDateTime.parse( zFields[i] ).toEpochMilli(), zMillisDirect[i] );
+    }
+    assertParseFails( IndexOutOfBoundsException.class, () -> ZuluDateTime.parse( zBytes, 0, zBytes.length + 1 ) );
+    assertParseFails( IndexOutOfBoundsException.class, () -> ZuluDateTime.parse( zDirect, 0, zDirect.limit() + 1 ) );
+  }
+
+  private static void assertParseFails( Class<? extends RuntimeException> pExpected, Supplier<ZuluDateTime> pParse ) {
+    try {
+      Assert.fail( "Expected " + pExpected.getSimpleName() + ", but got: " + pParse.get() );
+    }
+    catch ( RuntimeException e ) {
+      Assert.assertEquals( pExpected, e.getClass() );
+    }
+  }
+
+  @Test
+  public void test_CanonicalParseMatchesInstantParse() {
+    Random zRandom = new Random( 8601 );
+    long zMin = Instant.parse( "0000-01-01T00:00:00Z" ).toEpochMilli();
+    long zMax = Instant.parse( "9999-12-31T23:59:59.999Z" ).toEpochMilli();
+    for ( int i = 0; i < 100000; i++ ) {
+      long zMillis = zMin + (long)(zRandom.nextDouble() * (zMax - zMin));
+      checkParseSameAsInstant( DateTimeFormatter.ISO_INSTANT.format( Instant.ofEpochMilli( zMillis ) ) );
+      checkParseSameAsInstant( ZuluDateTime.RENDERING_ISO_8601_3_FACTIONAL_SEC.format( Instant.ofEpochMilli( zMillis ) ) );
+    }
+    checkParseSameAsInstant( "0000-01-01T00:00:00.000Z" );
+    checkParseSameAsInstant( "1969-12-31T23:59:59.999Z" );
+    checkParseSameAsInstant( "1970-01-01T00:00:00.000Z" );
+    checkParseSameAsInstant( "2000-02-29T12:00:00.000Z" );
+    checkParseSameAsInstant( "2016-02-29T12:00:00.000Z" );
+    checkParseSameAsInstant( "9999-12-31T23:59:59.999Z" );
+
+    // Not Canonical (or not valid) - must fall back and agree (or fail the same way)
+    checkParseSameAsInstant( "1900-02-29T12:00:00.000Z" );
+    checkParseSameAsInstant( "2017-02-29T12:00:00.000Z" );
+    checkParseSameAsInstant( "2017-04-31T12:00:00.000Z" );
+    checkParseSameAsInstant( "2017-13-01T12:00:00.000Z" );
+    checkParseSameAsInstant( "2017-00-01T12:00:00.000Z" );
+    checkParseSameAsInstant( "2017-01-00T12:00:00.000Z" );
+    checkParseSameAsInstant( "2017-01-01T24:00:00.000Z" );
+    checkParseSameAsInstant( "2017-01-01T23:60:00.000Z" );
+    checkParseSameAsInstant( "2016-12-31T23:59:60.000Z" );
+    checkParseSameAsInstant( "2017-01-01t12:00:00.000z" );
+    checkParseSameAsInstant( "2017-01-01T12:00:00,000Z" );
+    checkParseSameAsInstant( "2017-01-01T12:00:0x.000Z" );
+    checkParseSameAsInstant( "+2017-01-01T12:00:00.00Z" );
+    checkParseSameAsInstant( "12017-01-01T12:00:00.00Z" );
+  }
+
+  @Test
+  public void test_ParseOutsideEpochMillisRange() {
+    for ( String zText : new String[]{"+300000000-01-01T00:00:00Z", "-300000000-01-01T00:00:00.000Z"} ) {
+      Instant.parse( zText ); // Instant's range is wider
+      try {
+        ZuluDateTime.parse( zText );
+        Assert.fail( "Expected DateTimeParseException for: " + zText );
+      }
+      catch ( DateTimeParseException expected ) {
+        Assert.assertEquals( zText, expected.getParsedString() );
+        Assert.assertTrue( expected.getCause() instanceof ArithmeticException );
+      }
+      try {
+        ZuluDateTime.parse( zText.toCharArray(), 0, zText.length() );
+        Assert.fail( "Expected DateTimeParseException for: " + zText );
+      }
+      catch ( DateTimeParseException expected ) {
+        // Expected
+      }
+      try {
+        ZuluDateTime.jsonCreator( zText );
+        Assert.fail( "Expected DateTimeParseException for: " + zText );
+      }
+      catch ( DateTimeParseException expected ) {
+        // Expected
+      }
+    }
+  }
+
+  private void checkParseSameAsInstant( String pText ) {
+    Instant zExpected;
+    try {
+      zExpected = Instant.parse( pText ).truncatedTo( ChronoUnit.MILLIS );
+    }
+    catch ( DateTimeParseException expected ) {
+      try {
+        ZuluDateTime.parse( pText );
+        Assert.fail( "Expected '" + expected.getMessage() + "' from: " + pText );
+      }
+      catch ( DateTimeParseException actual ) {
+        Assert.assertEquals( pText, expected.getMessage(), actual.getMessage() );
+        Assert.assertEquals( pText, expected.getErrorIndex(), actual.getErrorIndex() );
+      }
+      return;
+    }
+    Assert.assertEquals( pText, zExpected, ZuluDateTime.parse( pText ).toInstant() );
+  }
+
+  @Test
+  public void test_RenderingMatchesFormatter() {
+    Random zRandom = new Random( 3339 );
+    for ( int i = 0; i < 100000; i++ ) {
+      checkRendering( Instant.ofEpochMilli( zRandom.nextLong() >> (zRandom.nextInt( 24 ) + 1) ) );
+    }
+    checkRendering( Instant.parse( "0000-01-01T00:00:00Z" ) );
+    checkRendering( Instant.parse( "-0001-12-31T23:59:59.999Z" ) );
+    checkRendering( Instant.parse( "-0999-02-28T00:00:00.001Z" ) );
+    checkRendering( Instant.parse( "-10000-01-01T00:00:00Z" ) );
+    checkRendering( Instant.parse( "-20000-06-01T00:00:00Z" ) );
+    checkRendering( Instant.parse( "9999-12-31T23:59:59.999Z" ) );
+    checkRendering( Instant.parse( "+10000-01-01T00:00:00Z" ) );
+    checkRendering( Instant.parse( "+20000-01-01T00:00:00Z" ) );
+    checkRendering( Instant.ofEpochMilli( Long.MIN_VALUE ) );
+    checkRendering( Instant.ofEpochMilli( Long.MAX_VALUE ) );
+  }
+
+  private void checkRendering( Instant pInstant ) {
+    ZuluDateTime zInstance = new ZuluDateTime( pInstant );
+    String zExpected = ZuluDateTime.RENDERING_ISO_8601_3_FACTIONAL_SEC.format( zInstance.toInstant() );
+    Assert.assertEquals( zExpected, zInstance.toString() );
+    Assert.assertEquals( zExpected, zInstance.jsonValue() );
+    Assert.assertEquals( zExpected, zExpected.length(), zInstance.renderedLength() );
+  }
+
+  @Test
+  public void test_RenderingAcrossPrefixBoundaries() {
+    // Runs of consecutive values crossing second, minute, day, month & year (leap & not) boundaries (the memoized prefix changes)
+    for ( String zBoundary : new String[]{"2018-09-01T12:34:57Z", "2018-09-01T12:35:00Z", "2018-09-02T00:00:00Z",
+                                          "2016-02-29T00:00:00Z", "2016-03-01T00:00:00Z", "2000-02-29T00:00:00Z",
+                                          "2100-03-01T00:00:00Z", "2019-01-01T00:00:00Z", "1970-01-01T00:00:00Z",
+                                          "0000-01-01T00:00:00Z", "+10000-01-01T00:00:00Z"} ) {
+      long zMillis = Instant.parse( zBoundary ).toEpochMilli();
+      for ( long zAt = zMillis - 1003; zAt < zMillis + 1003; zAt++ ) {
+        checkRendering( Instant.ofEpochMilli( zAt ) );
+      }
+      // Alternating (and going backwards) across the boundary
+      for ( long zOffset = 1; zOffset < 1500; zOffset += 7 ) {
+        checkRendering( Instant.ofEpochMilli( zMillis - zOffset ) );
+        checkRendering( Instant.ofEpochMilli( zMillis + zOffset - 1 ) );
+      }
+    }
+    // The other renderers (sharing the per thread prefix) interleaved with toString
+    long zMillis = Instant.parse( "2016-12-31T23:59:59.998Z" ).toEpochMilli();
+    char[] zChars = new char[24];
+    for ( long zAt = zMillis; zAt < zMillis + 4; zAt++ ) {
+      ZuluDateTime zInstance = ZuluDateTime.ofEpochMilli( zAt );
+      String zExpected = ZuluDateTime.RENDERING_ISO_8601_3_FACTIONAL_SEC.format( zInstance.toInstant() );
+      Assert.assertEquals( 24, zInstance.renderTo( zChars, 0 ) );
+      Assert.assertEquals( zExpected, new String( zChars ) );
+      Assert.assertEquals( zExpected, ZuluDateTime.ofEpochMilli( zAt ).renderTo( new StringBuilder() ).toString() );
+      Assert.assertEquals( zExpected, zInstance.toString() );
+    }
+  }
+
+  @Test
+  public void test_RenderTo() throws IOException {
+    ZuluDateTime zInstance = ZuluDateTime.parse( "2018-09-01T12:34:56.789Z" );
+    String zExpected = zInstance.toString();
+
+    char[] zChars = new char[30];
+    Assert.assertEquals( 27, zInstance.renderTo( zChars, 3 ) );
+    Assert.assertEquals( zExpected, new String( zChars, 3, 24 ) );
+
+    Assert.assertEquals( "[" + zExpected, zInstance.renderTo( new StringBuilder( "[" ) ).toString() );
+    Assert.assertEquals( zExpected, zInstance.renderTo( new StringWriter() ).toString() );
+
+    StringWriter zLogged = new StringWriter();
+    StringWriter zReentrant = new StringWriter() { // e.g. a logging Appendable that renders its own time stamps
+      @Override
+      public StringWriter append( CharSequence pText, int pStart, int pEnd ) {
+        zLogged.append( ZuluDate.parse( "1999-12-31" ).toString() ).append( ZuluDateTime.ofEpochMilli( 0 ).toString() );
+        try {
+          ZuluDateTime.ofEpochMilli( 1 ).renderTo( zLogged );
+        }
+        catch ( IOException e ) {
+          throw new AssertionError( e );
+        }
+        return super.append( pText, pStart, pEnd );
+      }
+    };
+    Assert.assertEquals( zExpected, zInstance.renderTo( zReentrant ).toString() );
+    Assert.assertEquals( "1999-12-311970-01-01T00:00:00.000Z1970-01-01T00:00:00.001Z", zLogged.toString().substring( 0, 58 ) );
+
+    byte[] zBytes = new byte[26];
+    Assert.assertEquals( 25, zInstance.renderTo( zBytes, 1 ) );
+    Assert.assertEquals( zExpected, new String( zBytes, 1, 24, StandardCharsets.US_ASCII ) );
+
+    for ( ByteBuffer zBuffer : new ByteBuffer[]{ByteBuffer.allocate( 30 ), ByteBuffer.allocateDirect( 30 )} ) {
+      zBuffer.put( (byte)'[' );
+      Assert.assertSame( zBuffer, zInstance.renderTo( zBuffer ) );
+      Assert.assertEquals( 25, zBuffer.position() );
+      zBuffer.flip();
+      zBuffer.get();
+      byte[] zRendered = new byte[zBuffer.remaining()];
+      zBuffer.get( zRendered );
+      Assert.assertEquals( zExpected, new String( zRendered, StandardCharsets.US_ASCII ) );
+    }
+
+    try {
+      zInstance.renderTo( new char[30], 7 );
+      Assert.fail( "Expected IndexOutOfBoundsException" );
+    }
+    catch ( IndexOutOfBoundsException expected ) {
+      // Expected
+    }
+    try {
+      zInstance.renderTo( ByteBuffer.allocate( 23 ) );
+      Assert.fail( "Expected BufferOverflowException" );
+    }
+    catch ( BufferOverflowException expected ) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void test_FieldAccessorsMatchLocalDateTime() {
+    Random zRandom = new Random( 1970 );
+    for ( int i = 0; i < 20000; i++ ) {
+      checkFieldAccessors( zRandom.nextLong() >> (zRandom.nextInt( 24 ) + 1) );
+    }
+    checkFieldAccessors( 0 );
+    checkFieldAccessors( -1 );
+    checkFieldAccessors( Long.MIN_VALUE );
+    checkFieldAccessors( Long.MAX_VALUE );
+  }
+
+  private void checkFieldAccessors( long pEpochMillis ) {
+    ZuluDateTime zInstance = ZuluDateTime.ofEpochMilli( pEpochMillis );
+    LocalDateTime zExpected = LocalDateTime.ofInstant( Instant.ofEpochMilli( pEpochMillis ), ZoneOffset.UTC );
+    String zWhat = zExpected.toString();
+    Assert.assertEquals( zWhat, pEpochMillis, zInstance.toEpochMilli() );
+    Assert.assertEquals( zWhat, Instant.ofEpochMilli( pEpochMillis ), zInstance.toInstant() );
+    Assert.assertEquals( zWhat, zExpected, zInstance.toLocalDateTime() );
+    Assert.assertEquals( zWhat, zExpected.toLocalDate(), zInstance.toLocalDate() );
+    Assert.assertEquals( zWhat, zExpected.toLocalTime(), zInstance.toLocalTime() );
+    Assert.assertEquals( zWhat, zExpected.getYear(), zInstance.getYear() );
+    Assert.assertEquals( zWhat, zExpected.getMonthValue(), zInstance.getMonthValue() );
+    Assert.assertEquals( zWhat, zExpected.getMonth(), zInstance.getMonth() );
+    Assert.assertEquals( zWhat, zExpected.getDayOfMonth(), zInstance.getDayOfMonth() );
+    Assert.assertEquals( zWhat, zExpected.getDayOfYear(), zInstance.getDayOfYear() );
+    Assert.assertEquals( zWhat, zExpected.getDayOfWeek(), zInstance.getDayOfWeek() );
+    Assert.assertEquals( zWhat, zExpected.getHour(), zInstance.getHour() );
+    Assert.assertEquals( zWhat, zExpected.getMinute(), zInstance.getMinute() );
+    Assert.assertEquals( zWhat, zExpected.getSecond(), zInstance.getSecond() );
+    Assert.assertEquals( zWhat, zExpected.getNano(), zInstance.getNano() );
+    for ( ChronoField zField : ChronoField.values() ) {
+      String zFieldWhat = zWhat + " " + zField;
+      Assert.assertEquals( zFieldWhat, zExpected.isSupported( zField ), zInstance.isSupported( zField ) );
+      Assert.assertEquals( zFieldWhat, outcome( () -> zExpected.getLong( zField ) ), outcome( () -> zInstance.getLong( zField ) ) );
+      Assert.assertEquals( zFieldWhat, outcome( () -> zExpected.get( zField ) ), outcome( () -> zInstance.get( zField ) ) );
+      Assert.assertEquals( zFieldWhat, outcome( () -> zExpected.range( zField ) ), outcome( () -> zInstance.range( zField ) ) );
+    }
+  }
+
+  private static String outcome( Supplier<Object> pSupplier ) {
+    try {
+      return "Value: " + pSupplier.get();
+    }
+    catch ( RuntimeException e ) {
+      return e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+  }
+
+  @Test
+  public void test_ArithmeticMatchesJavaTime() {
+    Random zRandom = new Random( 13 );
+    for ( int i = 0; i < 20000; i++ ) {
+      long zMillis = zRandom.nextLong() >> (18 + zRandom.nextInt( 46 )); // Mostly within +/- 100,000 years
+      ZuluDateTime zValue = ZuluDateTime.ofEpochMilli( zMillis );
+      Instant zInstant = Instant.ofEpochMilli( zMillis );
+      LocalDateTime zLDT = LocalDateTime.ofInstant( zInstant, ZoneOffset.UTC );
+      long zAmount = zRandom.nextInt( 2000001 ) - 1000000;
+
+      Assert.assertEquals( zInstant.plusMillis( zAmount ), zValue.plusMillis( zAmount ).toInstant() );
+      Assert.assertEquals( zInstant.plusSeconds( zAmount ), zValue.plusSeconds( zAmount ).toInstant() );
+      Assert.assertEquals( zInstant.plus( zAmount, ChronoUnit.MINUTES ), zValue.plusMinutes( zAmount ).toInstant() );
+      Assert.assertEquals( zInstant.minus( zAmount, ChronoUnit.HOURS ), zValue.minusHours( zAmount ).toInstant() );
+      Assert.assertEquals( zInstant.minus( zAmount, ChronoUnit.DAYS ), zValue.minusDays( zAmount ).toInstant() );
+      Assert.assertEquals( zInstant.plus( Duration.ofMillis( zAmount * 7 ) ), zValue.plus( Duration.ofMillis( zAmount * 7 ) ).toInstant() );
+      Assert.assertEquals( zLDT.plusMonths( zAmount ), zValue.plusMonths( zAmount ).toLocalDateTime() );
+      Assert.assertEquals( zLDT.minusYears( zAmount / 100 ), zValue.minusYears( zAmount / 100 ).toLocalDateTime() );
+      for ( ChronoUnit zUnit : ChronoUnit.values() ) {
+        Assert.assertEquals( zUnit.name(), outcome( () -> zInstant.truncatedTo( zUnit ) ), outcome( () -> zValue.truncatedTo( zUnit ).toInstant() ) );
+      }
+      Assert.assertEquals( zAmount, zValue.millisUntil( zValue.plusMillis( zAmount ) ) );
+    }
+  }
+
+  @Test
+  public void test_Bucketing() {
+    ZuluDateTime zValue = ZuluDateTime.parse( "2011-01-16T10:22:33.444Z" );
+    Assert.assertEquals( "2011-01-16T10:15:00.000Z", zValue.floorTo( Duration.ofMinutes( 15 ) ).toString() );
+    Assert.assertEquals( "2011-01-16T10:30:00.000Z", zValue.ceilTo( Duration.ofMinutes( 15 ) ).toString() );
+    Assert.assertEquals( "2011-01-16T00:00:00.000Z", zValue.floorTo( Duration.ofDays( 1 ) ).toString() );
+    Assert.assertEquals( "2011-01-17T00:00:00.000Z", zValue.ceilTo( Duration.ofDays( 1 ) ).toString() );
+    ZuluDateTime zBoundary = ZuluDateTime.parse( "2011-01-16T10:15:00.000Z" );
+    Assert.assertSame( zBoundary, zBoundary.floorTo( Duration.ofMinutes( 15 ) ) );
+    Assert.assertSame( zBoundary, zBoundary.ceilTo( Duration.ofMinutes( 15 ) ) );
+    ZuluDateTime zBefore1970 = ZuluDateTime.parse( "1969-12-31T23:59:59.999Z" );
+    Assert.assertEquals( "1969-12-31T23:00:00.000Z", zBefore1970.floorTo( Duration.ofHours( 1 ) ).toString() );
+    Assert.assertEquals( "1970-01-01T00:00:00.000Z", zBefore1970.ceilTo( Duration.ofHours( 1 ) ).toString() );
+
+    Assert.assertEquals( "2011-02-28T10:22:33.444Z", ZuluDateTime.parse( "2011-01-31T10:22:33.444Z" ).plusMonths( 1 ).toString() );
+    Assert.assertEquals( "2013-02-28T10:22:33.444Z", ZuluDateTime.parse( "2012-02-29T10:22:33.444Z" ).plusYears( 1 ).toString() );
+
+    for ( Duration zBad : new Duration[]{Duration.ZERO, Duration.ofMillis( -1 ), Duration.ofNanos( 1500000 )} ) {
+      try {
+        zValue.floorTo( zBad );
+        Assert.fail( "Expected IllegalArgumentException for: " + zBad );
+      }
+      catch ( IllegalArgumentException expected ) {
+        // Expected
+      }
+    }
+    ZuluDateTime zMax = ZuluDateTime.ofEpochMilli( Long.MAX_VALUE );
+    for ( Supplier<ZuluDateTime> zOverflow : Arrays.<Supplier<ZuluDateTime>>asList( () -> zMax.plusMillis( 1 ),
+                                                                                      () -> zMax.plusDays( Long.MAX_VALUE / 1000 ),
+                                                                                      () -> zMax.ceilTo( Duration.ofDays( 1 ) ),
+                                                                                      () -> zMax.plusMonths( 1 ),
+                                                                                      () -> zValue.plusYears( Long.MAX_VALUE / 2 ) ) ) {
+      try {
+        Assert.fail( "Expected ArithmeticException, but got: " + zOverflow.get() );
+      }
+      catch ( ArithmeticException expected ) {
+        // Expected
+      }
+    }
+  }
+
+  @Test
+  public void test_JavaSerialization()
+          throws Exception {
+    for ( String zISOform : new String[]{"2011-01-16T17:18:19.200Z", "-1000-12-31T23:59:59.999Z"} ) {
+      ZuluDateTime zOriginal = ZuluDateTime.parse( zISOform );
+      ByteArrayOutputStream zBytes = new ByteArrayOutputStream();
+      try ( ObjectOutputStream zOut = new ObjectOutputStream( zBytes ) ) {
+        zOut.writeObject( zOriginal );
+      }
+      Assert.assertEquals( zISOform, zOriginal, deserialize( zBytes.toByteArray() ) );
+      Assert.assertTrue( "compact: " + zBytes.size(), zBytes.size() < 80 );
+    }
+  }
+
+  @Test
+  public void test_BinaryForm()
+          throws Exception {
+    Random zRandom = new Random( 11 );
+    long[] zMillis = new long[1000];
+    for ( int i = 0; i < zMillis.length; i++ ) {
+      zMillis[i] = zRandom.nextLong() >> zRandom.nextInt( 64 );
+    }
+    zMillis[0] = Long.MIN_VALUE;
+    zMillis[1] = Long.MAX_VALUE;
+    zMillis[2] = 0;
+    zMillis[3] = -1;
+    ByteArrayOutputStream zBytes = new ByteArrayOutputStream();
+    int zExpectedLength = 0;
+    try ( DataOutputStream zOut = new DataOutputStream( zBytes ) ) {
+      for ( long zMilli : zMillis ) {
+        ZuluDateTime zValue = ZuluDateTime.ofEpochMilli( zMilli );
+        zValue.writeTo( zOut );
+        zExpectedLength += zValue.binaryLength();
+      }
+    }
+    Assert.assertEquals( zExpectedLength, zBytes.size() );
+    try ( DataInputStream zIn = new DataInputStream( new ByteArrayInputStream( zBytes.toByteArray() ) ) ) {
+      for ( long zMilli : zMillis ) {
+        Assert.assertEquals( zMilli, ZuluDateTime.readFrom( zIn ).toEpochMilli() );
+      }
+      Assert.assertEquals( 0, zIn.available() );
+    }
+    Assert.assertEquals( 1, ZuluDateTime.ofEpochMilli( -1 ).binaryLength() );
+    Assert.assertEquals( 6, ZuluDateTime.parse( "2018-09-01T00:00:00.000Z" ).binaryLength() );
+    Assert.assertEquals( 10, ZuluDateTime.ofEpochMilli( Long.MIN_VALUE ).binaryLength() );
+  }
+
+  @Test(expected = StreamCorruptedException.class)
+  public void test_BinaryFormCorrupt()
+          throws Exception {
+    byte[] zBytes = new byte[11];
+    Arrays.fill( zBytes, (byte)0x80 );
+    ZuluDateTime.readFrom( new DataInputStream( new ByteArrayInputStream( zBytes ) ) );
+  }
+
+  @Test
+  public void test_BinaryFormOverflowCorrupt()
+          throws Exception {
+    byte[] zBytes = new byte[10];
+    Arrays.fill( zBytes, (byte)0xFF );
+    zBytes[9] = 1; // the only bit of the 10th byte that fits
+    Assert.assertEquals( Long.MIN_VALUE, ZuluDateTime.readFrom( new DataInputStream( new ByteArrayInputStream( zBytes ) ) ).toEpochMilli() );
+    for ( int zLast : new int[]{2, 0x41, 0x7F} ) {
+      zBytes[9] = (byte)zLast;
+      try {
+        ZuluDateTime.readFrom( new DataInputStream( new ByteArrayInputStream( zBytes ) ) );
+        Assert.fail( "Expected StreamCorruptedException for: " + zLast );
+      }
+      catch ( StreamCorruptedException expected ) {
+        // Expected
+      }
+    }
+  }
+
+  @Test
+  public void test_JavaSerializationOfOriginalForm()
+          throws Exception {
+    // Produced by the original (1.0 - Instant based) form of ZuluDateTime
+    checkOriginalForm( "2011-01-16T17:18:19.200Z", "rO0ABXNyACljb20uYWx0b3Jvcy50ZW1wb3JhbC5pc284NjAxLlp1bHVEYXRlVGltZQAAAAAAAAABAgABTAAIbUluc3RhbnR0ABNMamF2YS90aW1lL0luc3RhbnQ7eHBzcgANamF2YS50aW1lLlNlcpVdhLobIkiyDAAAeHB3DQIAAAAATTMoWwvrwgB4" );
+    checkOriginalForm( "-1000-12-31T23:59:59.999Z", "rO0ABXNyACljb20uYWx0b3Jvcy50ZW1wb3JhbC5pc284NjAxLlp1bHVEYXRlVGltZQAAAAAAAAABAgABTAAIbUluc3RhbnR0ABNMamF2YS90aW1lL0luc3RhbnQ7eHBzcgANamF2YS50aW1lLlNlcpVdhLobIkiyDAAAeHB3DQL////qL3yAfzuLh8B4" );
+    Assert.assertTrue( "final", Modifier.isFinal( ZuluDateTime.class.getDeclaredField( "mEpochMillis" ).getModifiers() ) );
+  }
+
+  private void checkOriginalForm( String pISOform, String pBase64 )
+          throws Exception {
+    Assert.assertEquals( pISOform, ZuluDateTime.parse( pISOform ), deserialize( Base64.getDecoder().decode( pBase64 ) ) );
+  }
+
+  private static Object deserialize( byte[] pBytes )
+          throws Exception {
+    try ( ObjectInputStream zIn = new ObjectInputStream( new ByteArrayInputStream( pBytes ) ) ) {
+      return zIn.readObject();
+    }
+  }
+
   @SuppressWarnings("WeakerAccess")
   public static class SimpleTimeCarrier {
     private ZuluDateTime dt;
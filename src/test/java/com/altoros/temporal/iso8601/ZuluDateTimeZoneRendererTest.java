@@ -0,0 +1,118 @@
+package com.altoros.temporal.iso8601;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ZuluDateTimeZoneRendererTest {
+  private static final DateTimeFormatter EXPECTED_FORMAT = new DateTimeFormatterBuilder()
+          .append( DateTimeFormatter.ISO_LOCAL_DATE ).appendLiteral( 'T' ).appendPattern( "HH:mm:ss.SSS" )
+          .appendOffset( "+HH:MM:ss", "Z" ).toFormatter();
+
+  private static final String[] ZONES = {"America/New_York", "Europe/London", "Asia/Kathmandu", "Australia/Lord_Howe",
+                                         "Africa/Monrovia", "Pacific/Chatham", "UTC", "+05:30", "-00:00:30"};
+
+  private static String expected( ZoneId pZone, long pEpochMillis ) {
+    return Instant.ofEpochMilli( pEpochMillis ).atZone( pZone ).format( EXPECTED_FORMAT );
+  }
+
+  @Test
+  public void test_MatchesDateTimeFormatter() {
+    Random zRandom = new Random( 24 );
+    for ( String zZoneText : ZONES ) {
+      ZoneId zZone = ZoneId.of( zZoneText );
+      ZuluDateTimeZoneRenderer zRenderer = ZuluDateTimeZoneRenderer.forZone( zZone );
+      for ( int i = 0; i < 5000; i++ ) {
+        long zEpochMillis = (i < 4000) ?
+                            zRandom.nextLong() % (200L * 365 * CivilCalendar.MILLIS_PER_DAY) : // around (mostly within) the table
+                            zRandom.nextLong() / 1024; // mostly outside the table (ZoneRules)
+        ZuluDateTime zDateTime = ZuluDateTime.ofEpochMilli( zEpochMillis );
+        String zExpected = expected( zZone, zEpochMillis );
+        Assert.assertEquals( zExpected, zRenderer.render( zDateTime ) );
+        Assert.assertEquals( zExpected.length(), zRenderer.renderedLength( zDateTime ) );
+        Assert.assertEquals( zZone.getRules().getOffset( zDateTime.toInstant() ), zRenderer.getOffset( zDateTime ) );
+      }
+    }
+  }
+
+  @Test
+  public void test_AroundEachTransition() {
+    for ( String zZoneText : ZONES ) {
+      ZoneId zZone = ZoneId.of( zZoneText );
+      ZuluDateTimeZoneRenderer zRenderer = ZuluDateTimeZoneRenderer.forZone( zZone );
+      int zTransitions = 0;
+      Instant zAfter = Instant.parse( "1899-01-01T00:00:00Z" );
+      for ( ZoneOffsetTransition zNext; ((zNext = zZone.getRules().nextTransition( zAfter )) != null) &&
+                                        (zNext.getInstant().isBefore( Instant.parse( "2102-01-01T00:00:00Z" ) )); ) {
+        zAfter = zNext.getInstant();
+        zTransitions++;
+        for ( long zEpochMillis = zAfter.toEpochMilli() - 1; zEpochMillis <= (zAfter.toEpochMilli() + 1); zEpochMillis++ ) {
+          Assert.assertEquals( expected( zZone, zEpochMillis ), zRenderer.render( ZuluDateTime.ofEpochMilli( zEpochMillis ) ) );
+        }
+      }
+      Assert.assertTrue( zRenderer.getTransitionCount() <= zTransitions );
+      if ( zZone.getRules().isFixedOffset() ) {
+        Assert.assertEquals( 0, zRenderer.getTransitionCount() );
+      }
+    }
+  }
+
+  @Test
+  public void test_Rendering() {
+    ZuluDateTime zDateTime = ZuluDateTime.parse( "2007-12-03T10:15:30.000Z" );
+    ZuluDateTimeZoneRenderer zNewYork = ZuluDateTimeZoneRenderer.forZone( ZoneId.of( "America/New_York" ) );
+    Assert.assertEquals( "2007-12-03T05:15:30.000-05:00", zNewYork.render( zDateTime ) );
+    Assert.assertEquals( "2007-07-03T06:15:30.000-04:00", zNewYork.render( ZuluDateTime.parse( "2007-07-03T10:15:30.000Z" ) ) );
+    Assert.assertEquals( "2007-12-03T10:15:30.000Z", ZuluDateTimeZoneRenderer.forZone( ZoneOffset.UTC ).render( zDateTime ) );
+    Assert.assertEquals( "+12007-12-03T05:15:30.000-05:00", zNewYork.render( ZuluDateTime.parse( "+12007-12-03T10:15:30.000Z" ) ) );
+    Assert.assertEquals( "[2007-12-03T05:15:30.000-05:00", zNewYork.renderTo( zDateTime, new StringBuilder( "[" ) ).toString() );
+
+    char[] zBuffer = new char[30];
+    Assert.assertEquals( 30, zNewYork.renderTo( zDateTime, zBuffer, 1 ) );
+    Assert.assertEquals( "2007-12-03T05:15:30.000-05:00", new String( zBuffer, 1, 29 ) );
+    try {
+      zNewYork.renderTo( zDateTime, zBuffer, 2 );
+      Assert.fail( "Expected IndexOutOfBoundsException" );
+    }
+    catch ( IndexOutOfBoundsException expected ) {
+      // Expected
+    }
+    try {
+      zNewYork.render( ZuluDateTime.ofEpochMilli( Long.MIN_VALUE ) );
+      Assert.fail( "Expected ArithmeticException" );
+    }
+    catch ( ArithmeticException expected ) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void test_CachedPerZone() {
+    ZoneId zZone = ZoneId.of( "Europe/Paris" );
+    ZuluDateTimeZoneRenderer zDefault = ZuluDateTimeZoneRenderer.forZone( zZone );
+    Assert.assertSame( zDefault, ZuluDateTimeZoneRenderer.forZone( zZone ) );
+    Assert.assertSame( zDefault, ZuluDateTimeZoneRenderer.forZone( zZone, 1970, 2038 ) );
+
+    ZuluDateTimeZoneRenderer zWider = ZuluDateTimeZoneRenderer.forZone( zZone, 1850, 2000 );
+    Assert.assertNotSame( zDefault, zWider );
+    Assert.assertEquals( 1850, zWider.getFromYear() );
+    Assert.assertEquals( ZuluDateTimeZoneRenderer.DEFAULT_TO_YEAR, zWider.getToYear() );
+    Assert.assertTrue( zWider.getTransitionCount() >= zDefault.getTransitionCount() );
+    Assert.assertSame( zWider, ZuluDateTimeZoneRenderer.forZone( zZone ) );
+
+    try {
+      ZuluDateTimeZoneRenderer.forZone( zZone, 2000, 1999 );
+      Assert.fail( "Expected IllegalArgumentException" );
+    }
+    catch ( IllegalArgumentException expected ) {
+      // Expected
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.altoros.temporal.iso8601;
+
+import java.time.DateTimeException;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ZuluTimeOfDayTest {
+  @Test
+  public void test_MatchesLocalTime() {
+    Random zRandom = new Random( 23 );
+    for ( int i = 0; i < 20000; i++ ) {
+      int zMillisOfDay = (i == 0) ? 0 : (i == 1) ? 86399999 : zRandom.nextInt( 86400000 );
+      LocalTime zExpected = LocalTime.ofNanoOfDay( zMillisOfDay * 1000000L );
+      ZuluTimeOfDay zTime = ZuluTimeOfDay.ofMillisOfDay( zMillisOfDay );
+      String zRendered = zTime.toString();
+      Assert.assertEquals( 13, zRendered.length() );
+      Assert.assertEquals( ZuluDateTime.ofEpochMilli( zMillisOfDay ).toString().substring( 11 ), zRendered );
+      Assert.assertEquals( zTime, ZuluTimeOfDay.parse( zRendered ) );
+      Assert.assertEquals( zTime, ZuluTimeOfDay.parse( zExpected.toString() ) ); // LocalTime's (variable) form
+      Assert.assertEquals( zExpected, zTime.toLocalTime() );
+      Assert.assertEquals( zTime, ZuluTimeOfDay.ofLocalTime( zExpected ) );
+      Assert.assertEquals( zExpected.getHour(), zTime.getHour() );
+      Assert.assertEquals( zExpected.getMinute(), zTime.getMinute() );
+      Assert.assertEquals( zExpected.getSecond(), zTime.getSecond() );
+      Assert.assertEquals( zExpected.getNano() / 1000000, zTime.getMillisOfSecond() );
+      Assert.assertEquals( zTime, ZuluTimeOfDay.of( zTime.getHour(), zTime.getMinute(), zTime.getSecond(), zTime.getMillisOfSecond() ) );
+      long zDelta = zRandom.nextLong() / 1000;
+      Assert.assertEquals( zExpected.plusNanos( (zDelta % 86400000L) * 1000000L ), zTime.plusMillis( zDelta ).toLocalTime() );
+    }
+  }
+
+  @Test
+  public void test_ConversionsAndArithmetic() {
+    ZuluDateTime zDT = ZuluDateTime.parse( "1960-09-12T10:11:12.013Z" );
+    ZuluTimeOfDay zTime = zDT.toZuluTimeOfDay();
+    Assert.assertEquals( "10:11:12.013Z", zTime.toString() );
+    Assert.assertEquals( zTime.toMillisOfDay(), ZuluTimeOfDay.millisOfDayOf( zDT.toEpochMilli() ) );
+    Assert.assertEquals( zDT, zTime.atDate( zDT.toZuluDate() ) );
+    Assert.assertEquals( ZuluTimeOfDay.MAX, ZuluTimeOfDay.ofEpochMilli( -1 ) );
+    Assert.assertEquals( ZuluTimeOfDay.NOON, ZuluTimeOfDay.now( () -> 43200000 ) );
+
+    Assert.assertEquals( "00:00:00.001Z", ZuluTimeOfDay.MAX.plusMillis( 2 ).toString() );
+    Assert.assertEquals( "23:59:59.999Z", ZuluTimeOfDay.MIDNIGHT.minusMillis( 1 ).toString() );
+    Assert.assertEquals( "01:11:12.013Z", zTime.plusHours( 15 ).toString() );
+    Assert.assertEquals( "10:10:12.013Z", zTime.plusMinutes( -1 ).toString() );
+    Assert.assertEquals( "10:11:11.013Z", zTime.plusSeconds( -1 ).toString() );
+    Assert.assertEquals( zTime, zTime.plusSeconds( Long.MAX_VALUE ).plusSeconds( -Long.MAX_VALUE ) );
+    Assert.assertEquals( 3600000, zTime.millisUntil( zTime.plusHours( 1 ) ) );
+    Assert.assertTrue( zTime.isBefore( ZuluTimeOfDay.NOON ) );
+    Assert.assertTrue( ZuluTimeOfDay.NOON.isAfter( zTime ) );
+  }
+
+  @Test
+  public void test_ParseAndRender() {
+    Assert.assertEquals( ZuluTimeOfDay.of( 10, 15 ), ZuluTimeOfDay.parse( "10:15" ) );
+    Assert.assertEquals( ZuluTimeOfDay.of( 10, 15, 30 ), ZuluTimeOfDay.parse( " 10:15:30Z " ) );
+    Assert.assertEquals( ZuluTimeOfDay.of( 10, 15, 30, 123 ), ZuluTimeOfDay.parse( "10:15:30.123456z" ) ); // truncated
+    char[] zChars = "[10:15:30.000Z]".toCharArray();
+    Assert.assertEquals( ZuluTimeOfDay.of( 10, 15, 30 ), ZuluTimeOfDay.parse( zChars, 1, 14 ) );
+    Assert.assertEquals( ZuluTimeOfDay.of( 10, 15, 30 ), ZuluTimeOfDay.parse( "10:15:30Z]".toCharArray(), 0, 9 ) );
+
+    char[] zBuffer = new char[14];
+    Assert.assertEquals( 14, ZuluTimeOfDay.of( 1, 2, 3, 4 ).renderTo( zBuffer, 1 ) );
+    Assert.assertEquals( "01:02:03.004Z", new String( zBuffer, 1, 13 ) );
+    Assert.assertEquals( "T01:02:03.004Z", ZuluTimeOfDay.of( 1, 2, 3, 4 ).renderTo( new StringBuilder( "T" ) ).toString() );
+
+    for ( String zBad : new String[]{"24:00", "10:60:00.000Z", "10:15:30.000+01:00", "Z"} ) {
+      try {
+        ZuluTimeOfDay.parse( zBad );
+        Assert.fail( "Expected DateTimeParseException for: " + zBad );
+      }
+      catch ( DateTimeParseException expected ) {
+        // Expected
+      }
+    }
+    for ( Runnable zBad : new Runnable[]{() -> ZuluTimeOfDay.of( 24, 0 ), () -> ZuluTimeOfDay.of( 0, 0, 0, 1000 ),
+                                         () -> ZuluTimeOfDay.ofMillisOfDay( 86400000 ), () -> ZuluTimeOfDay.ofMillisOfDay( -1 )} ) {
+      try {
+        zBad.run();
+        Assert.fail( "Expected DateTimeException" );
+      }
+      catch ( DateTimeException expected ) {
+        // Expected
+      }
+    }
+  }
+}
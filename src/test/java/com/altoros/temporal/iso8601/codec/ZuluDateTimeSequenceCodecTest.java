@@ -0,0 +1,185 @@
+package com.altoros.temporal.iso8601.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.StreamCorruptedException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ZuluDateTimeSequenceCodecTest {
+  private static final long BASE = ZuluDateTime.parse( "2018-09-01T00:00:00.000Z" ).toEpochMilli();
+
+  @Test
+  public void test_RegularIntervalsCompress() {
+    long[] zMillis = new long[1000000];
+    for ( int i = 0; i < zMillis.length; i++ ) {
+      zMillis[i] = BASE + i * 1000L;
+    }
+    byte[] zBytes = ZuluDateTimeSequenceEncoder.encode( zMillis );
+    Assert.assertTrue( "bytes: " + zBytes.length, zBytes.length < zMillis.length / 5 ); // < 1.6 bits per value
+    Assert.assertArrayEquals( zMillis, ZuluDateTimeSequenceDecoder.decode( zBytes ) );
+  }
+
+  @Test
+  public void test_JitteryAndArbitraryRoundTrip() {
+    Random zRandom = new Random( 3 );
+    long[] zJittery = new long[10000];
+    long zAt = BASE;
+    for ( int i = 0; i < zJittery.length; i++ ) {
+      zJittery[i] = zAt += 1000 + zRandom.nextInt( 100 ) - 50;
+    }
+    byte[] zBytes = ZuluDateTimeSequenceEncoder.encode( zJittery );
+    Assert.assertTrue( "bytes: " + zBytes.length, zBytes.length < zJittery.length * 2 );
+    Assert.assertArrayEquals( zJittery, ZuluDateTimeSequenceDecoder.decode( zBytes ) );
+
+    long[] zArbitrary = new long[5000];
+    for ( int i = 0; i < zArbitrary.length; i++ ) {
+      zArbitrary[i] = zRandom.nextLong() >> zRandom.nextInt( 64 );
+    }
+    zArbitrary[10] = Long.MIN_VALUE;
+    zArbitrary[11] = Long.MAX_VALUE;
+    zArbitrary[12] = Long.MIN_VALUE;
+    Assert.assertArrayEquals( zArbitrary, ZuluDateTimeSequenceDecoder.decode( ZuluDateTimeSequenceEncoder.encode( zArbitrary ) ) );
+
+    Assert.assertArrayEquals( new long[0], ZuluDateTimeSequenceDecoder.decode( ZuluDateTimeSequenceEncoder.encode( new long[0] ) ) );
+  }
+
+  @Test
+  public void test_ByteBufferAndLazyZuluDateTimes()
+          throws Exception {
+    ByteBuffer zBuffer = ByteBuffer.allocateDirect( 4096 );
+    ZuluDateTime[] zValues = new ZuluDateTime[100];
+    try ( ZuluDateTimeSequenceEncoder zEncoder = new ZuluDateTimeSequenceEncoder( zBuffer, 7 ) ) {
+      for ( int i = 0; i < zValues.length; i++ ) {
+        zEncoder.add( zValues[i] = ZuluDateTime.ofEpochMilli( BASE + i * i ) );
+      }
+      Assert.assertEquals( 100, zEncoder.getValuesWritten() );
+    }
+    zBuffer.flip();
+    ZuluDateTimeSequenceDecoder zDecoder = new ZuluDateTimeSequenceDecoder( zBuffer );
+    Iterator<ZuluDateTime> zIterator = zDecoder.iterator();
+    for ( ZuluDateTime zValue : zValues ) {
+      Assert.assertTrue( zIterator.hasNext() );
+      Assert.assertEquals( zValue, zIterator.next() );
+    }
+    Assert.assertFalse( zIterator.hasNext() );
+  }
+
+  @Test
+  public void test_FlushEndsBlock()
+          throws Exception {
+    ByteArrayOutputStream zOut = new ByteArrayOutputStream();
+    ZuluDateTimeSequenceEncoder zEncoder = new ZuluDateTimeSequenceEncoder( zOut );
+    zEncoder.add( BASE ).add( BASE + 1 );
+    Assert.assertEquals( 0, zOut.size() );
+    zEncoder.flush();
+    Assert.assertEquals( zEncoder.getBytesWritten(), zOut.size() );
+    zEncoder.add( BASE + 2 ).close();
+    Assert.assertArrayEquals( new long[]{BASE, BASE + 1, BASE + 2}, ZuluDateTimeSequenceDecoder.decode( zOut.toByteArray() ) );
+  }
+
+  @Test
+  public void test_FailedBlockWriteIsRetried()
+          throws Exception {
+    ByteBuffer zBuffer = ByteBuffer.allocate( 64 );
+    ZuluDateTimeSequenceEncoder zEncoder = new ZuluDateTimeSequenceEncoder( zBuffer, 2 );
+    zBuffer.position( 60 ); // No room for a block
+    zEncoder.add( BASE );
+    try {
+      zEncoder.add( BASE + 10 ); // completes the block
+      Assert.fail( "Expected BufferOverflowException" );
+    }
+    catch ( BufferOverflowException expected ) {
+      // Expected
+    }
+    try {
+      zEncoder.close();
+      Assert.fail( "Expected BufferOverflowException" );
+    }
+    catch ( BufferOverflowException expected ) {
+      // Expected
+    }
+    Assert.assertEquals( 0, zEncoder.getBytesWritten() );
+
+    zBuffer.position( 0 ); // Room again: the block was kept
+    zEncoder.add( BASE + 20 ).close();
+    zBuffer.flip();
+    Assert.assertArrayEquals( new long[]{BASE, BASE + 10, BASE + 20}, new ZuluDateTimeSequenceDecoder( zBuffer ).readAll() );
+  }
+
+  @Test
+  public void test_SkipTo()
+          throws Exception {
+    long[] zMillis = new long[10000];
+    for ( int i = 0; i < zMillis.length; i++ ) {
+      zMillis[i] = BASE + i * 10L;
+    }
+    ByteArrayOutputStream zOut = new ByteArrayOutputStream();
+    try ( ZuluDateTimeSequenceEncoder zEncoder = new ZuluDateTimeSequenceEncoder( zOut, 100 ) ) {
+      zEncoder.add( zMillis, 0, zMillis.length );
+    }
+    CountingInputStream zIn = new CountingInputStream( zOut.toByteArray() );
+    ZuluDateTimeSequenceDecoder zDecoder = new ZuluDateTimeSequenceDecoder( zIn );
+    Assert.assertTrue( zDecoder.skipTo( BASE + 75005 ) );
+    Assert.assertEquals( BASE + 75010, zDecoder.nextMillis() );
+    Assert.assertTrue( "skipped: " + zIn.mSkipped, zIn.mSkipped > 0 );
+
+    Assert.assertTrue( zDecoder.skipTo( BASE + 75010 ) ); // Already past
+    Assert.assertEquals( BASE + 75020, zDecoder.nextMillis() );
+
+    Assert.assertTrue( zDecoder.skipTo( BASE + 99990 ) );
+    long[] zRest = zDecoder.readAll();
+    Assert.assertArrayEquals( new long[]{BASE + 99990}, zRest );
+    Assert.assertFalse( zDecoder.skipTo( BASE ) );
+  }
+
+  @Test
+  public void test_Corruption() {
+    long[] zMillis = {BASE, BASE + 1000, BASE + 2000, BASE + 3000, BASE + 3500};
+    byte[] zBytes = ZuluDateTimeSequenceEncoder.encode( zMillis );
+
+    byte[] zTruncated = Arrays.copyOf( zBytes, zBytes.length - 1 );
+    assertCorrupt( zTruncated, EOFException.class );
+
+    byte[] zFlipped = zBytes.clone();
+    zFlipped[ZuluDateTimeSequenceEncoder.HEADER_BYTES] ^= 0x01; // Changes the first delta
+    assertCorrupt( zFlipped, StreamCorruptedException.class );
+
+    byte[] zBadHeader = zBytes.clone();
+    zBadHeader[0] = (byte)0xFF; // Negative count
+    assertCorrupt( zBadHeader, StreamCorruptedException.class );
+  }
+
+  private static void assertCorrupt( byte[] pBytes, Class<?> pExpectedCause ) {
+    try {
+      ZuluDateTimeSequenceDecoder.decode( pBytes );
+      Assert.fail( "Expected IllegalArgumentException" );
+    }
+    catch ( IllegalArgumentException expected ) {
+      Assert.assertEquals( pExpectedCause, expected.getCause().getClass() );
+    }
+  }
+
+  private static class CountingInputStream extends ByteArrayInputStream {
+    long mSkipped;
+
+    CountingInputStream( byte[] pBytes ) {
+      super( pBytes );
+    }
+
+    @Override
+    public synchronized long skip( long pCount ) {
+      long zSkipped = super.skip( pCount );
+      mSkipped += zSkipped;
+      return zSkipped;
+    }
+  }
+}
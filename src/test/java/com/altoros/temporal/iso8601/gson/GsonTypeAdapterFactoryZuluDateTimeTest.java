@@ -0,0 +1,89 @@
+package com.altoros.temporal.iso8601.gson;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.altoros.temporal.iso8601.ZuluDate;
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import com.altoros.temporal.iso8601.ZuluTimeOfDay;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GsonTypeAdapterFactoryZuluDateTimeTest {
+  private static final ZuluDateTime DT1 = ZuluDateTime.parse( "2011-01-16T17:18:19.200Z" );
+  private static final ZuluDateTime DT2 = ZuluDateTime.parse( "-1000-12-31T23:59:59.999Z" );
+
+  private final Gson mGson = new GsonBuilder().serializeNulls()
+          .registerTypeAdapterFactory( new GsonTypeAdapterFactoryZuluDateTime() ).create();
+
+  @SuppressWarnings("WeakerAccess")
+  public static class Carrier {
+    public ZuluDateTime single;
+    public ZuluDateTime[] array;
+    public List<ZuluDateTime> list;
+    public Collection<ZuluDateTime> collection;
+    public Map<String, ZuluDateTime> map;
+  }
+
+  @Test
+  public void test_AdaptersProvided() {
+    GsonTypeAdapterFactoryZuluDateTime zFactory = new GsonTypeAdapterFactoryZuluDateTime();
+    Assert.assertNotNull( zFactory.create( mGson, TypeToken.get( ZuluDateTime.class ) ) );
+    Assert.assertNotNull( zFactory.create( mGson, TypeToken.get( ZuluDateTime[].class ) ) );
+    Assert.assertNotNull( zFactory.create( mGson, new TypeToken<List<ZuluDateTime>>() {} ) );
+    Assert.assertNotNull( zFactory.create( mGson, new TypeToken<Collection<ZuluDateTime>>() {} ) );
+    Assert.assertNotNull( zFactory.create( mGson, new TypeToken<Map<String, ZuluDateTime>>() {} ) );
+    Assert.assertNotNull( zFactory.create( mGson, TypeToken.get( ZuluDate.class ) ) );
+    Assert.assertNotNull( zFactory.create( mGson, TypeToken.get( ZuluTimeOfDay.class ) ) );
+
+    Assert.assertNull( zFactory.create( mGson, new TypeToken<List<String>>() {} ) );
+    Assert.assertNull( zFactory.create( mGson, new TypeToken<ArrayList<ZuluDateTime>>() {} ) );
+    Assert.assertNull( zFactory.create( mGson, new TypeToken<Map<Integer, ZuluDateTime>>() {} ) );
+    Assert.assertNull( zFactory.create( mGson, TypeToken.get( String.class ) ) );
+  }
+
+  @Test
+  public void test_RoundTrip() {
+    Carrier zCarrier = new Carrier();
+    zCarrier.single = DT1;
+    zCarrier.array = new ZuluDateTime[]{DT1, null, DT2};
+    zCarrier.list = Arrays.asList( DT2, DT1 );
+    zCarrier.collection = new ArrayList<>();
+    zCarrier.map = new LinkedHashMap<>();
+    zCarrier.map.put( "a", DT1 );
+    zCarrier.map.put( "b", null );
+
+    String zJson = mGson.toJson( zCarrier );
+    Assert.assertEquals( "{\"single\":\"2011-01-16T17:18:19.200Z\"," +
+                         "\"array\":[\"2011-01-16T17:18:19.200Z\",null,\"-1000-12-31T23:59:59.999Z\"]," +
+                         "\"list\":[\"-1000-12-31T23:59:59.999Z\",\"2011-01-16T17:18:19.200Z\"]," +
+                         "\"collection\":[]," +
+                         "\"map\":{\"a\":\"2011-01-16T17:18:19.200Z\",\"b\":null}}", zJson );
+
+    Carrier zRT = mGson.fromJson( zJson, Carrier.class );
+    Assert.assertEquals( zCarrier.single, zRT.single );
+    Assert.assertArrayEquals( zCarrier.array, zRT.array );
+    Assert.assertEquals( zCarrier.list, zRT.list );
+    Assert.assertEquals( new ArrayList<>( zCarrier.collection ), zRT.collection );
+    Assert.assertEquals( zCarrier.map, zRT.map );
+
+    Carrier zNulls = mGson.fromJson( mGson.toJson( new Carrier() ), Carrier.class );
+    Assert.assertNull( zNulls.single );
+    Assert.assertNull( zNulls.array );
+    Assert.assertNull( zNulls.list );
+    Assert.assertNull( zNulls.map );
+  }
+
+  @Test
+  public void test_InsignificantStringsReadAsNull() {
+    ZuluDateTime[] zRead = mGson.fromJson( "[\"\", \"  \", \" 2011-01-16T17:18:19.200Z \"]", ZuluDateTime[].class );
+    Assert.assertArrayEquals( new ZuluDateTime[]{null, null, DT1}, zRead );
+  }
+}
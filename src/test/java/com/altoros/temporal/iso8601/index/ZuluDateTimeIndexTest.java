@@ -0,0 +1,288 @@
+package com.altoros.temporal.iso8601.index;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ZuluDateTimeIndexTest {
+  private static final long BASE = ZuluDateTime.parse( "2018-09-01T00:00:00.000Z" ).toEpochMilli();
+
+  private Path mFile;
+
+  @Before
+  public void setUp()
+          throws IOException {
+    mFile = Files.createTempFile( "ZuluDateTimeIndexTest", ".idx" );
+    Files.delete( mFile ); // let the writer create it
+  }
+
+  @After
+  public void tearDown()
+          throws IOException {
+    Files.deleteIfExists( mFile );
+  }
+
+  @Test
+  public void test_QueriesMatchBruteForce()
+          throws IOException {
+    Random zRandom = new Random( 16 );
+    long[] zMillis = new long[10000];
+    long zMilli = BASE;
+    for ( int i = 0; i < zMillis.length; i++ ) {
+      zMillis[i] = (zMilli += zRandom.nextInt( 3 )); // with duplicates
+    }
+    try ( ZuluDateTimeIndexWriter zWriter = ZuluDateTimeIndexWriter.open( mFile, false );
+          ZuluDateTimeIndexReader zReader = ZuluDateTimeIndexReader.open( mFile, 6 ) ) { // 64 entry chunks
+      Assert.assertTrue( zReader.isEmpty() );
+      Assert.assertEquals( -1, zReader.floorIndex( BASE ) );
+      Assert.assertEquals( -1, zReader.ceilingIndex( BASE ) );
+      int zAppended = 0;
+      for ( int zBatch : new int[]{1, 63, 100, 4900, 4936} ) { // across chunk (& writer buffer) boundaries
+        for ( int i = 0; i < zBatch; i++, zAppended++ ) {
+          zWriter.append( ZuluDateTime.ofEpochMilli( zMillis[zAppended] ), zAppended * 100L );
+        }
+        zWriter.commit();
+        Assert.assertTrue( zReader.refresh() );
+        Assert.assertFalse( zReader.refresh() );
+        Assert.assertEquals( zAppended, zReader.size() );
+        long[] zExpected = Arrays.copyOf( zMillis, zAppended );
+        for ( int i = 0; i < 200; i++ ) {
+          long zKey = BASE - 2 + zRandom.nextInt( (int)(zMilli - BASE) + 4 );
+          long zLower = zReader.lowerBound( zKey );
+          Assert.assertTrue( (zLower == 0) || (zExpected[(int)zLower - 1] < zKey) );
+          Assert.assertTrue( (zLower == zAppended) || (zExpected[(int)zLower] >= zKey) );
+          long zFloor = zReader.floorIndex( zKey );
+          Assert.assertTrue( (zFloor == -1) || (zExpected[(int)zFloor] <= zKey) );
+          Assert.assertTrue( (zFloor == zAppended - 1) || (zExpected[(int)zFloor + 1] > zKey) );
+          long zCeiling = zReader.ceilingIndex( ZuluDateTime.ofEpochMilli( zKey ) );
+          Assert.assertEquals( (zLower == zAppended) ? -1 : zLower, zCeiling );
+
+          long[] zRange = zReader.rangeIndices( zKey, zKey + 50 );
+          long zCount = Arrays.stream( zExpected ).filter( x -> (zKey <= x) && (x < zKey + 50) ).count();
+          Assert.assertEquals( zCount, zRange[1] - zRange[0] );
+          List<Long> zOffsets = new ArrayList<>();
+          Assert.assertEquals( zCount, zReader.forEachInRange( ZuluDateTime.ofEpochMilli( zKey ), ZuluDateTime.ofEpochMilli( zKey + 50 ),
+                                                               ( pEpochMillis, pPayloadOffset ) -> {
+                                                                 Assert.assertEquals( zMillis[(int)(pPayloadOffset / 100)], pEpochMillis );
+                                                                 zOffsets.add( pPayloadOffset );
+                                                               } ) );
+          for ( int j = 0; j < zOffsets.size(); j++ ) {
+            Assert.assertEquals( (zRange[0] + j) * 100L, (long)zOffsets.get( j ) );
+          }
+        }
+      }
+      Assert.assertEquals( ZuluDateTime.ofEpochMilli( zMillis[zMillis.length - 1] ), zReader.get( zMillis.length - 1 ) );
+      Assert.assertEquals( 100L, zReader.getPayloadOffset( 1 ) );
+      try {
+        zReader.getEpochMilli( zMillis.length );
+        Assert.fail( "Expected IndexOutOfBoundsException" );
+      }
+      catch ( IndexOutOfBoundsException expected ) {
+        // Expected
+      }
+    }
+  }
+
+  @Test
+  public void test_CommitVisibilityAndOrdering()
+          throws IOException {
+    try ( ZuluDateTimeIndexWriter zWriter = ZuluDateTimeIndexWriter.open( mFile ) ) {
+      zWriter.append( BASE, 0 ).append( BASE, 10 ).append( BASE + 5, 20 );
+      try {
+        zWriter.append( BASE + 4, 30 );
+        Assert.fail( "Expected IllegalArgumentException" );
+      }
+      catch ( IllegalArgumentException expected ) {
+        // Expected
+      }
+      try ( ZuluDateTimeIndexReader zReader = ZuluDateTimeIndexReader.open( mFile ) ) {
+        Assert.assertEquals( 0, zReader.size() );
+        Assert.assertEquals( 3, zWriter.size() );
+        Assert.assertEquals( 0, zWriter.committedSize() );
+        zWriter.commit();
+        Assert.assertTrue( zReader.refresh() );
+        Assert.assertArrayEquals( new long[]{0, 2}, zReader.rangeIndices( BASE, BASE + 5 ) );
+        Assert.assertEquals( 1, zReader.floorIndex( BASE + 4 ) );
+      }
+      try {
+        ZuluDateTimeIndexWriter.open( mFile ).close();
+        Assert.fail( "Expected IOException" );
+      }
+      catch ( IOException expected ) {
+        // Expected - single writer
+      }
+    }
+  }
+
+  @Test
+  public void test_Recovery()
+          throws IOException {
+    try ( ZuluDateTimeIndexWriter zWriter = ZuluDateTimeIndexWriter.open( mFile ) ) {
+      zWriter.append( BASE, 0 ).append( BASE + 1, 1 ).commit();
+      zWriter.append( BASE + 2, 2 ).commit();
+    }
+    long zCommittedBytes = Files.size( mFile );
+    try ( FileChannel zChannel = FileChannel.open( mFile, StandardOpenOption.READ, StandardOpenOption.WRITE ) ) {
+      // A crash part way through the next commit: entries written, but the slot torn (sequence & count, but no CRC)
+      zChannel.write( ByteBuffer.allocate( 40 ).putLong( 0, BASE + 3 ), zCommittedBytes );
+      long zNextSequence = IndexFormat.readCommit( zChannel )[0] + 1;
+      zChannel.write( ByteBuffer.allocate( 16 ).putLong( 0, zNextSequence ).putLong( 8, 5 ), IndexFormat.slotPosition( zNextSequence ) );
+    }
+    try ( ZuluDateTimeIndexReader zReader = ZuluDateTimeIndexReader.open( mFile ) ) {
+      Assert.assertEquals( 3, zReader.size() );
+    }
+    try ( ZuluDateTimeIndexWriter zWriter = ZuluDateTimeIndexWriter.open( mFile ) ) {
+      Assert.assertEquals( 3, zWriter.size() );
+      Assert.assertEquals( BASE + 2, zWriter.getLastEpochMillis() );
+      Assert.assertEquals( zCommittedBytes, Files.size( mFile ) ); // uncommitted tail truncated
+      zWriter.append( BASE + 7, 7 );
+    }
+    try ( ZuluDateTimeIndexReader zReader = ZuluDateTimeIndexReader.open( mFile ) ) {
+      Assert.assertEquals( 4, zReader.size() );
+      Assert.assertEquals( 7, zReader.getPayloadOffset( zReader.floorIndex( Long.MAX_VALUE ) ) );
+    }
+
+    Files.write( mFile, new byte[100] );
+    try {
+      ZuluDateTimeIndexReader.open( mFile ).close();
+      Assert.fail( "Expected StreamCorruptedException" );
+    }
+    catch ( StreamCorruptedException expected ) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void test_EntriesLostByAnOsCrash()
+          throws IOException {
+    try ( ZuluDateTimeIndexWriter zWriter = ZuluDateTimeIndexWriter.open( mFile, false ) ) {
+      zWriter.append( BASE, 0 ).append( BASE + 1, 1 ).commit();
+      zWriter.append( BASE + 2, 2 ).append( BASE + 3, 3 ).commit();
+    }
+    // Without force, the OS wrote the last slot, but not (all) the entries it commits: zero filled
+    try ( FileChannel zChannel = FileChannel.open( mFile, StandardOpenOption.READ, StandardOpenOption.WRITE ) ) {
+      zChannel.write( ByteBuffer.allocate( 16 ), IndexFormat.entryPosition( 3 ) );
+    }
+    try ( ZuluDateTimeIndexWriter zWriter = ZuluDateTimeIndexWriter.open( mFile, false ) ) {
+      Assert.assertEquals( 2, zWriter.size() ); // the previous commit
+      Assert.assertEquals( BASE + 1, zWriter.getLastEpochMillis() );
+      try ( ZuluDateTimeIndexReader zReader = ZuluDateTimeIndexReader.open( mFile ) ) {
+        Assert.assertEquals( 2, zReader.size() ); // the lost commit is no longer visible
+      }
+      zWriter.append( BASE + 4, 4 );
+    }
+    try ( ZuluDateTimeIndexReader zReader = ZuluDateTimeIndexReader.open( mFile ) ) {
+      Assert.assertEquals( 3, zReader.size() );
+      Assert.assertEquals( 4, zReader.getPayloadOffset( 2 ) );
+    }
+
+    // The slot written, but the file not even extended to the entries
+    try ( ZuluDateTimeIndexWriter zWriter = ZuluDateTimeIndexWriter.open( mFile, false ) ) {
+      zWriter.append( BASE + 5, 5 ).commit();
+    }
+    try ( FileChannel zChannel = FileChannel.open( mFile, StandardOpenOption.READ, StandardOpenOption.WRITE ) ) {
+      zChannel.truncate( IndexFormat.entryPosition( 3 ) );
+    }
+    try ( ZuluDateTimeIndexWriter zWriter = ZuluDateTimeIndexWriter.open( mFile, false ) ) {
+      Assert.assertEquals( 3, zWriter.size() );
+    }
+
+    // The entries of both of the last two commits lost
+    try ( FileChannel zChannel = FileChannel.open( mFile, StandardOpenOption.READ, StandardOpenOption.WRITE ) ) {
+      zChannel.write( ByteBuffer.allocate( 16 ), IndexFormat.entryPosition( 2 ) );
+    }
+    try {
+      ZuluDateTimeIndexWriter.open( mFile, false ).close();
+      Assert.fail( "Expected StreamCorruptedException" );
+    }
+    catch ( StreamCorruptedException expected ) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void test_ReaderAcrossAWriterFallingBack()
+          throws IOException {
+    try ( ZuluDateTimeIndexWriter zWriter = ZuluDateTimeIndexWriter.open( mFile, false ) ) {
+      zWriter.append( BASE, 0 ).append( BASE + 1, 1 ).commit();
+      zWriter.append( BASE + 2, 2 ).append( BASE + 3, 3 ).commit();
+    }
+    // Without force, the OS wrote the last slot, but not (all) the entries it commits: zero filled
+    try ( FileChannel zChannel = FileChannel.open( mFile, StandardOpenOption.READ, StandardOpenOption.WRITE ) ) {
+      zChannel.write( ByteBuffer.allocate( 16 ), IndexFormat.entryPosition( 3 ) );
+    }
+    try ( ZuluDateTimeIndexReader zReader = ZuluDateTimeIndexReader.open( mFile ) ) {
+      Assert.assertEquals( 2, zReader.size() ); // the lost commit is never published
+      try ( ZuluDateTimeIndexWriter zWriter = ZuluDateTimeIndexWriter.open( mFile, false ) ) { // falls back, and truncates
+        Assert.assertEquals( 2, zWriter.size() );
+        Assert.assertFalse( zReader.refresh() );
+        Assert.assertEquals( 2, zReader.size() );
+        Assert.assertEquals( 1, zReader.getPayloadOffset( 1 ) );
+
+        zWriter.append( BASE + 4, 4 ).commit();
+        Assert.assertTrue( zReader.refresh() );
+        Assert.assertEquals( 3, zReader.size() );
+        Assert.assertEquals( 4, zReader.getPayloadOffset( 2 ) );
+        Assert.assertEquals( 2, zReader.ceilingIndex( BASE + 2 ) );
+      }
+    }
+  }
+
+  @Test
+  public void test_LockFreeReadersWhileAppending()
+          throws Exception {
+    int zCount = 20000;
+    AtomicReference<Throwable> zFailure = new AtomicReference<>();
+    try ( ZuluDateTimeIndexWriter zWriter = ZuluDateTimeIndexWriter.open( mFile, false );
+          ZuluDateTimeIndexReader zReader = ZuluDateTimeIndexReader.open( mFile, 8 ) ) {
+      Thread[] zThreads = new Thread[3];
+      for ( int t = 0; t < zThreads.length; t++ ) {
+        zThreads[t] = new Thread( () -> {
+          try {
+            long zLastSize = 0;
+            while ( zLastSize < zCount ) {
+              long zSize = zReader.size();
+              Assert.assertTrue( zSize >= zLastSize );
+              if ( zSize != 0 ) {
+                long zLast = zSize - 1;
+                Assert.assertEquals( BASE + zLast, zReader.getEpochMilli( zLast ) );
+                Assert.assertEquals( zLast, zReader.floorIndex( BASE + zLast ) );
+              }
+              zLastSize = zSize;
+            }
+          }
+          catch ( Throwable e ) {
+            zFailure.set( e );
+          }
+        } );
+        zThreads[t].start();
+      }
+      for ( int i = 0; i < zCount; i++ ) {
+        zWriter.append( BASE + i, i );
+        if ( (i % 100) == 99 ) {
+          zWriter.commit();
+          zReader.refresh();
+        }
+      }
+      for ( Thread zThread : zThreads ) {
+        zThread.join( 10000 );
+      }
+    }
+    Assert.assertNull( zFailure.get() );
+  }
+}
@@ -0,0 +1,141 @@
+package com.altoros.temporal.iso8601.jackson;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.altoros.temporal.iso8601.ZuluDate;
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import com.altoros.temporal.iso8601.ZuluTimeOfDay;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ZuluDateTimeModuleTest {
+  private static final ZuluDateTime DT1 = ZuluDateTime.parse( "2011-01-16T17:18:19.200Z" );
+  private static final ZuluDateTime DT2 = ZuluDateTime.parse( "-1000-12-31T23:59:59.999Z" );
+
+  private final ObjectMapper mMapper = new ObjectMapper().registerModule( new ZuluDateTimeModule() );
+
+  @SuppressWarnings("WeakerAccess")
+  public static class Carrier {
+    public ZuluDateTime single;
+    public List<ZuluDateTime> list;
+    public Map<ZuluDateTime, String> keyed;
+  }
+
+  @Test
+  public void test_RoundTrip()
+          throws Exception {
+    Carrier zCarrier = new Carrier();
+    zCarrier.single = DT1;
+    zCarrier.list = Arrays.asList( DT2, null, DT1 );
+    zCarrier.keyed = new TreeMap<>();
+    zCarrier.keyed.put( DT2, "two" );
+    zCarrier.keyed.put( DT1, "one" );
+
+    String zJson = mMapper.writeValueAsString( zCarrier );
+    Assert.assertEquals( "{\"single\":\"2011-01-16T17:18:19.200Z\"," +
+                         "\"list\":[\"-1000-12-31T23:59:59.999Z\",null,\"2011-01-16T17:18:19.200Z\"]," +
+                         "\"keyed\":{\"-1000-12-31T23:59:59.999Z\":\"two\",\"2011-01-16T17:18:19.200Z\":\"one\"}}", zJson );
+
+    Carrier zRT = mMapper.readValue( zJson, Carrier.class );
+    Assert.assertEquals( zCarrier.single, zRT.single );
+    Assert.assertEquals( zCarrier.list, zRT.list );
+    Assert.assertEquals( zCarrier.keyed, zRT.keyed );
+  }
+
+  @SuppressWarnings("WeakerAccess")
+  public static class CompanionCarrier {
+    public ZuluDate date;
+    public ZuluTimeOfDay time;
+    public Map<ZuluDate, ZuluTimeOfDay> keyed;
+  }
+
+  @Test
+  public void test_CompanionsRoundTrip()
+          throws Exception {
+    CompanionCarrier zCarrier = new CompanionCarrier();
+    zCarrier.date = DT1.toZuluDate();
+    zCarrier.time = DT1.toZuluTimeOfDay();
+    zCarrier.keyed = new TreeMap<>();
+    zCarrier.keyed.put( DT1.toZuluDate(), DT1.toZuluTimeOfDay() );
+    zCarrier.keyed.put( DT2.toZuluDate(), DT2.toZuluTimeOfDay() );
+
+    String zJson = mMapper.writeValueAsString( zCarrier );
+    Assert.assertEquals( "{\"date\":\"2011-01-16\",\"time\":\"17:18:19.200Z\"," +
+                         "\"keyed\":{\"-1000-12-31\":\"23:59:59.999Z\",\"2011-01-16\":\"17:18:19.200Z\"}}", zJson );
+
+    CompanionCarrier zRT = mMapper.readValue( zJson, CompanionCarrier.class );
+    Assert.assertEquals( zCarrier.date, zRT.date );
+    Assert.assertEquals( zCarrier.time, zRT.time );
+    Assert.assertEquals( zCarrier.keyed, zRT.keyed );
+
+    Map<ZuluTimeOfDay, ZuluDate> zKeyed = mMapper.readValue( "{\"17:18:19.2Z\":\" \"}",
+                                                             new TypeReference<Map<ZuluTimeOfDay, ZuluDate>>() {} );
+    Assert.assertTrue( zKeyed.containsKey( zCarrier.time ) );
+    Assert.assertNull( zKeyed.get( zCarrier.time ) );
+  }
+
+  @Test
+  public void test_ReadFromTextBuffer()
+          throws Exception {
+    List<ZuluDateTime> zRead = mMapper.readValue( "[\" 2011-01-16T17:18:19.200Z\", \"\", \"   \", \"2011-01-16T17:18:19.2Z\"]",
+                                                  new TypeReference<List<ZuluDateTime>>() {} );
+    Assert.assertEquals( Arrays.asList( DT1, null, null, DT1 ), zRead );
+
+    Map<ZuluDateTime, Integer> zKeyed = mMapper.readValue( "{\"2011-01-16T17:18:19.200Z\":1}",
+                                                           new TypeReference<Map<ZuluDateTime, Integer>>() {} );
+    Assert.assertEquals( Integer.valueOf( 1 ), zKeyed.get( DT1 ) );
+  }
+
+  @Test
+  public void test_BadText()
+          throws Exception {
+    try {
+      mMapper.readValue( "\"2011-02-30T17:18:19.200Z\"", ZuluDateTime.class );
+      Assert.fail( "Expected InvalidFormatException" );
+    }
+    catch ( InvalidFormatException expected ) {
+      Assert.assertEquals( "2011-02-30T17:18:19.200Z", expected.getValue() );
+    }
+    try {
+      mMapper.readValue( "{\"Feb 30th\":1}", new TypeReference<Map<ZuluDateTime, Integer>>() {} );
+      Assert.fail( "Expected InvalidFormatException" );
+    }
+    catch ( InvalidFormatException expected ) {
+      Assert.assertEquals( "Feb 30th", expected.getValue() );
+    }
+    try {
+      mMapper.readValue( "\"+300000000-01-01T00:00:00Z\"", ZuluDateTime.class ); // valid for Instant, but beyond the epoch Millisecs
+      Assert.fail( "Expected InvalidFormatException" );
+    }
+    catch ( InvalidFormatException expected ) {
+      Assert.assertEquals( "+300000000-01-01T00:00:00Z", expected.getValue() );
+    }
+    try {
+      mMapper.readValue( "{\"+300000000-01-01T00:00:00Z\":1}", new TypeReference<Map<ZuluDateTime, Integer>>() {} );
+      Assert.fail( "Expected InvalidFormatException" );
+    }
+    catch ( InvalidFormatException expected ) {
+      Assert.assertEquals( "+300000000-01-01T00:00:00Z", expected.getValue() );
+    }
+    try {
+      mMapper.readValue( "\"2011-02-30\"", ZuluDate.class );
+      Assert.fail( "Expected InvalidFormatException" );
+    }
+    catch ( InvalidFormatException expected ) {
+      Assert.assertEquals( "2011-02-30", expected.getValue() );
+    }
+    try {
+      mMapper.readValue( "\"24:00:00.000Z\"", ZuluTimeOfDay.class );
+      Assert.fail( "Expected InvalidFormatException" );
+    }
+    catch ( InvalidFormatException expected ) {
+      Assert.assertEquals( "24:00:00.000Z", expected.getValue() );
+    }
+  }
+}
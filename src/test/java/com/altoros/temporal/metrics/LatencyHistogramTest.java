@@ -0,0 +1,52 @@
+package com.altoros.temporal.metrics;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+  @Test
+  public void test_Buckets() {
+    long zPreviousHighest = -1;
+    for ( int i = 0; i < 1888; i++ ) {
+      long zLowest = LatencyHistogram.lowestValueOf( i );
+      long zHighest = LatencyHistogram.highestValueOf( i );
+      Assert.assertEquals( "contiguous at " + i, zPreviousHighest + 1, zLowest );
+      Assert.assertEquals( i, LatencyHistogram.indexOf( zLowest ) );
+      Assert.assertEquals( i, LatencyHistogram.indexOf( zHighest ) );
+      Assert.assertTrue( "within 1/32 at " + i, (zHighest - zLowest) <= (zLowest / 32) );
+      zPreviousHighest = zHighest;
+    }
+    Assert.assertEquals( Long.MAX_VALUE, zPreviousHighest );
+  }
+
+  @Test
+  public void test_Percentiles() {
+    LatencyHistogram zHistogram = new LatencyHistogram();
+    Assert.assertEquals( 0, zHistogram.getValueAtPercentile( 99 ) );
+
+    Random zRandom = new Random( 20 );
+    long[] zValues = new long[100000];
+    for ( int i = 0; i < zValues.length; i++ ) {
+      zValues[i] = (long)Math.exp( zRandom.nextDouble() * 20 ); // 1 - ~500M, log uniform
+      zHistogram.record( zValues[i] );
+    }
+    Arrays.sort( zValues );
+    Assert.assertEquals( zValues.length, zHistogram.getCount() );
+    Assert.assertEquals( zValues[zValues.length - 1], zHistogram.getMax() );
+    Assert.assertEquals( Arrays.stream( zValues ).average().getAsDouble(), zHistogram.getMean(), 1 );
+    for ( double zPercentile : new double[]{0, 1, 50, 90, 99, 99.9, 100} ) {
+      long zExpected = zValues[Math.max( 0, (int)Math.ceil( zPercentile / 100 * zValues.length ) - 1 )];
+      long zActual = zHistogram.getValueAtPercentile( zPercentile );
+      Assert.assertTrue( zPercentile + ": " + zActual + " vs " + zExpected, zActual >= zExpected );
+      Assert.assertTrue( zPercentile + ": " + zActual + " vs " + zExpected, zActual <= zExpected + (zExpected / 32) );
+    }
+    zHistogram.record( -5 ); // as 0
+    Assert.assertEquals( 0, zHistogram.getValueAtPercentile( 0 ) );
+    zHistogram.reset();
+    Assert.assertEquals( 0, zHistogram.getCount() );
+    Assert.assertEquals( 0, zHistogram.getMax() );
+  }
+}
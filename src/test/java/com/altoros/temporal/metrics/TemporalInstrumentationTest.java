@@ -0,0 +1,50 @@
+package com.altoros.temporal.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.altoros.temporal.InstrumentedMillisecTimeSource;
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The default (production) configuration: run without the <code>TemporalInstrumentation.ENABLED_PROPERTY</code> (see the pom).
+ */
+public class TemporalInstrumentationTest {
+  @After
+  public void tearDown() {
+    TemporalInstrumentation.setListener( TemporalListener.NOOP );
+  }
+
+  @Test
+  public void test_DisabledByDefault() {
+    Assert.assertFalse( TemporalInstrumentation.ENABLED_PROPERTY + " set", Boolean.getBoolean( TemporalInstrumentation.ENABLED_PROPERTY ) );
+    Assert.assertFalse( TemporalInstrumentation.ENABLED );
+    Assert.assertEquals( 0, TemporalInstrumentation.start() );
+  }
+
+  @Test
+  public void test_NothingReportedWhenDisabled() {
+    AtomicLong zEvents = new AtomicLong();
+    TemporalInstrumentation.setListener( new TemporalListener() {
+      @Override
+      public void onOperation( TemporalOperation pOperation, long pNanos ) {
+        zEvents.incrementAndGet();
+      }
+
+      @Override
+      public void onClockBackwards( long pMillis ) {
+        zEvents.incrementAndGet();
+      }
+    } );
+    Assert.assertEquals( "2018-09-12T10:11:12.013Z", ZuluDateTime.parse( "2018-09-12T10:11:12.013Z" ).toString() );
+    AtomicLong zNow = new AtomicLong( 1000 );
+    InstrumentedMillisecTimeSource zClock = new InstrumentedMillisecTimeSource( zNow::get );
+    zClock.currentTimeMillis();
+    zNow.set( 0 );
+    zClock.currentTimeMillis();
+    Assert.assertEquals( 1, zClock.getBackwardsCount() ); // still detected locally
+    Assert.assertEquals( 0, zEvents.get() );
+  }
+}
@@ -0,0 +1,135 @@
+package com.altoros.temporal.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import com.altoros.temporal.InstrumentedMillisecTimeSource;
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TemporalMetricsTest {
+  private TemporalMetrics mMetrics;
+
+  @Before
+  public void setUp() {
+    Assume.assumeTrue( "Instrumentation not enabled (" + TemporalInstrumentation.ENABLED_PROPERTY + ")", TemporalInstrumentation.ENABLED );
+    mMetrics = TemporalMetrics.install();
+  }
+
+  @After
+  public void tearDown() {
+    TemporalInstrumentation.setListener( TemporalListener.NOOP );
+  }
+
+  @Test
+  public void test_ParseAndRender() {
+    ZuluDateTime.parse( "2018-09-12T10:11:12.013Z" );
+    ZuluDateTime.parse( " 2018-09-12T10:11:12.013Z ".toCharArray(), 0, 26 );
+    byte[] zBytes = "2018-09-12T10:11:12.013Z|2018-09-12T10:11:12Z".getBytes( StandardCharsets.US_ASCII );
+    ZuluDateTime.parseEpochMillis( zBytes, new int[]{0, 25}, new int[]{24, zBytes.length}, new long[2] );
+    ZuluDateTime.parse( "2018-09-12T10:11:12Z" );
+    for ( String zBad : new String[]{"2018-09-12", "  "} ) {
+      try {
+        ZuluDateTime.parse( zBad );
+        Assert.fail( "Expected failure for: '" + zBad + "'" );
+      }
+      catch ( DateTimeParseException | IllegalArgumentException expected ) {
+        // Expected
+      }
+    }
+    Assert.assertEquals( 3, mMetrics.getCount( TemporalOperation.PARSE_CANONICAL ) );
+    Assert.assertEquals( 2, mMetrics.getParseFallbackCount() );
+    Assert.assertEquals( 2, mMetrics.getParseFailureCount() );
+    Assert.assertEquals( 7, mMetrics.getParseCount() );
+
+    ZuluDateTime zDT = ZuluDateTime.ofEpochMilli( 0 );
+    zDT.toString();
+    zDT.renderTo( new StringBuilder() );
+    Assert.assertEquals( 2, mMetrics.getRenderCount() );
+    Assert.assertEquals( 2, mMetrics.getLatency( TemporalOperation.RENDER ).getCount() );
+
+    TemporalInstrumentation.setListener( TemporalListener.NOOP );
+    ZuluDateTime.parse( "2018-09-12T10:11:12.013Z" );
+    Assert.assertEquals( 7, mMetrics.getParseCount() );
+  }
+
+  @Test
+  public void test_Gson() {
+    Gson zGson = new Gson();
+    List<ZuluDateTime> zValues = Arrays.asList( ZuluDateTime.ofEpochMilli( 0 ) );
+    String zJson = zGson.toJson( zValues.get( 0 ) );
+    Assert.assertEquals( zValues.get( 0 ), zGson.fromJson( zJson, ZuluDateTime.class ) );
+    Assert.assertEquals( 1, mMetrics.getCount( TemporalOperation.GSON_WRITE ) );
+    Assert.assertEquals( 1, mMetrics.getCount( TemporalOperation.GSON_READ ) );
+    Assert.assertEquals( 1, mMetrics.getCount( TemporalOperation.PARSE_CANONICAL ) );
+    zGson.fromJson( "[\"2018-09-12T10:11:12.013Z\", null]", new TypeToken<List<ZuluDateTime>>() {
+    }.getType() );
+    Assert.assertEquals( 2, mMetrics.getCount( TemporalOperation.GSON_READ ) ); // @JsonAdapter is null safe (nulls not seen)
+  }
+
+  @Test
+  public void test_InstrumentedMillisecTimeSource() {
+    AtomicLong zNow = new AtomicLong( 1000000 );
+    InstrumentedMillisecTimeSource zSource = new InstrumentedMillisecTimeSource( zNow::get, 5 );
+    Assert.assertEquals( 1000000, zSource.currentTimeMillis() );
+    zNow.addAndGet( 10 );
+    zSource.currentTimeMillis();
+    zNow.addAndGet( -3 ); // below the threshold
+    zSource.currentTimeMillis();
+    Assert.assertEquals( 0, zSource.getBackwardsCount() );
+    zNow.addAndGet( -100 ); // NTP step back
+    Assert.assertEquals( 999907, zSource.currentTimeMillis() ); // passed through
+    zSource.currentTimeMillis(); // reported once
+    zNow.addAndGet( -20 );
+    zSource.currentTimeMillis();
+    Assert.assertEquals( 6, zSource.getReadCount() );
+    Assert.assertEquals( 2, zSource.getBackwardsCount() );
+    Assert.assertEquals( 103, zSource.getMaxBackwardsMillis() );
+    Assert.assertEquals( 6, mMetrics.getClockReadCount() );
+    Assert.assertEquals( 2, mMetrics.getClockBackwardsCount() );
+    Assert.assertEquals( 103, mMetrics.getMaxClockBackwardsMillis() );
+    try {
+      new InstrumentedMillisecTimeSource( zNow::get, 0 );
+      Assert.fail( "Expected IllegalArgumentException" );
+    }
+    catch ( IllegalArgumentException expected ) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void test_MXBean()
+          throws Exception {
+    ZuluDateTime.parse( "2018-09-12T10:11:12.013Z" );
+    ObjectName zName = mMetrics.registerMBean( TemporalMetrics.DEFAULT_OBJECT_NAME + ",name=test" );
+    try {
+      MBeanServer zServer = ManagementFactory.getPlatformMBeanServer();
+      Assert.assertEquals( 1L, zServer.getAttribute( zName, "ParseCount" ) );
+      TabularData zCounts = (TabularData)zServer.getAttribute( zName, "Counts" );
+      Assert.assertEquals( 1L, zCounts.get( new Object[]{"PARSE_CANONICAL"} ).get( "value" ) );
+      Assert.assertEquals( TemporalOperation.values().length, zCounts.size() );
+      zServer.invoke( zName, "reset", null, null );
+      Assert.assertEquals( 0L, zServer.getAttribute( zName, "ParseCount" ) );
+    }
+    finally {
+      TemporalMetrics.unregisterMBean( zName );
+    }
+    Map<String, Long> zP99 = mMetrics.getP99Nanos();
+    Assert.assertEquals( TemporalOperation.values().length, zP99.size() );
+    Assert.assertTrue( mMetrics.toString(), mMetrics.toString().contains( "PARSE_CANONICAL" ) );
+  }
+}
@@ -0,0 +1,215 @@
+package com.altoros.temporal.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.altoros.temporal.MillisecTimeSource;
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HashedTimingWheelTest {
+  private static final long BASE = ZuluDateTime.parse( "2018-09-12T10:11:12.013Z" ).toEpochMilli();
+
+  private final AtomicLong mNow = new AtomicLong( BASE );
+  private final MillisecTimeSource mSource = mNow::get;
+
+  @Test
+  public void test_NeverEarlyAndAtMostATickLate() {
+    // Small wheels (4 slots) so the deadlines span many levels, and cascade a lot
+    HashedTimingWheel zWheel = new HashedTimingWheel( mSource, 10, 4, HashedTimingWheel.DIRECT, 1000 );
+    Random zRandom = new Random( 21 );
+    int zCount = 3000;
+    long[] zDeadlines = new long[zCount];
+    long[] zExpiredAt = new long[zCount];
+    for ( int i = 0; i < zCount; i++ ) {
+      int zIndex = i;
+      long zDelay = (i < 100) ? (i - 50) : (long)Math.exp( zRandom.nextDouble() * 14 ); // some past, up to ~1.2M ms
+      zDeadlines[i] = BASE + zDelay;
+      Timeout zTimeout = zWheel.schedule( () -> zExpiredAt[zIndex] = mNow.get(), zDeadlines[i] );
+      Assert.assertEquals( zDeadlines[i], zTimeout.getDeadlineMillis() );
+    }
+    Assert.assertEquals( zCount, zWheel.getPendingCount() );
+    int zExpired = 0;
+    while ( zExpired < zCount ) {
+      mNow.addAndGet( 1 + zRandom.nextInt( 25 ) ); // irregular advances, not tick aligned
+      zExpired += zWheel.advance();
+      Assert.assertTrue( mNow.get() < BASE + 1300000 );
+    }
+    Assert.assertEquals( 0, zWheel.getPendingCount() );
+    for ( int i = 0; i < zCount; i++ ) {
+      Assert.assertTrue( "Early: " + i, zExpiredAt[i] >= zDeadlines[i] );
+      // the first advance at (or after) the deadline's tick boundary; advances are at most 25ms apart
+      long zTickBoundary = Math.max( BASE + 1, ((zDeadlines[i] + 9) / 10) * 10 );
+      Assert.assertTrue( "Late: " + i, zExpiredAt[i] < zTickBoundary + 25 );
+    }
+  }
+
+  @Test
+  public void test_Cancel() {
+    HashedTimingWheel zWheel = new HashedTimingWheel( mSource, 1 );
+    List<Long> zRan = new ArrayList<>();
+    Timeout zNeverPlaced = zWheel.schedule( () -> zRan.add( 0L ), BASE + 5 );
+    Assert.assertTrue( zNeverPlaced.cancel() );
+    Assert.assertFalse( zNeverPlaced.cancel() );
+    Timeout zPlaced = zWheel.schedule( () -> zRan.add( 1L ), BASE + 600 ); // level 1
+    Timeout zKept = zWheel.scheduleAfter( () -> zRan.add( 2L ), 700 );
+    Assert.assertEquals( 2, zWheel.advance() + zWheel.getPendingCount() );
+    Assert.assertTrue( zPlaced.cancel() );
+    Assert.assertTrue( zPlaced.isCancelled() );
+    Assert.assertEquals( 1, zWheel.getPendingCount() );
+
+    mNow.addAndGet( 699 );
+    Assert.assertEquals( 0, zWheel.advance() );
+    mNow.addAndGet( 1 );
+    Assert.assertEquals( 1, zWheel.advance() );
+    Assert.assertEquals( "[2]", zRan.toString() );
+    Assert.assertTrue( zKept.isExpired() );
+    Assert.assertFalse( zKept.cancel() );
+    Assert.assertEquals( ZuluDateTime.ofEpochMilli( BASE + 700 ), zKept.getDeadline() );
+  }
+
+  @Test
+  public void test_PastDeadlinesAndClockSteps() {
+    HashedTimingWheel zWheel = new HashedTimingWheel( mSource, 1, 8, HashedTimingWheel.DIRECT, 1 );
+    AtomicLong zRan = new AtomicLong();
+    zWheel.schedule( zRan::incrementAndGet, ZuluDateTime.ofEpochMilli( BASE - 1000 ) );
+    Assert.assertEquals( 0, zWheel.advance() ); // not until the next tick
+    mNow.addAndGet( 1 );
+    Assert.assertEquals( 1, zWheel.advance() );
+
+    mNow.addAndGet( -500 ); // backwards: nothing happens until it catches up
+    zWheel.scheduleAfter( zRan::incrementAndGet, 10 ); // BASE - 489
+    Assert.assertEquals( 0, zWheel.advance() );
+    mNow.set( BASE + 2 );
+    Assert.assertEquals( 1, zWheel.advance() );
+
+    mNow.addAndGet( TimeUnit.DAYS.toMillis( 400 ) ); // idle jump
+    zWheel.scheduleAfter( zRan::incrementAndGet, Long.MAX_VALUE ); // never
+    zWheel.scheduleAfter( zRan::incrementAndGet, 3 );
+    Assert.assertEquals( 0, zWheel.advance() );
+    mNow.addAndGet( 3 );
+    Assert.assertEquals( 1, zWheel.advance() );
+    Assert.assertEquals( 3, zRan.get() );
+    Assert.assertEquals( 1, zWheel.getPendingCount() );
+  }
+
+  @Test
+  public void test_BatchedExpiry() {
+    List<Runnable> zSubmitted = new ArrayList<>();
+    HashedTimingWheel zWheel = new HashedTimingWheel( mSource, 1, 64, zSubmitted::add, 2 );
+    AtomicLong zRan = new AtomicLong();
+    for ( int i = 0; i < 5; i++ ) {
+      zWheel.scheduleAfter( () -> {
+        if ( zRan.incrementAndGet() == 2 ) {
+          throw new IllegalStateException( "Expected: Task Failure" );
+        }
+      }, 1 + (i % 2) );
+    }
+    mNow.addAndGet( 2 );
+    Assert.assertEquals( 5, zWheel.advance() );
+    Assert.assertEquals( 3, zSubmitted.size() ); // 2 + 2 + 1
+    Assert.assertEquals( 0, zRan.get() ); // not until the executor runs them
+
+    Thread zThread = Thread.currentThread();
+    Thread.UncaughtExceptionHandler zOriginal = zThread.getUncaughtExceptionHandler();
+    List<Throwable> zFailures = new ArrayList<>();
+    zThread.setUncaughtExceptionHandler( ( t, e ) -> zFailures.add( e ) );
+    try {
+      zSubmitted.forEach( Runnable::run );
+    }
+    finally {
+      zThread.setUncaughtExceptionHandler( zOriginal );
+    }
+    Assert.assertEquals( 5, zRan.get() ); // the failure did not stop its batch
+    Assert.assertEquals( 1, zFailures.size() );
+  }
+
+  @Test
+  public void test_RejectingExecutor()
+          throws Exception {
+    List<Runnable> zSubmitted = new ArrayList<>();
+    HashedTimingWheel zWheel = new HashedTimingWheel( mSource, 1, 64, pBatch -> {
+      if ( zSubmitted.size() == 1 ) {
+        zSubmitted.add( null ); // only reject the second batch
+        throw new RejectedExecutionException( "Expected: Executor Shut Down" );
+      }
+      zSubmitted.add( pBatch );
+    }, 2 );
+    AtomicLong zRan = new AtomicLong();
+    for ( int i = 0; i < 5; i++ ) {
+      zWheel.scheduleAfter( zRan::incrementAndGet, 1 );
+    }
+    mNow.addAndGet( 1 );
+
+    Thread zThread = Thread.currentThread();
+    Thread.UncaughtExceptionHandler zOriginal = zThread.getUncaughtExceptionHandler();
+    List<Throwable> zFailures = new ArrayList<>();
+    zThread.setUncaughtExceptionHandler( ( t, e ) -> zFailures.add( e ) );
+    try {
+      Assert.assertEquals( 5, zWheel.advance() );
+    }
+    finally {
+      zThread.setUncaughtExceptionHandler( zOriginal );
+    }
+    Assert.assertEquals( 3, zSubmitted.size() ); // the batch after the rejected one was still handed off
+    Assert.assertEquals( 1, zFailures.size() );
+    Assert.assertTrue( zFailures.get( 0 ) instanceof RejectedExecutionException );
+    zSubmitted.get( 0 ).run();
+    zSubmitted.get( 2 ).run();
+    Assert.assertEquals( 3, zRan.get() );
+    Assert.assertEquals( 0, zWheel.getPendingCount() );
+
+    // The driver thread survives a rejecting executor (the failures are reported to its thread group, i.e. printed)
+    CountDownLatch zRejected = new CountDownLatch( 2 );
+    try ( HashedTimingWheel zDriven = new HashedTimingWheel( MillisecTimeSource.SYSTEM, 1, 64, pBatch -> {
+      zRejected.countDown();
+      throw new RejectedExecutionException( "Expected: Executor Shut Down" );
+    }, 1 ).start() ) {
+      zDriven.scheduleAfter( zRan::incrementAndGet, 1 );
+      zDriven.scheduleAfter( zRan::incrementAndGet, 20 );
+      Assert.assertTrue( zRejected.await( 5, TimeUnit.SECONDS ) );
+      Assert.assertTrue( zDriven.isRunning() );
+    }
+  }
+
+  @Test
+  public void test_DriverThread()
+          throws Exception {
+    try ( HashedTimingWheel zWheel = new HashedTimingWheel( MillisecTimeSource.SYSTEM, 1 ).start() ) {
+      Assert.assertTrue( zWheel.isRunning() );
+      CountDownLatch zLatch = new CountDownLatch( 3 );
+      long zStarted = System.currentTimeMillis();
+      for ( int i = 1; i <= 3; i++ ) {
+        zWheel.scheduleAfter( zLatch::countDown, i * 10 );
+      }
+      Assert.assertTrue( zLatch.await( 5, TimeUnit.SECONDS ) );
+      Assert.assertTrue( (System.currentTimeMillis() - zStarted) >= 30 );
+      zWheel.stop();
+      Assert.assertFalse( zWheel.isRunning() );
+    }
+  }
+
+  @Test
+  public void test_BadArguments() {
+    for ( Runnable zBad : new Runnable[]{
+            () -> new HashedTimingWheel( mSource, 0 ),
+            () -> new HashedTimingWheel( mSource, 1, 1, HashedTimingWheel.DIRECT, 1 ),
+            () -> new HashedTimingWheel( mSource, 1, HashedTimingWheel.MAX_SLOTS_PER_WHEEL + 1, HashedTimingWheel.DIRECT, 1 ),
+            () -> new HashedTimingWheel( mSource, 1, 2, HashedTimingWheel.DIRECT, 0 )} ) {
+      try {
+        zBad.run();
+        Assert.fail( "Expected IllegalArgumentException" );
+      }
+      catch ( IllegalArgumentException expected ) {
+        // Expected
+      }
+    }
+    Assert.assertEquals( 8, new HashedTimingWheel( mSource, 1, 5, HashedTimingWheel.DIRECT, 1 ).getSlotsPerWheel() );
+  }
+}
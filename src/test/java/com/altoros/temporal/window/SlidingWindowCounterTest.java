@@ -0,0 +1,151 @@
+package com.altoros.temporal.window;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.altoros.temporal.VirtualMillisecTimeSource;
+import com.altoros.temporal.iso8601.ZuluDateTime;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SlidingWindowCounterTest {
+  private static final ZuluDateTime START = ZuluDateTime.parse( "2018-09-12T10:11:12.000Z" );
+
+  private final VirtualMillisecTimeSource mSource = new VirtualMillisecTimeSource( START );
+
+  @Test
+  public void test_Aggregates() {
+    SlidingWindowCounter zCounter = new SlidingWindowCounter( mSource, 1000, 5 );
+    zCounter.add( 10 );
+    zCounter.add( -3 );
+    mSource.advance( 1500 );
+    zCounter.add( 7 );
+    zCounter.increment();
+
+    Assert.assertEquals( 8, zCounter.sum( 1 ) );
+    Assert.assertEquals( 2, zCounter.count( 1 ) );
+    Assert.assertEquals( 15, zCounter.sum( 2 ) );
+    Assert.assertEquals( 4, zCounter.count( 5 ) );
+    Assert.assertEquals( -3, zCounter.min( 5 ) );
+    Assert.assertEquals( 10, zCounter.max( 5 ) );
+    Assert.assertEquals( 1, zCounter.min( 1 ) );
+
+    mSource.advance( 3000 ); // the first bucket is still (just) in the window
+    Assert.assertEquals( 15, zCounter.sum( 5 ) );
+    Assert.assertEquals( 0, zCounter.sum( 3 ) );
+    Assert.assertEquals( Long.MAX_VALUE, zCounter.min( 3 ) );
+    Assert.assertEquals( Long.MIN_VALUE, zCounter.max( 3 ) );
+
+    mSource.advance( 1000 );
+    Assert.assertEquals( 8, zCounter.sum( 5 ) );
+    mSource.advance( 60000 ); // idle: nothing rolls until read or written
+    Assert.assertEquals( 0, zCounter.count( 5 ) );
+  }
+
+  @Test
+  public void test_Snapshot() {
+    SlidingWindowCounter zCounter = new SlidingWindowCounter( mSource, 60000, 3 );
+    mSource.advance( 48000 ); // 10:12:00
+    zCounter.add( 5 );
+    mSource.advance( 120000 ); // 10:14:00
+    zCounter.add( 6 );
+    List<WindowBucket> zSnapshot = zCounter.snapshot();
+    Assert.assertEquals( 3, zSnapshot.size() );
+    Assert.assertEquals( ZuluDateTime.parse( "2018-09-12T10:12:00.000Z" ), zSnapshot.get( 0 ).getStart() );
+    Assert.assertEquals( 5, zSnapshot.get( 0 ).getSum() );
+    Assert.assertEquals( ZuluDateTime.parse( "2018-09-12T10:13:00.000Z" ), zSnapshot.get( 1 ).getStart() );
+    Assert.assertTrue( zSnapshot.get( 1 ).isEmpty() );
+    Assert.assertEquals( ZuluDateTime.parse( "2018-09-12T10:14:00.000Z" ), zSnapshot.get( 2 ).getStart() );
+    Assert.assertEquals( 6, zSnapshot.get( 2 ).getMax() );
+    Assert.assertEquals( "2018-09-12T10:13:00.000Z(sum=0, count=0)", zSnapshot.get( 1 ).toString() );
+
+    try {
+      zCounter.snapshot( 4 );
+      Assert.fail( "Expected IllegalArgumentException" );
+    }
+    catch ( IllegalArgumentException expected ) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void test_ExplicitTimes() {
+    SlidingWindowCounter zCounter = new SlidingWindowCounter( mSource, 1000, 4 );
+    Assert.assertTrue( zCounter.add( START.minusSeconds( 3 ), 1 ) );
+    Assert.assertTrue( zCounter.add( START.toEpochMilli() - 1, 2 ) );
+    Assert.assertTrue( zCounter.add( START, 4 ) );
+    Assert.assertEquals( 7, zCounter.sum( 4 ) );
+    Assert.assertEquals( 6, zCounter.sum( 2 ) );
+
+    mSource.advance( 1000 );
+    zCounter.add( 8 ); // rolls the slot of START - 3s
+    Assert.assertFalse( zCounter.add( START.minusSeconds( 3 ), 16 ) ); // older than the window
+    Assert.assertFalse( zCounter.add( START.minusSeconds( 7 ), 16 ) ); // older than the bucket in its slot
+    Assert.assertEquals( 14, zCounter.sum( 4 ) );
+  }
+
+  @Test
+  public void test_TimesOlderThanTheWindow() {
+    SlidingWindowCounter zCounter = new SlidingWindowCounter( mSource, 1000, 10 );
+    mSource.advance( 100 * 1000 );
+    Assert.assertFalse( zCounter.add( START.toEpochMilli() + 50 * 1000, 1 ) ); // its slot is empty, but it is not in the window
+    Assert.assertFalse( zCounter.add( START.plusSeconds( 90 ), 1 ) ); // just outside the window
+    Assert.assertTrue( zCounter.add( START.plusSeconds( 91 ), 2 ) ); // the oldest bucket of the window
+    Assert.assertFalse( zCounter.add( Long.MIN_VALUE, 1 ) );
+    Assert.assertFalse( zCounter.add( Long.MAX_VALUE, 1 ) );
+    Assert.assertEquals( 2, zCounter.sum( 10 ) );
+    Assert.assertEquals( 1, zCounter.count( 10 ) );
+  }
+
+  @Test
+  public void test_FutureTimesAndBackwardSteps() {
+    SlidingWindowCounter zCounter = new SlidingWindowCounter( mSource, 1000, 4 );
+    zCounter.add( 5 );
+    Assert.assertTrue( zCounter.add( START.toEpochMilli() + 999, 1 ) ); // still the current bucket
+    Assert.assertFalse( zCounter.add( START.plusSeconds( 4 ), 2 ) ); // would roll (and clear) the current bucket's slot
+    Assert.assertFalse( zCounter.add( START.plusSeconds( 1 ), 2 ) );
+    Assert.assertEquals( 6, zCounter.sum( 4 ) );
+    Assert.assertEquals( 6, zCounter.sum( 1 ) );
+
+    AtomicLong zNow = new AtomicLong( START.toEpochMilli() + 4000 );
+    SlidingWindowCounter zStepped = new SlidingWindowCounter( zNow::get, 1000, 4 );
+    zStepped.add( 5 );
+    zNow.addAndGet( -4000 ); // backwards: the slot holds the newer bucket, so the write is dropped
+    zStepped.add( 7 );
+    Assert.assertEquals( 0, zStepped.sum( 4 ) );
+    zNow.addAndGet( 4000 );
+    Assert.assertEquals( 5, zStepped.sum( 4 ) );
+  }
+
+  @Test
+  public void test_ConcurrentWriters()
+          throws Exception {
+    SlidingWindowCounter zCounter = new SlidingWindowCounter( mSource, 10, 1000 );
+    int zThreads = 4, zPerThread = 50000;
+    ExecutorService zExecutor = Executors.newFixedThreadPool( zThreads );
+    try {
+      Future<?>[] zFutures = new Future<?>[zThreads];
+      for ( int t = 0; t < zThreads; t++ ) {
+        long zValue = t + 1;
+        zFutures[t] = zExecutor.submit( () -> {
+          for ( int i = 0; i < zPerThread; i++ ) {
+            zCounter.add( zValue );
+          }
+        } );
+      }
+      for ( Future<?> zFuture : zFutures ) {
+        zFuture.get();
+      }
+    }
+    finally {
+      zExecutor.shutdown();
+    }
+    Assert.assertEquals( zThreads * (long)zPerThread, zCounter.count( 1 ) );
+    Assert.assertEquals( (1 + 2 + 3 + 4) * (long)zPerThread, zCounter.sum( 1 ) );
+    Assert.assertEquals( 1, zCounter.min( 1 ) );
+    Assert.assertEquals( 4, zCounter.max( 1000 ) );
+  }
+}